@@ -24,6 +24,9 @@ public final class AuthConstants {
     public static final String REFRESH_SELLER_KEY_PREFIX = "refresh:seller:";
     public static final String BLACKLIST_KEY_PREFIX = "blacklist:";
 
+    // 토큰 무효화 알림 채널 (노드별 검증 토큰 캐시/블랙리스트 복제본 갱신용, 메시지는 "토큰ID:만료시각(epoch millis)")
+    public static final String TOKEN_REVOCATION_CHANNEL = "auth:token:revoked";
+
     // 기본값
     public static final UserType DEFAULT_USER_TYPE = UserType.MEMBER;
     public static final UserRole DEFAULT_ROLE = UserRole.NORMAL;
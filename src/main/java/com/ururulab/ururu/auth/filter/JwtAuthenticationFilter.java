@@ -2,8 +2,8 @@ package com.ururulab.ururu.auth.filter;
 
 import com.ururulab.ururu.auth.constants.AuthConstants;
 import com.ururulab.ururu.auth.constants.UserType;
-import com.ururulab.ururu.auth.jwt.JwtTokenProvider;
 import com.ururulab.ururu.auth.service.TokenValidator;
+import com.ururulab.ururu.auth.storage.VerifiedTokenCache;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -31,8 +31,8 @@ public final class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
 
-    private final JwtTokenProvider jwtTokenProvider;
     private final TokenValidator tokenValidator;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(
@@ -45,8 +45,12 @@ public final class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null) {
             try {
-                // TokenValidator를 사용하여 토큰 검증 및 사용자 정보 추출
-                final TokenValidator.TokenValidationResult validationResult = tokenValidator.validateAccessToken(token);
+                // 최근 검증한 토큰은 캐시된 결과 사용, 없으면 TokenValidator로 검증 후 캐시
+                TokenValidator.TokenValidationResult validationResult = verifiedTokenCache.get(token);
+                if (validationResult == null) {
+                    validationResult = tokenValidator.validateAccessToken(token);
+                    verifiedTokenCache.put(token, validationResult);
+                }
                 setAuthentication(validationResult);
             } catch (final Exception e) {
                 log.debug("Token validation failed in filter: {}", e.getMessage());
@@ -0,0 +1,45 @@
+package com.ururulab.ururu.auth.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명/발급자/대상 검증을 마친 JWT 클레임 (불변).
+ * 토큰을 한 번만 파싱하고 필요한 값을 모두 이 객체에서 읽습니다.
+ *
+ * @param tokenId 토큰 ID (jti)
+ * @param userId 사용자 ID (sub)
+ * @param email 이메일 (Access Token만)
+ * @param role 역할 (Access Token만)
+ * @param userType 사용자 타입 (MEMBER/SELLER)
+ * @param tokenType 토큰 종류
+ * @param expiresAt 만료 시각
+ */
+public record JwtClaims(
+        String tokenId,
+        Long userId,
+        String email,
+        String role,
+        String userType,
+        JwtTokenProvider.TokenType tokenType,
+        Instant expiresAt
+) {
+
+    public boolean isAccessToken() {
+        return tokenType == JwtTokenProvider.TokenType.ACCESS;
+    }
+
+    public boolean isRefreshToken() {
+        return tokenType == JwtTokenProvider.TokenType.REFRESH;
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+
+    /**
+     * 만료까지 남은 시간 (초, 만료되었으면 0)
+     */
+    public long remainingSeconds() {
+        return Math.max((expiresAt.toEpochMilli() - System.currentTimeMillis()) / 1000, 0);
+    }
+}
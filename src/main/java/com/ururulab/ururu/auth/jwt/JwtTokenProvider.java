@@ -6,7 +6,6 @@ import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -17,10 +16,11 @@ import java.util.UUID;
 
 /**
  * JWT 토큰 생성, 검증, 파싱을 담당하는 컴포넌트.
+ * 서명 키와 파서는 생성 시 한 번만 만들어 재사용합니다. (스레드 안전)
+ * 한 요청에서 여러 클레임이 필요하면 parseClaims로 한 번만 파싱합니다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public final class JwtTokenProvider {
 
     private static final String CLAIM_EMAIL = "email";
@@ -30,6 +30,18 @@ public final class JwtTokenProvider {
     private static final String CLAIM_JTI = "jti"; // jti 고유 토큰ID (표준 클레임)
 
     private final JwtProperties jwtProperties;
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+
+    public JwtTokenProvider(final JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .requireIssuer(jwtProperties.getIssuer())
+                .requireAudience(jwtProperties.getAudience())
+                .build();
+    }
 
     public String generateAccessToken(final Long userId, final String email, final UserRole role, final UserType userType) {
         if (userId == null) {
@@ -63,13 +75,33 @@ public final class JwtTokenProvider {
 
 
 
-    public Long getMemberId(final String token) {
+    /**
+     * 토큰을 한 번 파싱하여 검증된 클레임을 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임
+     * @throws JwtException 서명/형식/발급자/대상이 올바르지 않거나 만료된 경우 (만료 시 ExpiredJwtException)
+     * @throws IllegalArgumentException 토큰이 null이거나 비어 있는 경우
+     * @throws BusinessException 사용자 ID가 숫자가 아닌 경우
+     */
+    public JwtClaims parseClaims(final String token) {
         final Claims claims = parseToken(token);
-        try {
-            return Long.valueOf(claims.getSubject());
-        } catch (NumberFormatException e) {
-            throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
-        }
+        final String type = claims.get(CLAIM_TYPE, String.class);
+
+        return new JwtClaims(
+                claims.getId(),
+                toUserId(claims),
+                claims.get(CLAIM_EMAIL, String.class),
+                claims.get(CLAIM_ROLE, String.class),
+                claims.get(CLAIM_USER_TYPE, String.class),
+                TokenType.ACCESS.name().equals(type) ? TokenType.ACCESS
+                        : TokenType.REFRESH.name().equals(type) ? TokenType.REFRESH : null,
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public Long getMemberId(final String token) {
+        return toUserId(parseToken(token));
     }
 
     public String getEmail(final String token) {
@@ -162,7 +194,7 @@ public final class JwtTokenProvider {
                 .issuedAt(now)
                 .expiration(expiry)
                 .id(UUID.randomUUID().toString()) // jti 고유값 자동 부여
-                .signWith(getSecretKey());
+                .signWith(secretKey);
 
         if (email != null) {
             builder.claim(CLAIM_EMAIL, email);
@@ -180,17 +212,15 @@ public final class JwtTokenProvider {
 
 
     private Claims parseToken(final String token) {
-        return Jwts.parser()
-                .verifyWith(getSecretKey())
-                .requireIssuer(jwtProperties.getIssuer())
-                .requireAudience(jwtProperties.getAudience())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
-    private SecretKey getSecretKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    private Long toUserId(final Claims claims) {
+        try {
+            return Long.valueOf(claims.getSubject());
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
+        }
     }
 
     public enum TokenType {
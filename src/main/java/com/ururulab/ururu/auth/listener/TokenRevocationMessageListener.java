@@ -0,0 +1,52 @@
+package com.ururulab.ururu.auth.listener;
+
+import com.ururulab.ururu.auth.constants.AuthConstants;
+import com.ururulab.ururu.auth.storage.TokenBlacklistReplica;
+import com.ururulab.ururu.auth.storage.VerifiedTokenCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드(자신 포함)에서 무효화된 토큰을 이 노드의 검증 토큰 캐시에서 제거하고 블랙리스트 복제본에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationMessageListener implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklistReplica tokenBlacklistReplica;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(AuthConstants.TOKEN_REVOCATION_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        final int separator = body.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("Malformed token revocation message: {}", body);
+            return;
+        }
+
+        final String tokenId = body.substring(0, separator);
+        try {
+            tokenBlacklistReplica.record(tokenId, Long.parseLong(body.substring(separator + 1)));
+        } catch (final NumberFormatException e) {
+            log.warn("Malformed token revocation expiry: {}", body);
+        }
+        verifiedTokenCache.invalidate(tokenId);
+        log.debug("Verified token cache entry revoked: {}", tokenId);
+    }
+}
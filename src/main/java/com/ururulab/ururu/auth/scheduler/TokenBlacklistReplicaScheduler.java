@@ -0,0 +1,37 @@
+package com.ururulab.ururu.auth.scheduler;
+
+import com.ururulab.ururu.auth.storage.TokenBlacklistReplica;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenBlacklistReplicaScheduler {
+
+    private final TokenBlacklistReplica tokenBlacklistReplica;
+
+    /**
+     * 기동 직후 Redis 블랙리스트로 복제본 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedReplica() {
+        rebuildReplica();
+    }
+
+    /**
+     * 1분마다 복제본 다시 생성 (만료 토큰 제거, 알림 유실 대비) - 인스턴스마다 실행
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void rebuildReplica() {
+        try {
+            tokenBlacklistReplica.rebuild();
+        } catch (Exception e) {
+            log.warn("토큰 블랙리스트 복제본 생성 실패", e);
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.ururulab.ururu.auth.service;
 
+import com.ururulab.ururu.auth.jwt.JwtClaims;
 import com.ururulab.ururu.auth.jwt.JwtTokenProvider;
 import com.ururulab.ururu.auth.storage.TokenBlacklistStorage;
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
 /**
  * 토큰 검증 서비스.
  * JWT 토큰의 유효성 검사, 사용자 정보 추출, 블랙리스트 확인 등을 통합 관리합니다.
+ * 토큰은 요청당 한 번만 파싱하고 이후 확인은 모두 파싱된 클레임으로 수행합니다.
  */
 @Slf4j
 @Service
@@ -32,34 +37,27 @@ public final class TokenValidator {
             throw new BusinessException(ErrorCode.MISSING_AUTHORIZATION_HEADER);
         }
 
-        // 1. JWT 토큰 구조 및 서명 검증
-        if (!jwtTokenProvider.validateToken(accessToken)) {
-            throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
-        }
+        // 1. JWT 구조/서명/만료 검증 및 클레임 추출 (한 번만 파싱)
+        final JwtClaims claims = parseClaims(accessToken);
 
         // 2. 토큰 타입 확인 (액세스 토큰인지)
-        if (!jwtTokenProvider.isAccessToken(accessToken)) {
+        if (!claims.isAccessToken()) {
             throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
         }
 
-        // 3. 토큰 만료 확인
-        if (jwtTokenProvider.isTokenExpired(accessToken)) {
+        // 3. 토큰 만료 확인 (파싱과 확인 사이에 만료된 경우)
+        if (claims.isExpired()) {
             throw new BusinessException(ErrorCode.EXPIRED_JWT_TOKEN);
         }
 
         // 4. 블랙리스트 확인
-        final String tokenId = jwtTokenProvider.getTokenId(accessToken);
-        if (tokenBlacklistStorage.isTokenBlacklisted(tokenId)) {
+        if (tokenBlacklistStorage.isTokenBlacklisted(claims.tokenId())) {
             throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
         }
 
-        // 5. 사용자 정보 추출
-        final Long userId = jwtTokenProvider.getMemberId(accessToken);
-        final String userType = jwtTokenProvider.getUserType(accessToken);
+        log.debug("Access token validation successful for user: {} (type: {})", claims.userId(), claims.userType());
 
-        log.debug("Access token validation successful for user: {} (type: {})", userId, userType);
-
-        return TokenValidationResult.of(userId, userType, tokenId);
+        return TokenValidationResult.from(claims);
     }
 
     /**
@@ -74,42 +72,49 @@ public final class TokenValidator {
             throw new BusinessException(ErrorCode.MISSING_REFRESH_TOKEN);
         }
 
-        // 1. JWT 토큰 구조 및 서명 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
-        }
+        // 1. JWT 구조/서명/만료 검증 및 클레임 추출 (한 번만 파싱)
+        final JwtClaims claims = parseClaims(refreshToken);
 
         // 2. 토큰 타입 확인 (리프레시 토큰인지)
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+        if (!claims.isRefreshToken()) {
             throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // 3. 토큰 만료 확인
-        if (jwtTokenProvider.isTokenExpired(refreshToken)) {
+        // 3. 토큰 만료 확인 (파싱과 확인 사이에 만료된 경우)
+        if (claims.isExpired()) {
             throw new BusinessException(ErrorCode.EXPIRED_JWT_TOKEN);
         }
 
         // 4. 블랙리스트 확인
-        final String tokenId = jwtTokenProvider.getTokenId(refreshToken);
-        if (tokenBlacklistStorage.isTokenBlacklisted(tokenId)) {
+        if (tokenBlacklistStorage.isTokenBlacklisted(claims.tokenId())) {
             throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // 5. 사용자 정보 추출
-        final Long userId = jwtTokenProvider.getMemberId(refreshToken);
-        final String userType = jwtTokenProvider.getUserType(refreshToken);
+        log.debug("Refresh token validation successful for user: {} (type: {})", claims.userId(), claims.userType());
 
-        log.debug("Refresh token validation successful for user: {} (type: {})", userId, userType);
+        return TokenValidationResult.from(claims);
+    }
 
-        return TokenValidationResult.of(userId, userType, tokenId);
+    private JwtClaims parseClaims(final String token) {
+        try {
+            return jwtTokenProvider.parseClaims(token);
+        } catch (final JwtException | IllegalArgumentException e) {
+            log.debug("JWT validation failed: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
+        }
     }
 
     /**
      * 토큰 검증 결과를 담는 불변 객체.
+     * expiresAt은 토큰 만료 시각 (알 수 없으면 null)
      */
-    public record TokenValidationResult(Long userId, String userType, String tokenId) {
+    public record TokenValidationResult(Long userId, String userType, String tokenId, Instant expiresAt) {
         public static TokenValidationResult of(final Long userId, final String userType, final String tokenId) {
-            return new TokenValidationResult(userId, userType, tokenId);
+            return new TokenValidationResult(userId, userType, tokenId, null);
+        }
+
+        public static TokenValidationResult from(final JwtClaims claims) {
+            return new TokenValidationResult(claims.userId(), claims.userType(), claims.tokenId(), claims.expiresAt());
         }
     }
 } 
\ No newline at end of file
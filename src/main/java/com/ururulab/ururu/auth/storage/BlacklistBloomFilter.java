@@ -0,0 +1,81 @@
+package com.ururulab.ururu.auth.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * 블랙리스트 토큰 ID Bloom 필터 (생성 후 변경 불가).
+ * mightContain이 false이면 확실히 블랙리스트에 없고, true이면 있을 수도 있습니다.
+ * 삭제를 지원하지 않으므로 만료된 토큰을 반영하려면 다시 생성합니다.
+ */
+public final class BlacklistBloomFilter {
+
+    private static final int MIN_EXPECTED_INSERTIONS = 1_024;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BlacklistBloomFilter(final long bitCount, final int hashCount) {
+        this.bits = new long[(int) ((bitCount + 63) / 64)];
+        this.bitCount = bits.length * 64L;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 토큰 ID 목록으로 필터를 생성합니다.
+     *
+     * @param tokenIds 블랙리스트 토큰 ID
+     * @param falsePositiveRate 목표 오탐률 (0 < p < 1)
+     * @return 생성된 필터
+     */
+    public static BlacklistBloomFilter of(final Collection<String> tokenIds, final double falsePositiveRate) {
+        final int expected = Math.max(tokenIds.size(), MIN_EXPECTED_INSERTIONS);
+        final long bitCount = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        final int hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+
+        final BlacklistBloomFilter filter = new BlacklistBloomFilter(bitCount, hashCount);
+        tokenIds.forEach(filter::put);
+        return filter;
+    }
+
+    public boolean mightContain(final String tokenId) {
+        final long hash1 = hash(tokenId);
+        final long hash2 = mix(hash1 ^ tokenId.hashCode()) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            final long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void put(final String tokenId) {
+        final long hash1 = hash(tokenId);
+        final long hash2 = mix(hash1 ^ tokenId.hashCode()) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            final long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    // FNV-1a 64비트
+    private static long hash(final String tokenId) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte b : tokenId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // SplitMix64 최종 혼합
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -9,15 +9,18 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Refresh Token 저장소.
  * Redis를 사용한 Refresh Token 저장/조회/삭제를 담당합니다.
+ *
+ * 사용자별 세션 인덱스(Sorted Set, 토큰 ID를 발급 시각으로 정렬)로 토큰을 관리하여
+ * KEYS/SCAN 없이 사용자당 O(log n)으로 개수 확인, 오래된 토큰 정리, 전체 삭제를 수행합니다.
+ * 개수 확인, 정리, 저장은 한 스크립트에서 수행하므로 동시 로그인에서도 최대 개수를 넘지 않습니다.
+ *
+ * 스크립트는 인덱스 키와 새 토큰 키를 KEYS로 선언하고, 정리할 토큰 키는 ARGV의 사용자 키 접두사로 만듭니다.
+ * 접두사에 해시 태그({userId})가 포함되어 스크립트가 만드는 키는 항상 선언된 키와 같은 Cluster 슬롯에 속합니다.
  */
 @Slf4j
 @Component
@@ -27,48 +30,99 @@ public final class RefreshTokenStorage {
     private final StringRedisTemplate redisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
 
-    // Redis Lua 스크립트 - 원자적 토큰 정리
-    private static final String CLEANUP_TOKENS_SCRIPT = """
-            local pattern = KEYS[1]
-            local maxTokens = tonumber(ARGV[1])
-            local keys = redis.call('KEYS', pattern)
-            local keyCount = #keys
-            
-            if keyCount > maxTokens then
-                local tokensToDelete = keyCount - maxTokens
-                local keysToDelete = {}
-                
-                for i = 1, tokensToDelete do
-                    table.insert(keysToDelete, keys[i])
+    private static final String SESSION_INDEX_SUFFIX = ":sessions";
+
+    // 만료 토큰 전부와, 유효 토큰 중 최신 (ARGV[2] - 1)개를 제외한 오래된 토큰 삭제 후 삭제 개수 반환
+    // KEYS[1]=세션 인덱스 / ARGV[1]=유효 토큰 최소 발급 시각, ARGV[2]=최대 개수, ARGV[3]=사용자 토큰 키 접두사
+    private static final String EVICT_STALE_FUNCTION = """
+            local function evict_stale(index_key, min_valid, max_tokens, key_prefix)
+                local stale = redis.call('ZRANGEBYSCORE', index_key, '-inf', '(' .. min_valid)
+                local excess = redis.call('ZCARD', index_key) - #stale - (max_tokens - 1)
+                if excess > 0 then
+                    local oldest = redis.call('ZRANGEBYSCORE', index_key, min_valid, '+inf', 'LIMIT', 0, excess)
+                    for i = 1, #oldest do
+                        stale[#stale + 1] = oldest[i]
+                    end
                 end
-                
-                if #keysToDelete > 0 then
-                    redis.call('DEL', unpack(keysToDelete))
-                    return #keysToDelete
+                for i = 1, #stale do
+                    redis.call('DEL', key_prefix .. stale[i])
+                    redis.call('ZREM', index_key, stale[i])
                 end
+                return #stale
+            end
+            """;
+
+    private static final String CLEANUP_LUA = EVICT_STALE_FUNCTION + """
+            local evicted = evict_stale(KEYS[1], ARGV[1], tonumber(ARGV[2]), ARGV[3])
+            if redis.call('ZCARD', KEYS[1]) == 0 then
+                redis.call('DEL', KEYS[1])
             end
-            
-            return 0
+            return evicted
             """;
 
-    private final DefaultRedisScript<Long> cleanupScript = new DefaultRedisScript<>(CLEANUP_TOKENS_SCRIPT, Long.class);
+    // KEYS[1]=세션 인덱스, KEYS[2]=새 토큰 키
+    // ARGV: 유효 토큰 최소 발급 시각, 최대 개수, 사용자 토큰 키 접두사, 토큰 ID, 토큰, 발급 시각, TTL(초)
+    private static final String STORE_TOKEN_LUA = EVICT_STALE_FUNCTION + """
+            local evicted = evict_stale(KEYS[1], ARGV[1], tonumber(ARGV[2]), ARGV[3])
+            redis.call('SET', KEYS[2], ARGV[5], 'EX', tonumber(ARGV[7]))
+            redis.call('ZADD', KEYS[1], ARGV[6], ARGV[4])
+            redis.call('EXPIRE', KEYS[1], tonumber(ARGV[7]))
+            return evicted
+            """;
+
+    // KEYS[1]=세션 인덱스 / ARGV[1]=사용자 토큰 키 접두사
+    private static final String REMOVE_ALL_LUA = """
+            local tokenIds = redis.call('ZRANGE', KEYS[1], 0, -1)
+            for i = 1, #tokenIds do
+                redis.call('DEL', ARGV[1] .. tokenIds[i])
+            end
+            redis.call('DEL', KEYS[1])
+            return #tokenIds
+            """;
+
+    // KEYS[1]=세션 인덱스, KEYS[2]=삭제할 토큰 키 / ARGV[1]=삭제할 토큰 ID
+    private static final String REMOVE_TOKEN_LUA = """
+            redis.call('DEL', KEYS[2])
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            if redis.call('ZCARD', KEYS[1]) == 0 then
+                redis.call('DEL', KEYS[1])
+            end
+            return 1
+            """;
+
+    private final DefaultRedisScript<Long> storeScript = new DefaultRedisScript<>(STORE_TOKEN_LUA, Long.class);
+    private final DefaultRedisScript<Long> cleanupScript = new DefaultRedisScript<>(CLEANUP_LUA, Long.class);
+    private final DefaultRedisScript<Long> removeAllScript = new DefaultRedisScript<>(REMOVE_ALL_LUA, Long.class);
+    private final DefaultRedisScript<Long> removeScript = new DefaultRedisScript<>(REMOVE_TOKEN_LUA, Long.class);
 
     /**
      * Refresh Token을 저장합니다.
+     * 최대 개수를 넘지 않도록 오래된 토큰 정리와 저장을 한 번에 원자적으로 수행합니다.
      *
      * @param userId 사용자 ID
      * @param userType 사용자 타입
      * @param refreshToken 저장할 Refresh Token
      */
     public void storeRefreshToken(final Long userId, final String userType, final String refreshToken) {
-        // 원자적 토큰 정리 수행
-        cleanupOldTokensAtomically(userType, userId);
-        
         final long expirySeconds = jwtTokenProvider.getRefreshTokenExpirySeconds();
         final String jti = jwtTokenProvider.getTokenId(refreshToken);
-        final String key = buildRefreshKey(userType, userId, jti);
-        
-        redisTemplate.opsForValue().set(key, refreshToken, Duration.ofSeconds(expirySeconds));
+        final long now = System.currentTimeMillis();
+
+        final Long deletedCount = redisTemplate.execute(
+                storeScript,
+                List.of(buildSessionIndexKey(userType, userId), buildRefreshKey(userType, userId, jti)),
+                String.valueOf(minValidIssuedAt(now)),
+                String.valueOf(AuthConstants.MAX_REFRESH_TOKENS_PER_USER),
+                buildTokenKeyPrefix(userType, userId),
+                jti,
+                refreshToken,
+                String.valueOf(now),
+                String.valueOf(expirySeconds)
+        );
+
+        if (deletedCount != null && deletedCount > 0) {
+            log.debug("Deleted {} old refresh tokens for user: {} (type: {})", deletedCount, userId, userType);
+        }
         log.debug("Refresh token stored for user: {} (type: {}), expiry: {} seconds", userId, userType, expirySeconds);
     }
 
@@ -93,8 +147,11 @@ public final class RefreshTokenStorage {
      * @param tokenId 삭제할 토큰 ID
      */
     public void deleteRefreshToken(final String userType, final Long userId, final String tokenId) {
-        final String key = buildRefreshKey(userType, userId, tokenId);
-        redisTemplate.delete(key);
+        redisTemplate.execute(
+                removeScript,
+                List.of(buildSessionIndexKey(userType, userId), buildRefreshKey(userType, userId, tokenId)),
+                tokenId
+        );
         log.debug("Deleted refresh token for user: {} (type: {}), tokenId: {}", userId, userType, tokenId);
     }
 
@@ -105,32 +162,31 @@ public final class RefreshTokenStorage {
      * @param userId 사용자 ID
      */
     public void deleteAllRefreshTokens(final String userType, final Long userId) {
-        final String prefix = UserType.MEMBER.getValue().equals(userType) 
-            ? AuthConstants.REFRESH_MEMBER_KEY_PREFIX 
-            : AuthConstants.REFRESH_SELLER_KEY_PREFIX;
-        final String refreshKeyPattern = prefix + userId + ":*";
-        final Set<String> keys = redisTemplate.keys(refreshKeyPattern);
-        
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.debug("Deleted {} refresh tokens for user: {} (type: {})", keys.size(), userId, userType);
+        // 조회와 삭제를 한 스크립트에서 수행하여 동시에 저장된 토큰도 함께 삭제
+        final Long deletedCount = redisTemplate.execute(
+                removeAllScript,
+                List.of(buildSessionIndexKey(userType, userId)),
+                buildTokenKeyPrefix(userType, userId)
+        );
+        if (deletedCount != null && deletedCount > 0) {
+            log.debug("Deleted {} refresh tokens for user: {} (type: {})", deletedCount, userId, userType);
         }
     }
 
     /**
-     * 사용자의 Refresh Token 개수를 확인합니다.
+     * 사용자의 Refresh Token 개수를 확인합니다. (만료된 토큰 제외)
      *
      * @param userType 사용자 타입
      * @param userId 사용자 ID
      * @return Refresh Token 개수
      */
     public long getRefreshTokenCount(final String userType, final Long userId) {
-        final String prefix = UserType.MEMBER.getValue().equals(userType) 
-            ? AuthConstants.REFRESH_MEMBER_KEY_PREFIX 
-            : AuthConstants.REFRESH_SELLER_KEY_PREFIX;
-        final String refreshKeyPattern = prefix + userId + ":*";
-        final Set<String> keys = redisTemplate.keys(refreshKeyPattern);
-        return keys != null ? keys.size() : 0;
+        final Long count = redisTemplate.opsForZSet().count(
+                buildSessionIndexKey(userType, userId),
+                minValidIssuedAt(System.currentTimeMillis()),
+                Double.POSITIVE_INFINITY
+        );
+        return count != null ? count : 0;
     }
 
     /**
@@ -146,59 +202,33 @@ public final class RefreshTokenStorage {
 
     /**
      * 원자적으로 오래된 토큰을 정리합니다.
-     * Redis Lua 스크립트를 사용하여 race condition을 방지합니다.
+     * 새 토큰을 저장할 자리를 남기도록 최신 (최대 개수 - 1)개만 유지합니다.
      *
      * @param userType 사용자 타입
      * @param userId 사용자 ID
      */
     public void cleanupOldTokensAtomically(final String userType, final Long userId) {
-        final String prefix = UserType.MEMBER.getValue().equals(userType) 
-            ? AuthConstants.REFRESH_MEMBER_KEY_PREFIX 
-            : AuthConstants.REFRESH_SELLER_KEY_PREFIX;
-        final String refreshKeyPattern = prefix + userId + ":*";
-        
-        try {
-            final Long deletedCount = redisTemplate.execute(
-                    cleanupScript,
-                    List.of(refreshKeyPattern),
-                    String.valueOf(AuthConstants.MAX_REFRESH_TOKENS_PER_USER)
-            );
-            
-            if (deletedCount != null && deletedCount > 0) {
-                log.debug("Atomically deleted {} old refresh tokens for user: {} (type: {})", deletedCount, userId, userType);
-            }
-        } catch (final Exception e) {
-            log.warn("Failed to cleanup tokens atomically for user: {} (type: {}): {}", userId, userType, e.getMessage());
-            // 원자적 정리 실패 시 기존 방식으로 fallback
-            cleanupOldTokensIfNeeded(userType, userId);
+        final Long deletedCount = redisTemplate.execute(
+                cleanupScript,
+                List.of(buildSessionIndexKey(userType, userId)),
+                String.valueOf(minValidIssuedAt(System.currentTimeMillis())),
+                String.valueOf(AuthConstants.MAX_REFRESH_TOKENS_PER_USER),
+                buildTokenKeyPrefix(userType, userId)
+        );
+        if (deletedCount != null && deletedCount > 0) {
+            log.debug("Atomically deleted {} old refresh tokens for user: {} (type: {})", deletedCount, userId, userType);
         }
     }
 
     /**
      * 토큰 개수 제한 초과 시 오래된 토큰을 삭제합니다.
-     * (fallback 방식 - 원자적 정리 실패 시 사용)
      *
      * @param userType 사용자 타입
      * @param userId 사용자 ID
      */
     public void cleanupOldTokensIfNeeded(final String userType, final Long userId) {
-        final long currentCount = getRefreshTokenCount(userType, userId);
-        if (currentCount >= AuthConstants.MAX_REFRESH_TOKENS_PER_USER) {
-            final String prefix = UserType.MEMBER.getValue().equals(userType) 
-                ? AuthConstants.REFRESH_MEMBER_KEY_PREFIX 
-                : AuthConstants.REFRESH_SELLER_KEY_PREFIX;
-            final String refreshKeyPattern = prefix + userId + ":*";
-            final Set<String> keys = redisTemplate.keys(refreshKeyPattern);
-            
-            if (keys != null && keys.size() > 1) {
-                // TTL 기반으로 정렬하여 가장 오래된 토큰 삭제
-                final List<String> sortedKeys = getSortedKeysByTTL(keys);
-                if (!sortedKeys.isEmpty()) {
-                    final String oldestKey = sortedKeys.get(0);
-                    redisTemplate.delete(oldestKey);
-                    log.debug("Deleted oldest refresh token for user: {} (type: {}) due to limit exceeded", userId, userType);
-                }
-            }
+        if (isRefreshTokenLimitExceeded(userType, userId)) {
+            cleanupOldTokensAtomically(userType, userId);
         }
     }
 
@@ -209,46 +239,34 @@ public final class RefreshTokenStorage {
      * @param userId 사용자 ID
      */
     public void forceCleanupOldTokens(final String userType, final Long userId) {
-        final String prefix = UserType.MEMBER.getValue().equals(userType) 
-            ? AuthConstants.REFRESH_MEMBER_KEY_PREFIX 
-            : AuthConstants.REFRESH_SELLER_KEY_PREFIX;
-        final String refreshKeyPattern = prefix + userId + ":*";
-        final Set<String> keys = redisTemplate.keys(refreshKeyPattern);
-        
-        if (keys != null && keys.size() > 1) {
-            // TTL 기반으로 정렬하여 오래된 토큰들을 삭제
-            final List<String> sortedKeys = getSortedKeysByTTL(keys);
-            final int tokensToDelete = (int) (sortedKeys.size() - AuthConstants.MAX_REFRESH_TOKENS_PER_USER + 1);
-            
-            if (tokensToDelete > 0) {
-                final List<String> keysToDelete = sortedKeys.subList(0, tokensToDelete);
-                redisTemplate.delete(keysToDelete);
-                log.warn("Force deleted {} old refresh tokens for user: {} (type: {})", tokensToDelete, userId, userType);
-            }
-        }
+        cleanupOldTokensAtomically(userType, userId);
+        log.warn("Force cleaned up old refresh tokens for user: {} (type: {})", userId, userType);
     }
 
     /**
-     * 키들을 TTL 기준으로 정렬합니다.
-     * TTL이 짧을수록 (만료가 가까울수록) 앞에 위치합니다.
-     *
-     * @param keys 정렬할 키들
-     * @return TTL 기준으로 정렬된 키 리스트
+     * 아직 만료되지 않은 토큰의 최소 발급 시각 (발급 시각 점수 기준)
      */
-    private List<String> getSortedKeysByTTL(final Set<String> keys) {
-        return keys.stream()
-                .filter(key -> redisTemplate.hasKey(key)) // 존재하는 키만 필터링
-                .sorted(Comparator.comparingLong(key -> {
-                    final Long ttl = redisTemplate.getExpire(key);
-                    return ttl != null ? ttl : Long.MAX_VALUE; // TTL이 null이면 가장 뒤로
-                }))
-                .collect(Collectors.toList());
+    private long minValidIssuedAt(final long nowMillis) {
+        return nowMillis - jwtTokenProvider.getRefreshTokenExpirySeconds() * 1000;
+    }
+
+    private String buildSessionIndexKey(final String userType, final Long userId) {
+        return buildUserKey(userType, userId) + SESSION_INDEX_SUFFIX;
+    }
+
+    private String buildTokenKeyPrefix(final String userType, final Long userId) {
+        return buildUserKey(userType, userId) + ":";
     }
 
     private String buildRefreshKey(final String userType, final Long userId, final String jti) {
-        final String prefix = UserType.MEMBER.getValue().equals(userType) 
-            ? AuthConstants.REFRESH_MEMBER_KEY_PREFIX 
+        return buildTokenKeyPrefix(userType, userId) + jti;
+    }
+
+    // 해시 태그로 사용자의 토큰 키와 인덱스 키를 같은 Cluster 슬롯에 배치
+    private String buildUserKey(final String userType, final Long userId) {
+        final String prefix = UserType.MEMBER.getValue().equals(userType)
+            ? AuthConstants.REFRESH_MEMBER_KEY_PREFIX
             : AuthConstants.REFRESH_SELLER_KEY_PREFIX;
-        return prefix + userId + ":" + jti;
+        return prefix + "{" + userId + "}";
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.ururulab.ururu.auth.storage;
+
+import com.ururulab.ururu.auth.constants.AuthConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드별 토큰 블랙리스트 복제본.
+ * - Redis 블랙리스트 키를 주기적으로 SCAN하여 Bloom 필터를 다시 생성 (만료된 토큰은 Redis 키와 함께 빠짐)
+ * - 마지막 생성 이후 추가된 토큰은 정확한 최근 목록으로 보관 (pub/sub 알림과 이 노드의 등록으로 갱신, 토큰 만료 시 제거)
+ * - 필터에 없으면 확실히 블랙리스트가 아니므로 Redis 조회를 생략
+ * - 생성 전이거나 마지막 생성이 오래되면(Redis 장애 등) 판단하지 않고 Redis 조회로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public final class TokenBlacklistReplica {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int SCAN_COUNT = 1_000;
+    // 이 시간 동안 다시 생성하지 못하면 복제본을 신뢰하지 않음 (알림 유실 시 최대 지연)
+    private static final Duration MAX_STALENESS = Duration.ofMinutes(3);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final Map<String, RecentEntry> recentTokenIds = new ConcurrentHashMap<>();
+    private volatile BlacklistBloomFilter filter;
+    private volatile long rebuiltAtMillis;
+
+    /**
+     * 블랙리스트 등록을 복제본에 반영합니다.
+     *
+     * @param tokenId 블랙리스트 토큰 ID
+     * @param expiresAtMillis 토큰 만료 시각 (epoch millis)
+     */
+    public void record(final String tokenId, final long expiresAtMillis) {
+        recentTokenIds.put(tokenId, new RecentEntry(System.currentTimeMillis(), expiresAtMillis));
+    }
+
+    /**
+     * 최근 목록에 있어 확실히 블랙리스트인지 확인합니다.
+     */
+    public boolean isKnownBlacklisted(final String tokenId) {
+        final RecentEntry entry = recentTokenIds.get(tokenId);
+        return entry != null && entry.expiresAtMillis() > System.currentTimeMillis();
+    }
+
+    /**
+     * 블랙리스트일 가능성이 있는지 확인합니다.
+     * false이면 Redis 조회 없이 블랙리스트가 아님을 확정할 수 있습니다.
+     */
+    public boolean mightBeBlacklisted(final String tokenId) {
+        final BlacklistBloomFilter current = filter;
+        if (current == null || System.currentTimeMillis() - rebuiltAtMillis > MAX_STALENESS.toMillis()) {
+            return true;
+        }
+        return current.mightContain(tokenId);
+    }
+
+    /**
+     * Redis 블랙리스트로 Bloom 필터를 다시 생성합니다.
+     * SCAN 시작 전에 등록된 토큰은 필터에 포함되므로 최근 목록에서 제거합니다.
+     *
+     * @return 필터에 포함된 토큰 수
+     */
+    public int rebuild() {
+        final long startedAtMillis = System.currentTimeMillis();
+        final List<String> tokenIds = new ArrayList<>();
+        final ScanOptions options = ScanOptions.scanOptions()
+                .match(AuthConstants.BLACKLIST_KEY_PREFIX + "*")
+                .count(SCAN_COUNT)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> tokenIds.add(key.substring(AuthConstants.BLACKLIST_KEY_PREFIX.length())));
+        }
+
+        filter = BlacklistBloomFilter.of(tokenIds, FALSE_POSITIVE_RATE);
+        rebuiltAtMillis = startedAtMillis;
+        recentTokenIds.entrySet().removeIf(entry -> entry.getValue().addedAtMillis() < startedAtMillis
+                || entry.getValue().expiresAtMillis() <= startedAtMillis);
+
+        log.debug("Token blacklist replica rebuilt - tokens: {}, recent: {}", tokenIds.size(), recentTokenIds.size());
+        return tokenIds.size();
+    }
+
+    private record RecentEntry(long addedAtMillis, long expiresAtMillis) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.ururulab.ururu.auth.storage;
 
 import com.ururulab.ururu.auth.constants.AuthConstants;
+import com.ururulab.ururu.auth.jwt.JwtClaims;
 import com.ururulab.ururu.auth.jwt.JwtTokenProvider;
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
@@ -14,6 +15,8 @@ import java.time.Duration;
 /**
  * 토큰 블랙리스트 저장소.
  * Redis를 사용한 토큰 블랙리스트 관리를 담당합니다.
+ * 블랙리스트 등록 시 모든 노드의 검증 토큰 캐시(VerifiedTokenCache)에서 제거하고 블랙리스트 복제본에 반영합니다.
+ * 조회는 노드별 복제본(TokenBlacklistReplica)으로 먼저 판단하고, 필터에 걸린 경우에만 Redis를 조회합니다.
  */
 @Slf4j
 @Component
@@ -22,6 +25,8 @@ public final class TokenBlacklistStorage {
 
     private final StringRedisTemplate redisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklistReplica tokenBlacklistReplica;
 
     /**
      * 토큰을 블랙리스트에 추가합니다.
@@ -44,6 +49,22 @@ public final class TokenBlacklistStorage {
             log.error("Failed to add token to blacklist: {}, error: {}", tokenId, e.getMessage());
             throw new BusinessException(ErrorCode.TOKEN_BLACKLIST_OPERATION_FAILED);
         }
+
+        revokeToken(tokenId, System.currentTimeMillis() + expirySeconds * 1000);
+    }
+
+    /**
+     * 이 노드의 검증 토큰 캐시와 블랙리스트 복제본에 즉시 반영하고 다른 노드에 알립니다.
+     * 알림 실패 시 다른 노드는 캐시 TTL과 복제본 재생성 주기 이내에 반영됩니다.
+     */
+    private void revokeToken(final String tokenId, final long expiresAtMillis) {
+        tokenBlacklistReplica.record(tokenId, expiresAtMillis);
+        verifiedTokenCache.invalidate(tokenId);
+        try {
+            redisTemplate.convertAndSend(AuthConstants.TOKEN_REVOCATION_CHANNEL, tokenId + ":" + expiresAtMillis);
+        } catch (final Exception e) {
+            log.warn("Failed to publish token revocation: {}, error: {}", tokenId, e.getMessage());
+        }
     }
 
     /**
@@ -56,7 +77,15 @@ public final class TokenBlacklistStorage {
         if (tokenId == null) {
             return false;
         }
-        
+
+        // 복제본으로 확정 가능한 경우 Redis 조회 생략
+        if (tokenBlacklistReplica.isKnownBlacklisted(tokenId)) {
+            return true;
+        }
+        if (!tokenBlacklistReplica.mightBeBlacklisted(tokenId)) {
+            return false;
+        }
+
         final String blacklistKey = AuthConstants.BLACKLIST_KEY_PREFIX + tokenId;
         return Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey));
     }
@@ -74,8 +103,9 @@ public final class TokenBlacklistStorage {
         }
         
         try {
-            final String tokenId = jwtTokenProvider.getTokenId(accessToken);
-            final long expiry = jwtTokenProvider.getRemainingExpiry(accessToken);
+            final JwtClaims claims = jwtTokenProvider.parseClaims(accessToken);
+            final String tokenId = claims.tokenId();
+            final long expiry = claims.remainingSeconds();
             
             if (tokenId == null || expiry <= 0) {
                 log.error("Invalid access token for blacklisting - tokenId: {}, expiry: {}", tokenId, expiry);
@@ -104,8 +134,9 @@ public final class TokenBlacklistStorage {
         }
         
         try {
-            final String tokenId = jwtTokenProvider.getTokenId(refreshToken);
-            final long expiry = jwtTokenProvider.getRemainingExpiry(refreshToken);
+            final JwtClaims claims = jwtTokenProvider.parseClaims(refreshToken);
+            final String tokenId = claims.tokenId();
+            final long expiry = claims.remainingSeconds();
             
             if (tokenId == null || expiry <= 0) {
                 log.error("Invalid refresh token for blacklisting - tokenId: {}, expiry: {}", tokenId, expiry);
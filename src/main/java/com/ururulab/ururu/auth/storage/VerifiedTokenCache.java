@@ -0,0 +1,142 @@
+package com.ururulab.ururu.auth.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ururulab.ururu.auth.service.TokenValidator;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 Access Token 로컬 캐시.
+ * 같은 토큰으로 반복되는 요청은 서명 검증과 블랙리스트 조회 없이 인증합니다.
+ * - 키는 토큰의 SHA-256 다이제스트 (원문 토큰은 보관하지 않음)
+ * - 항목은 토큰 만료 시각과 최대 TTL 중 먼저 도래하는 시점까지 유지
+ * - 블랙리스트 등록 시 즉시 제거 (다른 노드는 Redis pub/sub 알림으로 제거)
+ * - 토큰 ID → 다이제스트 색인을 함께 유지하여 무효화는 항목 수와 무관하게 처리
+ */
+@Component
+public final class VerifiedTokenCache {
+
+    private static final int MAX_ENTRIES = 50_000;
+    // 무효화 알림이 유실되어도 블랙리스트가 반영되기까지의 최대 지연
+    private static final Duration MAX_TTL = Duration.ofSeconds(30);
+
+    // 토큰 ID → 캐시 키(다이제스트), 캐시 항목이 제거되면 함께 제거
+    private final Map<String, String> digestsByTokenId = new ConcurrentHashMap<>();
+
+    private final Cache<String, TokenValidator.TokenValidationResult> entries = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfter(new Expiry<String, TokenValidator.TokenValidationResult>() {
+                @Override
+                public long expireAfterCreate(final String key, final TokenValidator.TokenValidationResult value,
+                                              final long currentTime) {
+                    return ttlNanos(value);
+                }
+
+                @Override
+                public long expireAfterUpdate(final String key, final TokenValidator.TokenValidationResult value,
+                                              final long currentTime, final long currentDuration) {
+                    return ttlNanos(value);
+                }
+
+                @Override
+                public long expireAfterRead(final String key, final TokenValidator.TokenValidationResult value,
+                                            final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            // 색인 정리를 캐시 변경과 같은 스레드에서 처리 (put 이후 색인 등록 순서 보장)
+            .executor(Runnable::run)
+            .removalListener((String key, TokenValidator.TokenValidationResult value, RemovalCause cause) -> {
+                if (key != null && value != null && value.tokenId() != null) {
+                    digestsByTokenId.remove(value.tokenId(), key);
+                }
+            })
+            .build();
+
+    // 최근 무효화된 토큰 ID (검증 중에 무효화된 토큰이 뒤늦게 캐시되는 것 방지)
+    private final Cache<String, Boolean> revokedTokenIds = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(MAX_TTL)
+            .build();
+
+    /**
+     * 캐시된 검증 결과를 조회합니다.
+     *
+     * @param token Access Token
+     * @return 검증 결과 (없으면 null)
+     */
+    public TokenValidator.TokenValidationResult get(final String token) {
+        return entries.getIfPresent(digest(token));
+    }
+
+    /**
+     * 검증 결과를 캐시합니다. 최근 무효화된 토큰은 캐시하지 않습니다.
+     *
+     * @param token Access Token
+     * @param result 검증 결과
+     */
+    public void put(final String token, final TokenValidator.TokenValidationResult result) {
+        if (result.tokenId() == null || revokedTokenIds.getIfPresent(result.tokenId()) != null) {
+            return;
+        }
+        // 이미 만료된 토큰은 즉시 제거되므로 색인에 남지 않도록 캐시하지 않음
+        if (ttlNanos(result) == 0) {
+            return;
+        }
+        final String digest = digest(token);
+        entries.put(digest, result);
+        digestsByTokenId.put(result.tokenId(), digest);
+
+        // 색인 등록 전에 무효화된 경우 여기서 제거
+        if (revokedTokenIds.getIfPresent(result.tokenId()) != null) {
+            invalidate(result.tokenId());
+        }
+    }
+
+    /**
+     * 토큰 ID에 해당하는 캐시 항목을 제거합니다.
+     *
+     * @param tokenId 무효화된 토큰 ID
+     */
+    public void invalidate(final String tokenId) {
+        if (tokenId == null) {
+            return;
+        }
+        revokedTokenIds.put(tokenId, Boolean.TRUE);
+        final String digest = digestsByTokenId.remove(tokenId);
+        if (digest != null) {
+            entries.invalidate(digest);
+        }
+    }
+
+    private static long ttlNanos(final TokenValidator.TokenValidationResult result) {
+        if (result.expiresAt() == null) {
+            return MAX_TTL.toNanos();
+        }
+        final Duration remaining = Duration.between(Instant.now(), result.expiresAt());
+        if (remaining.isNegative()) {
+            return 0;
+        }
+        return Math.min(remaining.toNanos(), MAX_TTL.toNanos());
+    }
+
+    private static String digest(final String token) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
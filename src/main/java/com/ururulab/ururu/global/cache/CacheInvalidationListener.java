@@ -0,0 +1,41 @@
+package com.ururulab.ururu.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드의 캐시 변경 알림을 받아 해당 L1 엔트리만 무효화
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final String nodeId;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + CacheInvalidationPublisher.SEPARATOR, 4);
+        if (parts.length < 4) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", body);
+            return;
+        }
+
+        String senderNodeId = parts[0];
+        if (nodeId.equals(senderNodeId)) {
+            return;
+        }
+
+        String cacheName = parts[1];
+        if (CacheInvalidationPublisher.CLEAR.equals(parts[2])) {
+            cacheManager.clearLocal(cacheName);
+        } else {
+            cacheManager.evictLocal(cacheName, parts[3]);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ururulab.ururu.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * L1 캐시 무효화 메시지 발행
+ * 메시지 형식: {nodeId}|{cacheName}|{EVICT|CLEAR}|{key}
+ * 자기 노드가 보낸 메시지는 수신 측에서 무시 (이미 로컬 반영됨)
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    static final String SEPARATOR = "|";
+    static final String EVICT = "EVICT";
+    static final String CLEAR = "CLEAR";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, String cacheKey) {
+        publish(String.join(SEPARATOR, nodeId, cacheName, EVICT, cacheKey));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(String.join(SEPARATOR, nodeId, cacheName, CLEAR, ""));
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 다른 노드의 L1은 TTL 만료로 수렴
+            log.warn("캐시 무효화 메시지 발행 실패 - message: {}", message, e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ururulab.ururu.global.cache;
+
+import java.util.Set;
+
+/**
+ * 2단계 캐시 조기 갱신용 원본 로더
+ * 조기 갱신은 요청 스레드가 아닌 백그라운드에서 실행되므로, 호출자가 넘긴 valueLoader 대신
+ * 이 로더로 다시 계산 (로더는 자체 트랜잭션에서 실행되어야 함)
+ * 로더가 없는 캐시는 조기 갱신 없이 만료 후 다음 조회에서 다시 로딩
+ */
+public interface CacheRefreshLoader {
+
+    /**
+     * 이 로더가 다시 계산할 수 있는 캐시 이름
+     */
+    Set<String> cacheNames();
+
+    /**
+     * 캐시 키에 해당하는 값 계산
+     * @param cacheName 캐시 이름
+     * @param key 캐시 키 (@Cacheable key 표현식 결과)
+     */
+    Object load(String cacheName, Object key);
+}
@@ -0,0 +1,472 @@
+package com.ururulab.ururu.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 캐시
+ * - 조회: L1 → L2 → 원본 로딩 순서, L1 미스는 노드 내에서 키별로 한 번만 로딩 (키별 로딩 Future 공유)
+ * - 로딩과 락 대기는 Caffeine compute 밖의 요청 스레드에서 수행하고 결과만 L1에 put (다른 키 조회를 막지 않음)
+ * - L2 재계산은 Redis 락을 얻은 노드 하나만 수행하고 나머지는 L2 적재를 기다림
+ * - 만료 직전 요청은 확률적으로(XFetch) 백그라운드 조기 갱신을 예약하여 만료 순간의 동시 재계산을 방지
+ *   (조기 갱신은 호출자의 valueLoader가 아닌 캐시별 CacheRefreshLoader로 계산, 로더가 없으면 조기 갱신하지 않음)
+ * - put/evict/clear 시 다른 노드의 L1은 Redis pub/sub으로 무효화
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private static final String LOCK_KEY_PREFIX = "cache:lock:";
+    private static final long LOCK_POLL_INTERVAL_MILLIS = 50;
+    // 로딩 시간 측정 전 조기 갱신 확률 계산에 사용하는 기본 로딩 시간
+    private static final long DEFAULT_COMPUTE_MILLIS = 100;
+
+    private static final String UNLOCK_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final DefaultRedisScript<Long> unlockScript = new DefaultRedisScript<>(UNLOCK_SCRIPT, Long.class);
+
+    private final String name;
+    private final Cache redisCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, CacheEntry> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final TaskExecutor refreshExecutor;
+    private final TwoLevelCacheSettings settings;
+    private final CacheRefreshLoader refreshLoader;
+
+    // 키별 진행 중인 로딩 (노드 내 single-flight)
+    private final Map<String, CompletableFuture<CacheEntry>> loadingEntries = new ConcurrentHashMap<>();
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastComputeMillis = new AtomicLong(DEFAULT_COMPUTE_MILLIS);
+
+    public TwoLevelCache(String name,
+                         Cache redisCache,
+                         StringRedisTemplate redisTemplate,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         TaskExecutor refreshExecutor,
+                         TwoLevelCacheSettings settings) {
+        this(name, redisCache, redisTemplate, invalidationPublisher, refreshExecutor, settings, null);
+    }
+
+    /**
+     * @param refreshLoader 조기 갱신용 로더 (null이면 조기 갱신하지 않음)
+     */
+    public TwoLevelCache(String name,
+                         Cache redisCache,
+                         StringRedisTemplate redisTemplate,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         TaskExecutor refreshExecutor,
+                         TwoLevelCacheSettings settings,
+                         CacheRefreshLoader refreshLoader) {
+        this.name = name;
+        this.refreshLoader = refreshLoader;
+        this.redisCache = redisCache;
+        this.redisTemplate = redisTemplate;
+        this.invalidationPublisher = invalidationPublisher;
+        this.refreshExecutor = refreshExecutor;
+        this.settings = settings;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(settings.localMaximumSize())
+                .expireAfter(new CacheEntryExpiry())
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String cacheKey = toCacheKey(key);
+
+        CacheEntry entry = localCache.getIfPresent(cacheKey);
+        if (entry == null) {
+            entry = readFromRedis(cacheKey, key);
+            if (entry == null) {
+                return null;
+            }
+            localCache.put(cacheKey, entry);
+        }
+
+        return new SimpleValueWrapper(entry.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = toCacheKey(key);
+
+        CacheEntry entry = localCache.getIfPresent(cacheKey);
+        if (entry != null) {
+            if (refreshLoader != null
+                    && entry.shouldRefreshEarly(System.currentTimeMillis(), settings.earlyRefreshBeta())) {
+                scheduleRefresh(cacheKey, key);
+            }
+            return (T) entry.value();
+        }
+
+        return (T) loadOnce(cacheKey, key, valueLoader).value();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = toCacheKey(key);
+
+        writeToRedis(key, value);
+        localCache.put(cacheKey, newComputedEntry(value, lastComputeMillis.get()));
+        invalidationPublisher.publishEvict(name, cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toCacheKey(key);
+
+        try {
+            redisCache.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 삭제 실패 - cache: {}, key: {}", name, cacheKey, e);
+        }
+        localCache.invalidate(cacheKey);
+        invalidationPublisher.publishEvict(name, cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            redisCache.clear();
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 전체 삭제 실패 - cache: {}", name, e);
+        }
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    /**
+     * 다른 노드의 변경 알림으로 L1만 무효화
+     */
+    void evictLocal(String cacheKey) {
+        localCache.invalidate(cacheKey);
+    }
+
+    /**
+     * 다른 노드의 전체 삭제 알림으로 L1만 비움
+     */
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * 같은 키의 동시 미스는 먼저 온 요청 스레드가 한 번만 로딩하고 나머지는 결과를 기다림
+     * 로딩은 호출자 스레드에서 실행되므로 호출자의 트랜잭션/컨텍스트가 유지됨
+     */
+    private CacheEntry loadOnce(String cacheKey, Object key, Callable<?> valueLoader) {
+        CompletableFuture<CacheEntry> loading = new CompletableFuture<>();
+        CompletableFuture<CacheEntry> inProgress = loadingEntries.putIfAbsent(cacheKey, loading);
+        if (inProgress != null) {
+            return awaitLoading(inProgress);
+        }
+
+        try {
+            // 대기 사이에 다른 요청이 로딩을 마친 경우
+            CacheEntry loaded = localCache.getIfPresent(cacheKey);
+            if (loaded == null) {
+                loaded = loadThrough(cacheKey, key, valueLoader);
+                localCache.put(cacheKey, loaded);
+            }
+            loading.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadingEntries.remove(cacheKey, loading);
+        }
+    }
+
+    private CacheEntry awaitLoading(CompletableFuture<CacheEntry> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * L1 미스 시 L2 조회 후, 없으면 락을 얻어 원본 로딩
+     */
+    private CacheEntry loadThrough(String cacheKey, Object key, Callable<?> valueLoader) {
+        CacheEntry cached = readFromRedis(cacheKey, key);
+        if (cached != null) {
+            return cached;
+        }
+
+        return computeWithLock(cacheKey, key, valueLoader, true);
+    }
+
+    /**
+     * 노드 간 single-flight 재계산
+     * @param waitIfLocked 락을 얻지 못했을 때 다른 노드의 L2 적재를 기다릴지 여부 (조기 갱신은 기다리지 않음)
+     * @return 재계산 결과, 기다리지 않고 포기한 경우 null
+     */
+    private CacheEntry computeWithLock(String cacheKey, Object key, Callable<?> valueLoader, boolean waitIfLocked) {
+        String lockKey = LOCK_KEY_PREFIX + toRedisKey(cacheKey);
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, settings.lockTimeout());
+        } catch (RuntimeException e) {
+            log.warn("캐시 락 획득 실패, 직접 로딩 - cache: {}, key: {}", name, cacheKey, e);
+            return compute(key, valueLoader);
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                return compute(key, valueLoader);
+            } finally {
+                releaseLock(lockKey, token);
+            }
+        }
+
+        if (!waitIfLocked) {
+            return null;
+        }
+
+        CacheEntry loadedByOther = waitForRedis(cacheKey, key);
+        return loadedByOther != null ? loadedByOther : compute(key, valueLoader);
+    }
+
+    private CacheEntry compute(Object key, Callable<?> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        long computeMillis = Math.max(System.currentTimeMillis() - startedAt, 1);
+        lastComputeMillis.set(computeMillis);
+        writeToRedis(key, value);
+
+        return newComputedEntry(value, computeMillis);
+    }
+
+    private CacheEntry waitForRedis(String cacheKey, Object key) {
+        long deadline = System.currentTimeMillis() + settings.lockWait().toMillis();
+
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            CacheEntry cached = readFromRedis(cacheKey, key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        log.debug("다른 노드의 캐시 적재 대기 시간 초과 - cache: {}, key: {}", name, cacheKey);
+        return null;
+    }
+
+    /**
+     * 백그라운드 조기 갱신 예약 (키별 1건)
+     * L2 만료가 임박한 엔트리는 CacheRefreshLoader로 재계산, 그 외에는 L2에서 다시 읽음
+     */
+    private void scheduleRefresh(String cacheKey, Object key) {
+        Callable<Object> valueLoader = () -> refreshLoader.load(name, key);
+
+        if (!refreshingKeys.add(cacheKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    CacheEntry current = localCache.getIfPresent(cacheKey);
+                    boolean recompute = current == null || current.boundByRedis();
+
+                    CacheEntry refreshed = recompute ? null : readFromRedis(cacheKey, key);
+                    if (refreshed == null) {
+                        refreshed = computeWithLock(cacheKey, key, valueLoader, false);
+                    }
+                    if (refreshed != null) {
+                        localCache.put(cacheKey, refreshed);
+                    }
+                } catch (Exception e) {
+                    log.warn("캐시 조기 갱신 실패 - cache: {}, key: {}", name, cacheKey, e);
+                } finally {
+                    refreshingKeys.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshingKeys.remove(cacheKey);
+            log.debug("캐시 조기 갱신 거절 (스레드풀 포화) - cache: {}, key: {}", name, cacheKey);
+        }
+    }
+
+    private CacheEntry readFromRedis(String cacheKey, Object key) {
+        try {
+            ValueWrapper wrapper = redisCache.get(key);
+            if (wrapper == null) {
+                return null;
+            }
+
+            Long remainingMillis = redisTemplate.getExpire(toRedisKey(cacheKey), TimeUnit.MILLISECONDS);
+            return newRedisEntry(wrapper.get(), remainingMillis);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 조회 실패 - cache: {}, key: {}", name, cacheKey, e);
+            return null;
+        }
+    }
+
+    private void writeToRedis(Object key, Object value) {
+        try {
+            redisCache.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 저장 실패 - cache: {}, key: {}", name, key, e);
+        }
+    }
+
+    private void releaseLock(String lockKey, String token) {
+        try {
+            redisTemplate.execute(unlockScript, List.of(lockKey), token);
+        } catch (RuntimeException e) {
+            log.warn("캐시 락 해제 실패 - lockKey: {}", lockKey, e);
+        }
+    }
+
+    /**
+     * 이 노드에서 계산하여 L2에 막 저장한 엔트리
+     */
+    private CacheEntry newComputedEntry(Object value, long computeMillis) {
+        long now = System.currentTimeMillis();
+        long redisExpiresAt = now + settings.redisTtl().toMillis();
+        long localExpiresAt = now + settings.localTtl().toMillis();
+
+        return new CacheEntry(value, Math.min(redisExpiresAt, localExpiresAt),
+                redisExpiresAt <= localExpiresAt, computeMillis);
+    }
+
+    /**
+     * L2에서 읽은 엔트리 - 남은 L2 TTL이 L1 TTL보다 짧으면 L2 만료 시각에 맞춤
+     */
+    private CacheEntry newRedisEntry(Object value, Long remainingMillis) {
+        long now = System.currentTimeMillis();
+        long localExpiresAt = now + settings.localTtl().toMillis();
+
+        if (remainingMillis != null && remainingMillis > 0 && now + remainingMillis <= localExpiresAt) {
+            return new CacheEntry(value, now + remainingMillis, true, lastComputeMillis.get());
+        }
+        return new CacheEntry(value, localExpiresAt, false, lastComputeMillis.get());
+    }
+
+    private String toCacheKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * RedisCacheManager 기본 키 형식 (cacheName::key)
+     */
+    private String toRedisKey(String cacheKey) {
+        return name + "::" + cacheKey;
+    }
+
+    /**
+     * L1 엔트리
+     * @param value 캐시 값 (null 허용)
+     * @param expiresAtMillis L1 만료 시각
+     * @param boundByRedis 만료 시각이 L2 만료에 맞춰졌는지 여부 (조기 갱신 시 재계산 필요)
+     * @param computeMillis 원본 로딩 소요 시간 (조기 갱신 확률 계산용)
+     */
+    private record CacheEntry(Object value, long expiresAtMillis, boolean boundByRedis, long computeMillis) {
+
+        /**
+         * XFetch: now - computeMillis * beta * ln(rand) >= expiresAt 이면 조기 갱신
+         * 만료가 가까울수록, 로딩이 오래 걸릴수록 갱신 확률이 높아짐
+         */
+        boolean shouldRefreshEarly(long now, double beta) {
+            double gap = -computeMillis * beta * Math.log(ThreadLocalRandom.current().nextDouble());
+            return now + gap >= expiresAtMillis;
+        }
+    }
+
+    /**
+     * 엔트리별 만료 시각을 Caffeine 만료에 반영
+     */
+    private static class CacheEntryExpiry implements Expiry<String, CacheEntry> {
+
+        @Override
+        public long expireAfterCreate(String key, CacheEntry entry, long currentTime) {
+            return remainingNanos(entry);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CacheEntry entry, long currentTime, long currentDuration) {
+            return remainingNanos(entry);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CacheEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remainingNanos(CacheEntry entry) {
+            long remainingMillis = entry.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+    }
+}
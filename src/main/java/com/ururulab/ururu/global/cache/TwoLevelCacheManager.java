@@ -0,0 +1,95 @@
+package com.ururulab.ururu.global.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지정한 캐시만 Caffeine(L1) + Redis(L2) 2단계로 제공하는 CacheManager
+ * 그 외 캐시는 RedisCacheManager에 그대로 위임
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final RedisCacheManager redisCacheManager;
+    private final Set<String> twoLevelCacheNames;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final TaskExecutor refreshExecutor;
+    private final TwoLevelCacheSettings settings;
+    private final ObjectProvider<CacheRefreshLoader> refreshLoaders;
+
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                Set<String> twoLevelCacheNames,
+                                StringRedisTemplate redisTemplate,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                TaskExecutor refreshExecutor,
+                                TwoLevelCacheSettings settings,
+                                ObjectProvider<CacheRefreshLoader> refreshLoaders) {
+        this.redisCacheManager = redisCacheManager;
+        this.twoLevelCacheNames = Set.copyOf(twoLevelCacheNames);
+        this.redisTemplate = redisTemplate;
+        this.invalidationPublisher = invalidationPublisher;
+        this.refreshExecutor = refreshExecutor;
+        this.settings = settings;
+        this.refreshLoaders = refreshLoaders;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!twoLevelCacheNames.contains(name)) {
+            return redisCacheManager.getCache(name);
+        }
+
+        return twoLevelCaches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                cacheName,
+                redisCacheManager.getCache(cacheName),
+                redisTemplate,
+                invalidationPublisher,
+                refreshExecutor,
+                settings,
+                findRefreshLoader(cacheName)
+        ));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> cacheNames = new LinkedHashSet<>(redisCacheManager.getCacheNames());
+        cacheNames.addAll(twoLevelCacheNames);
+        return cacheNames;
+    }
+
+    /**
+     * 캐시 생성 시점(첫 조회)에 로더를 찾으므로 로더 빈이 CacheManager에 의존해도 순환 참조 없음
+     */
+    private CacheRefreshLoader findRefreshLoader(String cacheName) {
+        return refreshLoaders.orderedStream()
+                .filter(loader -> loader.cacheNames().contains(cacheName))
+                .findFirst()
+                .orElse(null);
+    }
+
+    void evictLocal(String cacheName, String cacheKey) {
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(cacheKey);
+        }
+    }
+
+    void clearLocal(String cacheName) {
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ururulab.ururu.global.cache;
+
+import java.time.Duration;
+
+/**
+ * 2단계 캐시 설정
+ * @param localTtl L1(Caffeine) 최대 보관 시간 - L2 만료 시각을 넘지 않음
+ * @param localMaximumSize 캐시별 L1 최대 엔트리 수
+ * @param redisTtl L2(Redis) TTL - RedisCacheManager 설정과 동일해야 함
+ * @param earlyRefreshBeta 조기 갱신 강도 (클수록 일찍 갱신, 1.0 권장)
+ * @param lockTimeout L2 재계산 락 유지 시간
+ * @param lockWait 락을 얻지 못한 노드가 L2 적재를 기다리는 최대 시간
+ */
+public record TwoLevelCacheSettings(
+        Duration localTtl,
+        long localMaximumSize,
+        Duration redisTtl,
+        double earlyRefreshBeta,
+        Duration lockTimeout,
+        Duration lockWait
+) {
+}
@@ -35,7 +35,8 @@ public class AsyncConfig {
 
 	/**
 	 * 재고 체크 전용 스레드풀
-	 * 주문 완료 후 재고 소진 체크용
+	 * 주문 완료 후 재고 소진 체크용 (StockDepletionProcessor)
+	 * 포화 시 거절하고 호출 측에서 다음 주기로 미룸 - 요청/스케줄러 스레드에서 실행하지 않음
 	 */
 	@Bean("stockCheckExecutor")
 	public TaskExecutor stockCheckExecutor() {
@@ -44,10 +45,42 @@ public class AsyncConfig {
 		executor.setMaxPoolSize(5);
 		executor.setQueueCapacity(100);
 		executor.setThreadNamePrefix("StockCheck-");
-		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 		executor.setWaitForTasksToCompleteOnShutdown(true); // 데이터 일관성 보장
 		executor.setAwaitTerminationSeconds(30);             // 무한 대기 방지
 		executor.initialize();
 		return executor;
 	}
+
+	/**
+	 * 캐시 조기 갱신 전용 스레드풀
+	 * 갱신은 최선 노력(best-effort) - 포화 시 거절되며 만료 시점의 단일 로딩으로 대체됨
+	 */
+	@Bean("cacheRefreshExecutor")
+	public TaskExecutor cacheRefreshExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(20);
+		executor.setThreadNamePrefix("cache-refresh-");
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 공동구매 진행 현황 SSE 전송 전용 스레드풀
+	 * Redis pub/sub 리스너 스레드가 클라이언트 전송에 묶이지 않도록 분리
+	 * 포화 시 거절하고 해당 전송은 생략 - 현황은 전체 스냅샷이라 다음 발행으로 복구됨
+	 */
+	@Bean("progressDeliveryExecutor")
+	public TaskExecutor progressDeliveryExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(8);
+		executor.setQueueCapacity(20_000);
+		executor.setThreadNamePrefix("progress-sse-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
 }
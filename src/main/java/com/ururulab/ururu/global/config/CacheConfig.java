@@ -0,0 +1,82 @@
+package com.ururulab.ururu.global.config;
+
+import com.ururulab.ururu.global.cache.CacheInvalidationListener;
+import com.ururulab.ururu.global.cache.CacheRefreshLoader;
+import com.ururulab.ururu.global.cache.CacheInvalidationPublisher;
+import com.ururulab.ururu.global.cache.TwoLevelCacheManager;
+import com.ururulab.ururu.global.cache.TwoLevelCacheSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * 로컬(L1) 캐시를 함께 사용하는 캐시 - 메인 화면처럼 조회가 몰리는 목록
+     */
+    private static final Set<String> TWO_LEVEL_CACHE_NAMES = Set.of("realtimeBest", "categoryPopular");
+
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration LOCK_WAIT = Duration.ofSeconds(3);
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate);
+    }
+
+    /**
+     * 기본 CacheManager
+     * 메인 화면 캐시는 Caffeine(L1) + Redis(L2), 그 외는 Redis 캐시 그대로 사용
+     */
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(
+            RedisCacheManager redisCacheManager,
+            StringRedisTemplate stringRedisTemplate,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Qualifier("cacheRefreshExecutor") TaskExecutor cacheRefreshExecutor,
+            ObjectProvider<CacheRefreshLoader> cacheRefreshLoaders,
+            @Value("${cache.local.ttl-seconds:30}") long localTtlSeconds,
+            @Value("${cache.local.maximum-size:1000}") long localMaximumSize,
+            @Value("${cache.early-refresh.beta:1.0}") double earlyRefreshBeta) {
+
+        TwoLevelCacheSettings settings = new TwoLevelCacheSettings(
+                Duration.ofSeconds(localTtlSeconds),
+                localMaximumSize,
+                RedisConfig.CACHE_TTL,
+                earlyRefreshBeta,
+                LOCK_TIMEOUT,
+                LOCK_WAIT
+        );
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager,
+                TWO_LEVEL_CACHE_NAMES,
+                stringRedisTemplate,
+                cacheInvalidationPublisher,
+                cacheRefreshExecutor,
+                settings,
+                cacheRefreshLoaders
+        );
+
+        // 다른 노드의 put/evict 알림으로 L1 무효화
+        redisMessageListenerContainer.addMessageListener(
+                new CacheInvalidationListener(cacheManager, cacheInvalidationPublisher.getNodeId()),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+
+        return cacheManager;
+    }
+}
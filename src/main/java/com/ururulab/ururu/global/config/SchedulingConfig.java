@@ -0,0 +1,30 @@
+package com.ururulab.ururu.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @Scheduled 작업 전용 스케줄러 스레드풀
+ * 기본 스케줄러는 스레드 1개라 긴 배치(시간별 마감 등)가 짧은 주기 작업(마감 큐 폴링, 재고 소진 처리, 진행 현황 발행 등)을 모두 지연시킴
+ * 작업마다 스레드를 나눠 쓰도록 예약 작업 수에 맞춰 크기 지정
+ */
+@Slf4j
+@Configuration
+public class SchedulingConfig {
+
+	private static final int POOL_SIZE = 8;
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(POOL_SIZE);
+		scheduler.setThreadNamePrefix("scheduler-");
+		scheduler.setErrorHandler(e -> log.error("예약 작업 실행 실패", e));
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(30);
+		return scheduler;
+	}
+}
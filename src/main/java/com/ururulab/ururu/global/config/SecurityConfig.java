@@ -55,6 +55,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/groupbuys/*").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/groupbuys/top3").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/groupbuys/*/top6").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/groupbuys/*/progress").permitAll()
                         .anyRequest().authenticated()
                 )
                 .csrf(AbstractHttpConfigurer::disable)
@@ -94,6 +95,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/groupbuys/*").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/groupbuys/top3").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/groupbuys/*/top6").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/groupbuys/*/progress").permitAll()
                         .anyRequest().authenticated()
                 )
                 .csrf(AbstractHttpConfigurer::disable)
@@ -0,0 +1,72 @@
+package com.ururulab.ururu.global.domain.dto;
+
+import com.ururulab.ururu.global.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static com.ururulab.ururu.global.exception.error.ErrorCode.CURSOR_DECODING_FAILED;
+
+/**
+ * 최신순(createdAt DESC, id DESC) 목록의 커서
+ * 마지막 항목의 (createdAt, id)를 담으며, 다음 페이지는 이보다 "앞선" 항목부터 조회
+ * 클라이언트에는 Base64 URL 문자열로만 노출
+ *
+ * @param createdAt 마지막 항목 생성 시각
+ * @param id 마지막 항목 ID (문자열로 보관, Long ID는 idAsLong()으로 변환)
+ */
+public record CreatedAtCursor(
+        Instant createdAt,
+        String id
+) {
+
+    /**
+     * 근사 전체 개수를 셀 때의 상한 (이를 넘으면 상한값과 totalCapped=true 반환)
+     */
+    public static final int TOTAL_COUNT_CAP = 1_000;
+
+    private static final String DELIMITER = ":";
+
+    public static CreatedAtCursor of(Instant createdAt, Object id) {
+        return new CreatedAtCursor(createdAt, String.valueOf(id));
+    }
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + DELIMITER + createdAt.getNano() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 이전 응답의 nextCursor (없으면 null)
+     * @return 커서 (첫 페이지면 null)
+     * @throws BusinessException 형식이 올바르지 않은 경우
+     */
+    public static CreatedAtCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, 3);
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            if (parts[2].isEmpty()) {
+                throw new IllegalArgumentException("empty id");
+            }
+            return new CreatedAtCursor(createdAt, parts[2]);
+        } catch (RuntimeException e) {
+            throw new BusinessException(CURSOR_DECODING_FAILED, cursor);
+        }
+    }
+
+    public Long idAsLong() {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(CURSOR_DECODING_FAILED, id);
+        }
+    }
+}
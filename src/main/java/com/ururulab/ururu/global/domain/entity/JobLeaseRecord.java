@@ -0,0 +1,48 @@
+package com.ururulab.ururu.global.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 스케줄 작업 임대(lease) - Redis 장애 시 사용하는 DB 저장소이자 작업 쓰기의 펜스
+ * 작업 이름당 한 행을 두고 만료된 경우에만 조건부 UPDATE로 획득
+ * fencingToken은 지금까지 발급(DB 임대)되었거나 쓰기에 사용된(Redis 임대 포함) 가장 큰 펜싱 토큰
+ */
+@Entity
+@Getter
+@Table(name = "job_leases")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLeaseRecord extends BaseEntity {
+
+	@Id
+	@Column(length = 100)
+	private String jobName;
+
+	@Column(length = 100)
+	private String owner;
+
+	@Column(nullable = false)
+	private Long fencingToken;
+
+	// fencingToken으로 마지막에 쓰기를 허용받은 보유자 (같은 토큰 값이 두 저장소에서 발급된 경우 구분)
+	@Column(length = 100)
+	private String fenceOwner;
+
+	@Column(nullable = false)
+	private Instant expiresAt;
+
+	public static JobLeaseRecord of(String jobName) {
+		JobLeaseRecord record = new JobLeaseRecord();
+		record.jobName = jobName;
+		record.fencingToken = 0L;
+		record.expiresAt = Instant.EPOCH;
+		return record;
+	}
+}
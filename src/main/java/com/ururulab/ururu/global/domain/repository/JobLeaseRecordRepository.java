@@ -0,0 +1,86 @@
+package com.ururulab.ururu.global.domain.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ururulab.ururu.global.domain.entity.JobLeaseRecord;
+
+public interface JobLeaseRecordRepository extends JpaRepository<JobLeaseRecord, String> {
+
+	/**
+	 * 작업 행이 없으면 생성 (동시에 생성하면 한 노드만 성공)
+	 */
+	default void ensureExists(String jobName) {
+		if (existsById(jobName)) {
+			return;
+		}
+		try {
+			saveAndFlush(JobLeaseRecord.of(jobName));
+		} catch (DataIntegrityViolationException e) {
+			// 다른 노드가 먼저 생성
+		}
+	}
+
+	/**
+	 * 만료된 임대 획득 (펜싱 토큰 1 증가 - 지금까지 쓰기에 사용된 모든 토큰보다 커짐)
+	 * @return 획득 시 1, 다른 노드가 보유 중이면 0
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE JobLeaseRecord l
+		SET l.owner = :owner, l.fencingToken = l.fencingToken + 1, l.fenceOwner = :owner, l.expiresAt = :expiresAt
+		WHERE l.jobName = :jobName AND l.expiresAt <= :now
+		""")
+	int acquire(@Param("jobName") String jobName, @Param("owner") String owner,
+		@Param("now") Instant now, @Param("expiresAt") Instant expiresAt);
+
+	/**
+	 * 보유 중인 임대의 만료 시각 변경 (연장 또는 최소 보유 시간까지 단축)
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE JobLeaseRecord l
+		SET l.expiresAt = :expiresAt
+		WHERE l.jobName = :jobName AND l.owner = :owner AND l.expiresAt > :now
+		""")
+	int extend(@Param("jobName") String jobName, @Param("owner") String owner,
+		@Param("now") Instant now, @Param("expiresAt") Instant expiresAt);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE JobLeaseRecord l
+		SET l.owner = NULL, l.expiresAt = :now
+		WHERE l.jobName = :jobName AND l.owner = :owner
+		""")
+	int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("now") Instant now);
+
+	@Query("SELECT l.fencingToken FROM JobLeaseRecord l WHERE l.jobName = :jobName AND l.owner = :owner")
+	Optional<Long> findFencingToken(@Param("jobName") String jobName, @Param("owner") String owner);
+
+	@Query("SELECT l.fencingToken FROM JobLeaseRecord l WHERE l.jobName = :jobName")
+	Optional<Long> findFencingToken(@Param("jobName") String jobName);
+
+	/**
+	 * 펜스 통과 - 토큰이 지금까지 사용된 토큰 이상이면 펜스를 이 토큰으로 올림
+	 * 호출한 트랜잭션이 끝날 때까지 행 잠금이 유지되므로 더 큰 토큰의 획득/쓰기와 겹치지 않음
+	 * @return 통과 시 1, 더 큰 토큰이 이미 사용되었으면 0
+	 */
+	@Modifying
+	@Query("""
+		UPDATE JobLeaseRecord l
+		SET l.fencingToken = :token, l.fenceOwner = :owner
+		WHERE l.jobName = :jobName
+		AND (l.fencingToken < :token OR (l.fencingToken = :token AND l.fenceOwner = :owner))
+		""")
+	int advanceFence(@Param("jobName") String jobName, @Param("owner") String owner, @Param("token") long token);
+}
@@ -2,6 +2,7 @@ package com.ururulab.ururu.global.domain.repository;
 
 import com.ururulab.ururu.global.domain.entity.TagCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +10,8 @@ import java.util.List;
 @Repository
 public interface TagCategoryRepository extends JpaRepository<TagCategory, Long> {
     List<TagCategory> findAllByIsActiveTrueOrderByDisplayOrder();
+
+    // 태그 버전 정보 (개수, 최종 수정 시각) - 메타데이터 ETag 계산용
+    @Query("SELECT COUNT(t), MAX(t.updatedAt) FROM TagCategory t")
+    List<Object[]> findVersionInfo();
 }
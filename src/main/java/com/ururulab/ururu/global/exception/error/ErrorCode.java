@@ -139,6 +139,7 @@ public enum ErrorCode {
 	GROUPBUY_STATISTICS_ALREADY_EXISTS(HttpStatus.CONFLICT, "GB_STAT_001", "이미 해당 공동구매의 통계가 존재합니다."),
 	GROUPBUY_STATISTICS_NOT_FOUND(HttpStatus.NOT_FOUND, "GB_STAT_002", "공동구매 통계를 찾을 수 없습니다."),
 	GROUPBUY_STATISTICS_CALCULATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "GB_STAT_003", "공동구매 통계 계산에 실패했습니다."),
+	GROUPBUY_STATISTICS_INVALID_RANGE(HttpStatus.BAD_REQUEST, "GB_STAT_004", "통계 조회 기간이 올바르지 않습니다. (최대 31일)"),
 
 
 	// --- AI 서비스 ---
@@ -0,0 +1,56 @@
+package com.ururulab.ururu.global.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.OptionalLong;
+
+import org.springframework.stereotype.Component;
+
+import com.ururulab.ururu.global.domain.repository.JobLeaseRecordRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB 임대 저장소 (Redis 장애 시 대체)
+ * - 작업 이름당 한 행, 만료된 경우에만 조건부 UPDATE로 획득하고 펜싱 토큰을 1 증가
+ * - 토큰 컬럼은 펜스(JobFence)와 같으므로 발급된 토큰은 Redis 임대로 쓰기에 사용된 토큰보다 항상 큼
+ *   Redis 임대 보유자와 동시에 실행되더라도 이후 그 보유자의 쓰기는 펜스에서 거부됨
+ *   (minToken도 같은 컬럼에서 읽은 값이므로 따로 비교하지 않음)
+ * - 만료 판단은 애플리케이션 시각 기준이므로 노드 간 시각 차이만큼 임대 기간에 여유를 둘 것
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseJobLeaseStore implements JobLeaseStore {
+
+	private final JobLeaseRecordRepository jobLeaseRecordRepository;
+
+	@Override
+	public OptionalLong tryAcquire(String jobName, String owner, Duration leaseTime, long minToken) {
+		jobLeaseRecordRepository.ensureExists(jobName);
+
+		Instant now = Instant.now();
+		if (jobLeaseRecordRepository.acquire(jobName, owner, now, now.plus(leaseTime)) == 0) {
+			return OptionalLong.empty();
+		}
+
+		return jobLeaseRecordRepository.findFencingToken(jobName, owner)
+			.map(OptionalLong::of)
+			.orElseGet(OptionalLong::empty);
+	}
+
+	@Override
+	public boolean renew(String jobName, String owner, Duration leaseTime) {
+		Instant now = Instant.now();
+		return jobLeaseRecordRepository.extend(jobName, owner, now, now.plus(leaseTime)) > 0;
+	}
+
+	@Override
+	public void release(String jobName, String owner) {
+		jobLeaseRecordRepository.release(jobName, owner, Instant.now());
+	}
+
+	@Override
+	public String name() {
+		return "database";
+	}
+}
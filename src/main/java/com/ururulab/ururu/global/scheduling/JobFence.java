@@ -0,0 +1,48 @@
+package com.ururulab.ururu.global.scheduling;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ururulab.ururu.global.domain.repository.JobLeaseRecordRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 임대 작업의 DB 쓰기 펜스
+ * - job_leases 행의 펜싱 토큰보다 작은 토큰을 가진 보유자(임대 만료 후 재개된 노드 등)의 쓰기를 거부
+ * - 쓰기와 같은 트랜잭션에서 check를 호출해야 함 (행 잠금이 커밋까지 유지되어 새 보유자의 쓰기와 겹치지 않음)
+ * - Redis 임대와 DB 대체 임대가 동시에 발급되더라도 펜스를 먼저 통과한 쪽보다 작은 토큰은 거부됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobFence {
+
+	private final JobLeaseRecordRepository jobLeaseRecordRepository;
+
+	/**
+	 * 지금까지 쓰기에 사용된 가장 큰 펜싱 토큰 (임대 획득 전 조회, 새 토큰은 이보다 커야 함)
+	 */
+	public long currentToken(String jobName) {
+		jobLeaseRecordRepository.ensureExists(jobName);
+		return jobLeaseRecordRepository.findFencingToken(jobName).orElse(0L);
+	}
+
+	/**
+	 * 임대의 펜싱 토큰으로 펜스 통과 - 거부되면 임대를 잃은 것으로 표시하고 예외
+	 *
+	 * @throws StaleJobLeaseException 더 큰 토큰이 이미 사용된 경우
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void check(JobLease lease) {
+		if (jobLeaseRecordRepository.advanceFence(lease.getJobName(), lease.getOwner(), lease.getFencingToken()) > 0) {
+			return;
+		}
+
+		log.warn("Job lease fenced out - job: {}, fencingToken: {}", lease.getJobName(), lease.getFencingToken());
+		lease.markLost();
+		throw new StaleJobLeaseException(lease.getJobName(), lease.getFencingToken());
+	}
+}
@@ -0,0 +1,67 @@
+package com.ururulab.ururu.global.scheduling;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import lombok.Getter;
+
+/**
+ * 획득한 스케줄 작업 임대
+ * - 펜싱 토큰은 같은 작업의 이전 보유자보다 항상 큼 (Redis/DB 저장소 공통, JobFence 기준)
+ * - 연장에 실패하면 held가 false로 바뀌므로 긴 작업은 단계마다 확인하여 중단
+ * - 일시 정지된 노드가 임대 만료 후 재개될 수 있으므로 DB 쓰기는 같은 트랜잭션에서 JobFence.check로 토큰 확인
+ */
+@Getter
+public final class JobLease {
+
+	private static final ThreadLocal<JobLease> CURRENT = new ThreadLocal<>();
+
+	private final String jobName;
+	private final String owner;
+	private final long fencingToken;
+	private final Instant acquiredAt;
+	private final JobLeaseStore store;
+
+	private volatile boolean held = true;
+	private volatile Instant renewedAt;
+
+	JobLease(String jobName, String owner, long fencingToken, JobLeaseStore store) {
+		this.jobName = jobName;
+		this.owner = owner;
+		this.fencingToken = fencingToken;
+		this.acquiredAt = Instant.now();
+		this.renewedAt = acquiredAt;
+		this.store = store;
+	}
+
+	/**
+	 * 현재 스레드에서 실행 중인 작업의 임대 (임대 없이 실행 중이면 empty)
+	 */
+	public static Optional<JobLease> current() {
+		return Optional.ofNullable(CURRENT.get());
+	}
+
+	/**
+	 * 현재 스레드의 작업이 임대를 잃었는지 여부 (임대 없이 실행 중이면 false)
+	 */
+	public static boolean isCurrentLost() {
+		JobLease lease = CURRENT.get();
+		return lease != null && !lease.isHeld();
+	}
+
+	void bind() {
+		CURRENT.set(this);
+	}
+
+	void unbind() {
+		CURRENT.remove();
+	}
+
+	void markRenewed() {
+		this.renewedAt = Instant.now();
+	}
+
+	void markLost() {
+		this.held = false;
+	}
+}
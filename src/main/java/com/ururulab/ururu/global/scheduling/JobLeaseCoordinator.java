@@ -0,0 +1,206 @@
+package com.ururulab.ururu.global.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스케줄 작업 임대 조정
+ * - 임대를 얻은 노드만 작업 실행, 실행 중에는 임대 기간의 1/3마다 연장
+ * - Redis 저장소 장애 시 DB 저장소로 대체 (둘 다 실패하면 실행하지 않음)
+ *   두 저장소의 임대가 겹칠 수 있으므로 작업의 DB 쓰기는 펜싱 토큰으로 보호 (JobFence)
+ * - 실행 시간(ururu_scheduled_job_duration)과 건너뜀(ururu_scheduled_job_skipped_total) 지표 기록
+ */
+@Slf4j
+@Component
+public class JobLeaseCoordinator {
+
+	private static final String DURATION_METRIC = "ururu_scheduled_job_duration";
+	private static final String SKIPPED_METRIC = "ururu_scheduled_job_skipped_total";
+
+	// 획득 시도 순서 - 앞의 저장소에 접근할 수 없을 때만 다음 저장소 사용
+	private final List<JobLeaseStore> jobLeaseStores;
+	private final JobFence jobFence;
+	private final MeterRegistry meterRegistry;
+
+	// 임대 연장 전용 스레드 (작업 스레드가 오래 걸려도 연장은 계속됨)
+	private final ScheduledExecutorService renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "job-lease-renewal");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public JobLeaseCoordinator(RedisJobLeaseStore redisJobLeaseStore,
+		DatabaseJobLeaseStore databaseJobLeaseStore,
+		JobFence jobFence,
+		MeterRegistry meterRegistry) {
+		this.jobLeaseStores = List.of(redisJobLeaseStore, databaseJobLeaseStore);
+		this.jobFence = jobFence;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 클러스터 전체에서 한 노드만 작업 실행
+	 *
+	 * @param jobName 작업 이름
+	 * @param leaseTime 임대 기간 (실행 중 자동 연장)
+	 * @param minHoldTime 작업이 빨리 끝나도 임대를 유지할 최소 시간
+	 * @param job 실행할 작업
+	 * @return 이 노드에서 실행했으면 true
+	 */
+	public boolean runExclusively(String jobName, Duration leaseTime, Duration minHoldTime, Consumer<JobLease> job) {
+		Optional<JobLease> acquired = acquire(jobName, leaseTime);
+		if (acquired.isEmpty()) {
+			return false;
+		}
+
+		JobLease lease = acquired.get();
+		ScheduledFuture<?> renewal = scheduleRenewal(lease, leaseTime);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+
+		lease.bind();
+		try {
+			job.accept(lease);
+		} catch (RuntimeException | Error e) {
+			outcome = "failure";
+			throw e;
+		} finally {
+			lease.unbind();
+			renewal.cancel(false);
+			sample.stop(Timer.builder(DURATION_METRIC)
+				.description("Scheduled job run duration")
+				.tag("job", jobName)
+				.tag("outcome", lease.isHeld() ? outcome : "lease_lost")
+				.register(meterRegistry));
+			release(lease, minHoldTime);
+		}
+		return true;
+	}
+
+	/**
+	 * 작업을 shardCount개 ID 구간으로 나누어 여러 노드가 나눠서 실행
+	 * 각 노드는 임의의 샤드부터 돌면서 임대를 얻은 샤드만 실행 (샤드마다 별도 임대와 펜싱 토큰)
+	 *
+	 * @return 이 노드에서 실행한 샤드 수
+	 */
+	public int runSharded(String jobName, int shardCount, Duration leaseTime, Duration minHoldTime,
+		BiConsumer<JobShard, JobLease> job) {
+		int start = ThreadLocalRandom.current().nextInt(shardCount);
+		int executed = 0;
+
+		for (int i = 0; i < shardCount; i++) {
+			JobShard shard = new JobShard((start + i) % shardCount, shardCount);
+			String shardJobName = jobName + ":shard:" + shard.index();
+
+			if (runExclusively(shardJobName, leaseTime, minHoldTime, lease -> job.accept(shard, lease))) {
+				executed++;
+			}
+		}
+		return executed;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		renewalExecutor.shutdownNow();
+	}
+
+	private Optional<JobLease> acquire(String jobName, Duration leaseTime) {
+		String owner = UUID.randomUUID().toString();
+
+		// 펜스를 확인할 수 없으면 쓰기를 보호할 수 없으므로 실행하지 않음
+		long minToken;
+		try {
+			minToken = jobFence.currentToken(jobName);
+		} catch (Exception e) {
+			log.warn("Job fence unavailable - job: {}", jobName, e);
+			recordSkip(jobName, "store_unavailable");
+			return Optional.empty();
+		}
+
+		for (JobLeaseStore store : jobLeaseStores) {
+			try {
+				OptionalLong fencingToken = store.tryAcquire(jobName, owner, leaseTime, minToken);
+				if (fencingToken.isEmpty()) {
+					recordSkip(jobName, "lease_held");
+					return Optional.empty();
+				}
+				log.debug("Job lease acquired - job: {}, store: {}, fencingToken: {}",
+					jobName, store.name(), fencingToken.getAsLong());
+				return Optional.of(new JobLease(jobName, owner, fencingToken.getAsLong(), store));
+			} catch (Exception e) {
+				log.warn("Job lease store unavailable - job: {}, store: {}", jobName, store.name(), e);
+			}
+		}
+
+		recordSkip(jobName, "store_unavailable");
+		return Optional.empty();
+	}
+
+	private ScheduledFuture<?> scheduleRenewal(JobLease lease, Duration leaseTime) {
+		long intervalMillis = Math.max(leaseTime.toMillis() / 3, 1_000);
+
+		return renewalExecutor.scheduleAtFixedRate(
+			() -> renew(lease, leaseTime), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void renew(JobLease lease, Duration leaseTime) {
+		if (!lease.isHeld()) {
+			return;
+		}
+
+		try {
+			if (lease.getStore().renew(lease.getJobName(), lease.getOwner(), leaseTime)) {
+				lease.markRenewed();
+				return;
+			}
+			log.warn("Job lease lost - job: {}, fencingToken: {}", lease.getJobName(), lease.getFencingToken());
+			lease.markLost();
+		} catch (Exception e) {
+			// 일시적 장애는 다음 주기에 재시도, 마지막 연장 후 임대 기간이 지나면 잃은 것으로 판단
+			if (lease.getRenewedAt().plus(leaseTime).isBefore(Instant.now())) {
+				log.warn("Job lease expired while store unavailable - job: {}", lease.getJobName(), e);
+				lease.markLost();
+			}
+		}
+	}
+
+	private void release(JobLease lease, Duration minHoldTime) {
+		if (!lease.isHeld()) {
+			return;
+		}
+
+		try {
+			Duration remaining = Duration.between(Instant.now(), lease.getAcquiredAt().plus(minHoldTime));
+			if (remaining.isNegative() || remaining.isZero()) {
+				lease.getStore().release(lease.getJobName(), lease.getOwner());
+			} else {
+				// 같은 주기를 늦게 시작한 다른 노드가 재실행하지 않도록 최소 보유 시간까지만 유지
+				lease.getStore().renew(lease.getJobName(), lease.getOwner(), remaining);
+			}
+		} catch (Exception e) {
+			log.warn("Job lease release failed - job: {} (expires on its own)", lease.getJobName(), e);
+		}
+	}
+
+	private void recordSkip(String jobName, String reason) {
+		meterRegistry.counter(SKIPPED_METRIC, "job", jobName, "reason", reason).increment();
+	}
+}
@@ -0,0 +1,35 @@
+package com.ururulab.ururu.global.scheduling;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * 스케줄 작업 임대 저장소
+ * 구현체는 작업 이름마다 동시에 하나의 보유자만 허용하고, 획득할 때마다 증가하는 펜싱 토큰을 발급해야 함
+ * 저장소가 둘(Redis, DB 대체)이므로 토큰은 minToken보다 커야 함 - 다른 저장소에서 발급되어 쓰기에 사용된 토큰보다 뒤의 값
+ */
+public interface JobLeaseStore {
+
+	/**
+	 * 임대 획득 시도
+	 * @param jobName 작업 이름
+	 * @param owner 이번 실행의 보유자 식별자
+	 * @param leaseTime 임대 기간
+	 * @param minToken 지금까지 쓰기에 사용된 가장 큰 펜싱 토큰 (JobFence)
+	 * @return 획득 시 펜싱 토큰, 다른 보유자가 있으면 empty
+	 */
+	OptionalLong tryAcquire(String jobName, String owner, Duration leaseTime, long minToken);
+
+	/**
+	 * 보유 중인 임대의 남은 기간을 leaseTime으로 재설정
+	 * @return 여전히 보유 중이면 true
+	 */
+	boolean renew(String jobName, String owner, Duration leaseTime);
+
+	/**
+	 * 임대 반납 (보유자가 일치할 때만)
+	 */
+	void release(String jobName, String owner);
+
+	String name();
+}
@@ -0,0 +1,35 @@
+package com.ururulab.ururu.global.scheduling;
+
+/**
+ * 샤딩 실행 시 이 노드가 맡은 구간
+ * ID 범위를 shard 수로 나눈 연속 구간 [lowerBound, upperBound)
+ *
+ * @param index 샤드 번호 (0부터)
+ * @param count 전체 샤드 수
+ */
+public record JobShard(int index, int count) {
+
+	public static final JobShard SINGLE = new JobShard(0, 1);
+
+	/**
+	 * [minId, maxId] 중 이 샤드가 맡는 구간의 시작 ID (포함)
+	 */
+	public long lowerBound(long minId, long maxId) {
+		return minId + span(minId, maxId) * index / count;
+	}
+
+	/**
+	 * [minId, maxId] 중 이 샤드가 맡는 구간의 끝 ID (제외)
+	 */
+	public long upperBound(long minId, long maxId) {
+		return minId + span(minId, maxId) * (index + 1) / count;
+	}
+
+	public boolean contains(long id, long minId, long maxId) {
+		return id >= lowerBound(minId, maxId) && id < upperBound(minId, maxId);
+	}
+
+	private long span(long minId, long maxId) {
+		return maxId - minId + 1;
+	}
+}
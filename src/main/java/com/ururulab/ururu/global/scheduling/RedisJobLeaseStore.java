@@ -0,0 +1,89 @@
+package com.ururulab.ururu.global.scheduling;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 임대 저장소 (기본)
+ * - 획득: SET NX PX와 펜싱 토큰 INCR을 하나의 Lua 스크립트로 처리 (토큰은 minToken보다 크게 보정)
+ * - 연장/반납: 보유자 토큰이 일치할 때만 수행
+ * - 임대 키와 토큰 키는 같은 해시 태그({jobName})를 사용하여 Redis Cluster에서도 한 슬롯에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisJobLeaseStore implements JobLeaseStore {
+
+	private static final String KEY_PREFIX = "job:lease:";
+	private static final String FENCING_KEY_SUFFIX = ":fencing";
+
+	// KEYS[1]=임대 키, KEYS[2]=펜싱 토큰 키 / ARGV: 보유자, 임대 기간(ms), 최소 토큰
+	private static final String ACQUIRE_SCRIPT = """
+		if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+		    return 0
+		end
+		local token = redis.call('INCR', KEYS[2])
+		local minToken = tonumber(ARGV[3])
+		if token <= minToken then
+		    token = minToken + 1
+		    redis.call('SET', KEYS[2], token)
+		end
+		return token
+		""";
+
+	private static final String RENEW_SCRIPT = """
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+		    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		end
+		return 0
+		""";
+
+	private static final String RELEASE_SCRIPT = """
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+		    return redis.call('DEL', KEYS[1])
+		end
+		return 0
+		""";
+
+	private final DefaultRedisScript<Long> acquireScript = new DefaultRedisScript<>(ACQUIRE_SCRIPT, Long.class);
+	private final DefaultRedisScript<Long> renewScript = new DefaultRedisScript<>(RENEW_SCRIPT, Long.class);
+	private final DefaultRedisScript<Long> releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Override
+	public OptionalLong tryAcquire(String jobName, String owner, Duration leaseTime, long minToken) {
+		Long fencingToken = redisTemplate.execute(acquireScript,
+			List.of(leaseKey(jobName), leaseKey(jobName) + FENCING_KEY_SUFFIX),
+			owner, String.valueOf(leaseTime.toMillis()), String.valueOf(minToken));
+
+		return fencingToken != null && fencingToken > 0 ? OptionalLong.of(fencingToken) : OptionalLong.empty();
+	}
+
+	@Override
+	public boolean renew(String jobName, String owner, Duration leaseTime) {
+		Long result = redisTemplate.execute(renewScript, List.of(leaseKey(jobName)),
+			owner, String.valueOf(leaseTime.toMillis()));
+		return result != null && result > 0;
+	}
+
+	@Override
+	public void release(String jobName, String owner) {
+		redisTemplate.execute(releaseScript, List.of(leaseKey(jobName)), owner);
+	}
+
+	@Override
+	public String name() {
+		return "redis";
+	}
+
+	private String leaseKey(String jobName) {
+		return KEY_PREFIX + "{" + jobName + "}";
+	}
+}
@@ -0,0 +1,36 @@
+package com.ururulab.ururu.global.scheduling;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클러스터 전체에서 한 노드만 실행할 스케줄 작업 표시
+ * 임대를 얻지 못한 노드는 실행하지 않고 건너뜀 (ScheduledJobLeaseAspect)
+ *
+ * <pre>
+ * &#64;Scheduled(cron = "0 0 * * * *")
+ * &#64;ScheduledJobLease(name = "groupbuy-batch-close", leaseTime = "PT10M")
+ * public void closeExpired() { ... }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ScheduledJobLease {
+
+	/**
+	 * 작업 이름 (같은 이름의 작업끼리 동시에 실행되지 않음)
+	 */
+	String name();
+
+	/**
+	 * 임대 기간 (ISO-8601). 실행 중에는 1/3 주기로 연장되므로 노드 장애 시 재실행까지의 최대 지연
+	 */
+	String leaseTime() default "PT5M";
+
+	/**
+	 * 최소 보유 시간 (ISO-8601). 작업이 빨리 끝나도 이 시간 동안은 다른 노드가 같은 주기를 다시 실행하지 않음
+	 */
+	String minHoldTime() default "PT30S";
+}
@@ -0,0 +1,45 @@
+package com.ururulab.ururu.global.scheduling;
+
+import java.time.Duration;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * &#64;ScheduledJobLease가 붙은 메서드를 임대를 얻은 노드에서만 실행
+ * 임대를 얻지 못하면 메서드를 호출하지 않고 null 반환
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobLeaseAspect {
+
+	private final JobLeaseCoordinator jobLeaseCoordinator;
+
+	@Around("@annotation(scheduledJobLease)")
+	public Object runWithLease(ProceedingJoinPoint joinPoint, ScheduledJobLease scheduledJobLease) {
+		Object[] result = new Object[1];
+
+		jobLeaseCoordinator.runExclusively(
+			scheduledJobLease.name(),
+			Duration.parse(scheduledJobLease.leaseTime()),
+			Duration.parse(scheduledJobLease.minHoldTime()),
+			lease -> result[0] = proceed(joinPoint)
+		);
+		return result[0];
+	}
+
+	private Object proceed(ProceedingJoinPoint joinPoint) {
+		try {
+			return joinPoint.proceed();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.ururulab.ururu.global.scheduling;
+
+/**
+ * 더 큰 펜싱 토큰을 가진 보유자가 이미 쓰기를 시작하여 이 임대의 쓰기가 거부됨
+ * 호출한 트랜잭션은 롤백되어야 하며 작업은 중단해야 함
+ */
+public class StaleJobLeaseException extends IllegalStateException {
+
+	public StaleJobLeaseException(String jobName, long fencingToken) {
+		super("Job lease fenced out - job: " + jobName + ", fencingToken: " + fencingToken);
+	}
+}
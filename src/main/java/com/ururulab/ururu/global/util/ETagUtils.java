@@ -0,0 +1,36 @@
+package com.ururulab.ururu.global.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.StringJoiner;
+
+/**
+ * 조건부 GET(If-None-Match)용 ETag 생성 유틸리티
+ * 직렬화된 바이트가 아닌 버전 정보(수정 시각 등)나 응답 값의 문자열 표현으로 계산하므로 약한(W/) ETag 사용
+ */
+@UtilityClass
+public class ETagUtils {
+
+    /**
+     * 버전 구성 요소로 약한 ETag 생성
+     * 구성 요소 중 하나라도 바뀌면 다른 ETag가 생성됨 (null 허용)
+     */
+    public static String weakETag(final Object... versionParts) {
+        final StringJoiner joiner = new StringJoiner("|");
+        for (Object part : versionParts) {
+            joiner.add(String.valueOf(part));
+        }
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(joiner.toString().getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ururulab.ururu.global.util;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 컬렉션 fetch join 목록의 2단계 페이지 조회
+ * - 1단계: 조건/정렬에 맞는 페이지의 ID만 조회 (fetch join 없이 DB에서 LIMIT 적용, 인덱스만으로 처리 가능)
+ * - 2단계: 해당 ID들만 fetch join으로 상세 조회 후 1단계 순서대로 정렬
+ * fetch join + offset/limit 조합 시 Hibernate가 전체 결과를 메모리에서 자르는 문제(HHH90003004) 방지용
+ */
+public final class TwoPhasePagination {
+
+    private TwoPhasePagination() {
+    }
+
+    /**
+     * 1단계 ID 페이지로 상세 페이지 구성 (Spring Data 쿼리로 ID 페이지를 조회한 경우)
+     *
+     * @param idPage 1단계 ID 페이지 (전체 개수 포함)
+     * @param detailLoader ID 목록으로 상세 조회 (순서 무관)
+     * @param idExtractor 상세 엔티티의 ID
+     */
+    public static <ID, T> Page<T> fetchDetails(Page<ID> idPage,
+                                               Function<List<ID>, List<T>> detailLoader,
+                                               Function<T, ID> idExtractor) {
+        List<T> content = loadInOrder(idPage.getContent(), detailLoader, idExtractor);
+        return new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    /**
+     * 1단계 ID 목록으로 상세 페이지 구성 (QueryDSL 등으로 ID를 직접 조회한 경우)
+     * 첫 페이지가 페이지 크기보다 작거나 마지막 페이지면 개수 쿼리를 실행하지 않음
+     *
+     * @param pageIds 1단계에서 조회한 페이지의 ID (정렬 순서대로)
+     * @param pageable 페이지 정보
+     * @param countQuery 전체 개수 조회
+     * @param detailLoader ID 목록으로 상세 조회 (순서 무관)
+     * @param idExtractor 상세 엔티티의 ID
+     */
+    public static <ID, T> Page<T> fetchPage(List<ID> pageIds,
+                                            Pageable pageable,
+                                            LongSupplier countQuery,
+                                            Function<List<ID>, List<T>> detailLoader,
+                                            Function<T, ID> idExtractor) {
+        List<T> content = loadInOrder(pageIds, detailLoader, idExtractor);
+        return PageableExecutionUtils.getPage(content, pageable, countQuery);
+    }
+
+    /**
+     * ID 순서대로 상세 조회 (ID가 없으면 상세 쿼리를 실행하지 않음)
+     * 1단계와 2단계 사이에 삭제/조건 변경된 항목은 결과에서 빠짐
+     */
+    public static <ID, T> List<T> loadInOrder(List<ID> ids,
+                                              Function<List<ID>, List<T>> detailLoader,
+                                              Function<T, ID> idExtractor) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<ID, T> byId = new HashMap<>();
+        for (T detail : detailLoader.apply(ids)) {
+            byId.putIfAbsent(idExtractor.apply(detail), detail);
+        }
+
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (ID id : ids) {
+            T detail = byId.get(id);
+            if (detail != null) {
+                ordered.add(detail);
+            }
+        }
+        return ordered;
+    }
+}
@@ -17,12 +17,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.List;
 
 @Tag(name = "공동구매", description = "공동구매 관리 API")
@@ -32,6 +36,9 @@ import java.util.List;
 @Slf4j
 public class GroupBuyController {
 
+    private static final CacheControl REVALIDATE_CACHE_CONTROL = CacheControl.noCache();
+    private static final CacheControl SUGGESTION_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic();
+
     private final GroupBuyService groupBuyService;
     private final GroupBuyDetailService groupBuyDetailService;
     private final UpdateGroupBuyStatusService updateGroupBuyStatusService;
@@ -39,6 +46,9 @@ public class GroupBuyController {
     private final GroupBuyProductService groupBuyProductService;
     private final GroupBuyDeleteService groupBuyDeleteService;
     private final GroupBuySellerListService groupBuySellerListService;
+    private final GroupBuyCatalogVersionService groupBuyCatalogVersionService;
+    private final GroupBuySuggestionService groupBuySuggestionService;
+    private final GroupBuyProgressService groupBuyProgressService;
 
     @Operation(summary = "공동구매 등록", description = "판매자가 새로운 공동구매를 등록합니다.")
     @ApiResponses({
@@ -80,13 +90,33 @@ public class GroupBuyController {
     })
     @GetMapping("/{groupBuyId}")
     public ResponseEntity<ApiResponseFormat<GroupBuyDetailResponse>> getGroupBuyDetail(
-            @PathVariable Long groupBuyId) {
+            @PathVariable Long groupBuyId, WebRequest webRequest) {
+
+        String eTag = groupBuyCatalogVersionService.getDetailETag(groupBuyId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE_CACHE_CONTROL).build();
+        }
 
         GroupBuyDetailResponse response = groupBuyDetailService.getPublicGroupBuyDetail(groupBuyId);
-        return ResponseEntity.ok(ApiResponseFormat.success("공동구매 상세 정보를 성공적으로 조회했습니다.", response));
+        return withETag(eTag)
+                .body(ApiResponseFormat.success("공동구매 상세 정보를 성공적으로 조회했습니다.", response));
     }
 
 
+    @Operation(
+            summary = "공동구매 실시간 진행 현황 구독",
+            description = "결제/환불 시 총 판매량, 현재 할인 단계, 남은 재고를 SSE(progress 이벤트)로 전송합니다. 연결 직후 현재 현황을 한 번 전송하며, 공동구매가 종료되면 연결이 닫힙니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "404", description = "진행 중인 공동구매를 찾을 수 없습니다."),
+            @ApiResponse(responseCode = "429", description = "동시 연결 수 초과")
+    })
+    @GetMapping(value = "/{groupBuyId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeProgress(@PathVariable Long groupBuyId) {
+        return groupBuyProgressService.subscribe(groupBuyId);
+    }
+
     @Operation(
             summary = "판매자용 공동구매 상세 정보 조회",
             description = "특정 공동구매의 상세 정보를 조회합니다. 공동구매 정보, 옵션, 리워드, 총 주문수, 옵션의 현재 재고 등을 포함합니다."
@@ -178,11 +208,46 @@ public class GroupBuyController {
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
             @RequestParam(defaultValue = "order_count") String sort,
             @RequestParam(required = false) String keyword,
-            @RequestParam(required = false) String cursor
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
             ) {
 
+        // 세대 기반 ETag가 일치하면 목록을 조회하지 않고 304 응답
+        String eTag = groupBuyCatalogVersionService.getCatalogETag("list", categoryId, limit, sort, keyword, cursor);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE_CACHE_CONTROL).build();
+        }
+
         GroupBuyPageResponse responses = groupBuyListService.getGroupBuyList(categoryId, limit, sort, cursor, keyword);
-        return ResponseEntity.ok(ApiResponseFormat.success("공동 구매 목록 조회에 성공하였습니다.", responses));
+
+        // 세대를 조회할 수 없으면 응답 값으로 비교
+        if (eTag == null) {
+            eTag = groupBuyCatalogVersionService.getResponseETag("list", responses);
+            if (webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE_CACHE_CONTROL).build();
+            }
+        }
+        return withETag(eTag)
+                .body(ApiResponseFormat.success("공동 구매 목록 조회에 성공하였습니다.", responses));
+    }
+
+    @Operation(
+            summary = "공동구매 검색어 자동완성",
+            description = "입력 중인 검색어로 시작하는 공동구매 제목, 브랜드명, 전성분을 판매량 순으로 조회합니다. DB를 조회하지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "자동완성 조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponseFormat<List<GroupBuySuggestionResponse>>> getSuggestions(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit
+    ) {
+        List<GroupBuySuggestionResponse> responses = groupBuySuggestionService.suggest(keyword, limit);
+        return ResponseEntity.ok()
+                .cacheControl(SUGGESTION_CACHE_CONTROL)
+                .body(ApiResponseFormat.success("검색어 자동완성 조회에 성공하였습니다.", responses));
     }
 
     @Operation(summary = "공동구매 등록 페이지 데이터",
@@ -217,4 +282,12 @@ public class GroupBuyController {
         groupBuyDeleteService.deleteGroupBuy(groupBuyId, sellerId);
         return ResponseEntity.ok(ApiResponseFormat.success("공동구매가 성공적으로 삭제되었습니다."));
     }
+
+    /**
+     * 재고/판매량이 수시로 바뀌므로 매 요청 재검증 (ETag 일치 시 304)
+     */
+    private ResponseEntity.BodyBuilder withETag(String eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(REVALIDATE_CACHE_CONTROL);
+        return eTag != null ? builder.eTag(eTag) : builder;
+    }
 }
@@ -2,19 +2,28 @@ package com.ururulab.ururu.groupBuy.controller;
 
 import com.ururulab.ururu.global.domain.dto.ApiResponseFormat;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
+import com.ururulab.ururu.groupBuy.service.GroupBuyCatalogVersionService;
 import com.ururulab.ururu.groupBuy.service.GroupBuyMainService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/groupbuys")
@@ -22,7 +31,10 @@ import java.util.List;
 @Slf4j
 public class GroupBuyMainController {
 
+    private static final CacheControl MAIN_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic();
+
     private final GroupBuyMainService groupBuyMainService;
+    private final GroupBuyCatalogVersionService groupBuyCatalogVersionService;
 
     @Operation(
             summary = "실시간 베스트 공동구매 조회",
@@ -33,12 +45,11 @@ public class GroupBuyMainController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/top3")
-    public ResponseEntity<ApiResponseFormat<List<GroupBuyListResponse>>> getRealtimeBest() {
+    public ResponseEntity<ApiResponseFormat<List<GroupBuyListResponse>>> getRealtimeBest(WebRequest webRequest) {
         log.debug("GET /groupbuy/top3 - 실시간 베스트 공동구매 조회");
 
-        List<GroupBuyListResponse> bestList = groupBuyMainService.getRealtimeBestGroupBuys();
-
-        return ResponseEntity.ok(ApiResponseFormat.success("실시간 베스트 공동구매 조회에 성공하였습니다.", bestList));
+        return conditionalResponse(webRequest, "실시간 베스트 공동구매 조회에 성공하였습니다.",
+                groupBuyMainService::getRealtimeBestGroupBuys, "top3");
     }
 
     @Operation(
@@ -52,11 +63,67 @@ public class GroupBuyMainController {
     })
     @GetMapping("/{categoryId}/top6")
     public ResponseEntity<ApiResponseFormat<List<GroupBuyListResponse>>> getCategoryPopular(
-            @PathVariable Long categoryId) {
+            @PathVariable Long categoryId, WebRequest webRequest) {
         log.debug("GET /groupbuy/{}/top6 - 카테고리별 인기 공동구매 조회", categoryId);
 
-        List<GroupBuyListResponse> popularList = groupBuyMainService.getCategoryPopularGroupBuys(categoryId);
+        return conditionalResponse(webRequest, "카테고리별 인기 공동구매 조회에 성공하였습니다.",
+                () -> groupBuyMainService.getCategoryPopularGroupBuys(categoryId), "top6", categoryId);
+    }
+
+    @Operation(
+            summary = "트렌딩 공동구매 조회",
+            description = "최근 판매량(슬라이딩 윈도우) 기준 상위 공동구매를 조회합니다. 카테고리를 지정하면 해당 카테고리 내에서 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "트렌딩 공동구매 조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponseFormat<List<GroupBuyListResponse>>> getTrending(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit,
+            WebRequest webRequest) {
+        log.debug("GET /groupbuy/trending - 트렌딩 공동구매 조회, categoryId: {}, limit: {}", categoryId, limit);
+
+        return conditionalResponse(webRequest, "트렌딩 공동구매 조회에 성공하였습니다.",
+                () -> groupBuyMainService.getTrendingGroupBuys(categoryId, limit), "trending", categoryId, limit);
+    }
+
+    /**
+     * 세대 기반 ETag가 일치하면 랭킹을 조회하지 않고 304 응답
+     * 세대를 조회할 수 없으면 조회한 응답 값으로 ETag를 계산하여 비교
+     */
+    private ResponseEntity<ApiResponseFormat<List<GroupBuyListResponse>>> conditionalResponse(
+            WebRequest webRequest,
+            String message,
+            Supplier<List<GroupBuyListResponse>> loader,
+            String scope,
+            Object... requestParts) {
+        String eTag = groupBuyCatalogVersionService.getCatalogETag(scope, requestParts);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+
+        List<GroupBuyListResponse> responses = loader.get();
+
+        if (eTag == null) {
+            eTag = groupBuyCatalogVersionService.getResponseETag(scope, responses);
+            if (webRequest.checkNotModified(eTag)) {
+                return notModified(eTag);
+            }
+        }
+
+        return withETag(eTag).body(ApiResponseFormat.success(message, responses));
+    }
+
+    /**
+     * 메인 랭킹은 서버에서도 캐시되므로 브라우저/CDN에 30초간 재사용 허용, 이후 ETag로 재검증
+     */
+    private ResponseEntity.BodyBuilder withETag(String eTag) {
+        return ResponseEntity.ok().cacheControl(MAIN_CACHE_CONTROL).eTag(eTag);
+    }
 
-        return ResponseEntity.ok(ApiResponseFormat.success("카테고리별 인기 공동구매 조회에 성공하였습니다.", popularList));
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(MAIN_CACHE_CONTROL).build();
     }
 }
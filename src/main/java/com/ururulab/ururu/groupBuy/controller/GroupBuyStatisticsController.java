@@ -1,8 +1,11 @@
 package com.ururulab.ururu.groupBuy.controller;
 
 import com.ururulab.ururu.global.domain.dto.ApiResponseFormat;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyHourlySalesResponse;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyOptionSalesResponse;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyStatisticsDetailResponse;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyStatisticsResponse;
+import com.ururulab.ururu.groupBuy.service.GroupBuySalesRollupService;
 import com.ururulab.ururu.groupBuy.service.GroupBuyStatisticsService;
 import com.ururulab.ururu.groupBuy.util.AuthUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,8 +16,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -23,6 +28,7 @@ import java.util.List;
 public class GroupBuyStatisticsController {
 
     private final GroupBuyStatisticsService groupBuyStatisticsService;
+    private final GroupBuySalesRollupService groupBuySalesRollupService;
 
     @Operation(
             summary = "특정 공동구매 상세 통계 조회",
@@ -64,4 +70,47 @@ public class GroupBuyStatisticsController {
         List<GroupBuyStatisticsResponse> response = groupBuyStatisticsService.getGroupBuyStatisticsBySeller(sellerId);
         return ResponseEntity.ok(ApiResponseFormat.success("공동구매 통계 목록 조회에 성공하였습니다.", response));
     }
+
+    @Operation(
+            summary = "공동구매 시간별 판매 추이 조회",
+            description = "판매자가 자신의 공동구매에 대한 시간별 판매 수량/금액/환불 수량을 조회합니다. 기간 미지정 시 최근 24시간, 최대 31일까지 조회할 수 있습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "시간별 판매 추이 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "통계 조회 기간이 올바르지 않습니다."),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다."),
+            @ApiResponse(responseCode = "404", description = "해당 공동구매를 찾을 수 없습니다."),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/{groupBuyId}/hourly")
+    public ResponseEntity<ApiResponseFormat<List<GroupBuyHourlySalesResponse>>> getHourlySales(
+            @PathVariable Long groupBuyId,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to
+    ) {
+        Long sellerId = AuthUtils.getSellerIdFromAuthentication();
+
+        List<GroupBuyHourlySalesResponse> response = groupBuySalesRollupService.getHourlySales(groupBuyId, sellerId, from, to);
+        return ResponseEntity.ok(ApiResponseFormat.success("시간별 판매 추이 조회에 성공하였습니다.", response));
+    }
+
+    @Operation(
+            summary = "공동구매 옵션별 판매 조회",
+            description = "판매자가 자신의 공동구매에 대한 옵션별 누적 판매 수량/금액/환불 수량과 판매율을 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "옵션별 판매 조회 성공"),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다."),
+            @ApiResponse(responseCode = "404", description = "해당 공동구매를 찾을 수 없습니다."),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/{groupBuyId}/options")
+    public ResponseEntity<ApiResponseFormat<List<GroupBuyOptionSalesResponse>>> getOptionSales(
+            @PathVariable Long groupBuyId
+    ) {
+        Long sellerId = AuthUtils.getSellerIdFromAuthentication();
+
+        List<GroupBuyOptionSalesResponse> response = groupBuySalesRollupService.getOptionSales(groupBuyId, sellerId);
+        return ResponseEntity.ok(ApiResponseFormat.success("옵션별 판매 조회에 성공하였습니다.", response));
+    }
 }
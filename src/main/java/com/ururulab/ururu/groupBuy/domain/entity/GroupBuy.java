@@ -10,6 +10,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -21,7 +23,10 @@ import static com.ururulab.ururu.groupBuy.dto.validation.GroupBuyValidationConst
 
 @Entity
 @Getter
-@Table(name = "groupbuys")
+@DynamicUpdate // 변경된 컬럼만 UPDATE - 벌크 갱신되는 soldQuantity를 엔티티 flush가 덮어쓰지 않도록
+@Table(name = "groupbuys", indexes = {
+        @Index(name = "idx_groupbuy_status_sold_quantity", columnList = "status, sold_quantity, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class GroupBuy extends BaseEntity {
 
@@ -70,6 +75,15 @@ public class GroupBuy extends BaseEntity {
     @Column(name = "display_final_price")
     private Integer displayFinalPrice;
 
+    /**
+     * 총 판매량 (판매량순 정렬을 위한 비정규화)
+     * = 모든 옵션의 (initialStock - stock) 합계, 결제 완료/환불 시 함께 갱신
+     * 생성 이후에는 GroupBuyRepository의 벌크 증감 쿼리로만 변경 (엔티티에서 수정하지 않음)
+     */
+    @ColumnDefault("0")
+    @Column(name = "sold_quantity", nullable = false)
+    private Integer soldQuantity = 0;
+
     @Column(nullable = true)
     private Instant startAt; // 공동구매 시작일
 
@@ -104,6 +118,7 @@ public class GroupBuy extends BaseEntity {
         groupBuy.maxDiscountRate = calculateMaxDiscountRateFromJson(discountStages); // 최대 할인률 반영
         groupBuy.limitQuantityPerMember = limitQuantityPerMember;
         groupBuy.displayFinalPrice = null; // 등록 이후에 계산
+        groupBuy.soldQuantity = 0;
         groupBuy.status = status;
         groupBuy.startAt = startAt;
         groupBuy.endsAt = endsAt;
@@ -0,0 +1,48 @@
+package com.ururulab.ururu.groupBuy.domain.entity;
+
+import com.ururulab.ururu.global.domain.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 시간 × 공동구매 × 옵션 단위 판매 집계
+ * 결제/환불 커밋 후 증분 반영 (GroupBuySalesRollupService) - 판매자 실시간 통계는 주문 테이블 대신 이 집계를 조회
+ */
+@Entity
+@Getter
+@Table(name = "groupbuy_sales_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_groupbuy_sales_rollup",
+                columnNames = {"groupbuy_id", "groupbuy_option_id", "bucket_hour"}
+        ),
+        indexes = @Index(name = "idx_groupbuy_sales_rollup_hour", columnList = "groupbuy_id, bucket_hour")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GroupBuySalesRollup extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "groupbuy_id", nullable = false)
+    private Long groupBuyId;
+
+    @Column(name = "groupbuy_option_id", nullable = false)
+    private Long groupBuyOptionId;
+
+    @Column(nullable = false)
+    private Instant bucketHour; // 집계 구간 시작 시각 (UTC 정시)
+
+    @Column(nullable = false)
+    private Integer soldQuantity; // 판매 수량
+
+    @Column(nullable = false)
+    private Long revenue; // 판매 금액 (결제 시점 판매가 × 수량)
+
+    @Column(nullable = false)
+    private Integer refundedQuantity; // 환불 수량
+}
@@ -12,7 +12,12 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "groupbuy_statistics")
+@Table(name = "groupbuy_statistics",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_groupbuy_statistics_groupbuy",
+                columnNames = "groupbuy_id"
+        )
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class GroupBuyStatistics extends BaseEntity {
 
@@ -6,7 +6,8 @@ public enum GroupBuySortOption {
     DEADLINE,
     PRICE_LOW,
     PRICE_HIGH,
-    DISCOUNT;
+    DISCOUNT,
+    TRENDING; // 최근 판매량(슬라이딩 윈도우) 순
 
     public static GroupBuySortOption from(String raw) {
         return switch (raw.toLowerCase()) {
@@ -16,6 +17,7 @@ public enum GroupBuySortOption {
             case "price_high" -> PRICE_HIGH;
             case "discount" -> DISCOUNT;
             case "order_count" -> ORDER_COUNT;
+            case "trending" -> TRENDING;
             default -> throw new IllegalArgumentException("Invalid sort type: " + raw);
         };
     }
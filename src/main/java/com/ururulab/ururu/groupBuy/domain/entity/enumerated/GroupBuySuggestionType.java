@@ -0,0 +1,7 @@
+package com.ururulab.ururu.groupBuy.domain.entity.enumerated;
+
+public enum GroupBuySuggestionType {
+    TITLE, // 공동구매 제목
+    BRAND, // 판매자(브랜드)명
+    INGREDIENT // 전성분
+}
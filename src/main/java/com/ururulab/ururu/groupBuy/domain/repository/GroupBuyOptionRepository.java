@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,29 @@ public interface GroupBuyOptionRepository extends JpaRepository<GroupBuyOption,
             "WHERE gbo.id = :optionId")
     Optional<GroupBuyOption> findByIdWithDetails(@Param("optionId") Long optionId);
 
+    /**
+     * 여러 공구 옵션 상세 조회 (공구, 상품, 상품 옵션 페치조인, 순서 무관)
+     * 장바구니 조회/장바구니 주문서 생성에서 사용
+     */
+    @Query("SELECT gbo FROM GroupBuyOption gbo " +
+            "LEFT JOIN FETCH gbo.groupBuy gb " +
+            "LEFT JOIN FETCH gb.product p " +
+            "LEFT JOIN FETCH gbo.productOption po " +
+            "WHERE gbo.id IN :optionIds")
+    List<GroupBuyOption> findAllByIdInWithDetails(@Param("optionIds") Collection<Long> optionIds);
+
+    /**
+     * 장바구니 화면용 옵션 정보 일괄 조회 (엔티티 없이 한 번의 조인 쿼리, 순서 무관)
+     * [optionId, productName, optionName, optionImageUrl, salePrice, endsAt, groupBuyStatus, stock] 형태
+     */
+    @Query("SELECT gbo.id, p.name, po.name, po.imageUrl, gbo.salePrice, gb.endsAt, gb.status, gbo.stock " +
+            "FROM GroupBuyOption gbo " +
+            "JOIN gbo.groupBuy gb " +
+            "JOIN gb.product p " +
+            "JOIN gbo.productOption po " +
+            "WHERE gbo.id IN :optionIds")
+    List<Object[]> findCartViewsByIdIn(@Param("optionIds") Collection<Long> optionIds);
+
     /**
      * 공구 옵션 재고 증가
      * 환불 승인 시 재고 복구용
@@ -60,6 +84,27 @@ public interface GroupBuyOptionRepository extends JpaRepository<GroupBuyOption,
             "ORDER BY po.id ASC")
     List<GroupBuyOption> findAllByGroupBuy(GroupBuy groupBuy);
 
+    /**
+     * 공개 공동구매 상세의 옵션별 재고와 정적 부분 버전 조회
+     * 재고/판매량은 응답에 바로 반영하고, 수정 시각은 상세 캐시 버전으로 사용
+     * [optionId, stock, initialStock, groupBuyUpdatedAt, productUpdatedAt, optionUpdatedAt,
+     *  productOptionUpdatedAt, imageUpdatedAt, imageCount] 형태
+     */
+    @Query("""
+    SELECT gbo.id, gbo.stock, gbo.initialStock,
+           gb.updatedAt, p.updatedAt, gbo.updatedAt, po.updatedAt,
+           (SELECT MAX(i.updatedAt) FROM GroupBuyImage i WHERE i.groupBuy = gb),
+           (SELECT COUNT(i2) FROM GroupBuyImage i2 WHERE i2.groupBuy = gb)
+    FROM GroupBuyOption gbo
+    JOIN gbo.groupBuy gb
+    JOIN gb.product p
+    JOIN gbo.productOption po
+    WHERE gb.id = :groupBuyId
+      AND gb.status = 'OPEN'
+    ORDER BY gbo.id ASC
+    """)
+    List<Object[]> findPublicDetailState(@Param("groupBuyId") Long groupBuyId);
+
     /**
      * 여러 옵션 ID로 옵션 ID와 이름만 조회
      * @param ids
@@ -68,6 +113,19 @@ public interface GroupBuyOptionRepository extends JpaRepository<GroupBuyOption,
     @Query("SELECT gbo.id as id, gbo.productOption.name as name, gbo.productOption.imageUrl as imageUrl FROM GroupBuyOption gbo WHERE gbo.id IN :ids")
     List<GroupBuyOptionBasicInfo> findIdAndNameByIdIn(@Param("ids") List<Long> ids);
 
+    /**
+     * 공동구매의 옵션 이름과 초기 재고 조회 (옵션별 판매 통계용)
+     * [optionId, optionName, initialStock] 형태
+     */
+    @Query("""
+    SELECT gbo.id, po.name, gbo.initialStock
+    FROM GroupBuyOption gbo
+    JOIN gbo.productOption po
+    WHERE gbo.groupBuy.id = :groupBuyId
+    ORDER BY gbo.id ASC
+    """)
+    List<Object[]> findOptionSummariesByGroupBuyId(@Param("groupBuyId") Long groupBuyId);
+
     /**
      * 지정된 공동구매 ID에 해당하는 모든 공동구매 옵션을 삭제
      * @param groupBuyId
@@ -99,6 +157,18 @@ public interface GroupBuyOptionRepository extends JpaRepository<GroupBuyOption,
             "GROUP BY gbo.groupBuy.id")
     List<Object[]> getTotalSoldQuantitiesByGroupBuyIds(@Param("groupBuyIds") List<Long> groupBuyIds);
 
+    /**
+     * 최종 할인율로 공동구매 옵션 판매가 일괄 변경
+     * 공동구매 종료 시 사용 - 판매가 = 공구 시작가 - 반올림(공구 시작가 × 할인율 / 100)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE GroupBuyOption gbo " +
+            "SET gbo.salePrice = gbo.priceOverride - CAST(ROUND(gbo.priceOverride * :discountRate / 100.0, 0) AS Integer), " +
+            "gbo.version = gbo.version + 1 " +
+            "WHERE gbo.groupBuy.id IN :groupBuyIds")
+    int applyFinalDiscountRate(@Param("groupBuyIds") Collection<Long> groupBuyIds,
+                               @Param("discountRate") Integer discountRate);
+
 
     /**
      * 특정 공동구매의 모든 재고가 소진되었는지 확인
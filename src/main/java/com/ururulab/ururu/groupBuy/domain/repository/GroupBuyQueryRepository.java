@@ -4,6 +4,7 @@ import com.querydsl.core.Tuple;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuySortOption;
 import com.ururulab.ururu.groupBuy.dto.common.CursorInfoDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface GroupBuyQueryRepository {
@@ -22,4 +23,14 @@ public interface GroupBuyQueryRepository {
             CursorInfoDto cursorInfo,
             String keyword // 키워드 추가
             );
+
+    /**
+     * ID 목록에 해당하는 공개 공동구매 조회 (정렬 없음)
+     * 트렌딩처럼 순서를 외부 랭킹이 결정할 때 사용 - 카테고리/키워드 조건은 목록 조회와 동일
+     * @param groupBuyIds
+     * @param categoryId
+     * @param keyword
+     * @return
+     */
+    List<Tuple> findGroupBuysByIds(Collection<Long> groupBuyIds, Long categoryId, String keyword);
 }
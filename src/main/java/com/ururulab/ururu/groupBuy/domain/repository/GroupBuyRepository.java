@@ -2,14 +2,18 @@ package com.ururulab.ururu.groupBuy.domain.repository;
 
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,45 +62,223 @@ public interface GroupBuyRepository extends JpaRepository<GroupBuy, Long>, Group
     Optional<GroupBuy> findPublicGroupBuyWithDetails(@Param("groupBuyId") Long groupBuyId);
 
     /**
-     * 만료된 공동구매 조회 (OPEN 상태이면서 종료일이 지난 것들)
-     * 배치 처리용 - 필요한 연관 엔티티들을 한번에 페치
+     * 만료된 공동구매 ID 범위 - [minId, maxId] 형태 (대상이 없으면 null 값)
+     * 배치 종료 샤딩용 - 샤드별 ID 구간 계산
      */
     @Query("""
-        SELECT DISTINCT gb FROM GroupBuy gb
-        LEFT JOIN FETCH gb.product p
-        LEFT JOIN FETCH gb.seller s
-        LEFT JOIN FETCH gb.options o
-        WHERE gb.status = 'OPEN' 
+        SELECT MIN(gb.id), MAX(gb.id) FROM GroupBuy gb
+        WHERE gb.status = 'OPEN'
+        AND gb.endsAt <= :currentTime
+        """)
+    List<Object[]> findExpiredGroupBuyIdRange(@Param("currentTime") Instant currentTime);
+
+    /**
+     * 만료된 공동구매 ID 조회 (OPEN 상태이면서 종료일이 지난 것들)
+     * 배치 종료용 - 샤드 구간(lastId, upperId) 안에서 ID 기준 keyset으로 청크 단위 조회
+     */
+    @Query("""
+        SELECT gb.id FROM GroupBuy gb
+        WHERE gb.status = 'OPEN'
+        AND gb.endsAt <= :currentTime
+        AND gb.id > :lastId
+        AND gb.id < :upperId
+        ORDER BY gb.id ASC
+        """)
+    List<Long> findExpiredGroupBuyIds(@Param("currentTime") Instant currentTime,
+                                      @Param("lastId") Long lastId,
+                                      @Param("upperId") Long upperId,
+                                      Pageable pageable);
+
+    /**
+     * 배치 종료 대상 공동구매 조회 및 잠금
+     * 청크 트랜잭션 안에서 상태를 다시 확인하여 실시간 종료와 중복 처리 방지
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT gb FROM GroupBuy gb
+        WHERE gb.id IN :groupBuyIds
+        AND gb.status = 'OPEN'
         AND gb.endsAt <= :currentTime
-        ORDER BY gb.endsAt ASC
         """)
-    List<GroupBuy> findExpiredGroupBuys(@Param("currentTime") Instant currentTime);
+    List<GroupBuy> findExpiredForUpdate(@Param("groupBuyIds") Collection<Long> groupBuyIds,
+                                        @Param("currentTime") Instant currentTime);
+
+    /**
+     * 진행 중인 공동구매만 상태 변경 (배치/실시간 종료 공통)
+     * OPEN 조건부 UPDATE라 동시에 종료해도 한 곳에서만 반영되며, 반영된 행 수로 종료 여부 판단
+     * 벌크 UPDATE는 auditing을 거치지 않으므로 수정 시각을 직접 지정
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE GroupBuy gb SET gb.status = :status, gb.updatedAt = :updatedAt
+        WHERE gb.id IN :groupBuyIds AND gb.status = 'OPEN'
+        """)
+    int updateStatusOfOpen(@Param("groupBuyIds") Collection<Long> groupBuyIds,
+                           @Param("status") GroupBuyStatus status,
+                           @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 진행 중인 공동구매의 종료 시각 조회 (종료 예약 복원용)
+     * [groupBuyId, endsAt] 형태
+     */
+    @Query("SELECT gb.id, gb.endsAt FROM GroupBuy gb WHERE gb.status = 'OPEN'")
+    List<Object[]> findOpenDeadlines();
+
+    /**
+     * 진행 중인 공동구매의 종료 시각 조회 (종료 예약 등록용)
+     */
+    @Query("SELECT gb.endsAt FROM GroupBuy gb WHERE gb.id = :groupBuyId AND gb.status = 'OPEN'")
+    Optional<Instant> findOpenEndsAtById(@Param("groupBuyId") Long groupBuyId);
+
+    /**
+     * 판매량 기준 상위 공개 공동구매 ID 조회 (카테고리 선택)
+     * 판매량 랭킹(Redis) 미사용/장애 시 fallback - (status, sold_quantity, id) 인덱스 사용
+     */
+    @Query("""
+    SELECT gb.id FROM GroupBuy gb
+    WHERE gb.status = 'OPEN'
+      AND gb.endsAt > CURRENT_TIMESTAMP
+      AND (:categoryId IS NULL OR EXISTS (
+          SELECT 1 FROM ProductCategory pc
+          WHERE pc.product = gb.product AND pc.category.id = :categoryId
+      ))
+    ORDER BY gb.soldQuantity DESC, gb.id DESC
+    """)
+    List<Long> findTopPublicIdsBySoldQuantity(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * 공개 공동구매의 판매량과 카테고리 조회
+     * 판매량 랭킹 재구성용 - [groupBuyId, soldQuantity, categoryId] 형태
+     */
+    @Query("""
+    SELECT gb.id, gb.soldQuantity, pc.category.id FROM GroupBuy gb
+    JOIN gb.product p
+    JOIN p.productCategories pc
+    WHERE gb.status = 'OPEN'
+      AND gb.endsAt > CURRENT_TIMESTAMP
+    """)
+    List<Object[]> findPublicSalesWithCategories();
 
+    /**
+     * 지정한 공개 공동구매의 판매량과 카테고리 조회
+     * 새로 오픈한 공동구매를 판매량 랭킹에 추가하는 용도 - [groupBuyId, soldQuantity, categoryId] 형태
+     */
     @Query("""
-    SELECT DISTINCT gb FROM GroupBuy gb
-    LEFT JOIN FETCH gb.options gbo
-    LEFT JOIN FETCH gbo.productOption po
+    SELECT gb.id, gb.soldQuantity, pc.category.id FROM GroupBuy gb
     JOIN gb.product p
     JOIN p.productCategories pc
-    WHERE (:categoryId IS NULL OR pc.category.id = :categoryId)
+    WHERE gb.id IN :groupBuyIds
       AND gb.status = 'OPEN'
       AND gb.endsAt > CURRENT_TIMESTAMP
     """)
-    List<GroupBuy> findByProductCategoryIdWithOptions(@Param("categoryId") Long categoryId);
+    List<Object[]> findPublicSalesWithCategoriesByIds(@Param("groupBuyIds") Collection<Long> groupBuyIds);
 
     /**
-     * 전체 공개 공동구매 조회 (옵션 정보 포함)
-     * N+1 쿼리 방지를 위해 FETCH JOIN 사용
+     * 공개 공동구매의 카테고리 ID 조회
+     * 판매량 랭킹 증분 반영용 - [groupBuyId, categoryId] 형태
      */
     @Query("""
-        SELECT DISTINCT gb FROM GroupBuy gb
-        LEFT JOIN FETCH gb.options gbo
-        LEFT JOIN FETCH gbo.productOption po
-        WHERE gb.status = 'OPEN'
-          AND gb.endsAt > CURRENT_TIMESTAMP
-        """)
-    List<GroupBuy> findAllPublicWithOptions();
+    SELECT gb.id, pc.category.id FROM GroupBuy gb
+    JOIN gb.product p
+    JOIN p.productCategories pc
+    WHERE gb.id IN :groupBuyIds
+      AND gb.status = 'OPEN'
+    """)
+    List<Object[]> findCategoryIdsOfPublicGroupBuys(@Param("groupBuyIds") Collection<Long> groupBuyIds);
+
+    /**
+     * 공개 공동구매가 있는 카테고리 ID 조회
+     * 목록 앞페이지 미리 계산 대상 카테고리 선정용
+     */
+    @Query("""
+    SELECT DISTINCT pc.category.id FROM GroupBuy gb
+    JOIN gb.product p
+    JOIN p.productCategories pc
+    WHERE gb.status = 'OPEN'
+      AND gb.endsAt > CURRENT_TIMESTAMP
+    """)
+    List<Long> findCategoryIdsWithPublicGroupBuys();
+
+    /**
+     * 공동구매가 속한 카테고리 ID 조회 (상태 무관)
+     * 변경된 공동구매가 있는 카테고리만 목록 앞페이지를 다시 계산하는 용도
+     */
+    @Query("""
+    SELECT DISTINCT pc.category.id FROM GroupBuy gb
+    JOIN gb.product p
+    JOIN p.productCategories pc
+    WHERE gb.id IN :groupBuyIds
+    """)
+    List<Long> findCategoryIdsOfGroupBuys(@Param("groupBuyIds") Collection<Long> groupBuyIds);
+
+    /**
+     * 공개 공동구매의 제목/판매자명/판매량 조회
+     * 자동완성 트라이 구성용 - [title, sellerName, soldQuantity] 형태
+     */
+    @Query("""
+    SELECT gb.title, s.name, gb.soldQuantity FROM GroupBuy gb
+    JOIN gb.seller s
+    WHERE gb.status = 'OPEN'
+      AND gb.endsAt > CURRENT_TIMESTAMP
+    """)
+    List<Object[]> findPublicSuggestionSources();
+
+    /**
+     * 지정한 공개 공동구매의 제목/판매자명/판매량 조회
+     * 새로 오픈한 공동구매를 자동완성 트라이에 추가하는 용도 - [title, sellerName, soldQuantity] 형태
+     */
+    @Query("""
+    SELECT gb.title, s.name, gb.soldQuantity FROM GroupBuy gb
+    JOIN gb.seller s
+    WHERE gb.id IN :groupBuyIds
+      AND gb.status = 'OPEN'
+      AND gb.endsAt > CURRENT_TIMESTAMP
+    """)
+    List<Object[]> findPublicSuggestionSourcesByIds(@Param("groupBuyIds") Collection<Long> groupBuyIds);
 
+    /**
+     * 공개 공동구매 옵션의 전성분과 공동구매 판매량 조회
+     * 자동완성 트라이 구성용 - [groupBuyId, fullIngredients, soldQuantity] 형태
+     */
+    @Query("""
+    SELECT gb.id, po.fullIngredients, gb.soldQuantity FROM GroupBuy gb
+    JOIN gb.options o
+    JOIN o.productOption po
+    WHERE gb.status = 'OPEN'
+      AND gb.endsAt > CURRENT_TIMESTAMP
+    """)
+    List<Object[]> findPublicIngredientSources();
+
+    /**
+     * 공동구매 진행 현황 조회 (실시간 진행 스트림용)
+     * [groupBuyId, status, soldQuantity, discountStages, remainingStock] 형태
+     */
+    @Query("""
+    SELECT gb.id, gb.status, gb.soldQuantity, gb.discountStages,
+           (SELECT COALESCE(SUM(o.stock), 0) FROM GroupBuyOption o WHERE o.groupBuy = gb)
+    FROM GroupBuy gb
+    WHERE gb.id IN :groupBuyIds
+    """)
+    List<Object[]> findProgressSources(@Param("groupBuyIds") Collection<Long> groupBuyIds);
+
+    /**
+     * 공개 공동구매 상세의 버전 정보 조회 (조건부 GET ETag 계산용)
+     * 상세 응답에 포함되는 공동구매/상품/옵션/이미지의 수정 시각과 판매량·재고 합계
+     * [updatedAt, soldQuantity, productUpdatedAt, optionUpdatedAt, productOptionUpdatedAt, stockSum, imageUpdatedAt, imageCount] 형태
+     */
+    @Query("""
+    SELECT gb.updatedAt, gb.soldQuantity, p.updatedAt,
+           (SELECT MAX(o.updatedAt) FROM GroupBuyOption o WHERE o.groupBuy = gb),
+           (SELECT MAX(po.updatedAt) FROM GroupBuyOption o2 JOIN o2.productOption po WHERE o2.groupBuy = gb),
+           (SELECT SUM(o3.stock) FROM GroupBuyOption o3 WHERE o3.groupBuy = gb),
+           (SELECT MAX(i.updatedAt) FROM GroupBuyImage i WHERE i.groupBuy = gb),
+           (SELECT COUNT(i2) FROM GroupBuyImage i2 WHERE i2.groupBuy = gb)
+    FROM GroupBuy gb
+    JOIN gb.product p
+    WHERE gb.id = :groupBuyId
+      AND gb.status = 'OPEN'
+    """)
+    List<Object[]> findPublicDetailVersion(@Param("groupBuyId") Long groupBuyId);
 
     @Query("SELECT gb FROM GroupBuy gb WHERE gb.seller.id = :sellerId ORDER BY gb.createdAt DESC")
     Page<GroupBuy> findBySellerIdWithPagination(@Param("sellerId") Long sellerId, Pageable pageable);
@@ -117,4 +299,25 @@ public interface GroupBuyRepository extends JpaRepository<GroupBuy, Long>, Group
         ORDER BY gb.createdAt DESC
         """)
     List<GroupBuy> findActiveGroupBuysByProductIds(@Param("productIds") List<Long> productIds);
+
+    /**
+     * 공동구매 총 판매량 증가
+     * Payment 도메인에서 결제 완료 시 재고 차감과 같은 트랜잭션에서 사용
+     */
+    @Modifying
+    @Query("UPDATE GroupBuy gb SET gb.soldQuantity = gb.soldQuantity + :quantity WHERE gb.id = :groupBuyId")
+    int increaseSoldQuantity(@Param("groupBuyId") Long groupBuyId, @Param("quantity") Integer quantity);
+
+    /**
+     * 공동구매 총 판매량 감소
+     * 환불 승인 시 재고 복구와 같은 트랜잭션에서 사용 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("""
+        UPDATE GroupBuy gb
+        SET gb.soldQuantity = CASE WHEN gb.soldQuantity >= :quantity THEN gb.soldQuantity - :quantity ELSE 0 END
+        WHERE gb.id = :groupBuyId
+        """)
+    int decreaseSoldQuantity(@Param("groupBuyId") Long groupBuyId, @Param("quantity") Integer quantity);
+
 }
@@ -0,0 +1,66 @@
+package com.ururulab.ururu.groupBuy.domain.repository;
+
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuySalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface GroupBuySalesRollupRepository extends JpaRepository<GroupBuySalesRollup, Long> {
+
+    /**
+     * 시간별 판매 집계 증분 반영 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO groupbuy_sales_rollups
+            (groupbuy_id, groupbuy_option_id, bucket_hour, sold_quantity, revenue, refunded_quantity, created_at, updated_at)
+        VALUES (:groupBuyId, :optionId, :bucketHour, :soldQuantity, :revenue, :refundedQuantity, :now, :now)
+        ON DUPLICATE KEY UPDATE
+            sold_quantity = sold_quantity + VALUES(sold_quantity),
+            revenue = revenue + VALUES(revenue),
+            refunded_quantity = refunded_quantity + VALUES(refunded_quantity),
+            updated_at = VALUES(updated_at)
+        """, nativeQuery = true)
+    int upsert(@Param("groupBuyId") Long groupBuyId,
+               @Param("optionId") Long optionId,
+               @Param("bucketHour") Instant bucketHour,
+               @Param("soldQuantity") int soldQuantity,
+               @Param("revenue") long revenue,
+               @Param("refundedQuantity") int refundedQuantity,
+               @Param("now") Instant now);
+
+    /**
+     * 공동구매의 시간별 판매 추이 (옵션 합계)
+     * [bucketHour, soldQuantity, revenue, refundedQuantity] 형태 - (groupbuy_id, bucket_hour) 인덱스 범위 조회
+     */
+    @Query("""
+        SELECT r.bucketHour, SUM(r.soldQuantity), SUM(r.revenue), SUM(r.refundedQuantity)
+        FROM GroupBuySalesRollup r
+        WHERE r.groupBuyId = :groupBuyId
+          AND r.bucketHour >= :from
+          AND r.bucketHour < :to
+        GROUP BY r.bucketHour
+        ORDER BY r.bucketHour ASC
+        """)
+    List<Object[]> sumHourlyByGroupBuyId(@Param("groupBuyId") Long groupBuyId,
+                                         @Param("from") Instant from,
+                                         @Param("to") Instant to);
+
+    /**
+     * 공동구매의 옵션별 누적 판매
+     * [optionId, soldQuantity, revenue, refundedQuantity] 형태
+     */
+    @Query("""
+        SELECT r.groupBuyOptionId, SUM(r.soldQuantity), SUM(r.revenue), SUM(r.refundedQuantity)
+        FROM GroupBuySalesRollup r
+        WHERE r.groupBuyId = :groupBuyId
+        GROUP BY r.groupBuyOptionId
+        """)
+    List<Object[]> sumByOptionForGroupBuyId(@Param("groupBuyId") Long groupBuyId);
+}
@@ -0,0 +1,15 @@
+package com.ururulab.ururu.groupBuy.domain.repository;
+
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyStatistics;
+
+import java.util.List;
+
+public interface GroupBuyStatisticsBulkRepository {
+    /**
+     * 공동구매 통계 일괄 저장 (다중 행 INSERT)
+     * IDENTITY 전략은 JDBC 배치가 적용되지 않으므로 배치 종료에서 사용
+     * 저장된 엔티티는 영속성 컨텍스트에 등록되지 않음
+     * @param statisticsList 저장할 통계
+     */
+    void insertAll(List<GroupBuyStatistics> statisticsList);
+}
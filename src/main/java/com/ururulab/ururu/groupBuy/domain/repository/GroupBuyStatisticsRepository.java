@@ -7,14 +7,21 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GroupBuyStatisticsRepository extends JpaRepository<GroupBuyStatistics, Long> {
+public interface GroupBuyStatisticsRepository extends JpaRepository<GroupBuyStatistics, Long>, GroupBuyStatisticsBulkRepository {
 
     Optional<GroupBuyStatistics> findByGroupBuyId(Long groupBuyId);
 
+    /**
+     * 여러 공동구매의 통계 일괄 조회
+     */
+    @Query("SELECT s FROM GroupBuyStatistics s WHERE s.groupBuy.id IN :groupBuyIds")
+    List<GroupBuyStatistics> findByGroupBuyIdIn(@Param("groupBuyIds") Collection<Long> groupBuyIds);
+
     /**
      * 특정 판매자의 모든 그룹 구매 통계 조회
      */
@@ -5,6 +5,7 @@ import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ururulab.ururu.groupBuy.domain.entity.QGroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.QGroupBuyOption;
@@ -20,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -39,9 +41,47 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
     @Override
     public List<Tuple> findGroupBuysSortedWithCursor(Long categoryId, GroupBuySortOption sortOption, int limit, CursorInfoDto cursorInfo, String keyword) {
         QGroupBuy gb = QGroupBuy.groupBuy;
-        QProduct p = QProduct.product;
+
+        BooleanBuilder where = buildPublicListCondition(categoryId, keyword);
+
+        // 커서 조건 추가
+        if (cursorInfo != null) {
+            where.and(getCursorCondition(sortOption, gb, cursorInfo));
+        }
+
+        log.info("➡ [Repo] where = {}", where);
+
+        return selectListColumns(where)
+                .orderBy(getOrderSpecifier(sortOption, gb))
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * ID 목록 기준 조회 (정렬 없음)
+     * @param groupBuyIds
+     * @param categoryId
+     * @param keyword
+     * @return
+     */
+    @Override
+    public List<Tuple> findGroupBuysByIds(Collection<Long> groupBuyIds, Long categoryId, String keyword) {
+        if (groupBuyIds.isEmpty()) {
+            return List.of();
+        }
+
+        BooleanBuilder where = buildPublicListCondition(categoryId, keyword)
+                .and(QGroupBuy.groupBuy.id.in(groupBuyIds));
+
+        return selectListColumns(where).fetch();
+    }
+
+    /**
+     * 목록 공통 조건 - 공개(OPEN, 미만료) + 키워드 + 카테고리
+     */
+    private BooleanBuilder buildPublicListCondition(Long categoryId, String keyword) {
+        QGroupBuy gb = QGroupBuy.groupBuy;
         QProductCategory pc = QProductCategory.productCategory;
-        QGroupBuyOption gbo = QGroupBuyOption.groupBuyOption;
         QProductOption po = QProductOption.productOption;
         QSeller s = QSeller.seller;
 
@@ -69,12 +109,18 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
             where.and(pc.category.id.eq(categoryId));
         }
 
-        // 커서 조건 추가
-        if (cursorInfo != null) {
-            where.and(getCursorCondition(sortOption, gb, cursorInfo));
-        }
+        return where;
+    }
 
-        log.info("➡ [Repo] where = {}", where);
+    /**
+     * 목록 응답 컬럼 조회 쿼리 (GroupBuyListResponse.fromListRow 인덱스와 일치)
+     */
+    private JPAQuery<Tuple> selectListColumns(BooleanBuilder where) {
+        QGroupBuy gb = QGroupBuy.groupBuy;
+        QProductCategory pc = QProductCategory.productCategory;
+        QGroupBuyOption gbo = QGroupBuyOption.groupBuyOption;
+        QProductOption po = QProductOption.productOption;
+        QSeller s = QSeller.seller;
 
         return queryFactory
                 .select(
@@ -87,12 +133,8 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
                                 .from(gbo)
                                 .where(gbo.groupBuy.id.eq(gb.id)), //4
                         gb.endsAt, //5
-                        // initialStock 기반 총 판매량 조회
-                        JPAExpressions.select(
-                                        gbo.initialStock.sum().subtract(gbo.stock.sum()).coalesce(0)
-                                )
-                                .from(gbo)
-                                .where(gbo.groupBuy.id.eq(gb.id)), //6
+                        // 비정규화된 총 판매량 (결제/환불 시 갱신)
+                        gb.soldQuantity, //6
                         gb.createdAt, //7
                         gb.maxDiscountRate //8
                 )
@@ -103,10 +145,7 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
                 .join(gb.options, gbo)
                 .join(gbo.productOption, po)
                 .where(where)
-                .orderBy(getOrderSpecifier(sortOption, gb))
-                .limit(limit)
-                .distinct()
-                .fetch();
+                .distinct();
     }
 
     /**
@@ -145,8 +184,13 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
                         .or(gb.maxDiscountRate.eq(cursorInfo.maxDiscountRate()).and(gb.id.lt(cursorInfo.id())));
                 break;
 
+            case ORDER_COUNT:
+                // 주문량순: soldQuantity가 더 작거나, 같으면 id가 더 작은 것
+                condition.or(gb.soldQuantity.lt(cursorInfo.orderCount()))
+                        .or(gb.soldQuantity.eq(cursorInfo.orderCount()).and(gb.id.lt(cursorInfo.id())));
+                break;
+
             default:
-                // 주문량순: DB에서 직접 정렬이 어려우므로 createdAt 기준으로 처리
                 condition.or(gb.createdAt.lt(cursorInfo.createdAt()))
                         .or(gb.createdAt.eq(cursorInfo.createdAt()).and(gb.id.lt(cursorInfo.id())));
                 break;
@@ -155,14 +199,21 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
         return condition;
     }
 
-    private OrderSpecifier<?> getOrderSpecifier(GroupBuySortOption sort, QGroupBuy gb) {
-        return switch (sort) {
+    /**
+     * 정렬 옵션에 따른 정렬 조건 생성
+     * 커서 조건과 동일하게 같은 값이면 id 역순으로 정렬
+     */
+    private OrderSpecifier<?>[] getOrderSpecifier(GroupBuySortOption sort, QGroupBuy gb) {
+        OrderSpecifier<?> primary = switch (sort) {
             case LATEST -> gb.createdAt.desc(); // 생성순
             case DEADLINE -> gb.endsAt.asc();
             case PRICE_LOW -> gb.displayFinalPrice.asc();
             case PRICE_HIGH -> gb.displayFinalPrice.desc();
             case DISCOUNT -> gb.maxDiscountRate.desc();
-            default -> gb.createdAt.desc(); // 주문 많은 순 - 계산 위임
+            case ORDER_COUNT -> gb.soldQuantity.desc(); // 주문 많은 순 - (status, sold_quantity, id) 인덱스 사용
+            // 트렌딩 순서는 최근 판매량 윈도우(Redis)가 결정 - findGroupBuysByIds 사용
+            case TRENDING -> throw new IllegalArgumentException("Trending sort is not supported by query: " + sort);
         };
+        return new OrderSpecifier<?>[]{primary, gb.id.desc()};
     }
 }
@@ -0,0 +1,63 @@
+package com.ururulab.ururu.groupBuy.domain.repository.impl;
+
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyStatistics;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyStatisticsBulkRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class GroupBuyStatisticsBulkRepositoryImpl implements GroupBuyStatisticsBulkRepository {
+
+    // 한 문장에 담을 최대 행 수
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    private static final int COLUMN_COUNT = 8;
+
+    private static final String INSERT_PREFIX = "INSERT INTO groupbuy_statistics "
+            + "(groupbuy_id, total_participants, total_quantity, final_discount_rate, final_status, "
+            + "confirmed_at, created_at, updated_at) VALUES ";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<GroupBuyStatistics> statisticsList) {
+        for (int from = 0; from < statisticsList.size(); from += MAX_ROWS_PER_STATEMENT) {
+            insertRows(statisticsList.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, statisticsList.size())));
+        }
+    }
+
+    private void insertRows(List<GroupBuyStatistics> rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append('(');
+            for (int column = 1; column <= COLUMN_COUNT; column++) {
+                if (column > 1) {
+                    sql.append(", ");
+                }
+                sql.append('?').append(i * COLUMN_COUNT + column);
+            }
+            sql.append(')');
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        Instant now = Instant.now();
+        int position = 1;
+        for (GroupBuyStatistics statistics : rows) {
+            query.setParameter(position++, statistics.getGroupBuy().getId());
+            query.setParameter(position++, statistics.getTotalParticipants());
+            query.setParameter(position++, statistics.getTotalQuantity());
+            query.setParameter(position++, statistics.getFinalDiscountRate());
+            query.setParameter(position++, statistics.getFinalStatus().name());
+            query.setParameter(position++, statistics.getConfirmedAt());
+            query.setParameter(position++, now);
+            query.setParameter(position++, now);
+        }
+        query.executeUpdate();
+    }
+}
@@ -10,7 +10,8 @@ public record CursorInfoDto(
         Instant endsAt,
         Integer price,
         Integer maxDiscountRate,
-        Integer orderCount
+        Integer orderCount,
+        Integer trendingCount // 트렌딩 정렬 시 최근 판매량
 ) {
     public static CursorInfoDto from(GroupBuyListResponse response) {
         return new CursorInfoDto(
@@ -19,7 +20,20 @@ public record CursorInfoDto(
                 response.endsAt(),
                 response.displayFinalPrice(),
                 response.maxDiscountRate(),
-                response.orderCount()
+                response.orderCount(),
+                null
+        );
+    }
+
+    public static CursorInfoDto ofTrending(GroupBuyListResponse response, Integer trendingCount) {
+        return new CursorInfoDto(
+                response.id(),
+                response.createdAt(),
+                response.endsAt(),
+                response.displayFinalPrice(),
+                response.maxDiscountRate(),
+                response.orderCount(),
+                trendingCount
         );
     }
 }
@@ -0,0 +1,21 @@
+package com.ururulab.ururu.groupBuy.dto.common;
+
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 카테고리 × 정렬별로 미리 계산해 둔 목록 앞부분
+ * @param items 정렬 순서대로 앞쪽 K페이지 분량의 목록
+ * @param complete 조건에 맞는 공동구매가 items에 모두 포함되었는지 여부 (이후 페이지 없음)
+ * @param generation 계산 시점의 카탈로그 세대
+ * @param createdAt 계산 시각
+ */
+public record GroupBuyListSnapshot(
+        List<GroupBuyListResponse> items,
+        boolean complete,
+        String generation,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.ururulab.ururu.groupBuy.dto.common;
+
+/**
+ * 결제/환불 한 건의 옵션별 수량·금액
+ * 판매량 반영과 시간별 판매 집계에 사용
+ */
+public record GroupBuyOptionSaleDto(
+        Long groupBuyId,
+        Long optionId,
+        Integer quantity,
+        Long amount // 판매가 × 수량
+) {
+}
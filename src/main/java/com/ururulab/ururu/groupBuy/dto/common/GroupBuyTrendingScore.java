@@ -0,0 +1,27 @@
+package com.ururulab.ururu.groupBuy.dto.common;
+
+import java.util.Comparator;
+
+/**
+ * 트렌딩 윈도우 내 공동구매 판매량
+ * @param groupBuyId 공동구매 ID
+ * @param count 최근 윈도우 판매량
+ */
+public record GroupBuyTrendingScore(
+        Long groupBuyId,
+        Integer count
+) {
+    /**
+     * 판매량 내림차순, 같으면 ID 역순 (목록 커서 조건과 동일)
+     */
+    public static final Comparator<GroupBuyTrendingScore> RANKING_ORDER =
+            Comparator.comparing(GroupBuyTrendingScore::count, Comparator.reverseOrder())
+                    .thenComparing(GroupBuyTrendingScore::groupBuyId, Comparator.reverseOrder());
+
+    /**
+     * 커서 이후(순위상 뒤)에 위치하는지 여부
+     */
+    public boolean isAfter(Integer cursorCount, Long cursorId) {
+        return count < cursorCount || (count.equals(cursorCount) && groupBuyId < cursorId);
+    }
+}
@@ -83,4 +83,29 @@ public record GroupBuyDetailResponse(
                 groupBuy.getUpdatedAt()
         );
     }
+
+    /**
+     * 옵션 재고와 총 판매량만 최신 값으로 교체 (상세 캐시의 정적 부분과 병합)
+     */
+    public GroupBuyDetailResponse withStocks(List<GroupBuyOptionInfoResponse> options, Integer currentOrderCount) {
+        return new GroupBuyDetailResponse(
+                id,
+                title,
+                description,
+                thumbnailUrl,
+                displayFinalPrice,
+                startPrice,
+                maxDiscountRate,
+                discountStages,
+                limitQuantityPerMember,
+                status,
+                endsAt,
+                currentOrderCount,
+                product,
+                options,
+                images,
+                createdAt,
+                updatedAt
+        );
+    }
 }
@@ -0,0 +1,14 @@
+package com.ururulab.ururu.groupBuy.dto.response;
+
+import java.time.Instant;
+
+public record GroupBuyHourlySalesResponse(
+        Instant hour, // 구간 시작 시각 (UTC 정시)
+        Integer soldQuantity,
+        Long revenue,
+        Integer refundedQuantity
+) {
+    public static GroupBuyHourlySalesResponse empty(Instant hour) {
+        return new GroupBuyHourlySalesResponse(hour, 0, 0L, 0);
+    }
+}
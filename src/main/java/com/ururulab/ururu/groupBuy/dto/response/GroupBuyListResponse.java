@@ -1,5 +1,6 @@
 package com.ururulab.ururu.groupBuy.dto.response;
 
+import com.querydsl.core.Tuple;
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
@@ -41,4 +42,21 @@ public record GroupBuyListResponse(
                 groupBuy.getCreatedAt() // 생성일
         );
     }
+
+    /**
+     * 목록 조회 쿼리 결과 행 변환 (GroupBuyQueryRepositoryImpl.selectListColumns 컬럼 순서)
+     */
+    public static GroupBuyListResponse fromListRow(Tuple row) {
+        return new GroupBuyListResponse(
+                row.get(0, Long.class), // 공구 아이디
+                row.get(1, String.class), // 공구 제목
+                row.get(2, String.class), // 공구 썸네일
+                row.get(3, Integer.class), // 공구 메인 가격
+                row.get(4, Integer.class), // 공구 옵션 중 최저가
+                row.get(8, Integer.class), // 최대 할인률
+                row.get(5, Instant.class), // 공구 종료일
+                row.get(6, Integer.class), // 주문량
+                row.get(7, Instant.class) // 생성일
+        );
+    }
 }
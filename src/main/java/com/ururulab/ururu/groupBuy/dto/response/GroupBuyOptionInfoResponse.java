@@ -35,4 +35,23 @@ public record GroupBuyOptionInfoResponse(
                 option.getSalePrice()
         );
     }
+
+    /**
+     * 재고만 최신 값으로 교체 (상세 캐시의 정적 부분과 병합)
+     */
+    public GroupBuyOptionInfoResponse withStock(Integer initialStock, Integer currentStock) {
+        return new GroupBuyOptionInfoResponse(
+                id,
+                productOptionId,
+                optionName,
+                optionImageUrl,
+                fullIngredients,
+                initialStock,
+                currentStock,
+                initialStock - currentStock,
+                currentStock <= 0,
+                priceOverride,
+                salePrice
+        );
+    }
 }
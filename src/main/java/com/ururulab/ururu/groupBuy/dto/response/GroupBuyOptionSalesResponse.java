@@ -0,0 +1,12 @@
+package com.ururulab.ururu.groupBuy.dto.response;
+
+public record GroupBuyOptionSalesResponse(
+        Long optionId,
+        String optionName,
+        Integer initialStock,
+        Integer soldQuantity,
+        Long revenue,
+        Integer refundedQuantity,
+        Double sellThroughRate // 초기 재고 대비 순판매(판매 - 환불) 비율 (%)
+) {
+}
@@ -0,0 +1,17 @@
+package com.ururulab.ururu.groupBuy.dto.response;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+
+import java.time.Instant;
+
+public record GroupBuyProgressResponse(
+        Long groupBuyId,
+        GroupBuyStatus status,
+        Integer soldQuantity, // 총 판매량 (참여 수량)
+        Integer currentDiscountRate, // 현재 달성한 할인율
+        Integer nextStageQuantity, // 다음 할인 단계 최소 수량 (최고 단계면 null)
+        Integer nextDiscountRate, // 다음 할인 단계 할인율 (최고 단계면 null)
+        Integer remainingStock, // 전체 옵션 남은 재고
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.ururulab.ururu.groupBuy.dto.response;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuySuggestionType;
+import com.ururulab.ururu.groupBuy.service.suggest.GroupBuySuggestion;
+
+public record GroupBuySuggestionResponse(
+        String keyword,
+        GroupBuySuggestionType type
+) {
+    public static GroupBuySuggestionResponse from(GroupBuySuggestion suggestion) {
+        return new GroupBuySuggestionResponse(suggestion.text(), suggestion.type());
+    }
+}
@@ -0,0 +1,20 @@
+package com.ururulab.ururu.groupBuy.event;
+
+import com.ururulab.ururu.groupBuy.dto.common.GroupBuyOptionSaleDto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 결제 완료/환불 승인으로 옵션별 판매 수량이 기록되었을 때 발생하는 이벤트
+ * 커밋 후 시간별 판매 집계(GroupBuySalesRollup) 반영용
+ */
+public record GroupBuyOptionSalesRecordedEvent(
+        List<GroupBuyOptionSaleDto> sales,
+        boolean refund, // 환불이면 true
+        Instant occurredAt
+) {
+    public boolean hasSales() {
+        return sales != null && !sales.isEmpty();
+    }
+}
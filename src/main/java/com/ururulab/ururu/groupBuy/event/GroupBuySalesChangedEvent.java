@@ -0,0 +1,19 @@
+package com.ururulab.ururu.groupBuy.event;
+
+import java.util.Map;
+
+/**
+ * 공동구매 판매량이 변경되었을 때 발생하는 이벤트
+ * 결제 완료(양수) 또는 환불 승인(음수) 시 공동구매 ID별 증감 수량을 담아 발행
+ */
+public record GroupBuySalesChangedEvent(
+        Map<Long, Integer> quantityDeltas
+) {
+    /**
+     * 이벤트가 처리할 증감분이 있는지 확인
+     * @return 처리할 증감분이 있으면 true
+     */
+    public boolean hasChanges() {
+        return quantityDeltas != null && !quantityDeltas.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package com.ururulab.ururu.groupBuy.event;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+
+/**
+ * 단건 공동구매 상태가 변경되었을 때 발생하는 이벤트
+ * 판매자 오픈, 재고 소진으로 인한 즉시 종료 시 발행
+ */
+public record GroupBuyStatusChangedEvent(
+        Long groupBuyId,
+        GroupBuyStatus status
+) {
+}
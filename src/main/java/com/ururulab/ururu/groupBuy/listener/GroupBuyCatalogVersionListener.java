@@ -0,0 +1,74 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.event.GroupBuySalesChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuyStatusChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyCatalogVersionService;
+import com.ururulab.ururu.groupBuy.service.GroupBuyListSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 목록/랭킹 응답이 바뀌는 변경 커밋 후 카탈로그 세대 증가(ETag 무효화)와 변경된 공동구매 표시(목록 스냅샷 재계산)
+ * 실패 시 스냅샷의 전체 재계산 주기와 ETag 시간 구간(1분) 동안 이전 응답이 사용될 수 있음
+ * 공개 공동구매가 빠지는 상태 변경/일괄 종료는 자동완성 버전도 증가 (오픈은 트라이에 바로 추가)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyCatalogVersionListener {
+
+    private final GroupBuyCatalogVersionService groupBuyCatalogVersionService;
+    private final GroupBuyListSnapshotService groupBuyListSnapshotService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSalesChanged(GroupBuySalesChangedEvent event) {
+        if (event.hasChanges()) {
+            bumpGeneration(event.quantityDeltas().keySet());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStatusChanged(GroupBuyStatusChangedEvent event) {
+        bumpGeneration(List.of(event.groupBuyId()));
+        // 오픈은 자동완성 트라이에 바로 추가되므로 재구성하지 않음
+        if (event.status() != GroupBuyStatus.OPEN) {
+            bumpSuggestionVersion();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBatchClosed(GroupBuysBatchClosedEvent event) {
+        bumpGeneration(event.groupBuyIds());
+        bumpSuggestionVersion();
+    }
+
+    private void bumpGeneration(Collection<Long> groupBuyIds) {
+        try {
+            groupBuyCatalogVersionService.bumpGeneration();
+        } catch (Exception e) {
+            log.warn("공동구매 카탈로그 세대 증가 실패", e);
+        }
+
+        try {
+            groupBuyListSnapshotService.markChanged(groupBuyIds);
+        } catch (Exception e) {
+            log.warn("목록 스냅샷 변경 표시 실패 - 대상: {}", groupBuyIds, e);
+        }
+    }
+
+    private void bumpSuggestionVersion() {
+        try {
+            groupBuyCatalogVersionService.bumpSuggestionVersion();
+        } catch (Exception e) {
+            log.warn("자동완성 버전 증가 실패", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.event.GroupBuyStatusChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyDeadlineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 공동구매 오픈/종료 커밋 후 종료 예약 등록·취소
+ * 실패해도 주기적 복원(GroupBuyDeadlineScheduler)에서 다시 등록됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyDeadlineListener {
+
+    private final GroupBuyDeadlineService groupBuyDeadlineService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStatusChanged(GroupBuyStatusChangedEvent event) {
+        try {
+            if (event.status() == GroupBuyStatus.OPEN) {
+                groupBuyDeadlineService.scheduleClose(event.groupBuyId());
+            } else if (event.status() == GroupBuyStatus.CLOSED) {
+                groupBuyDeadlineService.cancel(List.of(event.groupBuyId()));
+            }
+        } catch (Exception e) {
+            log.warn("공동구매 종료 예약 갱신 실패 - groupBuyId: {}", event.groupBuyId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBatchClosed(GroupBuysBatchClosedEvent event) {
+        try {
+            groupBuyDeadlineService.cancel(event.groupBuyIds());
+        } catch (Exception e) {
+            log.warn("공동구매 종료 예약 취소 실패 - {}건", event.groupBuyIds().size(), e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.event.GroupBuySalesChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuyStatusChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 판매량 랭킹 증분 반영 리스너
+ * 랭킹 반영 실패는 결제/환불 결과에 영향을 주지 않으며 주기적 재구성으로 보정됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyLeaderboardListener {
+
+    private final GroupBuyLeaderboardService groupBuyLeaderboardService;
+
+    /**
+     * 결제 완료/환불 커밋 후 판매량 증감 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSalesChanged(GroupBuySalesChangedEvent event) {
+        if (!event.hasChanges()) {
+            return;
+        }
+
+        try {
+            groupBuyLeaderboardService.applySalesDeltas(event.quantityDeltas());
+        } catch (Exception e) {
+            log.warn("판매량 랭킹 반영 실패 - 대상: {}", event.quantityDeltas().keySet(), e);
+        }
+    }
+
+    /**
+     * 배치 종료 커밋 후 종료된 공동구매를 랭킹에서 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBatchClosed(GroupBuysBatchClosedEvent event) {
+        try {
+            groupBuyLeaderboardService.remove(event.groupBuyIds());
+        } catch (Exception e) {
+            log.warn("판매량 랭킹 정리 실패 - 대상: {}", event.groupBuyIds(), e);
+        }
+    }
+
+    /**
+     * 오픈 커밋 후 판매량 랭킹에 추가, 단건 종료(재고 소진 등) 커밋 후 판매량 랭킹에서 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStatusChanged(GroupBuyStatusChangedEvent event) {
+        if (event.status() == GroupBuyStatus.OPEN) {
+            try {
+                groupBuyLeaderboardService.addOpened(List.of(event.groupBuyId()));
+            } catch (Exception e) {
+                log.warn("판매량 랭킹 추가 실패 - 대상: {}", event.groupBuyId(), e);
+            }
+            return;
+        }
+        if (event.status() != GroupBuyStatus.CLOSED) {
+            return;
+        }
+
+        try {
+            groupBuyLeaderboardService.remove(List.of(event.groupBuyId()));
+        } catch (Exception e) {
+            log.warn("판매량 랭킹 정리 실패 - 대상: {}", event.groupBuyId(), e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.event.GroupBuySalesChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuyStatusChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyProgressService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 진행 현황이 바뀌는 변경 커밋 후 실시간 스트림 발행 대상으로 표시
+ * 실제 조회/발행은 GroupBuyProgressScheduler에서 모아서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupBuyProgressListener {
+
+    private final GroupBuyProgressService groupBuyProgressService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSalesChanged(GroupBuySalesChangedEvent event) {
+        if (event.hasChanges()) {
+            groupBuyProgressService.markChanged(event.quantityDeltas().keySet());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStatusChanged(GroupBuyStatusChangedEvent event) {
+        groupBuyProgressService.markChanged(List.of(event.groupBuyId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBatchClosed(GroupBuysBatchClosedEvent event) {
+        groupBuyProgressService.markChanged(event.groupBuyIds());
+    }
+}
@@ -0,0 +1,41 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyProgressResponse;
+import com.ururulab.ururu.groupBuy.service.GroupBuyProgressService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub으로 전달된 진행 현황을 이 노드의 SSE 구독자에게 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupBuyProgressMessageListener implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final GroupBuyProgressService groupBuyProgressService;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(GroupBuyProgressService.CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            GroupBuyProgressResponse progress = objectMapper.readValue(message.getBody(), GroupBuyProgressResponse.class);
+            groupBuyProgressService.deliver(progress);
+        } catch (Exception e) {
+            log.warn("진행 현황 메시지 처리 실패", e);
+        }
+    }
+}
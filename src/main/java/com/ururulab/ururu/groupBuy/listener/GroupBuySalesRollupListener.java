@@ -0,0 +1,37 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.event.GroupBuyOptionSalesRecordedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuySalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 시간별 판매 집계 증분 반영 리스너
+ * 집계 반영 실패는 결제/환불 결과에 영향을 주지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuySalesRollupListener {
+
+    private final GroupBuySalesRollupService groupBuySalesRollupService;
+
+    /**
+     * 결제 완료/환불 커밋 후 옵션별 판매 수량을 시간별 집계에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSalesRecorded(GroupBuyOptionSalesRecordedEvent event) {
+        if (!event.hasSales()) {
+            return;
+        }
+
+        try {
+            groupBuySalesRollupService.apply(event);
+        } catch (Exception e) {
+            log.warn("시간별 판매 집계 반영 실패 - refund: {}, 대상: {}", event.refund(), event.sales(), e);
+        }
+    }
+}
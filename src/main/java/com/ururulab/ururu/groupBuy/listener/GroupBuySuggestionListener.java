@@ -0,0 +1,35 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.event.GroupBuyStatusChangedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuySuggestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 오픈 커밋 후 모든 노드의 자동완성 트라이에 추가하도록 알림
+ * 알림 실패 시 다음 주기 재구성(최대 10분)에서 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuySuggestionListener {
+
+    private final GroupBuySuggestionService groupBuySuggestionService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStatusChanged(GroupBuyStatusChangedEvent event) {
+        if (event.status() != GroupBuyStatus.OPEN) {
+            return;
+        }
+
+        try {
+            groupBuySuggestionService.publishOpened(event.groupBuyId());
+        } catch (Exception e) {
+            log.warn("자동완성 오픈 알림 실패 - groupBuyId: {}", event.groupBuyId(), e);
+        }
+    }
+}
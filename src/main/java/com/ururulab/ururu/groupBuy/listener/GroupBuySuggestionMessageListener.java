@@ -0,0 +1,40 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuySuggestionService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis pub/sub으로 전달된 오픈 공동구매를 이 노드의 자동완성 트라이에 추가
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupBuySuggestionMessageListener implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final GroupBuySuggestionService groupBuySuggestionService;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(GroupBuySuggestionService.OPENED_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long groupBuyId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+            groupBuySuggestionService.addOpened(groupBuyId);
+        } catch (Exception e) {
+            log.warn("자동완성 오픈 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.event.GroupBuySalesChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuyStatusChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyTrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 트렌딩 판매량 증분 반영 리스너
+ * 반영 실패는 결제 결과에 영향을 주지 않음 (트렌딩은 최근 판매량 근사치)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyTrendingListener {
+
+    private final GroupBuyTrendingService groupBuyTrendingService;
+
+    /**
+     * 결제 완료 커밋 후 현재 분 버킷에 판매량 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSalesChanged(GroupBuySalesChangedEvent event) {
+        if (!event.hasChanges()) {
+            return;
+        }
+
+        try {
+            groupBuyTrendingService.recordSales(event.quantityDeltas());
+        } catch (Exception e) {
+            log.warn("트렌딩 판매량 반영 실패 - 대상: {}", event.quantityDeltas().keySet(), e);
+        }
+    }
+
+    /**
+     * 배치 종료 커밋 후 종료된 공동구매를 트렌딩에서 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBatchClosed(GroupBuysBatchClosedEvent event) {
+        try {
+            groupBuyTrendingService.remove(event.groupBuyIds());
+        } catch (Exception e) {
+            log.warn("트렌딩 정리 실패 - 대상: {}", event.groupBuyIds(), e);
+        }
+    }
+
+    /**
+     * 단건 종료(재고 소진 등) 커밋 후 트렌딩에서 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStatusChanged(GroupBuyStatusChangedEvent event) {
+        if (event.status() != GroupBuyStatus.CLOSED) {
+            return;
+        }
+
+        try {
+            groupBuyTrendingService.remove(List.of(event.groupBuyId()));
+        } catch (Exception e) {
+            log.warn("트렌딩 정리 실패 - 대상: {}", event.groupBuyId(), e);
+        }
+    }
+}
@@ -1,27 +1,43 @@
 package com.ururulab.ururu.groupBuy.scheduler;
 
+import com.ururulab.ururu.global.scheduling.JobLeaseCoordinator;
 import com.ururulab.ururu.groupBuy.service.GroupBuyBatchCloseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class GroupBuyBatchScheduler {
 
+    // 자정 배치와 매시 점검이 같은 샤드 임대를 사용 (같은 주기에 겹쳐 실행되지 않음)
+    private static final String BATCH_CLOSE_JOB = "groupbuy-batch-close";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(10);
+    private static final Duration MIN_HOLD_TIME = Duration.ofMinutes(1);
+
     private final GroupBuyBatchCloseService batchCloseService;
+    private final JobLeaseCoordinator jobLeaseCoordinator;
+
+    @Value("${groupbuy.batch-close.shard-count:4}")
+    private int shardCount;
 
     /**
      * 매일 자정(00:00)에 만료된 공동구매 배치 종료
+     * 종료 시각 기준 종료는 GroupBuyDeadlineScheduler에서 처리하며, 이 배치는 누락분 정리용
+     * 만료 대상을 ID 구간 샤드로 나누어 여러 노드가 나눠서 처리 (샤드마다 한 노드만 실행)
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void closeExpiredGroupBuysBatch() {
         log.info("Starting daily batch process for expired group buys...");
 
         try {
-            batchCloseService.closeExpiredGroupBuys();
+            closeExpiredShards();
             log.info("Daily batch process completed successfully");
 
         } catch (Exception e) {
@@ -41,11 +57,19 @@ public class GroupBuyBatchScheduler {
         try {
             // 급하게 처리해야 할 케이스가 있다면 여기서 처리
             // 예: 자정 배치에서 누락된 케이스 등
-            batchCloseService.closeExpiredGroupBuys();
+            closeExpiredShards();
 
         } catch (Exception e) {
             log.warn("Hourly health check encountered an issue", e);
             // 헬스체크 실패는 심각하지 않으므로 경고 로그만
         }
     }
+
+    private void closeExpiredShards() {
+        AtomicInteger closedCount = new AtomicInteger();
+        int executedShards = jobLeaseCoordinator.runSharded(BATCH_CLOSE_JOB, shardCount, LEASE_TIME, MIN_HOLD_TIME,
+                (shard, lease) -> closedCount.addAndGet(batchCloseService.closeExpiredGroupBuys(shard, lease)));
+
+        log.info("Batch close ran {} of {} shards on this node - closed: {}", executedShards, shardCount, closedCount.get());
+    }
 }
@@ -0,0 +1,52 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.global.scheduling.ScheduledJobLease;
+import com.ururulab.ururu.groupBuy.service.GroupBuyDeadlineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyDeadlineScheduler {
+
+    private final GroupBuyDeadlineService groupBuyDeadlineService;
+
+    /**
+     * 기동 직후 DB 기준으로 종료 예약 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDeadlines() {
+        rehydrateDeadlines();
+    }
+
+    /**
+     * 1초마다 종료 시각이 지난 공동구매 종료 (인스턴스마다 실행, 항목별로 한 노드만 처리)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void closeDueGroupBuys() {
+        try {
+            groupBuyDeadlineService.closeDueGroupBuys();
+        } catch (Exception e) {
+            log.warn("종료 시각 도래 공동구매 처리 실패", e);
+        }
+    }
+
+    /**
+     * 5분마다 종료 예약 복원 (등록 실패, Redis 유실, 처리 중 장애 대비)
+     * 클러스터 전체에서 한 노드만 실행
+     */
+    @Scheduled(cron = "0 */5 * * * *")
+    @ScheduledJobLease(name = "groupbuy-deadline-rehydrate", leaseTime = "PT2M", minHoldTime = "PT1M")
+    public void rehydrateDeadlines() {
+        try {
+            groupBuyDeadlineService.rehydrate();
+        } catch (Exception e) {
+            log.warn("공동구매 종료 예약 복원 실패", e);
+        }
+    }
+}
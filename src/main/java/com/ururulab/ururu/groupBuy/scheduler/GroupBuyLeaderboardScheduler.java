@@ -0,0 +1,41 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.global.scheduling.ScheduledJobLease;
+import com.ururulab.ururu.groupBuy.service.GroupBuyLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyLeaderboardScheduler {
+
+    private final GroupBuyLeaderboardService groupBuyLeaderboardService;
+
+    /**
+     * 애플리케이션 시작 시 판매량 랭킹 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildLeaderboard();
+    }
+
+    /**
+     * 10분마다 판매량 랭킹 재구성
+     * 증분 반영 누락, 실시간 종료/만료된 공동구매, 새로 오픈한 공동구매를 DB 기준으로 보정
+     * 결과가 Redis에 공유되므로 클러스터 전체에서 한 노드만 실행
+     */
+    @Scheduled(cron = "0 */10 * * * *")
+    @ScheduledJobLease(name = "groupbuy-leaderboard-rebuild", leaseTime = "PT5M", minHoldTime = "PT1M")
+    public void rebuildLeaderboard() {
+        try {
+            groupBuyLeaderboardService.rebuild();
+        } catch (Exception e) {
+            log.warn("판매량 랭킹 재구성 실패", e);
+        }
+    }
+}
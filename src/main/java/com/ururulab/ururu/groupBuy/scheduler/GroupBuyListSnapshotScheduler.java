@@ -0,0 +1,28 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuyListSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyListSnapshotScheduler {
+
+    private final GroupBuyListSnapshotService groupBuyListSnapshotService;
+
+    /**
+     * 10초마다 목록 앞페이지 미리 계산 결과 점검
+     * 판매·종료·상태 변경이 있었던 카테고리만 재계산하고, 전체 재계산은 1분이 지난 경우에만 수행
+     */
+    @Scheduled(cron = "*/10 * * * * *")
+    public void refreshListSnapshots() {
+        try {
+            groupBuyListSnapshotService.refreshIfStale();
+        } catch (Exception e) {
+            log.warn("목록 앞페이지 미리 계산 실패", e);
+        }
+    }
+}
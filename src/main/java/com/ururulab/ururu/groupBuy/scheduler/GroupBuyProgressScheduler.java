@@ -0,0 +1,40 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuyProgressService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyProgressScheduler {
+
+    private final GroupBuyProgressService groupBuyProgressService;
+
+    /**
+     * 0.5초마다 변경된 공동구매 진행 현황을 모아서 발행
+     * 같은 공동구매의 여러 결제는 한 번의 전송으로 합쳐짐
+     */
+    @Scheduled(fixedDelay = 500)
+    public void publishProgressChanges() {
+        try {
+            groupBuyProgressService.publishChanges();
+        } catch (Exception e) {
+            log.warn("진행 현황 발행 실패", e);
+        }
+    }
+
+    /**
+     * 20초마다 SSE 연결 유지용 heartbeat 전송
+     */
+    @Scheduled(cron = "*/20 * * * * *")
+    public void sendHeartbeat() {
+        try {
+            groupBuyProgressService.sendHeartbeat();
+        } catch (Exception e) {
+            log.warn("진행 현황 heartbeat 전송 실패", e);
+        }
+    }
+}
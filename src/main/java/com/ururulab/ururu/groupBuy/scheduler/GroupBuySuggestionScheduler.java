@@ -0,0 +1,38 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuySuggestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuySuggestionScheduler {
+
+    private final GroupBuySuggestionService groupBuySuggestionService;
+
+    /**
+     * 기동 직후 자동완성 트라이 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSuggestions() {
+        refreshSuggestions();
+    }
+
+    /**
+     * 30초마다 자동완성 트라이 점검 (인스턴스마다 실행)
+     * 종료 등으로 자동완성 버전이 바뀌었거나 10분이 지난 경우에만 재구성 (오픈은 즉시 추가)
+     */
+    @Scheduled(cron = "*/30 * * * * *")
+    public void refreshSuggestions() {
+        try {
+            groupBuySuggestionService.rebuildIfStale();
+        } catch (Exception e) {
+            log.warn("자동완성 트라이 재구성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuyTrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyTrendingScheduler {
+
+    private final GroupBuyTrendingService groupBuyTrendingService;
+
+    /**
+     * 매분 트렌딩 윈도우 이동
+     * 윈도우를 벗어난 분 단위 버킷을 합계에서 차감 (여러 인스턴스에서 실행되어도 버킷당 한 번만 차감)
+     */
+    @Scheduled(cron = "0 * * * * *")
+    public void slideTrendingWindow() {
+        try {
+            groupBuyTrendingService.slideWindow();
+        } catch (Exception e) {
+            log.warn("트렌딩 윈도우 이동 실패", e);
+        }
+    }
+}
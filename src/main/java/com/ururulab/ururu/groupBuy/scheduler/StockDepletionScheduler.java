@@ -0,0 +1,28 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.StockDepletionProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockDepletionScheduler {
+
+    private final StockDepletionProcessor stockDepletionProcessor;
+
+    /**
+     * 0.2초마다 재고 소진 공동구매를 모아서 종료 처리
+     * 같은 공동구매에 대한 여러 결제의 소진 이벤트는 한 번의 확인으로 합쳐짐
+     */
+    @Scheduled(fixedDelay = 200)
+    public void processStockDepletions() {
+        try {
+            stockDepletionProcessor.drain();
+        } catch (Exception e) {
+            log.warn("재고 소진 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.global.scheduling.JobFence;
+import com.ururulab.ururu.global.scheduling.JobLease;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyStatistics;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyStatisticsRepository;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 만료된 공동구매 한 청크 종료 (청크당 하나의 트랜잭션)
+ * - 쓰기 전에 같은 트랜잭션에서 임대의 펜싱 토큰을 확인 (임대 만료 후 재개된 노드의 쓰기 거부)
+ * - 대상 행을 잠근 뒤 상태를 다시 확인하므로 실시간 종료와 겹쳐도 한 번만 종료
+ * - 통계는 다중 행 INSERT, 상태와 최종 판매가는 집합 UPDATE로 반영 (옵션 엔티티 로딩 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyBatchCloseChunkService {
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuyStatisticsRepository groupBuyStatisticsRepository;
+    private final GroupBuyStatisticsCalculatorService statisticsCalculatorService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobFence jobFence;
+
+    /**
+     * 청크 종료 처리
+     * @param groupBuyIds 만료된 공동구매 ID
+     * @param currentTime 만료 기준 시각
+     * @param lease 배치 종료 작업 임대
+     * @return 이번 청크에서 종료한 공동구매 ID
+     * @throws com.ururulab.ururu.global.scheduling.StaleJobLeaseException 더 큰 펜싱 토큰의 보유자가 있는 경우
+     */
+    @Transactional
+    public List<Long> closeChunk(List<Long> groupBuyIds, Instant currentTime, JobLease lease) {
+        jobFence.check(lease);
+
+        List<GroupBuy> groupBuys = groupBuyRepository.findExpiredForUpdate(groupBuyIds, currentTime);
+        if (groupBuys.isEmpty()) {
+            return List.of();
+        }
+
+        List<GroupBuyStatistics> statisticsList = statisticsCalculatorService.calculateBatchStatistics(groupBuys);
+        List<Long> closedGroupBuyIds = groupBuys.stream()
+                .map(GroupBuy::getId)
+                .toList();
+
+        // 잠근 행만 대상이므로 전부 반영되어야 함 - 아니면 통계 중복을 막기 위해 청크 롤백
+        int updated = groupBuyRepository.updateStatusOfOpen(closedGroupBuyIds, GroupBuyStatus.CLOSED, Instant.now());
+        if (updated != closedGroupBuyIds.size()) {
+            throw new IllegalStateException("Group buy status changed during batch close: expected "
+                    + closedGroupBuyIds.size() + ", updated " + updated);
+        }
+        groupBuyStatisticsRepository.insertAll(statisticsList);
+        applyFinalSalePrices(statisticsList);
+
+        eventPublisher.publishEvent(new GroupBuysBatchClosedEvent(closedGroupBuyIds));
+        return closedGroupBuyIds;
+    }
+
+    /**
+     * 최종 할인율이 같은 공동구매끼리 묶어 할인율마다 한 번의 UPDATE로 판매가 반영
+     */
+    private void applyFinalSalePrices(List<GroupBuyStatistics> statisticsList) {
+        Map<Integer, List<Long>> groupBuyIdsByRate = statisticsList.stream()
+                .filter(statistics -> statistics.getFinalDiscountRate() > 0)
+                .collect(Collectors.groupingBy(
+                        GroupBuyStatistics::getFinalDiscountRate,
+                        Collectors.mapping(statistics -> statistics.getGroupBuy().getId(), Collectors.toList())
+                ));
+
+        groupBuyIdsByRate.forEach((discountRate, groupBuyIds) -> {
+            int updated = groupBuyOptionRepository.applyFinalDiscountRate(groupBuyIds, discountRate);
+            log.debug("Applied final discount {}% to {} options of {} group buys",
+                    discountRate, updated, groupBuyIds.size());
+        });
+    }
+}
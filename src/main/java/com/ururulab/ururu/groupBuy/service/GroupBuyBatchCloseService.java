@@ -1,16 +1,14 @@
 package com.ururulab.ururu.groupBuy.service;
 
-import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
-import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyStatistics;
-import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.global.scheduling.JobLease;
+import com.ururulab.ururu.global.scheduling.JobShard;
+import com.ururulab.ururu.global.scheduling.StaleJobLeaseException;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
-import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyStatisticsRepository;
-import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
@@ -18,96 +16,76 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class GroupBuyBatchCloseService {
 
     private final GroupBuyRepository groupBuyRepository;
-    private final GroupBuyStatisticsRepository groupBuyStatisticsRepository;
-    private final GroupBuyStatisticsCalculatorService statisticsCalculatorService;
-    private final GroupBuyPriceService groupBuyPriceService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final GroupBuyBatchCloseChunkService groupBuyBatchCloseChunkService;
+
+    @Value("${groupbuy.batch-close.chunk-size:200}")
+    private int chunkSize;
 
     /**
-     * 만료된 공동구매들을 배치로 종료 처리
-     * 매일 자정에 실행되는 스케줄러에서 호출
+     * 만료된 공동구매 중 샤드가 맡은 ID 구간을 청크 단위로 종료 처리
+     * 청크마다 별도 트랜잭션으로 처리하며, 실패한 청크는 건너뛰고 다음 실행에서 다시 처리
+     * 구간은 노드마다 실행 시점의 만료 대상으로 계산하므로 샤드 간에 겹칠 수 있음 - 행 잠금 후 상태를 다시 확인하므로 한 번만 종료
+     *
+     * @param shard 이 실행이 맡은 샤드
+     * @param lease 샤드 임대 (청크마다 펜싱 토큰 확인)
+     * @return 종료한 공동구매 수
      */
-    public void closeExpiredGroupBuys() {
-        log.info("Starting batch closure process for expired group buys...");
-
+    public int closeExpiredGroupBuys(JobShard shard, JobLease lease) {
         Instant currentTime = Instant.now();
 
-        // 만료된 공동구매들 조회 (필요한 연관 엔티티 한번에 페치)
-        List<GroupBuy> expiredGroupBuys = groupBuyRepository.findExpiredGroupBuys(currentTime);
-
-        if (expiredGroupBuys.isEmpty()) {
+        List<Object[]> range = groupBuyRepository.findExpiredGroupBuyIdRange(currentTime);
+        if (range.isEmpty() || range.get(0)[0] == null) {
             log.info("No expired group buys found at {}", currentTime);
-            return;
-        }
-
-        log.info("Found {} expired group buys to close", expiredGroupBuys.size());
-
-        try {
-            // 배치로 통계 계산
-            List<GroupBuyStatistics> statisticsList = statisticsCalculatorService
-                    .calculateBatchStatistics(expiredGroupBuys);
-
-            updateGroupBuyStatusesAndPrices(expiredGroupBuys, statisticsList);
-
-            // 통계 일괄 저장
-            groupBuyStatisticsRepository.saveAll(statisticsList);
-
-            // 성공적으로 처리된 공동구매 ID 목록
-            List<Long> closedGroupBuyIds = expiredGroupBuys.stream()
-                    .map(GroupBuy::getId)
-                    .toList();
-
-            log.info("Successfully closed {} group buys: {}",
-                    closedGroupBuyIds.size(), closedGroupBuyIds);
-
-            // 배치 종료 이벤트 발행
-            eventPublisher.publishEvent(new GroupBuysBatchClosedEvent(closedGroupBuyIds));
-
-        } catch (Exception e) {
-            log.error("Failed to process batch closure for expired group buys", e);
-            throw e; // 트랜잭션 롤백을 위해 예외 재발생
+            return 0;
         }
-    }
-
-    /**
-     * 공동구매 상태 업데이트 및 최종 가격 적용
-     * @param groupBuys
-     * @param statisticsList
-     */
-    private void updateGroupBuyStatusesAndPrices(List<GroupBuy> groupBuys,
-                                                 List<GroupBuyStatistics> statisticsList) {
+        long minId = (Long) range.get(0)[0];
+        long maxId = (Long) range.get(0)[1];
+        long lowerId = shard.lowerBound(minId, maxId);
+        long upperId = shard.upperBound(minId, maxId);
+
+        log.info("Starting batch closure process for expired group buys - shard: {}/{}, ids: [{}, {})",
+                shard.index(), shard.count(), lowerId, upperId);
+
+        long startTime = System.currentTimeMillis();
+        long lastId = lowerId - 1;
+        int closedCount = 0;
+        int failedChunks = 0;
+
+        while (true) {
+            // 임대를 잃었으면 다른 노드가 이어서 처리하도록 중단
+            if (!lease.isHeld()) {
+                log.warn("Job lease lost - stopping batch closure after group buy {}", lastId);
+                break;
+            }
 
-        for (int i = 0; i < groupBuys.size(); i++) {
-            GroupBuy groupBuy = groupBuys.get(i);
-            GroupBuyStatistics statistics = statisticsList.get(i);
+            List<Long> groupBuyIds = groupBuyRepository.findExpiredGroupBuyIds(
+                    currentTime, lastId, upperId, PageRequest.of(0, chunkSize));
+            if (groupBuyIds.isEmpty()) {
+                break;
+            }
+            lastId = groupBuyIds.get(groupBuyIds.size() - 1);
 
             try {
-                // 상태를 CLOSED로 변경
-                groupBuy.updateStatus(GroupBuyStatus.CLOSED);
-
-                // 최종 할인율이 있으면 최종 판매가 업데이트
-                if (statistics.getFinalDiscountRate() > 0) {
-                    groupBuyPriceService.updateFinalSalePrices(
-                            groupBuy,
-                            statistics.getFinalDiscountRate()
-                    );
-                }
-
-                log.debug("Updated group buy {}: status=CLOSED, discount={}%, status={}",
-                        groupBuy.getId(), statistics.getFinalDiscountRate(),
-                        statistics.getFinalStatus());
-
+                closedCount += groupBuyBatchCloseChunkService.closeChunk(groupBuyIds, currentTime, lease).size();
+            } catch (StaleJobLeaseException e) {
+                // 새 보유자가 이미 쓰기를 시작함 - 청크는 롤백되었으므로 새 보유자가 처리
+                log.warn("Job lease fenced out - stopping batch closure at group buy {}", groupBuyIds.get(0));
+                break;
             } catch (Exception e) {
-                log.error("Failed to update group buy {}", groupBuy.getId(), e);
-                // 개별 실패는 전체 배치에 영향주지 않음 (로그만 남기고 계속 진행)
+                failedChunks++;
+                log.error("Failed to close group buy chunk: {} ~ {}", groupBuyIds.get(0), lastId, e);
+            }
+
+            if (groupBuyIds.size() < chunkSize) {
+                break;
             }
         }
 
-        // 변경된 GroupBuy들을 일괄 저장
-        groupBuyRepository.saveAll(groupBuys);
+        log.info("Closed {} expired group buys in {}ms - shard: {}/{} (failed chunks: {})",
+                closedCount, System.currentTimeMillis() - startTime, shard.index(), shard.count(), failedChunks);
+        return closedCount;
     }
 }
@@ -0,0 +1,113 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.global.util.ETagUtils;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 공동구매 조회 API의 조건부 GET(ETag) 버전 관리
+ * - 상세: 공동구매/옵션/이미지의 수정 시각과 판매량·재고 합계로 계산 (응답 조립 없이 집계 쿼리 1회)
+ * - 목록/메인 랭킹: 세대(generation) 카운터와 요청 값으로 계산하여 응답 조립 전에 304 판단
+ *   종료 시각 경과, 트렌딩 윈도우 이동, 서버 캐시/스냅샷 갱신처럼 이벤트 없이 바뀌는 응답을 위해 1분 단위 시간 구간을 함께 반영
+ *   세대를 조회할 수 없으면 반환할 응답 값으로 계산 (조회 비용은 절약되지 않고 전송량만 절약)
+ * - 세대 값은 목록 스냅샷 계산 결과에도 기록 (재계산 대상은 변경된 공동구매로 판단)
+ * - 자동완성 버전은 공개 여부(상태) 변경 시에만 증가 (판매로는 바뀌지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class GroupBuyCatalogVersionService {
+
+    private static final String GENERATION_KEY = "groupbuy:catalog:generation";
+    private static final String SUGGESTION_VERSION_KEY = "groupbuy:suggestion:version";
+    private static final long TIME_BUCKET_SECONDS = 60;
+
+    private final StringRedisTemplate redisTemplate;
+    private final GroupBuyRepository groupBuyRepository;
+
+    /**
+     * 카탈로그 세대 증가 (커밋 이후 호출)
+     */
+    public void bumpGeneration() {
+        Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY);
+        log.debug("공동구매 카탈로그 세대 증가 - generation: {}", generation);
+    }
+
+    /**
+     * 현재 목록/랭킹 세대
+     * @return 세대 값, 한 번도 증가하지 않았으면 "0"
+     */
+    public String getGeneration() {
+        String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+        return generation != null ? generation : "0";
+    }
+
+    /**
+     * 자동완성 후보 버전 증가 - 공개 공동구매 집합이 바뀐 커밋 이후 호출
+     */
+    public void bumpSuggestionVersion() {
+        redisTemplate.opsForValue().increment(SUGGESTION_VERSION_KEY);
+    }
+
+    /**
+     * 현재 자동완성 후보 버전
+     * @return 버전 값, 한 번도 증가하지 않았으면 "0"
+     */
+    public String getSuggestionVersion() {
+        String version = redisTemplate.opsForValue().get(SUGGESTION_VERSION_KEY);
+        return version != null ? version : "0";
+    }
+
+    /**
+     * 목록/메인 랭킹 ETag - 응답을 조립하기 전에 세대와 요청 값으로 계산
+     * @param scope 엔드포인트 구분자
+     * @param requestParts 응답을 결정하는 요청 값 (쿼리 파라미터 등)
+     * @return ETag, 세대 조회 실패 시 null (응답 값 기반 ETag로 대체)
+     */
+    public String getCatalogETag(String scope, Object... requestParts) {
+        String generation;
+        try {
+            generation = getGeneration();
+        } catch (Exception e) {
+            log.warn("공동구매 카탈로그 세대 조회 실패 - scope: {}", scope, e);
+            return null;
+        }
+
+        long timeBucket = Instant.now().getEpochSecond() / TIME_BUCKET_SECONDS;
+        return ETagUtils.weakETag("catalog", scope, generation, timeBucket, Arrays.deepToString(requestParts));
+    }
+
+    /**
+     * 목록/메인 랭킹 대체 ETag - 세대를 조회할 수 없을 때 반환할 응답 값(record의 모든 필드)으로 계산
+     * @param scope 엔드포인트 구분자
+     * @param response 반환할 응답 본문
+     * @return ETag
+     */
+    public String getResponseETag(String scope, Object response) {
+        return ETagUtils.weakETag("catalog", scope, response);
+    }
+
+    /**
+     * 공개 공동구매 상세 ETag
+     * @param groupBuyId 공동구매 ID
+     * @return ETag, 공개 공동구매가 아니면 null (상세 조회에서 404 처리)
+     */
+    public String getDetailETag(Long groupBuyId) {
+        List<Object[]> rows = groupBuyRepository.findPublicDetailVersion(groupBuyId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        Object[] versionParts = rows.get(0);
+        return ETagUtils.weakETag("detail", groupBuyId, Arrays.deepToString(versionParts));
+    }
+}
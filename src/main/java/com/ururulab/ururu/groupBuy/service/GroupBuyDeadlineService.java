@@ -0,0 +1,134 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공동구매 종료 예약 (Redis 지연 큐)
+ * - 진행 중인 공동구매를 종료 시각(score)과 함께 Sorted Set에 등록
+ * - 각 노드가 1초마다 종료 시각이 지난 항목을 Lua 스크립트로 꺼내므로(조회+삭제 원자적) 노드 수와 관계없이 한 번만 종료
+ * - 기동 시와 주기적으로 DB의 진행 중인 공동구매로 다시 채워 재시작/Redis 유실/처리 중 장애에도 누락 없음
+ * - 자정/매시 배치 종료(GroupBuyBatchScheduler)는 Redis 장애 시의 안전망
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupBuyDeadlineService {
+
+    private static final String CLOSE_QUEUE_KEY = "groupbuy:deadline:close";
+    // 한 번에 꺼낼 최대 개수 (남으면 다음 주기에 이어서 처리)
+    private static final int MAX_CLAIM_SIZE = 100;
+    // 종료 처리 실패 시 재시도 지연
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private static final String CLAIM_SCRIPT = """
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            if #ids > 0 then
+                redis.call('ZREM', KEYS[1], unpack(ids))
+            end
+            return ids
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> claimScript = new DefaultRedisScript<>(CLAIM_SCRIPT, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyRealtimeCloseService groupBuyRealtimeCloseService;
+
+    /**
+     * 진행 중인 공동구매의 종료 예약 (OPEN 전환 커밋 후 호출)
+     * 진행 중이 아니면 무시
+     */
+    public void scheduleClose(Long groupBuyId) {
+        groupBuyRepository.findOpenEndsAtById(groupBuyId)
+                .ifPresent(endsAt -> scheduleClose(groupBuyId, endsAt));
+    }
+
+    public void scheduleClose(Long groupBuyId, Instant endsAt) {
+        redisTemplate.opsForZSet().add(CLOSE_QUEUE_KEY, String.valueOf(groupBuyId), endsAt.toEpochMilli());
+    }
+
+    /**
+     * 종료 예약 취소 (재고 소진 등으로 먼저 종료된 경우)
+     */
+    public void cancel(Collection<Long> groupBuyIds) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(CLOSE_QUEUE_KEY,
+                groupBuyIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * 종료 시각이 지난 공동구매를 꺼내 종료 처리
+     * 꺼낸 항목은 다른 노드에서 다시 꺼낼 수 없으므로 실패한 항목만 재시도 예약
+     *
+     * @return 이번 호출로 종료한 공동구매 수
+     */
+    public int closeDueGroupBuys() {
+        int closedCount = 0;
+
+        for (Long groupBuyId : claimDue(Instant.now())) {
+            try {
+                if (groupBuyRealtimeCloseService.closeIfExpired(groupBuyId)) {
+                    closedCount++;
+                }
+            } catch (Exception e) {
+                log.error("종료 시각 도래 공동구매 종료 실패 - groupBuyId: {}", groupBuyId, e);
+                scheduleClose(groupBuyId, Instant.now().plus(RETRY_DELAY));
+            }
+        }
+
+        if (closedCount > 0) {
+            log.info("종료 시각 도래로 공동구매 {}건 종료", closedCount);
+        }
+        return closedCount;
+    }
+
+    /**
+     * DB의 진행 중인 공동구매로 종료 예약 복원
+     * 이미 등록된 항목은 같은 score로 덮어쓰므로 여러 노드가 동시에 실행해도 무방
+     */
+    public void rehydrate() {
+        List<Object[]> deadlines = groupBuyRepository.findOpenDeadlines();
+        if (deadlines.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (Object[] row : deadlines) {
+            tuples.add(new DefaultTypedTuple<>(
+                    String.valueOf(row[0]), (double) ((Instant) row[1]).toEpochMilli()));
+        }
+        redisTemplate.opsForZSet().add(CLOSE_QUEUE_KEY, tuples);
+
+        log.debug("공동구매 종료 예약 복원 - {}건", tuples.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> claimDue(Instant now) {
+        List<Object> claimed = redisTemplate.execute(claimScript, List.of(CLOSE_QUEUE_KEY),
+                String.valueOf(now.toEpochMilli()), String.valueOf(MAX_CLAIM_SIZE));
+        if (claimed == null || claimed.isEmpty()) {
+            return List.of();
+        }
+
+        return claimed.stream()
+                .map(id -> Long.valueOf(id.toString()))
+                .toList();
+    }
+}
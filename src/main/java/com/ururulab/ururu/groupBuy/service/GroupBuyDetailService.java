@@ -1,12 +1,16 @@
 package com.ururulab.ururu.groupBuy.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.util.ETagUtils;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyImage;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyDetailResponse;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyOptionInfoResponse;
 import com.ururulab.ururu.groupBuy.service.validation.GroupBuyValidator;
 import com.ururulab.ururu.seller.domain.repository.SellerRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +18,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,6 +33,16 @@ import static com.ururulab.ururu.global.exception.error.ErrorCode.*;
 @Transactional(readOnly = true)
 public class GroupBuyDetailService {
 
+    private static final int STATIC_DETAIL_CACHE_SIZE = 2_000;
+    private static final Duration STATIC_DETAIL_CACHE_TTL = Duration.ofMinutes(10);
+
+    // 구매자용 상세의 정적 부분 (공동구매 ID + 정적 버전 키)
+    // 같은 키의 동시 미스는 한 요청만 조회하고 나머지는 결과를 기다림
+    private final Cache<String, GroupBuyDetailResponse> staticDetails = Caffeine.newBuilder()
+            .maximumSize(STATIC_DETAIL_CACHE_SIZE)
+            .expireAfterAccess(STATIC_DETAIL_CACHE_TTL)
+            .build();
+
     private final GroupBuyRepository groupBuyRepository;
     private final GroupBuyOptionRepository groupBuyOptionRepository;
     private final SellerRepository sellerRepository;
@@ -71,18 +88,36 @@ public class GroupBuyDetailService {
 
     /**
      * 공동구매 상세 조회 (구매자용 - DRAFT 제외)
+     * - 상품/옵션/이미지/할인 단계 등 정적 부분은 수정 시각 기반 버전으로 캐시 (판매자 수정 시 버전 변경)
+     * - 옵션 재고와 총 판매량은 매 요청 조회하여 병합
      */
     public GroupBuyDetailResponse getPublicGroupBuyDetail(Long groupBuyId) {
-        // 1번 쿼리: 메인 데이터 (DRAFT 제외)
+        // 1번 쿼리: 옵션별 재고 + 정적 부분 버전
+        List<Object[]> stateRows = groupBuyOptionRepository.findPublicDetailState(groupBuyId);
+        if (stateRows.isEmpty()) {
+            throw new BusinessException(GROUPBUY_NOT_FOUND, groupBuyId);
+        }
+
+        String cacheKey = groupBuyId + ":" + buildStaticVersion(stateRows);
+        GroupBuyDetailResponse staticDetail = staticDetails.get(cacheKey, key -> loadPublicGroupBuyDetail(groupBuyId));
+
+        return mergeStocks(staticDetail, stateRows);
+    }
+
+    /**
+     * 구매자용 상세 전체 조회 (상세 캐시 미스 시)
+     */
+    private GroupBuyDetailResponse loadPublicGroupBuyDetail(Long groupBuyId) {
+        // 메인 데이터 (DRAFT 제외)
         GroupBuy groupBuy = groupBuyRepository.findPublicGroupBuyWithDetails(groupBuyId)
                 .orElseThrow(() -> new BusinessException(GROUPBUY_NOT_FOUND, groupBuyId));
 
-        // 2번 쿼리: 이미지
+        // 이미지
         List<GroupBuyImage> images = groupBuyRepository.findByIdWithImages(groupBuyId)
                 .map(this::extractAndSortImages)
                 .orElse(List.of());
 
-        // 3번 쿼리: 옵션
+        // 옵션
         List<GroupBuyOption> options = groupBuyOptionRepository.findAllByGroupBuy(groupBuy);
 
         // 현재 재고는 옵션에서 직접 조회
@@ -91,9 +126,44 @@ public class GroupBuyDetailService {
         // initialStock 기반 총 판매량 조회
         Integer currentOrderCount = groupBuyOptionRepository.getTotalSoldQuantityByGroupBuyId(groupBuyId);
 
+        log.debug("Loaded public group buy detail - ID: {}, options: {}, images: {}",
+                groupBuyId, options.size(), images.size());
+
         return GroupBuyDetailResponse.from(groupBuy, options, images, currentStocks, currentOrderCount);
     }
 
+    /**
+     * 정적 부분 버전 - 공동구매/상품/옵션/상품옵션/이미지 수정 시각과 이미지 수
+     * 재고 차감/복구는 벌크 업데이트라 수정 시각이 바뀌지 않으므로 판매로는 버전이 바뀌지 않음
+     */
+    private String buildStaticVersion(List<Object[]> stateRows) {
+        Object[] versionParts = stateRows.stream()
+                .map(row -> Arrays.asList(row[0], row[3], row[4], row[5], row[6], row[7], row[8]))
+                .toArray();
+        return ETagUtils.weakETag(Arrays.deepToString(versionParts));
+    }
+
+    /**
+     * 캐시된 정적 부분에 최신 옵션 재고와 총 판매량 병합
+     */
+    private GroupBuyDetailResponse mergeStocks(GroupBuyDetailResponse staticDetail, List<Object[]> stateRows) {
+        Map<Long, Object[]> rowsByOptionId = new HashMap<>();
+        int currentOrderCount = 0;
+        for (Object[] row : stateRows) {
+            rowsByOptionId.put((Long) row[0], row);
+            currentOrderCount += (Integer) row[2] - (Integer) row[1];
+        }
+
+        List<GroupBuyOptionInfoResponse> options = staticDetail.options().stream()
+                .map(option -> {
+                    Object[] row = rowsByOptionId.get(option.id());
+                    return row != null ? option.withStock((Integer) row[2], (Integer) row[1]) : option;
+                })
+                .toList();
+
+        return staticDetail.withStocks(options, currentOrderCount);
+    }
+
     /**
      * 공동구매 기본 정보만 조회 (연관 데이터 없이)
      * 간단한 정보만 필요한 경우 사용
@@ -0,0 +1,74 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.service.discount.DiscountTierTable;
+import com.ururulab.ururu.groupBuy.util.DiscountStageParser;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 공동구매 할인 단계 표 캐시
+ * - discountStages JSON을 공동구매별로 한 번만 파싱하여 DiscountTierTable로 컴파일
+ * - 버전은 할인 단계 원문으로 확인하여 판매자가 수정하면 다음 조회 시 다시 컴파일
+ * - 할인율 계산(통계, 가격 갱신, 주문 내역, AI 추천, 진행 현황)은 모두 이 표를 사용
+ */
+@Service
+public class GroupBuyDiscountTierService {
+
+    private static final int MAX_CACHED_TABLES = 10_000;
+    private static final Duration CACHE_TTL = Duration.ofHours(1);
+
+    private final Cache<Long, CompiledTiers> tables = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_TABLES)
+            .expireAfterAccess(CACHE_TTL)
+            .build();
+
+    /**
+     * 공동구매의 할인 단계 표
+     * @throws com.ururulab.ururu.global.exception.BusinessException 할인 단계 JSON 파싱 실패 시
+     */
+    public DiscountTierTable getTable(GroupBuy groupBuy) {
+        return getTable(groupBuy.getId(), groupBuy.getDiscountStages());
+    }
+
+    /**
+     * 공동구매 ID와 할인 단계 원문으로 표 조회 (엔티티 없이 조회한 경우)
+     * @param groupBuyId 공동구매 ID (저장 전이면 null - 캐시하지 않음)
+     * @param discountStagesJson 할인 단계 JSON
+     */
+    public DiscountTierTable getTable(Long groupBuyId, String discountStagesJson) {
+        if (groupBuyId == null) {
+            return compile(discountStagesJson);
+        }
+
+        CompiledTiers cached = tables.getIfPresent(groupBuyId);
+        if (cached != null && cached.matches(discountStagesJson)) {
+            return cached.table();
+        }
+
+        DiscountTierTable table = compile(discountStagesJson);
+        tables.put(groupBuyId, new CompiledTiers(discountStagesJson, table));
+        return table;
+    }
+
+    /**
+     * 판매량에 적용되는 할인율
+     */
+    public int getDiscountRate(GroupBuy groupBuy, int soldQuantity) {
+        return getTable(groupBuy).discountRateFor(soldQuantity);
+    }
+
+    private DiscountTierTable compile(String discountStagesJson) {
+        return DiscountTierTable.compile(DiscountStageParser.parseDiscountStages(discountStagesJson));
+    }
+
+    private record CompiledTiers(String source, DiscountTierTable table) {
+
+        private boolean matches(String discountStagesJson) {
+            return source == null ? discountStagesJson == null : source.equals(discountStagesJson);
+        }
+    }
+}
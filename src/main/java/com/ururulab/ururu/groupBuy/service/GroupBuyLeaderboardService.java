@@ -0,0 +1,288 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis Sorted Set 기반 공동구매 판매량 랭킹
+ * - 전체 랭킹 1개 + 카테고리별 랭킹 (score = 판매량, member = 공동구매 ID)
+ * - 결제 완료/환불 커밋 이후 증감분만 반영 (ZINCRBY), 새로 오픈한 공동구매는 오픈 커밋 이후 바로 추가
+ * - 상위 N개 조회는 ZREVRANGE로 O(log N + N)
+ * - 종료/누락 데이터는 주기적 재구성(rebuild)으로 DB와 맞춤
+ * - 재구성 중 증감된 공동구매는 재구성 ID별 변경 키에 기록하고, 교체 시 DB 스냅샷 대신 실시간 점수를 유지
+ *   (스냅샷에 이미 포함된 증감분을 다시 더하지 않으므로 중복 반영 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupBuyLeaderboardService {
+
+    private static final String GLOBAL_KEY = "groupbuy:ranking:sales";
+    private static final String CATEGORY_KEY_PREFIX = "groupbuy:ranking:sales:category:";
+    private static final String CATEGORY_INDEX_KEY = "groupbuy:ranking:sales:categories";
+    private static final String REBUILD_KEY_SUFFIX = ":rebuild";
+    // 진행 중인 재구성 ID (값), 재구성이 비정상 종료되어도 만료
+    private static final String REBUILD_MARKER_KEY = "groupbuy:ranking:sales:rebuilding";
+    private static final String TOUCHED_KEY_INFIX = ":touched:";
+    private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(10);
+
+    // KEYS[1]=랭킹 키, KEYS[2]=재구성 키, KEYS[3]=변경 키
+    // 재구성 중 증감된 공동구매는 실시간 점수로 덮어쓴 뒤(그 사이 제거되었으면 제외) 랭킹 키를 원자적으로 교체
+    private static final String SWAP_SCRIPT = """
+            local touched = redis.call('SMEMBERS', KEYS[3])
+            for i = 1, #touched do
+                local live = redis.call('ZSCORE', KEYS[1], touched[i])
+                if live then
+                    redis.call('ZADD', KEYS[2], live, touched[i])
+                else
+                    redis.call('ZREM', KEYS[2], touched[i])
+                end
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('RENAME', KEYS[2], KEYS[1])
+            else
+                redis.call('DEL', KEYS[1])
+            end
+            redis.call('DEL', KEYS[3])
+            return redis.call('ZCARD', KEYS[1])
+            """;
+
+    private final DefaultRedisScript<Long> swapScript = new DefaultRedisScript<>(SWAP_SCRIPT, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final GroupBuyRepository groupBuyRepository;
+
+    /**
+     * 판매량 증감분 반영
+     * OPEN 상태인 공동구매만 전체/카테고리 랭킹에 반영
+     *
+     * @param quantityDeltas 공동구매 ID별 판매량 증감 (환불은 음수)
+     */
+    @Transactional(readOnly = true)
+    public void applySalesDeltas(Map<Long, Integer> quantityDeltas) {
+        if (quantityDeltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> categoryIdsByGroupBuyId = new HashMap<>();
+        for (Object[] row : groupBuyRepository.findCategoryIdsOfPublicGroupBuys(quantityDeltas.keySet())) {
+            categoryIdsByGroupBuyId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        // 재구성 중이면 교체 시 스냅샷 점수로 덮어쓰지 않도록 변경 키에 기록
+        String rebuildId = redisTemplate.opsForValue().get(REBUILD_MARKER_KEY);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            categoryIdsByGroupBuyId.forEach((groupBuyId, categoryIds) -> {
+                String member = groupBuyId.toString();
+                double delta = quantityDeltas.get(groupBuyId);
+
+                incrementScore(stringConnection, GLOBAL_KEY, rebuildId, member, delta);
+                for (Long categoryId : categoryIds) {
+                    incrementScore(stringConnection, buildCategoryKey(categoryId), rebuildId, member, delta);
+                    stringConnection.sAdd(CATEGORY_INDEX_KEY, categoryId.toString());
+                }
+            });
+            return null;
+        });
+
+        log.debug("판매량 랭킹 반영 - 대상 공동구매: {}", categoryIdsByGroupBuyId.keySet());
+    }
+
+    /**
+     * 새로 오픈한 공동구매를 현재 판매량으로 전체/카테고리 랭킹에 추가
+     * 다음 재구성을 기다리지 않고 바로 랭킹 후보가 되도록 함
+     * 이미 있는 경우(그 사이 판매 반영 등)는 기존 점수 유지
+     *
+     * @param groupBuyIds 오픈한 공동구매 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public void addOpened(Collection<Long> groupBuyIds) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = groupBuyRepository.findPublicSalesWithCategoriesByIds(groupBuyIds);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // 재구성 중이면 스냅샷에 빠졌을 수 있으므로 교체 시 실시간 점수가 유지되도록 변경 키에 기록
+        String rebuildId = redisTemplate.opsForValue().get(REBUILD_MARKER_KEY);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            for (Object[] row : rows) {
+                String member = row[0].toString();
+                double soldQuantity = ((Integer) row[1]).doubleValue();
+                Long categoryId = (Long) row[2];
+
+                addIfAbsent(stringConnection, GLOBAL_KEY, rebuildId, member, soldQuantity);
+                addIfAbsent(stringConnection, buildCategoryKey(categoryId), rebuildId, member, soldQuantity);
+                stringConnection.sAdd(CATEGORY_INDEX_KEY, categoryId.toString());
+            }
+            return null;
+        });
+
+        log.debug("판매량 랭킹에 오픈 공동구매 추가 - 대상: {}", groupBuyIds);
+    }
+
+    /**
+     * 판매량 상위 공동구매 ID 조회
+     *
+     * @param categoryId 카테고리 ID (null이면 전체 랭킹)
+     * @param count 조회 개수
+     * @return 판매량 내림차순 공동구매 ID 목록
+     */
+    public List<Long> getTopGroupBuyIds(Long categoryId, int count) {
+        String key = categoryId != null ? buildCategoryKey(categoryId) : GLOBAL_KEY;
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key, 0, count - 1L);
+
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        return members.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * 랭킹에서 공동구매 제거 (종료/만료 시)
+     *
+     * @param groupBuyIds 제거할 공동구매 ID 목록
+     */
+    public void remove(Collection<Long> groupBuyIds) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+
+        Object[] members = groupBuyIds.stream()
+                .map(String::valueOf)
+                .toArray();
+        Set<String> categoryIds = redisTemplate.opsForSet().members(CATEGORY_INDEX_KEY);
+
+        redisTemplate.opsForZSet().remove(GLOBAL_KEY, members);
+        if (categoryIds != null) {
+            categoryIds.forEach(categoryId ->
+                    redisTemplate.opsForZSet().remove(CATEGORY_KEY_PREFIX + categoryId, members));
+        }
+
+        log.debug("판매량 랭킹에서 제거 - 공동구매: {}", groupBuyIds);
+    }
+
+    /**
+     * DB의 판매량(soldQuantity) 기준으로 랭킹 전체 재구성
+     * 임시 키에 적재 후 교체하여 조회 중에도 빈 랭킹이 노출되지 않음
+     * DB 조회 전에 재구성 ID를 기록하고, 그 이후 증감된 공동구매는 교체 시 실시간 점수를 유지
+     * - 스냅샷 포함 여부를 알 수 없는 증감분을 다시 더하지 않으므로 중복 반영 없음
+     * - 유지한 실시간 점수의 기존 오차는 재구성 중 증감이 없는 다음 재구성에서 DB 기준으로 보정
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        String rebuildId = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(REBUILD_MARKER_KEY, rebuildId, REBUILD_TIMEOUT);
+
+        try {
+            rebuildFromDatabase(rebuildId);
+        } finally {
+            if (rebuildId.equals(redisTemplate.opsForValue().get(REBUILD_MARKER_KEY))) {
+                redisTemplate.delete(REBUILD_MARKER_KEY);
+            }
+        }
+    }
+
+    private void rebuildFromDatabase(String rebuildId) {
+        Map<Long, Integer> soldQuantities = new HashMap<>();
+        Map<Long, Set<ZSetOperations.TypedTuple<String>>> categoryTuples = new HashMap<>();
+
+        for (Object[] row : groupBuyRepository.findPublicSalesWithCategories()) {
+            Long groupBuyId = (Long) row[0];
+            Integer soldQuantity = (Integer) row[1];
+            Long categoryId = (Long) row[2];
+
+            soldQuantities.put(groupBuyId, soldQuantity);
+            categoryTuples.computeIfAbsent(categoryId, id -> new HashSet<>())
+                    .add(ZSetOperations.TypedTuple.of(groupBuyId.toString(), soldQuantity.doubleValue()));
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> globalTuples = new HashSet<>();
+        soldQuantities.forEach((groupBuyId, soldQuantity) ->
+                globalTuples.add(ZSetOperations.TypedTuple.of(groupBuyId.toString(), soldQuantity.doubleValue())));
+
+        replaceSortedSet(GLOBAL_KEY, rebuildId, globalTuples);
+        categoryTuples.forEach((categoryId, tuples) -> replaceSortedSet(buildCategoryKey(categoryId), rebuildId, tuples));
+
+        // 공개 공동구매가 없어진 카테고리 랭킹 정리
+        Set<String> previousCategoryIds = redisTemplate.opsForSet().members(CATEGORY_INDEX_KEY);
+        if (previousCategoryIds != null) {
+            previousCategoryIds.stream()
+                    .filter(categoryId -> !categoryTuples.containsKey(Long.valueOf(categoryId)))
+                    .forEach(categoryId -> {
+                        redisTemplate.delete(CATEGORY_KEY_PREFIX + categoryId);
+                        redisTemplate.opsForSet().remove(CATEGORY_INDEX_KEY, categoryId);
+                    });
+        }
+        if (!categoryTuples.isEmpty()) {
+            redisTemplate.opsForSet().add(CATEGORY_INDEX_KEY, categoryTuples.keySet().stream()
+                    .map(String::valueOf)
+                    .toArray(String[]::new));
+        }
+
+        log.info("판매량 랭킹 재구성 완료 - 공동구매: {}개, 카테고리: {}개",
+                soldQuantities.size(), categoryTuples.size());
+    }
+
+    private void replaceSortedSet(String key, String rebuildId, Set<ZSetOperations.TypedTuple<String>> tuples) {
+        String rebuildKey = key + REBUILD_KEY_SUFFIX;
+        redisTemplate.delete(rebuildKey);
+        if (!tuples.isEmpty()) {
+            redisTemplate.opsForZSet().add(rebuildKey, tuples);
+        }
+        redisTemplate.execute(swapScript, List.of(key, rebuildKey, buildTouchedKey(key, rebuildId)));
+    }
+
+    private void incrementScore(StringRedisConnection connection, String key, String rebuildId,
+                                String member, double delta) {
+        // 변경 기록을 먼저 남겨 그 사이 교체되어도 증감분이 스냅샷 점수에 덮이지 않음
+        if (rebuildId != null) {
+            String touchedKey = buildTouchedKey(key, rebuildId);
+            connection.sAdd(touchedKey, member);
+            connection.expire(touchedKey, REBUILD_TIMEOUT.toSeconds());
+        }
+        connection.zIncrBy(key, delta, member);
+    }
+
+    private void addIfAbsent(StringRedisConnection connection, String key, String rebuildId,
+                             String member, double score) {
+        if (rebuildId != null) {
+            String touchedKey = buildTouchedKey(key, rebuildId);
+            connection.sAdd(touchedKey, member);
+            connection.expire(touchedKey, REBUILD_TIMEOUT.toSeconds());
+        }
+        connection.zAdd(key, score, member, RedisZSetCommands.ZAddArgs.ifNotExists());
+    }
+
+    private String buildTouchedKey(String key, String rebuildId) {
+        return key + TOUCHED_KEY_INFIX + rebuildId;
+    }
+
+    private String buildCategoryKey(Long categoryId) {
+        return CATEGORY_KEY_PREFIX + categoryId;
+    }
+}
@@ -6,6 +6,7 @@ import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuySortOption;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
 import com.ururulab.ururu.groupBuy.dto.common.CursorInfoDto;
+import com.ururulab.ururu.groupBuy.dto.common.GroupBuyTrendingScore;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyPageResponse;
 import com.ururulab.ururu.groupBuy.service.validation.GroupBuyValidator;
@@ -15,8 +16,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.ururulab.ururu.global.exception.error.ErrorCode.*;
@@ -27,9 +33,14 @@ import static com.ururulab.ururu.global.exception.error.ErrorCode.*;
 @Transactional(readOnly = true)
 public class GroupBuyListService {
 
+    // 트렌딩 후보를 DB에서 필터링할 때 한 번에 조회하는 ID 개수
+    private static final int TRENDING_HYDRATE_CHUNK_SIZE = 100;
+
     private final GroupBuyRepository groupBuyRepository;
     private final ObjectMapper objectMapper;
     private final GroupBuyValidator groupBuyValidator;
+    private final GroupBuyTrendingService groupBuyTrendingService;
+    private final GroupBuyListSnapshotService groupBuyListSnapshotService;
 
     /**
      * 목록 조회 메인 cursor 적용
@@ -47,15 +58,14 @@ public class GroupBuyListService {
 
         String normalizedKeyword = normalizeKeyword(keyword);
 
-        int fetchLimit = limit + 1;
+        if ("trending".equals(sortType)) {
+            return getTrendingGroupBuyList(categoryId, limit, cursor, normalizedKeyword);
+        }
 
-        List<GroupBuyListResponse> items;
+        int fetchLimit = limit + 1;
 
-        if ("order_count".equals(sortType)) {
-            items = getGroupBuyListOrderByOrderCountWithCursor(categoryId, fetchLimit, cursor, normalizedKeyword);
-        } else {
-            items = getGroupBuyListWithSortAndCursor(categoryId, fetchLimit, sortType, cursor, normalizedKeyword);
-        }
+        List<GroupBuyListResponse> items = findFromSnapshot(categoryId, fetchLimit, sortType, cursor, normalizedKeyword)
+                .orElseGet(() -> getGroupBuyListWithSortAndCursor(categoryId, fetchLimit, sortType, cursor, normalizedKeyword));
 
         boolean hasMore = items.size() > limit;
         List<GroupBuyListResponse> trimmed = hasMore ? items.subList(0, limit) : items;
@@ -110,54 +120,105 @@ public class GroupBuyListService {
         CursorInfoDto cursorInfoDto = cursor != null ? decodeCursor(cursor) : null;
 
         List<Tuple> tuples = groupBuyRepository.findGroupBuysSortedWithCursor(
-                categoryId, sortOption, limit + 1, cursorInfoDto, keyword);
+                categoryId, sortOption, limit, cursorInfoDto, keyword);
 
         if (tuples.isEmpty() && cursor == null) {
-            String message = categoryId != null
-                    ? "해당 카테고리의 공동구매를 찾을 수 없습니다."
-                    : "공동구매를 찾을 수 없습니다.";
-            throw new BusinessException(GROUPBUY_NOT_FOUND, message);
+            throw groupBuyListNotFound(categoryId);
         }
 
         return tuples.stream()
-                .map(this::convertToResponse)
+                .map(GroupBuyListResponse::fromListRow)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 판매량 정렬 + 커서 + 키워드 검색
-     * @param categoryId
-     * @param limit
-     * @param cursor
-     * @param keyword
-     * @return
+     * 미리 계산된 앞페이지에서 조회 (키워드 검색 제외)
+     * 미리 계산된 범위를 벗어나거나 결과가 없으면 empty를 반환하여 DB 조회
      */
-    private List<GroupBuyListResponse> getGroupBuyListOrderByOrderCountWithCursor(Long categoryId, int limit, String cursor, String keyword) {
-        log.debug("Fetching group buy list by order count with cursor - categoryId: {}, limit: {}, cursor: {}, keyword: {}",
-                categoryId, limit, cursor, keyword);
+    private Optional<List<GroupBuyListResponse>> findFromSnapshot(Long categoryId, int limit, String sortType,
+                                                                  String cursor, String keyword) {
+        if (keyword != null || !isValidSortType(sortType)) {
+            return Optional.empty();
+        }
 
-        GroupBuySortOption sortOption = GroupBuySortOption.ORDER_COUNT;
         CursorInfoDto cursorInfoDto = cursor != null ? decodeCursor(cursor) : null;
+        Optional<List<GroupBuyListResponse>> items = groupBuyListSnapshotService.findItems(
+                categoryId, GroupBuySortOption.from(sortType), limit, cursorInfoDto);
 
-        // keyword까지 포함한 조회
-        List<Tuple> tuples = groupBuyRepository.findGroupBuysSortedWithCursor(
-                categoryId, sortOption, limit, cursorInfoDto, keyword);
+        if (items.isPresent() && items.get().isEmpty() && cursor == null) {
+            throw groupBuyListNotFound(categoryId);
+        }
+        return items;
+    }
 
-        if (tuples.isEmpty() && cursor == null) {
-            String message = categoryId != null
-                    ? "해당 카테고리의 공동구매를 찾을 수 없습니다."
-                    : "공동구매를 찾을 수 없습니다.";
-            throw new BusinessException(GROUPBUY_NOT_FOUND, message);
+    private BusinessException groupBuyListNotFound(Long categoryId) {
+        String message = categoryId != null
+                ? "해당 카테고리의 공동구매를 찾을 수 없습니다."
+                : "공동구매를 찾을 수 없습니다.";
+        return new BusinessException(GROUPBUY_NOT_FOUND, message);
+    }
+
+    /**
+     * 트렌딩 정렬 목록 (최근 판매량 내림차순, 같으면 ID 역순)
+     * 순서는 트렌딩 윈도우 합계가 결정하고, DB에서는 공개/카테고리/키워드 조건만 확인
+     * 커서는 (최근 판매량, id) 기준
+     */
+    private GroupBuyPageResponse getTrendingGroupBuyList(Long categoryId, int limit, String cursor, String keyword) {
+        CursorInfoDto cursorInfoDto = cursor != null ? decodeCursor(cursor) : null;
+        if (cursorInfoDto != null && cursorInfoDto.trendingCount() == null) {
+            throw new BusinessException(CURSOR_DECODING_FAILED, cursor);
         }
 
-        // Tuple을 Response로 변환 후 판매량 기준 정렬
-        List<GroupBuyListResponse> responses = tuples.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<GroupBuyTrendingScore> candidates;
+        try {
+            candidates = groupBuyTrendingService.getTopScores(GroupBuyTrendingService.MAX_TRENDING_CANDIDATES).stream()
+                    .filter(score -> cursorInfoDto == null
+                            || score.isAfter(cursorInfoDto.trendingCount(), cursorInfoDto.id()))
+                    .toList();
+        } catch (Exception e) {
+            log.warn("트렌딩 랭킹 조회 실패 - categoryId: {}", categoryId, e);
+            candidates = List.of();
+        }
 
-        return responses.stream()
-                .limit(limit)
-                .collect(Collectors.toList());
+        int fetchLimit = limit + 1;
+        List<GroupBuyListResponse> items = new ArrayList<>();
+        Map<Long, Integer> trendingCounts = new HashMap<>();
+
+        for (int from = 0; from < candidates.size() && items.size() < fetchLimit; from += TRENDING_HYDRATE_CHUNK_SIZE) {
+            List<GroupBuyTrendingScore> chunk =
+                    candidates.subList(from, Math.min(from + TRENDING_HYDRATE_CHUNK_SIZE, candidates.size()));
+            List<Long> chunkIds = chunk.stream()
+                    .map(GroupBuyTrendingScore::groupBuyId)
+                    .toList();
+
+            Map<Long, GroupBuyListResponse> responseMap = groupBuyRepository.findGroupBuysByIds(chunkIds, categoryId, keyword)
+                    .stream()
+                    .map(GroupBuyListResponse::fromListRow)
+                    .collect(Collectors.toMap(GroupBuyListResponse::id, Function.identity(), (a, b) -> a));
+
+            for (GroupBuyTrendingScore score : chunk) {
+                GroupBuyListResponse response = responseMap.get(score.groupBuyId());
+                if (response == null) {
+                    continue;
+                }
+                items.add(response);
+                trendingCounts.put(response.id(), score.count());
+                if (items.size() >= fetchLimit) {
+                    break;
+                }
+            }
+        }
+
+        boolean hasMore = items.size() > limit;
+        List<GroupBuyListResponse> trimmed = hasMore ? items.subList(0, limit) : items;
+
+        String nextCursor = null;
+        if (hasMore) {
+            GroupBuyListResponse last = trimmed.get(trimmed.size() - 1);
+            nextCursor = encodeCursor(CursorInfoDto.ofTrending(last, trendingCounts.get(last.id())));
+        }
+
+        return GroupBuyPageResponse.of(trimmed, nextCursor, hasMore);
     }
 
     /**
@@ -166,8 +227,11 @@ public class GroupBuyListService {
      * @return
      */
     private String encodeCursor(GroupBuyListResponse response) {
+        return encodeCursor(CursorInfoDto.from(response));
+    }
+
+    private String encodeCursor(CursorInfoDto cursorInfoDto) {
         try {
-            CursorInfoDto cursorInfoDto = CursorInfoDto.from(response);
             String json = objectMapper.writeValueAsString(cursorInfoDto);
             return Base64.getEncoder().encodeToString(json.getBytes());
         } catch (Exception e) {
@@ -192,24 +256,6 @@ public class GroupBuyListService {
         }
     }
 
-    private GroupBuyListResponse convertToResponse(Tuple row) {
-        Long id = row.get(0, Long.class);
-        String title = row.get(1, String.class);
-        String thumbnailUrl = row.get(2, String.class);
-        Integer displayFinalPrice = row.get(3, Integer.class);
-        Integer startPrice = row.get(4, Integer.class);
-        Instant endsAt = row.get(5, Instant.class);
-        Integer orderCount = row.get(6, Long.class).intValue();
-        Instant createdAt = row.get(7, Instant.class);
-        Integer maxDiscountRate = row.get(8, Integer.class);
-
-        return new GroupBuyListResponse(
-                id, title, thumbnailUrl, displayFinalPrice,
-                startPrice, maxDiscountRate, endsAt,
-                orderCount, createdAt
-        );
-    }
-
     /**
      * 유효한 정렬 타입인지 확인
      * @param sortType
@@ -217,6 +263,6 @@ public class GroupBuyListService {
      */
     private boolean isValidSortType(String sortType) {
         return sortType != null &&
-                List.of("deadline", "discount", "latest", "price_low", "price_high").contains(sortType);
+                List.of("order_count", "deadline", "discount", "latest", "price_low", "price_high", "trending").contains(sortType);
     }
 }
@@ -0,0 +1,315 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuySortOption;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.dto.common.CursorInfoDto;
+import com.ururulab.ururu.groupBuy.dto.common.GroupBuyListSnapshot;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 공동구매 목록 앞페이지 미리 계산 (카테고리 × 정렬)
+ * - 전체 + 공개 공동구매가 있는 카테고리별로 정렬마다 앞쪽 K페이지 분량을 직렬화해 Redis에 보관
+ * - 변경된 공동구매가 속한 카테고리(와 전체)만 다시 계산하고, 전체 재계산은 1분에 한 번으로 제한
+ * - 재계산은 여러 노드 중 락을 얻은 한 노드만 수행 (Redis 락)
+ * - 조회는 커서 조건을 메모리에서 그대로 적용하므로 응답 커서로 이어지는 다음 페이지도 동일하게 동작
+ *   (미리 계산된 범위를 넘어서면 DB 조회로 이어짐)
+ * - 트렌딩 정렬은 Redis 랭킹 기반이라 대상에서 제외
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupBuyListSnapshotService {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "groupbuy:list:snapshot:";
+    private static final String META_KEY = "groupbuy:list:snapshot:meta";
+    private static final String LOCK_KEY = "groupbuy:list:snapshot:lock";
+    // 마지막 계산 이후 변경된 공동구매 ID (Set)
+    private static final String CHANGED_KEY = "groupbuy:list:snapshot:changed";
+    private static final String ALL_CATEGORIES = "all";
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(5);
+    private static final Duration MAX_SNAPSHOT_AGE = Duration.ofMinutes(1);
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+    private static final Duration LOCAL_CACHE_TTL = Duration.ofSeconds(5);
+
+    private static final Set<GroupBuySortOption> MATERIALIZED_SORT_OPTIONS =
+            EnumSet.complementOf(EnumSet.of(GroupBuySortOption.TRENDING));
+
+    private static final String UNLOCK_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    // 변경 표시를 한 번에 가져오고 비움 - 가져온 뒤의 변경은 다음 주기에 반영
+    private static final String DRAIN_SCRIPT = """
+            local ids = redis.call('SMEMBERS', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return ids
+            """;
+
+    private final DefaultRedisScript<Long> unlockScript = new DefaultRedisScript<>(UNLOCK_SCRIPT, Long.class);
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> drainScript = new DefaultRedisScript<>(DRAIN_SCRIPT, List.class);
+
+    // Redis 조회/역직렬화를 줄이기 위한 노드 로컬 캐시 (최대 5초 지연)
+    private final Cache<String, GroupBuyListSnapshot> localSnapshots = Caffeine.newBuilder()
+            .expireAfterWrite(LOCAL_CACHE_TTL)
+            .maximumSize(1_000)
+            .build();
+
+    private final StringRedisTemplate redisTemplate;
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyCatalogVersionService groupBuyCatalogVersionService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${groupbuy.list.snapshot.page-size:20}")
+    private int pageSize;
+
+    @Value("${groupbuy.list.snapshot.pages:3}")
+    private int pages;
+
+    /**
+     * 미리 계산된 목록에서 커서 이후 항목 조회
+     *
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param sortOption 정렬 옵션
+     * @param fetchLimit 조회 개수 (다음 페이지 여부 확인용 +1 포함)
+     * @param cursorInfo 커서 (첫 페이지면 null)
+     * @return 조회 결과, 미리 계산된 범위로 응답할 수 없으면 empty (DB 조회)
+     */
+    public Optional<List<GroupBuyListResponse>> findItems(Long categoryId, GroupBuySortOption sortOption,
+                                                          int fetchLimit, CursorInfoDto cursorInfo) {
+        if (!MATERIALIZED_SORT_OPTIONS.contains(sortOption)
+                || (cursorInfo != null && !hasSortKey(sortOption, cursorInfo))) {
+            return Optional.empty();
+        }
+
+        GroupBuyListSnapshot snapshot;
+        try {
+            snapshot = localSnapshots.get(buildKey(categoryId, sortOption), this::readSnapshot);
+        } catch (Exception e) {
+            log.warn("목록 미리 계산 결과 조회 실패 - categoryId: {}, sort: {}", categoryId, sortOption, e);
+            return Optional.empty();
+        }
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+
+        // 계산 이후 종료 시각이 지난 공동구매는 DB 조회와 동일하게 제외
+        Instant now = Instant.now();
+        List<GroupBuyListResponse> items = snapshot.items().stream()
+                .filter(item -> item.endsAt().isAfter(now))
+                .filter(item -> cursorInfo == null || isAfterCursor(sortOption, item, cursorInfo))
+                .limit(fetchLimit)
+                .toList();
+
+        if (items.size() < fetchLimit && !snapshot.complete()) {
+            return Optional.empty();
+        }
+        return Optional.of(items);
+    }
+
+    /**
+     * 목록 응답이 바뀌는 변경이 커밋된 공동구매 표시 (커밋 이후 호출)
+     *
+     * @param groupBuyIds 변경된 공동구매 ID 목록
+     */
+    public void markChanged(Collection<Long> groupBuyIds) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(CHANGED_KEY, groupBuyIds.stream()
+                .map(String::valueOf)
+                .toArray(String[]::new));
+    }
+
+    /**
+     * 마지막 전체 계산 후 1분이 지났으면 전체 재계산, 아니면 변경된 공동구매가 속한 카테고리만 재계산
+     * 여러 노드에서 동시에 호출되어도 락을 얻은 한 노드만 계산
+     */
+    public void refreshIfStale() {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        try {
+            String generation = groupBuyCatalogVersionService.getGeneration();
+            // 계산 전에 변경 표시를 비우므로 계산 중 발생한 변경은 다음 주기에 다시 반영
+            List<String> changedIds = drainChangedIds();
+            if (isFullRefreshDue()) {
+                refreshAll(generation);
+            } else if (!changedIds.isEmpty()) {
+                refreshChanged(generation, changedIds);
+            }
+        } finally {
+            redisTemplate.execute(unlockScript, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private void refreshAll(String generation) {
+        long startTime = System.currentTimeMillis();
+        Instant now = Instant.now();
+
+        List<Long> categoryIds = new ArrayList<>();
+        categoryIds.add(null); // 전체
+        categoryIds.addAll(groupBuyRepository.findCategoryIdsWithPublicGroupBuys());
+
+        int count = refreshCategories(categoryIds, generation, now);
+
+        redisTemplate.opsForValue().set(META_KEY, generation + ":" + now.toEpochMilli());
+        log.info("목록 앞페이지 미리 계산 완료 - 대상: {}개, generation: {}, 소요: {}ms",
+                count, generation, System.currentTimeMillis() - startTime);
+    }
+
+    private void refreshChanged(String generation, List<String> changedIds) {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            List<Long> groupBuyIds = changedIds.stream()
+                    .map(Long::valueOf)
+                    .toList();
+
+            List<Long> categoryIds = new ArrayList<>();
+            categoryIds.add(null); // 전체
+            categoryIds.addAll(groupBuyRepository.findCategoryIdsOfGroupBuys(groupBuyIds));
+
+            int count = refreshCategories(categoryIds, generation, Instant.now());
+            log.debug("변경된 카테고리 목록 앞페이지 재계산 - 공동구매: {}개, 대상: {}개, 소요: {}ms",
+                    groupBuyIds.size(), count, System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 계산하도록 변경 표시 복구
+            redisTemplate.opsForSet().add(CHANGED_KEY, changedIds.toArray(String[]::new));
+            throw e;
+        }
+    }
+
+    private int refreshCategories(List<Long> categoryIds, String generation, Instant now) {
+        int snapshotSize = pageSize * pages;
+        int count = 0;
+        for (Long categoryId : categoryIds) {
+            for (GroupBuySortOption sortOption : MATERIALIZED_SORT_OPTIONS) {
+                List<GroupBuyListResponse> rows = groupBuyRepository
+                        .findGroupBuysSortedWithCursor(categoryId, sortOption, snapshotSize + 1, null, null)
+                        .stream()
+                        .map(GroupBuyListResponse::fromListRow)
+                        .toList();
+
+                boolean complete = rows.size() <= snapshotSize;
+                GroupBuyListSnapshot snapshot = new GroupBuyListSnapshot(
+                        complete ? rows : rows.subList(0, snapshotSize), complete, generation, now);
+
+                writeSnapshot(buildKey(categoryId, sortOption), snapshot);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> drainChangedIds() {
+        List<String> changedIds = redisTemplate.execute(drainScript, List.of(CHANGED_KEY));
+        return changedIds != null ? changedIds : List.of();
+    }
+
+    // 종료 시각 경과, 표시 누락 등 변경 표시로 잡히지 않는 차이는 전체 재계산(1분 주기)으로 보정
+    private boolean isFullRefreshDue() {
+        String meta = redisTemplate.opsForValue().get(META_KEY);
+        if (meta == null) {
+            return true;
+        }
+
+        Instant snapshotAt = Instant.ofEpochMilli(Long.parseLong(meta.substring(meta.lastIndexOf(':') + 1)));
+        return snapshotAt.plus(MAX_SNAPSHOT_AGE).isBefore(Instant.now());
+    }
+
+    private GroupBuyListSnapshot readSnapshot(String key) {
+        String json = redisTemplate.opsForValue().get(key);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, GroupBuyListSnapshot.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to deserialize list snapshot: " + key, e);
+        }
+    }
+
+    private void writeSnapshot(String key, GroupBuyListSnapshot snapshot) {
+        try {
+            // 세대 갱신이 멈춘 카테고리는 TTL로 정리되어 DB 조회로 돌아감
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(snapshot), SNAPSHOT_TTL);
+        } catch (Exception e) {
+            log.warn("목록 미리 계산 결과 저장 실패 - key: {}", key, e);
+        }
+    }
+
+    /**
+     * 커서 이후 항목인지 확인 (GroupBuyQueryRepositoryImpl 커서 조건과 동일)
+     * 정렬 값이 없는 항목은 DB 비교와 마찬가지로 제외
+     */
+    private boolean isAfterCursor(GroupBuySortOption sortOption, GroupBuyListResponse item, CursorInfoDto cursor) {
+        int compared = switch (sortOption) {
+            case LATEST -> compareNullable(cursor.createdAt(), item.createdAt());
+            case DEADLINE -> compareNullable(item.endsAt(), cursor.endsAt());
+            case PRICE_LOW -> compareNullable(item.displayFinalPrice(), cursor.price());
+            case PRICE_HIGH -> compareNullable(cursor.price(), item.displayFinalPrice());
+            case DISCOUNT -> compareNullable(cursor.maxDiscountRate(), item.maxDiscountRate());
+            case ORDER_COUNT -> compareNullable(cursor.orderCount(), item.orderCount());
+            case TRENDING -> throw new IllegalArgumentException("Trending sort is not materialized");
+        };
+
+        if (compared == Integer.MIN_VALUE) {
+            return false;
+        }
+        return compared > 0 || (compared == 0 && item.id() < cursor.id());
+    }
+
+    private <T extends Comparable<T>> int compareNullable(T left, T right) {
+        if (left == null || right == null) {
+            return Integer.MIN_VALUE;
+        }
+        return Integer.signum(left.compareTo(right));
+    }
+
+    private boolean hasSortKey(GroupBuySortOption sortOption, CursorInfoDto cursor) {
+        if (cursor.id() == null) {
+            return false;
+        }
+        return switch (sortOption) {
+            case LATEST -> cursor.createdAt() != null;
+            case DEADLINE -> cursor.endsAt() != null;
+            case PRICE_LOW, PRICE_HIGH -> cursor.price() != null;
+            case DISCOUNT -> cursor.maxDiscountRate() != null;
+            case ORDER_COUNT -> cursor.orderCount() != null;
+            case TRENDING -> false;
+        };
+    }
+
+    private String buildKey(Long categoryId, GroupBuySortOption sortOption) {
+        String category = categoryId != null ? categoryId.toString() : ALL_CATEGORIES;
+        return SNAPSHOT_KEY_PREFIX + category + ":" + sortOption.name().toLowerCase();
+    }
+}
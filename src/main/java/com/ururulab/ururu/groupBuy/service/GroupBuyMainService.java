@@ -1,7 +1,6 @@
 package com.ururulab.ururu.groupBuy.service;
 
-import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
-import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.global.cache.CacheRefreshLoader;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,57 +9,85 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class GroupBuyMainService {
+public class GroupBuyMainService implements CacheRefreshLoader {
+
+    private static final String REALTIME_BEST_CACHE = "realtimeBest";
+    private static final String CATEGORY_POPULAR_CACHE = "categoryPopular";
 
-    private final GroupBuyRepository groupBuyRepository;
     private final GroupBuyRankingService groupBuyRankingService;
 
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of(REALTIME_BEST_CACHE, CATEGORY_POPULAR_CACHE);
+    }
+
+    /**
+     * 메인 화면 캐시 조기 갱신 (백그라운드, 이 빈의 트랜잭션에서 실행)
+     */
+    @Override
+    public Object load(String cacheName, Object key) {
+        return REALTIME_BEST_CACHE.equals(cacheName)
+                ? getRealtimeBestGroupBuys()
+                : getCategoryPopularGroupBuys((Long) key);
+    }
+
     /**
      * 메인 화면 - 실시간 베스트 공동구매 조회 (판매량 기준 상위 3개)
-     * 기존 GroupBuyListService 로직 재사용하여 일관성 유지
+     * Redis 판매량 랭킹 기반 (목록 order_count 정렬과 동일한 soldQuantity 기준)
      * @return 판매량 많은 순으로 정렬된 상위 3개 공동구매 목록
      */
-    @Cacheable(value = "realtimeBest", key = "'top3'")
+    @Cacheable(value = "realtimeBest", key = "'top3'", sync = true)
     public List<GroupBuyListResponse> getRealtimeBestGroupBuys() {
         log.debug("Fetching realtime best 3 group buys for main page");
 
-        // 전체 공개된 공동구매 조회 (기존 로직 재사용)
-        List<GroupBuy> groupBuys = groupBuyRepository.findAllPublicWithOptions();
-        if (groupBuys.isEmpty()) {
+        // 판매량 랭킹 상위 3개만 조회 (전체 공동구매 로딩 없음)
+        List<GroupBuyListResponse> bestList = groupBuyRankingService.getTopGroupBuys(null, 3);
+        if (bestList.isEmpty()) {
             log.warn("No public group buys found for realtime best");
-            return List.of();
         }
 
-        List<GroupBuyListResponse> bestList = groupBuyRankingService.getTopGroupBuysByOrderCount(groupBuys, 3);
-
         log.debug("Retrieved {} realtime best group buys for main page", bestList.size());
         return bestList;
     }
 
     /**
      * 메인 화면 - 카테고리별 인기 공동구매 조회 (판매량 기준 상위 6개)
-     * 기존 GroupBuyListService 로직 재사용하여 일관성 유지
+     * Redis 카테고리별 판매량 랭킹 기반
      * @param categoryId 카테고리 ID
      * @return 해당 카테고리의 판매량 많은 순으로 정렬된 상위 6개 공동구매 목록
      */
-    @Cacheable(value = "categoryPopular", key = "#categoryId")
+    @Cacheable(value = "categoryPopular", key = "#categoryId", sync = true)
     public List<GroupBuyListResponse> getCategoryPopularGroupBuys(Long categoryId) {
         log.debug("Fetching popular group buys for category: {}", categoryId);
 
-        List<GroupBuy> groupBuys = groupBuyRepository.findByProductCategoryIdWithOptions(categoryId);
-        if (groupBuys.isEmpty()) {
+        List<GroupBuyListResponse> popularList = groupBuyRankingService.getTopGroupBuys(categoryId, 6);
+        if (popularList.isEmpty()) {
             log.warn("No group buys found for category: {}", categoryId);
-            return List.of();
         }
 
-        List<GroupBuyListResponse> popularList = groupBuyRankingService.getTopGroupBuysByOrderCount(groupBuys, 6);
-
         log.debug("Retrieved {} popular group buys for category: {}", popularList.size(), categoryId);
         return popularList;
     }
+
+    /**
+     * 메인 화면 - 트렌딩 공동구매 조회 (최근 판매량 기준)
+     * 트렌딩 윈도우 합계가 판매 시점에 증분 갱신되므로 별도 캐시 없이 조회
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param limit 조회 개수
+     * @return 최근 판매량 많은 순으로 정렬된 공동구매 목록
+     */
+    public List<GroupBuyListResponse> getTrendingGroupBuys(Long categoryId, int limit) {
+        log.debug("Fetching trending group buys - categoryId: {}, limit: {}", categoryId, limit);
+
+        List<GroupBuyListResponse> trendingList = groupBuyRankingService.getTrendingGroupBuys(categoryId, limit);
+
+        log.debug("Retrieved {} trending group buys", trendingList.size());
+        return trendingList;
+    }
 }
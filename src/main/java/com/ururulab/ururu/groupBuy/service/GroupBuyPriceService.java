@@ -5,8 +5,6 @@ import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
-import com.ururulab.ururu.groupBuy.dto.common.DiscountStageDto;
-import com.ururulab.ururu.groupBuy.util.DiscountStageParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,6 +21,7 @@ public class GroupBuyPriceService {
 
     private final GroupBuyRepository groupBuyRepository;
     private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuyDiscountTierService groupBuyDiscountTierService;
 
     /**
      * 공동 구매의 displayFinalPrice 계산
@@ -44,7 +43,7 @@ public class GroupBuyPriceService {
                 .min(Integer::compareTo)
                 .orElseThrow(() -> new BusinessException(GROUPBUY_NO_OPTIONS));
 
-        Integer maxDiscountRate = getMaxDiscountRate(groupBuy.getDiscountStages());
+        Integer maxDiscountRate = groupBuyDiscountTierService.getTable(groupBuy).maxDiscountRate();
         Integer finalPrice = originalPrice * (100 - maxDiscountRate) / 100;
 
         groupBuy.updateDisplayFinalPrice(finalPrice);
@@ -52,19 +51,6 @@ public class GroupBuyPriceService {
         log.debug("Display final price calculated: {} -> {}", originalPrice, finalPrice);
     }
 
-    /**
-     * 리워드의 최대 할인률 추출
-     * @param discountStagesJson
-     * @return
-     */
-    private Integer getMaxDiscountRate(String discountStagesJson) {
-        List<DiscountStageDto> stages = DiscountStageParser.parseDiscountStages(discountStagesJson);
-        return stages.stream()
-                .mapToInt(DiscountStageDto::discountRate)
-                .max()
-                .orElse(0);
-    }
-
     /**
      * 최종 할인율로 모든 옵션의 판매가 업데이트
      * 공동구매 종료 시 최종 할인율 적용
@@ -77,32 +63,15 @@ public class GroupBuyPriceService {
         log.debug("Updating final sale prices for group buy: {} with discount rate: {}%",
                 groupBuy.getId(), finalDiscountRate);
 
-        List<GroupBuyOption> options = groupBuyOptionRepository.findAllByGroupBuy(groupBuy);
+        // 반올림 포함 판매가 계산을 DB에서 한 번에 처리
+        int updatedCount = groupBuyOptionRepository.applyFinalDiscountRate(List.of(groupBuy.getId()), finalDiscountRate);
 
-        if (options.isEmpty()) {
+        if (updatedCount == 0) {
             log.warn("No options found for group buy: {}", groupBuy.getId());
             return;
         }
 
-        // 각 옵션별 최종 판매가 계산 및 업데이트
-        for (GroupBuyOption option : options) {
-            // 반올림을 위해 double 계산 후 변환
-            int discountAmount = (int) Math.round(option.getPriceOverride() * finalDiscountRate / 100.0);
-            int finalPrice = option.getPriceOverride() - discountAmount;
-
-            // 최종 가격이 음수가 되지 않도록 보장
-            finalPrice = Math.max(finalPrice, 0);
-
-            option.updateSalePrice(finalPrice);
-
-            log.trace("Option {} price updated: {} -> {} ({}% discount)",
-                    option.getId(), option.getPriceOverride(), finalPrice, finalDiscountRate);
-        }
-
-        // 변경된 옵션들 일괄 저장
-        groupBuyOptionRepository.saveAll(options);
-
         log.info("Updated final sale prices for {} options with {}% discount",
-                options.size(), finalDiscountRate);
+                updatedCount, finalDiscountRate);
     }
 }
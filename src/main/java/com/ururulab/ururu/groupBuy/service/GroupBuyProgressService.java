@@ -0,0 +1,262 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyProgressResponse;
+import com.ururulab.ururu.groupBuy.service.discount.DiscountTierTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.ururulab.ururu.global.exception.error.ErrorCode.*;
+
+/**
+ * 공동구매 실시간 진행 현황 스트림 (SSE)
+ * - 결제/환불/상태 변경 커밋 후 변경된 공동구매를 표시만 하고, 주기적으로 모아서 한 번에 조회·발행 (공동구매당 초당 최대 2회)
+ * - 발행은 Redis pub/sub으로 모든 노드에 전달되고, 각 노드는 자기에게 연결된 구독자에게만 전송
+ * - 종료된 공동구매는 마지막 현황 전송 후 연결 종료
+ * - 전송은 전용 스레드풀에서 구독자별로 수행 (pub/sub 리스너 스레드는 전송을 넘기기만 하고 즉시 반환)
+ * - 이전 전송이 끝나지 않은 느린 구독자는 구독 목록에서 제외하고, 진행 중인 전송이 끝나면 연결 종료
+ */
+@Slf4j
+@Service
+public class GroupBuyProgressService {
+
+    public static final String CHANNEL = "groupbuy:progress";
+
+    private static final String EVENT_NAME = "progress";
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+    // 노드당 최대 동시 연결 수
+    private static final int MAX_EMITTERS = 10_000;
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyDiscountTierService groupBuyDiscountTierService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor progressDeliveryExecutor;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger emitterCount = new AtomicInteger();
+    private final Set<Long> changedGroupBuyIds = ConcurrentHashMap.newKeySet();
+
+    public GroupBuyProgressService(GroupBuyRepository groupBuyRepository,
+                                   GroupBuyDiscountTierService groupBuyDiscountTierService,
+                                   StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Qualifier("progressDeliveryExecutor") TaskExecutor progressDeliveryExecutor) {
+        this.groupBuyRepository = groupBuyRepository;
+        this.groupBuyDiscountTierService = groupBuyDiscountTierService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.progressDeliveryExecutor = progressDeliveryExecutor;
+    }
+
+    /**
+     * 진행 현황 구독
+     * 연결 직후 현재 현황을 한 번 전송하고 이후 변경 시마다 전송
+     *
+     * @param groupBuyId 공동구매 ID
+     * @return SSE 연결
+     * @throws BusinessException 공개 중인 공동구매가 아니거나 연결 수 초과 시
+     */
+    public SseEmitter subscribe(Long groupBuyId) {
+        GroupBuyProgressResponse current = findProgresses(List.of(groupBuyId)).stream()
+                .filter(progress -> progress.status() == GroupBuyStatus.OPEN)
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(GROUPBUY_NOT_FOUND, groupBuyId));
+
+        if (emitterCount.incrementAndGet() > MAX_EMITTERS) {
+            emitterCount.decrementAndGet();
+            throw new BusinessException(TOO_MANY_REQUESTS);
+        }
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.computeIfAbsent(groupBuyId, id -> new CopyOnWriteArraySet<>()).add(subscriber);
+
+        emitter.onCompletion(() -> removeSubscriber(groupBuyId, subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> removeSubscriber(groupBuyId, subscriber));
+
+        // 최초 전송은 요청 스레드에서 수행
+        if (subscriber.sending.compareAndSet(false, true)) {
+            send(groupBuyId, subscriber, () -> progressEvent(current), false);
+        }
+        return emitter;
+    }
+
+    /**
+     * 진행 현황이 바뀐 공동구매 표시 (커밋 이후 호출)
+     */
+    public void markChanged(Collection<Long> groupBuyIds) {
+        changedGroupBuyIds.addAll(groupBuyIds);
+    }
+
+    /**
+     * 표시된 공동구매의 현황을 한 번에 조회하여 모든 노드로 발행
+     * 호출 주기가 곧 공동구매별 최대 전송 빈도
+     * 조회 전에 표시를 지워 조회 중 들어온 변경은 다음 주기에 발행하고, 조회에 실패하면 표시를 되돌림
+     */
+    public void publishChanges() {
+        if (changedGroupBuyIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> groupBuyIds = new ArrayList<>(changedGroupBuyIds);
+        changedGroupBuyIds.removeAll(groupBuyIds);
+
+        List<GroupBuyProgressResponse> progresses;
+        try {
+            progresses = findProgresses(groupBuyIds);
+        } catch (RuntimeException e) {
+            changedGroupBuyIds.addAll(groupBuyIds);
+            throw e;
+        }
+
+        for (GroupBuyProgressResponse progress : progresses) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(progress));
+            } catch (Exception e) {
+                log.warn("진행 현황 발행 실패 - groupBuyId: {}", progress.groupBuyId(), e);
+            }
+        }
+    }
+
+    /**
+     * 다른 노드(자신 포함)에서 발행된 현황을 이 노드의 구독자에게 전송
+     * 리스너 스레드에서는 전송 작업을 스레드풀에 넘기기만 함
+     */
+    public void deliver(GroupBuyProgressResponse progress) {
+        boolean closed = progress.status() == GroupBuyStatus.CLOSED;
+        dispatch(progress.groupBuyId(), () -> progressEvent(progress), closed);
+    }
+
+    /**
+     * 프록시/로드밸런서 유휴 연결 종료 방지용 주석 이벤트
+     */
+    public void sendHeartbeat() {
+        subscribers.keySet().forEach(groupBuyId ->
+                dispatch(groupBuyId, () -> SseEmitter.event().comment("heartbeat"), false));
+    }
+
+    // SseEventBuilder는 전송 시 내용이 변경되므로 구독자마다 새로 생성
+    private void dispatch(Long groupBuyId, Supplier<SseEmitter.SseEventBuilder> event, boolean completeAfterSend) {
+        Set<Subscriber> targets = subscribers.get(groupBuyId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        for (Subscriber subscriber : targets) {
+            // 이전 전송이 아직 진행 중인 느린 구독자는 제외 - 진행 중인 전송이 끝나면 연결 종료
+            if (!subscriber.sending.compareAndSet(false, true)) {
+                subscriber.dropped = true;
+                removeSubscriber(groupBuyId, subscriber);
+                // 표시 직전에 전송이 끝났다면 여기서 종료
+                if (subscriber.sending.compareAndSet(false, true)) {
+                    subscriber.emitter.complete();
+                }
+                log.debug("느린 진행 현황 구독자 연결 종료 - groupBuyId: {}", groupBuyId);
+                continue;
+            }
+
+            try {
+                progressDeliveryExecutor.execute(() -> send(groupBuyId, subscriber, event, completeAfterSend));
+            } catch (RejectedExecutionException e) {
+                // 현황은 전체 스냅샷이므로 이번 전송을 건너뛰어도 다음 발행으로 복구됨
+                subscriber.sending.set(false);
+                log.debug("진행 현황 전송 스레드풀 포화 - 전송 생략, groupBuyId: {}", groupBuyId);
+            }
+        }
+    }
+
+    private void send(Long groupBuyId, Subscriber subscriber, Supplier<SseEmitter.SseEventBuilder> event, boolean completeAfterSend) {
+        SseEmitter emitter = subscriber.emitter;
+        try {
+            emitter.send(event.get());
+            if (completeAfterSend || subscriber.dropped) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 끊은 연결
+            removeSubscriber(groupBuyId, subscriber);
+        } finally {
+            subscriber.sending.set(false);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder progressEvent(GroupBuyProgressResponse progress) {
+        return SseEmitter.event()
+                .name(EVENT_NAME)
+                .id(String.valueOf(progress.updatedAt().toEpochMilli()))
+                .data(progress);
+    }
+
+    private void removeSubscriber(Long groupBuyId, Subscriber subscriber) {
+        Set<Subscriber> targets = subscribers.get(groupBuyId);
+        if (targets != null && targets.remove(subscriber)) {
+            emitterCount.decrementAndGet();
+            if (targets.isEmpty()) {
+                subscribers.remove(groupBuyId, targets);
+            }
+        }
+    }
+
+    private List<GroupBuyProgressResponse> findProgresses(Collection<Long> groupBuyIds) {
+        Instant now = Instant.now();
+
+        return groupBuyRepository.findProgressSources(groupBuyIds).stream()
+                .map(row -> toProgress(row, now))
+                .toList();
+    }
+
+    private GroupBuyProgressResponse toProgress(Object[] row, Instant now) {
+        Long groupBuyId = (Long) row[0];
+        GroupBuyStatus status = (GroupBuyStatus) row[1];
+        int soldQuantity = (Integer) row[2];
+        DiscountTierTable tiers = groupBuyDiscountTierService.getTable(groupBuyId, (String) row[3]);
+        Integer remainingStock = ((Number) row[4]).intValue();
+
+        int nextStageQuantity = tiers.nextMinQuantity(soldQuantity);
+        int nextDiscountRate = tiers.nextDiscountRate(soldQuantity);
+
+        return new GroupBuyProgressResponse(
+                groupBuyId,
+                status,
+                soldQuantity,
+                tiers.discountRateFor(soldQuantity),
+                nextStageQuantity >= 0 ? nextStageQuantity : null,
+                nextDiscountRate >= 0 ? nextDiscountRate : null,
+                remainingStock,
+                now
+        );
+    }
+
+    /**
+     * SSE 연결과 전송 진행 상태 (구독자당 동시 전송은 최대 1건)
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean dropped;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
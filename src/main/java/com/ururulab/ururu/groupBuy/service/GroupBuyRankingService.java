@@ -1,22 +1,36 @@
 package com.ururulab.ururu.groupBuy.service;
 
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Transactional(readOnly = true)
 public class GroupBuyRankingService {
 
+    // 랭킹에 남아있을 수 있는 종료/만료 공동구매를 감안한 추가 조회 개수
+    private static final int LEADERBOARD_FETCH_MARGIN = 5;
+
     private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyLeaderboardService groupBuyLeaderboardService;
+    private final GroupBuyTrendingService groupBuyTrendingService;
 
     /**
      * 여러 공동구매의 판매량 조회
@@ -72,27 +86,84 @@ public class GroupBuyRankingService {
     }
 
     /**
-     * 공동구매 목록 조회 + 판매량 조회 + 정렬을 한번에 처리하는 편의 메서드
+     * 판매량 상위 공동구매 조회 (메인 화면 실시간 베스트/카테고리 인기)
+     * 1. Redis 판매량 랭킹에서 상위 ID 조회 (종료/만료 대비 여유분 포함)
+     * 2. ID 목록으로 공동구매 + 옵션 일괄 조회
+     * 3. 랭킹 순서 유지, 종료/만료된 공동구매는 랭킹에서 제거
+     * 랭킹이 비었거나 부족하면 soldQuantity 인덱스 기반 DB 조회로 대체
      *
-     * @param groupBuys 정렬할 공동구매 목록
+     * @param categoryId 카테고리 ID (null이면 전체)
      * @param limit 반환할 최대 개수
      * @return 판매량 기준으로 정렬된 GroupBuyListResponse 목록
      */
-    public List<GroupBuyListResponse> getTopGroupBuysByOrderCount(List<GroupBuy> groupBuys, int limit) {
-        if (groupBuys.isEmpty()) {
-            log.debug("Empty group buy list provided");
+    public List<GroupBuyListResponse> getTopGroupBuys(Long categoryId, int limit) {
+        List<Long> rankedIds = List.of();
+        try {
+            rankedIds = groupBuyLeaderboardService.getTopGroupBuyIds(categoryId, limit + LEADERBOARD_FETCH_MARGIN);
+        } catch (Exception e) {
+            log.warn("판매량 랭킹 조회 실패, DB 조회로 대체 - categoryId: {}", categoryId, e);
+        }
+
+        List<GroupBuyListResponse> ranked = hydrateInOrder(rankedIds, limit, true);
+        if (ranked.size() >= limit) {
+            return ranked;
+        }
+
+        log.debug("판매량 랭킹 데이터 부족({}개), DB 조회로 대체 - categoryId: {}", ranked.size(), categoryId);
+        List<Long> topIds = groupBuyRepository.findTopPublicIdsBySoldQuantity(categoryId, PageRequest.of(0, limit));
+        return hydrateInOrder(topIds, limit, false);
+    }
+
+    /**
+     * 트렌딩(최근 판매량) 상위 공동구매 조회
+     * 트렌딩 윈도우에 판매가 없는 경우 빈 목록 (누적 판매량 랭킹으로 대체하지 않음)
+     *
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param limit 반환할 최대 개수
+     * @return 최근 판매량 기준으로 정렬된 GroupBuyListResponse 목록
+     */
+    public List<GroupBuyListResponse> getTrendingGroupBuys(Long categoryId, int limit) {
+        List<Long> trendingIds = groupBuyTrendingService.getTopGroupBuyIds(categoryId, limit + LEADERBOARD_FETCH_MARGIN);
+        return hydrateInOrder(trendingIds, limit, false);
+    }
+
+    /**
+     * ID 순서를 유지하며 공개 공동구매를 응답으로 변환
+     * @param groupBuyIds 정렬된 공동구매 ID 목록
+     * @param limit 반환할 최대 개수
+     * @param evictStale 종료/만료된 공동구매를 랭킹에서 제거할지 여부
+     */
+    private List<GroupBuyListResponse> hydrateInOrder(List<Long> groupBuyIds, int limit, boolean evictStale) {
+        if (groupBuyIds.isEmpty()) {
             return List.of();
         }
 
-        // 1. 공동구매 ID 목록 추출
-        List<Long> groupBuyIds = groupBuys.stream()
-                .map(GroupBuy::getId)
-                .toList();
+        Map<Long, GroupBuy> groupBuyMap = groupBuyRepository.findByIdsWithOptions(groupBuyIds).stream()
+                .collect(Collectors.toMap(GroupBuy::getId, Function.identity(), (a, b) -> a));
+
+        Instant now = Instant.now();
+        List<Long> staleIds = new ArrayList<>();
+        List<GroupBuyListResponse> responses = new ArrayList<>();
 
-        // 2. 판매량 조회
-        Map<Long, Integer> orderCountMap = getOrderCounts(groupBuyIds);
+        for (Long groupBuyId : groupBuyIds) {
+            GroupBuy groupBuy = groupBuyMap.get(groupBuyId);
+            if (groupBuy == null || groupBuy.getStatus() != GroupBuyStatus.OPEN || !groupBuy.getEndsAt().isAfter(now)) {
+                staleIds.add(groupBuyId);
+                continue;
+            }
+            if (responses.size() < limit) {
+                responses.add(GroupBuyListResponse.from(groupBuy, groupBuy.getOptions(), groupBuy.getSoldQuantity()));
+            }
+        }
+
+        if (evictStale && !staleIds.isEmpty()) {
+            try {
+                groupBuyLeaderboardService.remove(staleIds);
+            } catch (Exception e) {
+                log.warn("판매량 랭킹 정리 실패 - 대상: {}", staleIds, e);
+            }
+        }
 
-        // 3. 정렬 및 변환
-        return sortByOrderCount(groupBuys, orderCountMap, limit);
+        return responses;
     }
 }
@@ -7,11 +7,16 @@ import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyStatisticsRepository;
+import com.ururulab.ururu.groupBuy.event.GroupBuyStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
+
 import static com.ururulab.ururu.global.exception.error.ErrorCode.GROUPBUY_NOT_FOUND;
 
 @Service
@@ -24,6 +29,7 @@ public class GroupBuyRealtimeCloseService {
     private final GroupBuyStatisticsCalculatorService statisticsCalculatorService;
     private final GroupBuyPriceService groupBuyPriceService;
     private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * initialStock 기반 재고 소진 체크
@@ -58,7 +64,9 @@ public class GroupBuyRealtimeCloseService {
         log.info("재고 완전 소진으로 공동구매 즉시 종료 - groupBuyId: {}", groupBuyId);
 
         try {
-            closeGroupBuyImmediately(groupBuy);
+            if (!closeGroupBuyImmediately(groupBuy)) {
+                return;
+            }
 
             // 재고 소진으로 종료 완료 (이벤트 발행 제거)
             log.info("재고 소진으로 공동구매 즉시 종료 완료 - groupBuyId: {}", groupBuyId);
@@ -69,19 +77,51 @@ public class GroupBuyRealtimeCloseService {
         }
     }
 
+    /**
+     * 종료 시각 도래로 인한 공동구매 종료
+     * 종료 예약(GroupBuyDeadlineService)에서 종료 시각에 맞춰 호출
+     *
+     * @param groupBuyId 종료할 공동구매 ID
+     * @return 이번 호출로 종료했으면 true (이미 종료되었거나 종료 시각 전이면 false)
+     */
+    @Transactional
+    public boolean closeIfExpired(Long groupBuyId) {
+        GroupBuy groupBuy = groupBuyRepository.findById(groupBuyId).orElse(null);
+
+        if (groupBuy == null || groupBuy.getStatus() != GroupBuyStatus.OPEN) {
+            log.debug("종료 대상 아님 - groupBuyId: {}", groupBuyId);
+            return false;
+        }
+
+        if (groupBuy.getEndsAt().isAfter(Instant.now())) {
+            log.debug("종료 시각 전 - groupBuyId: {}, endsAt: {}", groupBuyId, groupBuy.getEndsAt());
+            return false;
+        }
+
+        return closeGroupBuyImmediately(groupBuy);
+    }
+
     /**
      * 공동구매 즉시 종료 처리
+     * 조회 시점의 상태는 잠금 없이 읽은 값이므로, OPEN 조건부 UPDATE가 반영된 경우에만 통계/판매가 반영
+     * (배치 종료·다른 노드의 실시간 종료와 겹치면 먼저 반영한 쪽만 종료 처리)
      * @param groupBuy
+     * @return 이번 호출로 종료했으면 true
      */
-    private void closeGroupBuyImmediately(GroupBuy groupBuy) {
+    private boolean closeGroupBuyImmediately(GroupBuy groupBuy) {
         log.info("공동구매 즉시 종료 처리 시작 - groupBuyId: {}", groupBuy.getId());
 
+        // 상태를 CLOSED로 변경 (행 잠금을 잡으므로 이후 통계 계산은 종료 시점 기준)
+        int updated = groupBuyRepository.updateStatusOfOpen(
+                List.of(groupBuy.getId()), GroupBuyStatus.CLOSED, Instant.now());
+        if (updated == 0) {
+            log.debug("이미 종료된 공동구매 - groupBuyId: {}", groupBuy.getId());
+            return false;
+        }
+
         // 통계 계산 (내부적으로 initialStock 기반으로 처리될 예정)
         GroupBuyStatistics statistics = statisticsCalculatorService.calculateSingleStatistics(groupBuy);
 
-        // 상태를 CLOSED로 변경
-        groupBuy.updateStatus(GroupBuyStatus.CLOSED);
-
         // 최종 할인율이 있으면 최종 판매가 업데이트
         if (statistics.getFinalDiscountRate() > 0) {
             groupBuyPriceService.updateFinalSalePrices(
@@ -91,11 +131,14 @@ public class GroupBuyRealtimeCloseService {
         }
 
         // 4. 변경사항 저장
-        groupBuyRepository.save(groupBuy);
         groupBuyStatisticsRepository.save(statistics);
 
+        // 커밋 후 목록/랭킹 등 파생 데이터 갱신용
+        eventPublisher.publishEvent(new GroupBuyStatusChangedEvent(groupBuy.getId(), GroupBuyStatus.CLOSED));
+
         log.info("공동구매 즉시 종료 완료 - groupBuyId: {}, 상태: {}, 참여자: {}, 수량: {}, 할인율: {}%",
                 groupBuy.getId(), statistics.getFinalStatus(), statistics.getTotalParticipants(),
                 statistics.getTotalQuantity(), statistics.getFinalDiscountRate());
+        return true;
     }
 }
@@ -0,0 +1,150 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuySalesRollupRepository;
+import com.ururulab.ururu.groupBuy.dto.common.GroupBuyOptionSaleDto;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyHourlySalesResponse;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyOptionSalesResponse;
+import com.ururulab.ururu.groupBuy.event.GroupBuyOptionSalesRecordedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+import static com.ururulab.ururu.global.exception.error.ErrorCode.*;
+
+/**
+ * 공동구매 시간별 판매 집계
+ * - 결제 완료/환불 커밋 후 (공동구매, 옵션, 정시) 단위 행에 증분 반영 (INSERT ... ON DUPLICATE KEY UPDATE)
+ * - 판매자 통계의 시간별 추이/옵션별 판매는 주문 테이블 대신 집계 행만 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupBuySalesRollupService {
+
+    private static final Duration DEFAULT_RANGE = Duration.ofHours(24);
+    private static final Duration MAX_RANGE = Duration.ofDays(31);
+
+    private final GroupBuySalesRollupRepository rollupRepository;
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyOptionRepository groupBuyOptionRepository;
+
+    /**
+     * 판매/환불 기록을 시간별 집계에 반영
+     * 원 트랜잭션은 이미 커밋되었으므로 별도 트랜잭션에서 실행
+     * 같은 (옵션, 시간) 항목은 합쳐서 한 번만 갱신하고, 키 순서로 갱신하여 동시 반영 간 교착 방지
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void apply(GroupBuyOptionSalesRecordedEvent event) {
+        Instant bucketHour = event.occurredAt().truncatedTo(ChronoUnit.HOURS);
+        Map<Long, GroupBuyOptionSaleDto> merged = new TreeMap<>();
+
+        for (GroupBuyOptionSaleDto sale : event.sales()) {
+            merged.merge(sale.optionId(), sale, (a, b) -> new GroupBuyOptionSaleDto(
+                    a.groupBuyId(), a.optionId(), a.quantity() + b.quantity(), a.amount() + b.amount()));
+        }
+
+        Instant now = Instant.now();
+        for (GroupBuyOptionSaleDto sale : merged.values()) {
+            if (event.refund()) {
+                rollupRepository.upsert(sale.groupBuyId(), sale.optionId(), bucketHour, 0, 0L, sale.quantity(), now);
+            } else {
+                rollupRepository.upsert(sale.groupBuyId(), sale.optionId(), bucketHour,
+                        sale.quantity(), sale.amount(), 0, now);
+            }
+        }
+    }
+
+    /**
+     * 시간별 판매 추이 조회 (판매가 없는 시간도 0으로 채워 반환)
+     *
+     * @param from 시작 시각 (없으면 to 기준 24시간 전)
+     * @param to 종료 시각 (없으면 현재)
+     * @throws BusinessException 기간이 올바르지 않거나 31일을 초과하는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<GroupBuyHourlySalesResponse> getHourlySales(Long groupBuyId, Long sellerId, Instant from, Instant to) {
+        validateOwnership(groupBuyId, sellerId);
+
+        Instant end = (to != null ? to : Instant.now()).truncatedTo(ChronoUnit.HOURS).plus(1, ChronoUnit.HOURS);
+        Instant start = (from != null ? from : end.minus(DEFAULT_RANGE)).truncatedTo(ChronoUnit.HOURS);
+        if (!start.isBefore(end) || Duration.between(start, end).compareTo(MAX_RANGE) > 0) {
+            throw new BusinessException(GROUPBUY_STATISTICS_INVALID_RANGE);
+        }
+
+        Map<Instant, GroupBuyHourlySalesResponse> byHour = new HashMap<>();
+        for (Object[] row : rollupRepository.sumHourlyByGroupBuyId(groupBuyId, start, end)) {
+            Instant hour = (Instant) row[0];
+            byHour.put(hour, new GroupBuyHourlySalesResponse(
+                    hour,
+                    ((Number) row[1]).intValue(),
+                    ((Number) row[2]).longValue(),
+                    ((Number) row[3]).intValue()
+            ));
+        }
+
+        List<GroupBuyHourlySalesResponse> series = new ArrayList<>();
+        for (Instant hour = start; hour.isBefore(end); hour = hour.plus(1, ChronoUnit.HOURS)) {
+            series.add(byHour.getOrDefault(hour, GroupBuyHourlySalesResponse.empty(hour)));
+        }
+        return series;
+    }
+
+    /**
+     * 옵션별 누적 판매 조회
+     * 판매율 = 순판매 수량 / 초기 재고
+     */
+    @Transactional(readOnly = true)
+    public List<GroupBuyOptionSalesResponse> getOptionSales(Long groupBuyId, Long sellerId) {
+        validateOwnership(groupBuyId, sellerId);
+
+        Map<Long, Object[]> totals = new HashMap<>();
+        for (Object[] row : rollupRepository.sumByOptionForGroupBuyId(groupBuyId)) {
+            totals.put((Long) row[0], row);
+        }
+
+        return groupBuyOptionRepository.findOptionSummariesByGroupBuyId(groupBuyId).stream()
+                .map(option -> toOptionSales(option, totals.get((Long) option[0])))
+                .toList();
+    }
+
+    private GroupBuyOptionSalesResponse toOptionSales(Object[] option, Object[] total) {
+        int initialStock = option[2] != null ? (Integer) option[2] : 0;
+        int soldQuantity = total != null ? ((Number) total[1]).intValue() : 0;
+        long revenue = total != null ? ((Number) total[2]).longValue() : 0L;
+        int refundedQuantity = total != null ? ((Number) total[3]).intValue() : 0;
+
+        double sellThroughRate = initialStock > 0
+                ? Math.round((soldQuantity - refundedQuantity) * 1000.0 / initialStock) / 10.0
+                : 0.0;
+
+        return new GroupBuyOptionSalesResponse(
+                (Long) option[0],
+                (String) option[1],
+                initialStock,
+                soldQuantity,
+                revenue,
+                refundedQuantity,
+                sellThroughRate
+        );
+    }
+
+    private void validateOwnership(Long groupBuyId, Long sellerId) {
+        GroupBuy groupBuy = groupBuyRepository.findById(groupBuyId)
+                .orElseThrow(() -> new BusinessException(GROUPBUY_NOT_FOUND));
+
+        if (!groupBuy.getSeller().getId().equals(sellerId)) {
+            throw new BusinessException(ACCESS_DENIED);
+        }
+    }
+}
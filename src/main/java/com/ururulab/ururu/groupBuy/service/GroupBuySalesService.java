@@ -0,0 +1,103 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.dto.common.GroupBuyOptionSaleDto;
+import com.ururulab.ururu.groupBuy.event.GroupBuyOptionSalesRecordedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuySalesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 공동구매 판매량 반영 서비스
+ * 결제 완료/환불 승인 시 GroupBuy.soldQuantity(판매량순 정렬 기준)를 재고 변경과 같은 트랜잭션에서 갱신
+ * 갱신 후 GroupBuySalesChangedEvent(공동구매별)와 GroupBuyOptionSalesRecordedEvent(옵션별)를 발행하여
+ * 커밋 이후 랭킹, 시간별 판매 집계 등 파생 데이터를 증분 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuySalesService {
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 결제 완료로 판매된 수량 반영
+     *
+     * @param sales 옵션별 판매 수량·금액
+     */
+    @Transactional
+    public void recordSales(List<GroupBuyOptionSaleDto> sales) {
+        Map<Long, Integer> quantitiesByGroupBuyId = sumByGroupBuy(sales);
+
+        // 공동구매 ID 순서로 갱신하여 동시 결제 간 락 순서를 고정
+        new TreeMap<>(quantitiesByGroupBuyId).forEach((groupBuyId, quantity) -> {
+            groupBuyRepository.increaseSoldQuantity(groupBuyId, quantity);
+            log.debug("판매량 증가 - groupBuyId: {}, 수량: {}", groupBuyId, quantity);
+        });
+
+        publishSalesChanged(quantitiesByGroupBuyId, 1);
+        publishOptionSalesRecorded(sales, false);
+    }
+
+    /**
+     * 환불 승인으로 취소된 수량 반영
+     *
+     * @param refunds 옵션별 환불 수량·금액
+     */
+    @Transactional
+    public void recordRefunds(List<GroupBuyOptionSaleDto> refunds) {
+        Map<Long, Integer> quantitiesByGroupBuyId = sumByGroupBuy(refunds);
+
+        new TreeMap<>(quantitiesByGroupBuyId).forEach((groupBuyId, quantity) -> {
+            groupBuyRepository.decreaseSoldQuantity(groupBuyId, quantity);
+            log.debug("판매량 감소 - groupBuyId: {}, 수량: {}", groupBuyId, quantity);
+        });
+
+        publishSalesChanged(quantitiesByGroupBuyId, -1);
+        publishOptionSalesRecorded(refunds, true);
+    }
+
+    private Map<Long, Integer> sumByGroupBuy(List<GroupBuyOptionSaleDto> sales) {
+        Map<Long, Integer> quantitiesByGroupBuyId = new HashMap<>();
+        for (GroupBuyOptionSaleDto sale : sales) {
+            if (sale.quantity() != null && sale.quantity() > 0) {
+                quantitiesByGroupBuyId.merge(sale.groupBuyId(), sale.quantity(), Integer::sum);
+            }
+        }
+        return quantitiesByGroupBuyId;
+    }
+
+    /**
+     * 판매량 변경 이벤트 발행
+     * @param quantitiesByGroupBuyId 공동구매 ID별 수량
+     * @param sign 판매는 1, 환불은 -1
+     */
+    private void publishSalesChanged(Map<Long, Integer> quantitiesByGroupBuyId, int sign) {
+        Map<Long, Integer> deltas = new HashMap<>();
+        quantitiesByGroupBuyId.forEach((groupBuyId, quantity) -> deltas.put(groupBuyId, sign * quantity));
+
+        if (!deltas.isEmpty()) {
+            eventPublisher.publishEvent(new GroupBuySalesChangedEvent(deltas));
+        }
+    }
+
+    private void publishOptionSalesRecorded(List<GroupBuyOptionSaleDto> sales, boolean refund) {
+        List<GroupBuyOptionSaleDto> recorded = sales.stream()
+                .filter(sale -> sale.quantity() != null && sale.quantity() > 0)
+                .toList();
+
+        if (!recorded.isEmpty()) {
+            eventPublisher.publishEvent(new GroupBuyOptionSalesRecordedEvent(recorded, refund, Instant.now()));
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuySuggestionType;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuySuggestionResponse;
+import com.ururulab.ururu.groupBuy.service.suggest.GroupBuySuggestion;
+import com.ururulab.ururu.groupBuy.service.suggest.GroupBuySuggestionTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 공동구매 검색어 자동완성
+ * - 공개 공동구매의 제목, 판매자(브랜드)명, 인기 전성분을 판매량 가중치로 인메모리 트라이에 적재
+ * - 조회는 DB 접근 없이 트라이만 탐색
+ * - 새로 오픈한 공동구매는 오픈 커밋 후 모든 노드에 알려 제목·브랜드를 바로 추가 (Redis pub/sub)
+ * - 종료 등으로 공개 공동구매가 빠졌거나(자동완성 버전) 10분이 지나면 노드마다 새 트라이를 만들어 교체
+ *   판매로 인한 가중치 변화는 10분 주기 재구성으로만 반영 (판매마다 전체 재적재하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupBuySuggestionService {
+
+    public static final int MAX_SUGGESTIONS = 20;
+    public static final String OPENED_CHANNEL = "groupbuy:suggestion:opened";
+
+    // 트라이에 적재할 전성분 수 (판매량 합계 상위)
+    private static final int MAX_INGREDIENTS = 1_000;
+    private static final int MIN_INGREDIENT_LENGTH = 2;
+    private static final int MAX_INGREDIENT_LENGTH = 30;
+    private static final Duration MAX_TRIE_AGE = Duration.ofMinutes(10);
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyCatalogVersionService groupBuyCatalogVersionService;
+    private final StringRedisTemplate redisTemplate;
+
+    private volatile GroupBuySuggestionTrie trie = GroupBuySuggestionTrie.EMPTY;
+    private volatile String builtVersion;
+    private volatile Instant builtAt = Instant.EPOCH;
+
+    /**
+     * 입력 중인 검색어로 자동완성 후보 조회
+     *
+     * @param keyword 입력 문자열
+     * @param limit 최대 개수
+     * @return 판매량 가중치 순 후보 (적재 전이거나 일치 항목이 없으면 빈 목록)
+     */
+    public List<GroupBuySuggestionResponse> suggest(String keyword, int limit) {
+        return trie.search(keyword, Math.min(limit, MAX_SUGGESTIONS)).stream()
+                .map(GroupBuySuggestionResponse::from)
+                .toList();
+    }
+
+    /**
+     * 오픈한 공동구매를 모든 노드(자신 포함)에 알림 (커밋 이후 호출)
+     *
+     * @param groupBuyId 오픈한 공동구매 ID
+     */
+    public void publishOpened(Long groupBuyId) {
+        redisTemplate.convertAndSend(OPENED_CHANNEL, groupBuyId.toString());
+    }
+
+    /**
+     * 오픈한 공동구매의 제목·판매자명을 현재 트라이에 추가
+     * 전성분은 판매량 상위만 적재하므로 다음 재구성에서 반영
+     * 재구성과 겹치지 않도록 직렬화 (재구성 후 추가되어도 같은 후보는 중복되지 않음)
+     *
+     * @param groupBuyId 오픈한 공동구매 ID
+     */
+    public synchronized void addOpened(Long groupBuyId) {
+        List<GroupBuySuggestion> suggestions = new ArrayList<>();
+        for (Object[] row : groupBuyRepository.findPublicSuggestionSourcesByIds(List.of(groupBuyId))) {
+            long weight = toWeight((Integer) row[2]);
+            addSuggestion(suggestions, (String) row[0], GroupBuySuggestionType.TITLE, weight);
+            addSuggestion(suggestions, (String) row[1], GroupBuySuggestionType.BRAND, weight);
+        }
+        if (suggestions.isEmpty()) {
+            return;
+        }
+
+        trie = trie.withAdded(suggestions, MAX_SUGGESTIONS);
+        log.debug("자동완성 트라이에 오픈 공동구매 추가 - groupBuyId: {}", groupBuyId);
+    }
+
+    /**
+     * 자동완성 버전이 바뀌었거나 트라이가 오래되었으면 재구성
+     * 기동 직후 적재와 주기 점검이 겹쳐도 한 번만 재구성
+     */
+    public synchronized void rebuildIfStale() {
+        String version;
+        try {
+            version = groupBuyCatalogVersionService.getSuggestionVersion();
+        } catch (Exception e) {
+            // 버전을 알 수 없으면 시간 기준으로만 재구성
+            log.warn("자동완성 버전 조회 실패", e);
+            version = builtVersion;
+        }
+        boolean expired = builtAt.plus(MAX_TRIE_AGE).isBefore(Instant.now());
+
+        if (Objects.equals(version, builtVersion) && !expired) {
+            return;
+        }
+
+        rebuild();
+        builtVersion = version;
+    }
+
+    /**
+     * DB의 공개 공동구매 기준으로 트라이 재구성
+     */
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        // 같은 원문은 판매량을 합산 (브랜드는 공동구매마다 등장)
+        Map<GroupBuySuggestionType, Map<String, Long>> weights = new EnumMap<>(GroupBuySuggestionType.class);
+        for (GroupBuySuggestionType type : GroupBuySuggestionType.values()) {
+            weights.put(type, new HashMap<>());
+        }
+
+        for (Object[] row : groupBuyRepository.findPublicSuggestionSources()) {
+            long weight = toWeight((Integer) row[2]);
+            addWeight(weights.get(GroupBuySuggestionType.TITLE), (String) row[0], weight);
+            addWeight(weights.get(GroupBuySuggestionType.BRAND), (String) row[1], weight);
+        }
+
+        // 옵션이 여러 개인 공동구매에서 같은 성분이 중복 집계되지 않도록 공동구매 단위로 모음
+        Map<Long, Set<String>> ingredientsByGroupBuyId = new HashMap<>();
+        Map<Long, Long> weightByGroupBuyId = new HashMap<>();
+        for (Object[] row : groupBuyRepository.findPublicIngredientSources()) {
+            Long groupBuyId = (Long) row[0];
+            ingredientsByGroupBuyId.computeIfAbsent(groupBuyId, id -> new HashSet<>())
+                    .addAll(parseIngredients((String) row[1]));
+            weightByGroupBuyId.put(groupBuyId, toWeight((Integer) row[2]));
+        }
+        Map<String, Long> ingredientWeights = weights.get(GroupBuySuggestionType.INGREDIENT);
+        ingredientsByGroupBuyId.forEach((groupBuyId, ingredients) ->
+                ingredients.forEach(ingredient ->
+                        addWeight(ingredientWeights, ingredient, weightByGroupBuyId.get(groupBuyId))));
+
+        List<GroupBuySuggestion> suggestions = new ArrayList<>();
+        weights.forEach((type, weightByText) -> {
+            List<GroupBuySuggestion> typed = weightByText.entrySet().stream()
+                    .map(entry -> new GroupBuySuggestion(entry.getKey(), type, entry.getValue()))
+                    .sorted(GroupBuySuggestion.RANKING_ORDER)
+                    .toList();
+            suggestions.addAll(type == GroupBuySuggestionType.INGREDIENT && typed.size() > MAX_INGREDIENTS
+                    ? typed.subList(0, MAX_INGREDIENTS)
+                    : typed);
+        });
+
+        trie = GroupBuySuggestionTrie.build(suggestions, MAX_SUGGESTIONS);
+        builtAt = Instant.now();
+
+        log.info("자동완성 트라이 재구성 완료 - 후보: {}개, 소요: {}ms",
+                suggestions.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private void addSuggestion(List<GroupBuySuggestion> suggestions, String text,
+                               GroupBuySuggestionType type, long weight) {
+        if (text == null || GroupBuySuggestionTrie.normalize(text).isEmpty()) {
+            return;
+        }
+        suggestions.add(new GroupBuySuggestion(text.trim(), type, weight));
+    }
+
+    private void addWeight(Map<String, Long> weightByText, String text, long weight) {
+        if (text == null || GroupBuySuggestionTrie.normalize(text).isEmpty()) {
+            return;
+        }
+        weightByText.merge(text.trim(), weight, Long::sum);
+    }
+
+    // 판매 전인 공동구매도 후보에 포함되도록 1부터 시작
+    private long toWeight(Integer soldQuantity) {
+        return (soldQuantity != null ? soldQuantity : 0) + 1L;
+    }
+
+    private List<String> parseIngredients(String fullIngredients) {
+        if (fullIngredients == null || fullIngredients.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(fullIngredients.split("[,\\n]"))
+                .map(String::trim)
+                .filter(ingredient -> ingredient.length() >= MIN_INGREDIENT_LENGTH
+                        && ingredient.length() <= MAX_INGREDIENT_LENGTH)
+                .toList();
+    }
+}
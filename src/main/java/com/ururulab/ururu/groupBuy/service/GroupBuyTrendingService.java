@@ -0,0 +1,115 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.dto.common.GroupBuyTrendingScore;
+import com.ururulab.ururu.groupBuy.service.trending.GroupBuyTrendingStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 트렌딩(최근 N시간 판매량) 랭킹 서비스
+ * 누적 판매량(soldQuantity)과 달리 오래 진행된 공동구매가 계속 상위를 차지하지 않도록
+ * 슬라이딩 윈도우 판매량 기준으로 순위를 매김
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class GroupBuyTrendingService {
+
+    // 트렌딩 정렬 시 고려하는 최대 후보 수 (카테고리/키워드 필터 전)
+    public static final int MAX_TRENDING_CANDIDATES = 500;
+
+    private final GroupBuyTrendingStore groupBuyTrendingStore;
+    private final GroupBuyRepository groupBuyRepository;
+
+    /**
+     * 판매량 증감분 중 판매(양수)만 현재 분 버킷에 반영
+     * 환불은 반영하지 않음 - 윈도우 밖에서 판매된 건의 환불이 현재 윈도우를 깎지 않도록
+     *
+     * @param quantityDeltas 공동구매 ID별 판매량 증감
+     */
+    public void recordSales(Map<Long, Integer> quantityDeltas) {
+        Map<Long, Integer> sales = new HashMap<>();
+        quantityDeltas.forEach((groupBuyId, delta) -> {
+            if (delta != null && delta > 0) {
+                sales.put(groupBuyId, delta);
+            }
+        });
+
+        if (sales.isEmpty()) {
+            return;
+        }
+
+        groupBuyTrendingStore.record(sales, Instant.now());
+        log.debug("트렌딩 판매량 반영 - 대상 공동구매: {}", sales.keySet());
+    }
+
+    /**
+     * 윈도우를 벗어난 버킷 차감
+     */
+    public void slideWindow() {
+        int expired = groupBuyTrendingStore.expireBuckets(Instant.now());
+        if (expired > 0) {
+            log.debug("트렌딩 윈도우 만료 버킷 차감 - {}개", expired);
+        }
+    }
+
+    /**
+     * 트렌딩에서 공동구매 제거 (종료 시)
+     */
+    public void remove(Collection<Long> groupBuyIds) {
+        groupBuyTrendingStore.remove(groupBuyIds);
+    }
+
+    /**
+     * 최근 판매량 상위 목록 조회 (판매량 내림차순, 같으면 ID 역순)
+     * @param count 조회 개수
+     */
+    public List<GroupBuyTrendingScore> getTopScores(int count) {
+        return groupBuyTrendingStore.getTopScores(count);
+    }
+
+    /**
+     * 트렌딩 상위 공동구매 ID 조회
+     * 카테고리 지정 시 전체 트렌딩 후보 중 해당 카테고리의 공개 공동구매만 남김
+     * 저장소 장애 시 빈 목록 반환 (결제 흐름과 무관한 부가 기능)
+     *
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param count 조회 개수
+     * @return 트렌딩 순서의 공동구매 ID 목록
+     */
+    public List<Long> getTopGroupBuyIds(Long categoryId, int count) {
+        List<GroupBuyTrendingScore> scores;
+        try {
+            scores = groupBuyTrendingStore.getTopScores(categoryId == null ? count : MAX_TRENDING_CANDIDATES);
+        } catch (Exception e) {
+            log.warn("트렌딩 랭킹 조회 실패 - categoryId: {}", categoryId, e);
+            return List.of();
+        }
+
+        List<Long> rankedIds = scores.stream()
+                .map(GroupBuyTrendingScore::groupBuyId)
+                .toList();
+        if (categoryId == null || rankedIds.isEmpty()) {
+            return rankedIds;
+        }
+
+        Set<Long> categoryGroupBuyIds = new HashSet<>();
+        for (Object[] row : groupBuyRepository.findCategoryIdsOfPublicGroupBuys(rankedIds)) {
+            if (categoryId.equals(row[1])) {
+                categoryGroupBuyIds.add((Long) row[0]);
+            }
+        }
+
+        return rankedIds.stream()
+                .filter(categoryGroupBuyIds::contains)
+                .limit(count)
+                .toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 재고 소진 공동구매 종료 처리기
+ * - 결제 커밋 후에는 공동구매 ID를 대기 집합에 넣기만 하고 즉시 반환 (요청 스레드에서 종료 처리하지 않음)
+ * - 주기적으로 대기 집합을 비우며 공동구매당 한 번만 재고 확인/종료 (매진 직전 연속 결제는 한 번으로 합쳐짐)
+ * - 같은 공동구매를 처리 중이면 다음 주기로 미루고, 스레드풀이 가득 차면 대기 집합으로 되돌려 동시 처리 수를 제한
+ */
+@Slf4j
+@Service
+public class StockDepletionProcessor {
+
+    private final GroupBuyRealtimeCloseService realtimeCloseService;
+    private final TaskExecutor stockCheckExecutor;
+
+    private final Set<Long> pendingGroupBuyIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> processingGroupBuyIds = ConcurrentHashMap.newKeySet();
+
+    public StockDepletionProcessor(GroupBuyRealtimeCloseService realtimeCloseService,
+                                   @Qualifier("stockCheckExecutor") TaskExecutor stockCheckExecutor) {
+        this.realtimeCloseService = realtimeCloseService;
+        this.stockCheckExecutor = stockCheckExecutor;
+    }
+
+    /**
+     * 재고가 소진된 공동구매 등록 (중복 등록은 한 번으로 합쳐짐)
+     */
+    public void submit(Collection<Long> groupBuyIds) {
+        pendingGroupBuyIds.addAll(groupBuyIds);
+    }
+
+    /**
+     * 대기 중인 공동구매를 스레드풀에 넘겨 종료 처리
+     *
+     * @return 이번 주기에 처리를 시작한 공동구매 수
+     */
+    public int drain() {
+        if (pendingGroupBuyIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> groupBuyIds = new ArrayList<>(pendingGroupBuyIds);
+        pendingGroupBuyIds.removeAll(groupBuyIds);
+
+        int dispatched = 0;
+        for (Long groupBuyId : groupBuyIds) {
+            // 처리 중인 공동구매는 처리 시작 이후의 결제를 반영하도록 다음 주기에 다시 확인
+            if (!processingGroupBuyIds.add(groupBuyId)) {
+                pendingGroupBuyIds.add(groupBuyId);
+                continue;
+            }
+
+            try {
+                stockCheckExecutor.execute(() -> process(groupBuyId));
+                dispatched++;
+            } catch (RejectedExecutionException e) {
+                processingGroupBuyIds.remove(groupBuyId);
+                pendingGroupBuyIds.add(groupBuyId);
+                log.debug("재고 소진 처리 스레드풀 포화 - 다음 주기에 처리, groupBuyId: {}", groupBuyId);
+            }
+        }
+
+        if (dispatched > 0) {
+            log.info("재고 소진 공동구매 종료 처리 시작 - {}개 (요청 {}개)", dispatched, groupBuyIds.size());
+        }
+        return dispatched;
+    }
+
+    private void process(Long groupBuyId) {
+        try {
+            realtimeCloseService.checkAndCloseIfStockDepleted(groupBuyId);
+        } catch (Exception e) {
+            log.error("공동구매 {} 자동 종료 실패", groupBuyId, e);
+        } finally {
+            processingGroupBuyIds.remove(groupBuyId);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ururulab.ururu.groupBuy.service.discount;
+
+import com.ururulab.ururu.groupBuy.dto.common.DiscountStageDto;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 컴파일된 할인 단계 표 (생성 후 변경 불가)
+ * - 최소 수량 오름차순 int 배열과, 해당 수량까지 달성 가능한 최고 할인율 배열로 구성
+ * - 판매량에 따른 할인율은 이진 탐색으로 조회 (객체 할당 없음)
+ * - 같은 최소 수량이 여러 번 나오면 높은 할인율만 유지
+ */
+public final class DiscountTierTable {
+
+    public static final DiscountTierTable EMPTY = new DiscountTierTable(new int[0], new int[0], new int[0], List.of());
+
+    private final int[] minQuantities;
+    // rates[i] = minQuantities[0..i] 단계 중 최고 할인율 (달성한 단계 중 최고 할인율 적용)
+    private final int[] rates;
+    // stageRates[i] = minQuantities[i] 단계 자체의 할인율 (다음 단계 안내용)
+    private final int[] stageRates;
+    private final List<DiscountStageDto> stages;
+
+    private DiscountTierTable(int[] minQuantities, int[] rates, int[] stageRates, List<DiscountStageDto> stages) {
+        this.minQuantities = minQuantities;
+        this.rates = rates;
+        this.stageRates = stageRates;
+        this.stages = stages;
+    }
+
+    /**
+     * 할인 단계 목록을 조회용 표로 변환
+     * @param discountStages 파싱된 할인 단계 (순서 무관)
+     */
+    public static DiscountTierTable compile(List<DiscountStageDto> discountStages) {
+        List<DiscountStageDto> sorted = discountStages.stream()
+                .filter(stage -> stage.minQuantity() != null && stage.discountRate() != null)
+                .sorted(Comparator.comparingInt(DiscountStageDto::minQuantity)
+                        .thenComparing(DiscountStageDto::discountRate, Comparator.reverseOrder()))
+                .toList();
+        if (sorted.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] minQuantities = new int[sorted.size()];
+        int[] rates = new int[sorted.size()];
+        int[] stageRates = new int[sorted.size()];
+        int size = 0;
+        int bestRate = 0;
+
+        for (DiscountStageDto stage : sorted) {
+            // 같은 최소 수량은 정렬상 첫 번째(최고 할인율)만 사용
+            if (size > 0 && minQuantities[size - 1] == stage.minQuantity()) {
+                continue;
+            }
+            bestRate = Math.max(bestRate, stage.discountRate());
+            minQuantities[size] = stage.minQuantity();
+            rates[size] = bestRate;
+            stageRates[size] = stage.discountRate();
+            size++;
+        }
+
+        return new DiscountTierTable(
+                Arrays.copyOf(minQuantities, size),
+                Arrays.copyOf(rates, size),
+                Arrays.copyOf(stageRates, size),
+                List.copyOf(sorted)
+        );
+    }
+
+    /**
+     * 판매량에 적용되는 할인율 (달성한 단계가 없으면 0)
+     */
+    public int discountRateFor(int soldQuantity) {
+        int index = reachedTierIndex(soldQuantity);
+        return index >= 0 ? rates[index] : 0;
+    }
+
+    /**
+     * 전체 단계 중 최고 할인율 (단계가 없으면 0)
+     */
+    public int maxDiscountRate() {
+        return rates.length > 0 ? rates[rates.length - 1] : 0;
+    }
+
+    /**
+     * 아직 달성하지 못한 다음 단계의 최소 수량 (최고 단계 달성 시 -1)
+     */
+    public int nextMinQuantity(int soldQuantity) {
+        int next = reachedTierIndex(soldQuantity) + 1;
+        return next < minQuantities.length ? minQuantities[next] : -1;
+    }
+
+    /**
+     * 아직 달성하지 못한 다음 단계의 할인율 (최고 단계 달성 시 -1)
+     */
+    public int nextDiscountRate(int soldQuantity) {
+        int next = reachedTierIndex(soldQuantity) + 1;
+        return next < stageRates.length ? stageRates[next] : -1;
+    }
+
+    /**
+     * 원본 할인 단계 (최소 수량 오름차순, 응답용)
+     */
+    public List<DiscountStageDto> stages() {
+        return stages;
+    }
+
+    public boolean isEmpty() {
+        return minQuantities.length == 0;
+    }
+
+    /**
+     * 판매량으로 달성한 마지막 단계 인덱스 (달성한 단계가 없으면 -1)
+     */
+    private int reachedTierIndex(int soldQuantity) {
+        int index = Arrays.binarySearch(minQuantities, soldQuantity);
+        return index >= 0 ? index : -index - 2;
+    }
+}
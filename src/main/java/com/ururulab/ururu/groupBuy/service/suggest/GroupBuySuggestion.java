@@ -0,0 +1,23 @@
+package com.ururulab.ururu.groupBuy.service.suggest;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuySuggestionType;
+
+import java.util.Comparator;
+
+/**
+ * 자동완성 후보
+ * @param text 화면에 보여줄 원문 (선택 시 목록 검색 키워드로 사용)
+ * @param type 후보 종류
+ * @param weight 판매량 기반 가중치
+ */
+public record GroupBuySuggestion(
+        String text,
+        GroupBuySuggestionType type,
+        long weight
+) {
+    // 가중치 내림차순, 같으면 짧은 후보 우선
+    public static final Comparator<GroupBuySuggestion> RANKING_ORDER =
+            Comparator.comparingLong(GroupBuySuggestion::weight).reversed()
+                    .thenComparingInt(suggestion -> suggestion.text().length())
+                    .thenComparing(GroupBuySuggestion::text);
+}
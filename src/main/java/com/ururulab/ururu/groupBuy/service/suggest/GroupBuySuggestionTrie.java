@@ -0,0 +1,193 @@
+package com.ururulab.ururu.groupBuy.service.suggest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자동완성 접두사 트라이 (생성 후 변경 불가)
+ * - 후보 원문을 정규화한 문자열과, 단어 시작 위치부터의 접미사를 키로 등록 ("라운드랩 독도 토너" → "독도" 입력에도 일치)
+ * - 생성 시 노드마다 가중치 상위 후보를 미리 계산하여 조회는 접두사 길이만큼만 탐색
+ * - 갱신은 새 트라이를 만들어 참조를 교체 (조회 중 잠금 없음)
+ * - 후보 추가는 바뀌는 경로의 노드만 복사한 새 트라이를 반환 (나머지 노드는 공유)
+ */
+public final class GroupBuySuggestionTrie {
+
+    // 너무 긴 후보는 앞부분만 키로 사용 (트라이 깊이 제한)
+    private static final int MAX_KEY_LENGTH = 40;
+
+    public static final GroupBuySuggestionTrie EMPTY = new GroupBuySuggestionTrie(new Node(), 0);
+
+    private final Node root;
+    private final int size;
+
+    private GroupBuySuggestionTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * 트라이 생성
+     * @param suggestions 후보 목록
+     * @param maxPerNode 노드마다 보관할 상위 후보 수 (조회 limit 최댓값)
+     */
+    public static GroupBuySuggestionTrie build(Collection<GroupBuySuggestion> suggestions, int maxPerNode) {
+        Node root = new Node();
+
+        for (GroupBuySuggestion suggestion : suggestions) {
+            for (String key : indexKeys(suggestion.text())) {
+                Node node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                }
+                node.collect(suggestion);
+            }
+        }
+
+        root.computeTop(maxPerNode);
+        return new GroupBuySuggestionTrie(root, suggestions.size());
+    }
+
+    /**
+     * 후보를 추가한 새 트라이 생성 (이 트라이는 변경하지 않음)
+     * 같은 원문·종류의 후보가 이미 노드 상위 목록에 있으면 기존 후보 유지
+     * @param suggestions 추가할 후보 목록
+     * @param maxPerNode 노드마다 보관할 상위 후보 수 (생성 시와 같은 값)
+     */
+    public GroupBuySuggestionTrie withAdded(Collection<GroupBuySuggestion> suggestions, int maxPerNode) {
+        if (suggestions.isEmpty()) {
+            return this;
+        }
+
+        Node newRoot = root.copy();
+        Set<Node> copied = Collections.newSetFromMap(new IdentityHashMap<>());
+        copied.add(newRoot);
+
+        for (GroupBuySuggestion suggestion : suggestions) {
+            for (String key : indexKeys(suggestion.text())) {
+                Node node = newRoot;
+                node.offer(suggestion, maxPerNode);
+                for (int i = 0; i < key.length(); i++) {
+                    Node child = node.children.get(key.charAt(i));
+                    if (child == null || !copied.contains(child)) {
+                        child = child == null ? new Node() : child.copy();
+                        copied.add(child);
+                        node.children.put(key.charAt(i), child);
+                    }
+                    child.offer(suggestion, maxPerNode);
+                    node = child;
+                }
+            }
+        }
+
+        return new GroupBuySuggestionTrie(newRoot, size + suggestions.size());
+    }
+
+    /**
+     * 접두사로 시작하는 후보를 가중치 순으로 조회
+     * @param prefix 입력 문자열 (정규화 전)
+     * @param limit 최대 개수
+     */
+    public List<GroupBuySuggestion> search(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        return node.top.size() <= limit ? node.top : node.top.subList(0, limit);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 목록 키워드 검색과 동일한 정규화 (특수문자·공백 제거, 소문자)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replaceAll("[^\\p{L}\\p{N}]", "").toLowerCase();
+    }
+
+    private static Set<String> indexKeys(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        String[] words = text.trim().split("\\s+");
+
+        for (int i = 0; i < words.length; i++) {
+            String key = normalize(String.join("", List.of(words).subList(i, words.length)));
+            if (!key.isEmpty()) {
+                keys.add(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key);
+            }
+        }
+        return keys;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private List<GroupBuySuggestion> own = new ArrayList<>();
+        private List<GroupBuySuggestion> top = List.of();
+
+        private void collect(GroupBuySuggestion suggestion) {
+            own.add(suggestion);
+        }
+
+        private Node copy() {
+            Node copy = new Node();
+            copy.children.putAll(children);
+            copy.own = null;
+            copy.top = top;
+            return copy;
+        }
+
+        /**
+         * 상위 목록에 후보를 넣고 상위 N개만 남김 (복사한 노드에서만 호출)
+         */
+        private void offer(GroupBuySuggestion suggestion, int maxPerNode) {
+            boolean present = top.stream().anyMatch(existing ->
+                    existing.type() == suggestion.type() && existing.text().equals(suggestion.text()));
+            if (present) {
+                return;
+            }
+
+            List<GroupBuySuggestion> candidates = new ArrayList<>(top);
+            candidates.add(suggestion);
+            top = candidates.stream()
+                    .sorted(GroupBuySuggestion.RANKING_ORDER)
+                    .limit(maxPerNode)
+                    .toList();
+        }
+
+        /**
+         * 자식 노드의 상위 후보와 자신의 후보를 합쳐 상위 N개만 보관 (후위 순회)
+         */
+        private void computeTop(int maxPerNode) {
+            Set<GroupBuySuggestion> candidates = new LinkedHashSet<>(own);
+            for (Node child : children.values()) {
+                child.computeTop(maxPerNode);
+                candidates.addAll(child.top);
+            }
+
+            top = candidates.stream()
+                    .sorted(GroupBuySuggestion.RANKING_ORDER)
+                    .limit(maxPerNode)
+                    .toList();
+            own = null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ururulab.ururu.groupBuy.service.trending;
+
+import com.ururulab.ururu.groupBuy.dto.common.GroupBuyTrendingScore;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 트렌딩(최근 N시간 판매량) 집계 저장소
+ * - 분 단위 버킷에 판매량을 누적하고, 윈도우 합계를 함께 증분 갱신
+ * - 윈도우를 벗어난 버킷은 expireBuckets에서 합계에서 차감 후 삭제
+ * - 조회 시에는 유지 중인 윈도우 합계만 읽으므로 별도 계산 없음
+ */
+public interface GroupBuyTrendingStore {
+
+    /**
+     * 판매량 누적
+     * @param quantities 공동구매 ID별 판매 수량 (양수만 전달)
+     * @param occurredAt 판매 시각 (버킷 결정)
+     */
+    void record(Map<Long, Integer> quantities, Instant occurredAt);
+
+    /**
+     * 윈도우를 벗어난 버킷을 합계에서 차감
+     * 여러 인스턴스가 동시에 호출해도 버킷별로 한 번만 차감되어야 함
+     * @param now 기준 시각
+     * @return 차감한 버킷 수
+     */
+    int expireBuckets(Instant now);
+
+    /**
+     * 최근 판매량 상위 공동구매 조회
+     * @param count 조회 개수
+     * @return 판매량 내림차순(같으면 ID 역순) 목록, 판매량 0 이하는 제외
+     */
+    List<GroupBuyTrendingScore> getTopScores(int count);
+
+    /**
+     * 윈도우 합계에서 공동구매 제거 (종료 시)
+     * @param groupBuyIds 제거할 공동구매 ID 목록
+     */
+    void remove(Collection<Long> groupBuyIds);
+}
@@ -0,0 +1,68 @@
+package com.ururulab.ururu.groupBuy.service.trending;
+
+import com.ururulab.ururu.groupBuy.dto.common.GroupBuyTrendingScore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 인메모리 트렌딩 저장소 (groupbuy.trending.store=local)
+ * Redis 없이 실행하는 로컬/테스트 환경용 - 인스턴스 간 공유되지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "groupbuy.trending.store", havingValue = "local")
+public class LocalGroupBuyTrendingStore implements GroupBuyTrendingStore {
+
+    private final long windowMinutes;
+
+    // epochMinute -> (공동구매 ID -> 판매량)
+    private final NavigableMap<Long, Map<Long, Integer>> buckets = new TreeMap<>();
+    private final Map<Long, Integer> windowTotals = new HashMap<>();
+
+    public LocalGroupBuyTrendingStore(@Value("${groupbuy.trending.window-hours:6}") int windowHours) {
+        this.windowMinutes = windowHours * 60L;
+    }
+
+    @Override
+    public synchronized void record(Map<Long, Integer> quantities, Instant occurredAt) {
+        Map<Long, Integer> bucket = buckets.computeIfAbsent(toEpochMinute(occurredAt), minute -> new HashMap<>());
+
+        quantities.forEach((groupBuyId, quantity) -> {
+            bucket.merge(groupBuyId, quantity, Integer::sum);
+            windowTotals.merge(groupBuyId, quantity, Integer::sum);
+        });
+    }
+
+    @Override
+    public synchronized int expireBuckets(Instant now) {
+        NavigableMap<Long, Map<Long, Integer>> expired = buckets.headMap(toEpochMinute(now) - windowMinutes, true);
+        int expiredCount = expired.size();
+
+        expired.values().forEach(bucket -> bucket.forEach((groupBuyId, quantity) ->
+                windowTotals.computeIfPresent(groupBuyId, (id, total) -> total - quantity > 0 ? total - quantity : null)));
+        expired.clear();
+
+        return expiredCount;
+    }
+
+    @Override
+    public synchronized List<GroupBuyTrendingScore> getTopScores(int count) {
+        return windowTotals.entrySet().stream()
+                .map(entry -> new GroupBuyTrendingScore(entry.getKey(), entry.getValue()))
+                .sorted(GroupBuyTrendingScore.RANKING_ORDER)
+                .limit(count)
+                .toList();
+    }
+
+    @Override
+    public synchronized void remove(Collection<Long> groupBuyIds) {
+        groupBuyIds.forEach(windowTotals::remove);
+    }
+
+    private long toEpochMinute(Instant instant) {
+        return instant.getEpochSecond() / 60;
+    }
+}
@@ -0,0 +1,161 @@
+package com.ururulab.ururu.groupBuy.service.trending;
+
+import com.ururulab.ururu.groupBuy.dto.common.GroupBuyTrendingScore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Redis 기반 트렌딩 저장소 (기본)
+ * - 버킷: groupbuy:trending:bucket:{epochMinute} (Sorted Set, member = 공동구매 ID)
+ * - 윈도우 합계: groupbuy:trending:window (Sorted Set)
+ * - 만료 진행 위치(expired-until)를 Lua 스크립트 안에서 갱신하여 다중 인스턴스에서도 버킷당 한 번만 차감
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "groupbuy.trending.store", havingValue = "redis", matchIfMissing = true)
+public class RedisGroupBuyTrendingStore implements GroupBuyTrendingStore {
+
+    private static final String WINDOW_KEY = "groupbuy:trending:window";
+    private static final String BUCKET_KEY_PREFIX = "groupbuy:trending:bucket:";
+    private static final String EXPIRED_UNTIL_KEY = "groupbuy:trending:expired-until";
+
+    // 만료 작업이 멈춰 있던 경우 한 번에 따라잡는 최대 버킷 수 (1일)
+    private static final int MAX_EXPIRE_STEPS = 1440;
+
+    // 윈도우 합계에서 만료 버킷 차감 (ZUNIONSTORE WEIGHTS 1 -1) 후 0 이하 정리
+    // KEYS[1]=윈도우, KEYS[2]=만료 진행 위치, KEYS[3..]=ARGV[1]분부터 차례로 만료 대상 버킷
+    // 스크립트가 접근하는 키는 모두 KEYS로 전달 (다른 인스턴스가 먼저 진행한 버킷은 건너뜀)
+    private static final String EXPIRE_BUCKETS_SCRIPT = """
+            local windowKey = KEYS[1]
+            local cursorKey = KEYS[2]
+            local from = tonumber(ARGV[1])
+            local cutoff = tonumber(ARGV[2])
+            
+            local last = tonumber(redis.call('GET', cursorKey) or (from - 1))
+            if last >= cutoff then
+                return 0
+            end
+            
+            local expired = 0
+            for i = 3, #KEYS do
+                local minute = from + i - 3
+                local bucketKey = KEYS[i]
+                if minute > last and redis.call('EXISTS', bucketKey) == 1 then
+                    redis.call('ZUNIONSTORE', windowKey, 2, windowKey, bucketKey, 'WEIGHTS', 1, -1)
+                    redis.call('DEL', bucketKey)
+                    expired = expired + 1
+                end
+            end
+            
+            redis.call('ZREMRANGEBYSCORE', windowKey, '-inf', 0)
+            redis.call('SET', cursorKey, cutoff)
+            return expired
+            """;
+
+    private final DefaultRedisScript<Long> expireBucketsScript = new DefaultRedisScript<>(EXPIRE_BUCKETS_SCRIPT, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMinutes;
+    private final long bucketTtlSeconds;
+
+    public RedisGroupBuyTrendingStore(StringRedisTemplate redisTemplate,
+                                      @Value("${groupbuy.trending.window-hours:6}") int windowHours) {
+        this.redisTemplate = redisTemplate;
+        this.windowMinutes = windowHours * 60L;
+        // 만료 작업이 늦어져도 차감 전에 버킷이 사라지지 않도록 여유를 둠
+        this.bucketTtlSeconds = (windowMinutes + MAX_EXPIRE_STEPS) * 60L;
+    }
+
+    @Override
+    public void record(Map<Long, Integer> quantities, Instant occurredAt) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        String bucketKey = BUCKET_KEY_PREFIX + toEpochMinute(occurredAt);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            quantities.forEach((groupBuyId, quantity) -> {
+                String member = groupBuyId.toString();
+                stringConnection.zIncrBy(bucketKey, quantity, member);
+                stringConnection.zIncrBy(WINDOW_KEY, quantity, member);
+            });
+            stringConnection.expire(bucketKey, bucketTtlSeconds);
+            return null;
+        });
+    }
+
+    @Override
+    public int expireBuckets(Instant now) {
+        long cutoffMinute = toEpochMinute(now) - windowMinutes;
+
+        // 만료 대상 버킷 키를 미리 계산하여 전달 (스크립트 안에서 진행 위치를 다시 확인)
+        long fromMinute = cutoffMinute - MAX_EXPIRE_STEPS + 1;
+        String expiredUntil = redisTemplate.opsForValue().get(EXPIRED_UNTIL_KEY);
+        if (expiredUntil != null) {
+            fromMinute = Math.max(fromMinute, Long.parseLong(expiredUntil) + 1);
+        }
+        if (fromMinute > cutoffMinute) {
+            return 0;
+        }
+
+        List<String> keys = new ArrayList<>();
+        keys.add(WINDOW_KEY);
+        keys.add(EXPIRED_UNTIL_KEY);
+        for (long minute = fromMinute; minute <= cutoffMinute; minute++) {
+            keys.add(BUCKET_KEY_PREFIX + minute);
+        }
+
+        Long expired = redisTemplate.execute(
+                expireBucketsScript, keys,
+                String.valueOf(fromMinute), String.valueOf(cutoffMinute)
+        );
+
+        return expired != null ? expired.intValue() : 0;
+    }
+
+    @Override
+    public List<GroupBuyTrendingScore> getTopScores(int count) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(WINDOW_KEY, 0, count - 1L);
+
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        // 동점일 때 Redis는 member 문자열 역순이므로 ID 역순으로 다시 정렬
+        return tuples.stream()
+                .filter(tuple -> tuple.getValue() != null && tuple.getScore() != null && tuple.getScore() > 0)
+                .map(tuple -> new GroupBuyTrendingScore(Long.valueOf(tuple.getValue()), tuple.getScore().intValue()))
+                .sorted(GroupBuyTrendingScore.RANKING_ORDER)
+                .toList();
+    }
+
+    @Override
+    public void remove(Collection<Long> groupBuyIds) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+
+        Object[] members = groupBuyIds.stream()
+                .map(String::valueOf)
+                .toArray();
+        redisTemplate.opsForZSet().remove(WINDOW_KEY, members);
+    }
+
+    private long toEpochMinute(Instant instant) {
+        return instant.getEpochSecond() / 60;
+    }
+}
@@ -1,6 +1,7 @@
 package com.ururulab.ururu.order.controller;
 
 import com.ururulab.ururu.global.domain.dto.ApiResponseFormat;
+import com.ururulab.ururu.order.dto.response.MyOrderCursorResponseDto;
 import com.ururulab.ururu.order.dto.response.MyOrderListResponseDto;
 import com.ururulab.ururu.order.service.MyOrderService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,4 +49,30 @@ public class MyOrderController {
                 ApiResponseFormat.success("주문/배송 내역 조회 성공", response)
         );
     }
+
+    @Operation(summary = "나의 주문 목록 커서 조회", description = "회원의 주문 목록을 최신순으로 커서 기반 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하며, 전체 개수는 includeTotal=true일 때만 근사값(상한 1,000)으로 제공합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "주문 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 회원")
+    })
+    @GetMapping("/orders/my/cursor")
+    public ResponseEntity<ApiResponseFormat<MyOrderCursorResponseDto>> getMyOrdersByCursor(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(defaultValue = "all") String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.debug("나의 주문 목록 커서 조회 요청 - 회원ID: {}, 상태: {}, 커서: {}, 크기: {}",
+                memberId, status, cursor, size);
+
+        MyOrderCursorResponseDto response = myOrderService.getMyOrdersByCursor(
+                memberId, status, cursor, size, includeTotal);
+
+        return ResponseEntity.ok(
+                ApiResponseFormat.success("주문/배송 내역 조회 성공", response)
+        );
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
@@ -27,6 +28,14 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
             @Param("memberId") Long memberId
     );
 
+    /**
+     * 회원의 장바구니 항목 조회 (장바구니 저장소 적재용)
+     * [groupBuyOptionId, quantity, createdAt] 형태
+     */
+    @Query("SELECT ci.groupBuyOption.id, ci.quantity, ci.createdAt FROM CartItem ci " +
+            "WHERE ci.cart.member.id = :memberId")
+    List<Object[]> findEntriesByMemberId(@Param("memberId") Long memberId);
+
     @Query("SELECT COUNT(ci) FROM CartItem ci WHERE ci.cart.member.id = :memberId")
     int countByCartMemberId(@Param("memberId") Long memberId);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
@@ -40,6 +41,17 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             "AND o.status = 'ORDERED'")
     Integer getTotalQuantityByGroupBuyId(@Param("groupBuyId") Long groupBuyId);
 
+    /**
+     * 여러 공동구매의 유효 주문 수량 일괄 조회 (getTotalQuantityByGroupBuyId와 같은 기준)
+     * [groupBuyId, totalQuantity] 형태 - 주문이 없는 공동구매는 결과에 없음
+     */
+    @Query("SELECT oi.groupBuyOption.groupBuy.id, COALESCE(SUM(oi.quantity), 0) FROM OrderItem oi " +
+            "JOIN oi.order o " +
+            "WHERE oi.groupBuyOption.groupBuy.id IN :groupBuyIds " +
+            "AND o.status = 'ORDERED' " +
+            "GROUP BY oi.groupBuyOption.groupBuy.id")
+    List<Object[]> getTotalQuantitiesByGroupBuyIds(@Param("groupBuyIds") Collection<Long> groupBuyIds);
+
     /**
      * 주문 ID로 환불 가능한 아이템 조회
      * 아직 환불되지 않은 주문 아이템들을 반환
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, String>, OrderRepositoryCustom {
@@ -22,6 +23,16 @@ public interface OrderRepository extends JpaRepository<Order, String>, OrderRepo
     @Query("SELECT COUNT(o) FROM Order o WHERE o.member.id = :memberId AND o.status IN ('PENDING', 'ORDERED')")
     int countActiveOrdersByMemberId(@Param("memberId") Long memberId);
 
+    /**
+     * 공동구매에 유효 주문(ORDERED, PARTIAL_REFUNDED)이 있는 회원 ID 조회
+     * 공동구매 종료 시 주문 상태별 개수 캐시 무효화 대상 확인용
+     */
+    @Query("SELECT DISTINCT o.member.id FROM Order o " +
+            "JOIN o.orderItems oi " +
+            "WHERE oi.groupBuyOption.groupBuy.id IN :groupBuyIds " +
+            "AND o.status IN ('ORDERED', 'PARTIAL_REFUNDED')")
+    List<Long> findMemberIdsWithOrdersInGroupBuys(@Param("groupBuyIds") Collection<Long> groupBuyIds);
+
     /**
      * 전체 주문 목록 조회 (연관 엔티티 페치조인)
      */
@@ -1,9 +1,13 @@
 package com.ururulab.ururu.order.domain.repository;
 
+import com.ururulab.ururu.global.domain.dto.CreatedAtCursor;
 import com.ururulab.ururu.order.domain.entity.Order;
+import com.ururulab.ururu.order.dto.common.MyOrderStatusCounts;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface OrderRepositoryCustom {
 
     /**
@@ -17,6 +21,26 @@ public interface OrderRepositoryCustom {
      */
     Page<Order> findMyOrdersWithDetails(Long memberId, String statusFilter, Pageable pageable);
 
+    /**
+     * 회원의 주문 목록을 커서 기준으로 조회합니다. (createdAt DESC, id DESC)
+     * 조건은 findMyOrdersWithDetails와 같으며 개수 쿼리를 실행하지 않습니다.
+     *
+     * @param memberId 회원 ID
+     * @param statusFilter 상태 필터
+     * @param cursor 이전 페이지 마지막 주문 (첫 페이지면 null)
+     * @param limit 조회할 최대 개수
+     * @return 주문 목록
+     */
+    List<Order> findMyOrdersWithDetailsByCursor(Long memberId, String statusFilter, CreatedAtCursor cursor, int limit);
+
+    /**
+     * 회원의 주문 개수를 상한까지만 셉니다. (근사 전체 개수용)
+     *
+     * @param cap 상한
+     * @return min(주문 개수, cap + 1) - cap을 넘으면 cap + 1
+     */
+    long countMyOrdersUpTo(Long memberId, String statusFilter, int cap);
+
     /**
      * 회원의 주문 개수를 상태별로 조회합니다.
      *
@@ -25,4 +49,13 @@ public interface OrderRepositoryCustom {
      * @return 주문 개수
      */
     Long countMyOrders(Long memberId, String statusFilter);
+
+    /**
+     * 회원의 상태별(진행중, 확정, 환불 대기) 주문 개수를 한 번의 조회로 집계합니다.
+     * 각 값은 countMyOrders(memberId, 상태)와 같습니다.
+     *
+     * @param memberId 회원 ID
+     * @return 상태별 주문 개수
+     */
+    MyOrderStatusCounts countMyOrdersByStatus(Long memberId);
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package com.ururulab.ururu.order.domain.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ururulab.ururu.global.domain.dto.CreatedAtCursor;
+import com.ururulab.ururu.global.util.TwoPhasePagination;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import com.ururulab.ururu.order.domain.entity.Order;
 import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
+import com.ururulab.ururu.order.dto.common.MyOrderStatusCounts;
 import com.ururulab.ururu.payment.domain.entity.enumerated.RefundStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -33,6 +40,7 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
     /**
      * 회원의 주문 목록을 상태별로 조회합니다.
      * 환불되지 않은 OrderItem이 있는 주문만 반환합니다.
+     * 페이지의 주문 ID를 먼저 조회한 뒤 해당 주문만 fetch join으로 조회합니다. (TwoPhasePagination)
      *
      * @param memberId 회원 ID
      * @param statusFilter 상태 필터 ("inprogress", "confirmed", "refundpending", "all")
@@ -42,15 +50,89 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
     @Override
     public Page<Order> findMyOrdersWithDetails(Long memberId, String statusFilter, Pageable pageable) {
         QOrder order = QOrder.order;
+
+        // 1단계: 페이지의 주문 ID만 조회 (fetch join 없이 DB에서 LIMIT 적용)
+        List<String> pageIds = queryFactory
+                .select(order.id)
+                .from(order)
+                .where(buildIdConditions(memberId, statusFilter))
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 2단계: 해당 주문만 상세 조회, 개수는 필요한 경우에만 조회
+        return TwoPhasePagination.fetchPage(
+                pageIds,
+                pageable,
+                () -> countMyOrders(memberId, statusFilter),
+                ids -> findMyOrderDetails(ids, memberId, statusFilter),
+                Order::getId
+        );
+    }
+
+    /**
+     * 회원의 주문 목록을 커서 기준으로 조회합니다.
+     * (member_id, created_at) 인덱스 순서로 커서 이후 주문 ID를 조회한 뒤 상세를 조회합니다.
+     */
+    @Override
+    public List<Order> findMyOrdersWithDetailsByCursor(Long memberId, String statusFilter,
+                                                       CreatedAtCursor cursor, int limit) {
+        QOrder order = QOrder.order;
+
+        BooleanBuilder builder = buildIdConditions(memberId, statusFilter);
+        if (cursor != null) {
+            builder.and(order.createdAt.lt(cursor.createdAt())
+                    .or(order.createdAt.eq(cursor.createdAt()).and(order.id.lt(cursor.id()))));
+        }
+
+        List<String> pageIds = queryFactory
+                .select(order.id)
+                .from(order)
+                .where(builder)
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .limit(limit)
+                .fetch();
+
+        return TwoPhasePagination.loadInOrder(
+                pageIds,
+                ids -> findMyOrderDetails(ids, memberId, statusFilter),
+                Order::getId
+        );
+    }
+
+    /**
+     * 회원의 주문 개수를 상한까지만 셉니다.
+     * 주문 ID를 상한 + 1개까지만 읽으므로 주문 이력이 많아도 비용이 일정합니다.
+     */
+    @Override
+    public long countMyOrdersUpTo(Long memberId, String statusFilter, int cap) {
+        QOrder order = QOrder.order;
+
+        return queryFactory
+                .select(order.id)
+                .from(order)
+                .where(buildIdConditions(memberId, statusFilter))
+                .limit(cap + 1L)
+                .fetch()
+                .size();
+    }
+
+    /**
+     * 주문 ID 목록의 상세(주문 아이템, 옵션, 공구, 상품) 조회
+     * 상태 필터 조건을 함께 적용하므로 주문 아이템은 필터에 맞는 것만 포함됩니다.
+     */
+    private List<Order> findMyOrderDetails(List<String> orderIds, Long memberId, String statusFilter) {
+        QOrder order = QOrder.order;
         QOrderItem orderItem = QOrderItem.orderItem;
         QGroupBuyOption groupBuyOption = QGroupBuyOption.groupBuyOption;
         QGroupBuy groupBuy = QGroupBuy.groupBuy;
         QProduct product = QProduct.product;
 
         BooleanBuilder builder = buildWhereConditions(memberId, statusFilter);
+        builder.and(order.id.in(orderIds));
 
-        // 데이터 조회
-        List<Order> orders = queryFactory
+        return queryFactory
                 .selectFrom(order)
                 .distinct()
                 .leftJoin(order.orderItems, orderItem).fetchJoin()
@@ -59,15 +141,7 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                 .leftJoin(groupBuy.product, product).fetchJoin()
                 .leftJoin(groupBuyOption.productOption).fetchJoin()  // 직접 조인
                 .where(builder)
-                .orderBy(order.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
                 .fetch();
-
-        // 카운트 조회
-        Long total = countMyOrders(memberId, statusFilter);
-
-        return new PageImpl<>(orders, pageable, total);
     }
 
     /**
@@ -96,38 +170,129 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                 .fetchOne();
     }
 
+    /**
+     * 회원의 상태별 주문 개수를 조건부 집계로 한 번에 조회합니다.
+     * 공통 조건과 조인은 한 번만 평가하고, 상태별 조건은 COUNT(DISTINCT CASE WHEN ...)로 나누어 셉니다.
+     *
+     * @param memberId 회원 ID
+     * @return 상태별 주문 개수
+     */
+    @Override
+    public MyOrderStatusCounts countMyOrdersByStatus(Long memberId) {
+        QOrder order = QOrder.order;
+        QOrderItem orderItem = QOrderItem.orderItem;
+        QGroupBuyOption groupBuyOption = QGroupBuyOption.groupBuyOption;
+        QGroupBuy groupBuy = QGroupBuy.groupBuy;
+
+        NumberExpression<Long> inProgress = countDistinctOrdersWhen(order, statusCondition("inprogress"));
+        NumberExpression<Long> confirmed = countDistinctOrdersWhen(order, statusCondition("confirmed"));
+        NumberExpression<Long> refundPending = countDistinctOrdersWhen(order, statusCondition("refundpending"));
+
+        Tuple result = queryFactory
+                .select(inProgress, confirmed, refundPending)
+                .from(order)
+                .join(order.orderItems, orderItem)
+                .join(orderItem.groupBuyOption, groupBuyOption)
+                .join(groupBuyOption.groupBuy, groupBuy)
+                .where(buildCommonConditions(memberId))
+                .fetchOne();
+
+        if (result == null) {
+            return new MyOrderStatusCounts(0, 0, 0);
+        }
+
+        return new MyOrderStatusCounts(
+                nullToZero(result.get(inProgress)),
+                nullToZero(result.get(confirmed)),
+                nullToZero(result.get(refundPending))
+        );
+    }
+
     /**
      * 상태별 WHERE 조건을 구성합니다.
      */
     private BooleanBuilder buildWhereConditions(Long memberId, String statusFilter) {
+        BooleanBuilder builder = buildCommonConditions(memberId);
+
+        // 상태별 조건 ("all"은 추가 조건 없음 - 환불되지 않은 아이템이 있는 조건만)
+        Predicate condition = statusCondition(statusFilter.toLowerCase());
+        if (condition != null) {
+            builder.and(condition);
+        }
+
+        return builder;
+    }
+
+    /**
+     * 주문 ID 조회(1단계)용 WHERE 조건을 구성합니다.
+     * 주문 아이템 조인 대신 상태별 조건을 만족하는 아이템 존재 여부로 판단하여 주문 테이블만 조회합니다.
+     */
+    private BooleanBuilder buildIdConditions(Long memberId, String statusFilter) {
         QOrder order = QOrder.order;
         QOrderItem orderItem = QOrderItem.orderItem;
+        QGroupBuyOption groupBuyOption = QGroupBuyOption.groupBuyOption;
         QGroupBuy groupBuy = QGroupBuy.groupBuy;
 
-        BooleanBuilder builder = new BooleanBuilder();
+        BooleanBuilder builder = buildCommonConditions(memberId);
+
+        BooleanExpression condition = statusCondition(statusFilter.toLowerCase());
+        if (condition != null) {
+            builder.and(JPAExpressions
+                    .selectOne()
+                    .from(orderItem)
+                    .join(orderItem.groupBuyOption, groupBuyOption)
+                    .join(groupBuyOption.groupBuy, groupBuy)
+                    .where(orderItem.order.eq(order).and(condition))
+                    .exists());
+        }
+
+        return builder;
+    }
+
+    /**
+     * 모든 상태 필터에 공통으로 적용되는 조건을 구성합니다.
+     */
+    private BooleanBuilder buildCommonConditions(Long memberId) {
+        QOrder order = QOrder.order;
 
-        // 공통 조건
+        BooleanBuilder builder = new BooleanBuilder();
         builder.and(order.member.id.eq(memberId))
                 .and(order.status.in(OrderStatus.ORDERED, OrderStatus.PARTIAL_REFUNDED))
                 .and(hasNonRefundedItems(order));
 
-        // 상태별 조건
-        switch (statusFilter.toLowerCase()) {
-            case "inprogress" ->
-                builder.and(groupBuy.status.eq(GroupBuyStatus.OPEN))
-                        .and(hasNoRefundAtAll(orderItem));
-
-            case "confirmed" ->
-                builder.and(groupBuy.status.eq(GroupBuyStatus.CLOSED))
-                        .and(hasNoApprovedOrCompletedRefund(orderItem));
-            case "refundpending" ->
-                builder.and(hasInitiatedRefund(orderItem));
-            // "all"은 추가 조건 없음 (환불되지 않은 아이템이 있는 조건만)
-        }
-
         return builder;
     }
 
+    /**
+     * 상태 필터별 주문 아이템 조건을 구성합니다.
+     *
+     * @return 상태별 조건 ("all" 등 추가 조건이 없으면 null)
+     */
+    private BooleanExpression statusCondition(String statusFilter) {
+        QOrderItem orderItem = QOrderItem.orderItem;
+        QGroupBuy groupBuy = QGroupBuy.groupBuy;
+
+        return switch (statusFilter) {
+            case "inprogress" -> groupBuy.status.eq(GroupBuyStatus.OPEN)
+                    .and(hasNoRefundAtAll(orderItem));
+            case "confirmed" -> groupBuy.status.eq(GroupBuyStatus.CLOSED)
+                    .and(hasNoApprovedOrCompletedRefund(orderItem));
+            case "refundpending" -> hasInitiatedRefund(orderItem);
+            default -> null;
+        };
+    }
+
+    private NumberExpression<Long> countDistinctOrdersWhen(QOrder order, Predicate condition) {
+        return new CaseBuilder()
+                .when(condition).then(order.id)
+                .otherwise(Expressions.nullExpression(String.class))
+                .countDistinct();
+    }
+
+    private long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
     /**
      * 환불되지 않은 OrderItem이 하나라도 있는지 확인합니다.
      */
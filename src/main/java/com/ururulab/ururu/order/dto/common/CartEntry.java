@@ -0,0 +1,18 @@
+package com.ururulab.ururu.order.dto.common;
+
+import java.time.Instant;
+
+/**
+ * 장바구니 저장소의 항목 (회원당 공구 옵션별 한 건)
+ * 장바구니 아이템 ID는 공구 옵션 ID와 같음
+ *
+ * @param groupBuyOptionId 공구 옵션 ID
+ * @param quantity 수량
+ * @param addedAt 처음 담은 시각 (목록 정렬용)
+ */
+public record CartEntry(
+        Long groupBuyOptionId,
+        int quantity,
+        Instant addedAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.ururulab.ururu.order.dto.common;
+
+/**
+ * 나의 주문 목록 상단의 상태별 주문 수
+ */
+public record MyOrderStatusCounts(
+        long inProgress,    // 진행중 (공구 진행중 + 환불 이력 없음)
+        long confirmed,     // 확정 (공구 종료 + 환불 처리 안 됨)
+        long refundPending  // 환불 대기 (INITIATED 환불 있음)
+) {
+}
@@ -1,10 +1,14 @@
 package com.ururulab.ururu.order.dto.response;
 
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+
 import java.time.Instant;
 
 /**
  * 장바구니 아이템 정보 DTO
  * GET /cart 응답의 cartItems 배열 요소
+ * availableStock은 재고에서 다른 주문서의 예약 수량을 뺀 값이며,
+ * purchasable은 지금 주문서를 만들면 통과할지(진행 중 + 구매 가능 수량 충분) 여부
  */
 public record CartItemResponse(
         Long cartItemId,
@@ -14,6 +18,9 @@ public record CartItemResponse(
         String optionName,
         String optionImage,
         Integer price,
-        Instant endsAt
+        Instant endsAt,
+        GroupBuyStatus groupBuyStatus,
+        Integer availableStock,
+        Boolean purchasable
 ) {
 }
\ No newline at end of file
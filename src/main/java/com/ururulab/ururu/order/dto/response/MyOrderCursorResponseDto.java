@@ -0,0 +1,19 @@
+package com.ururulab.ururu.order.dto.response;
+
+import java.util.List;
+
+/**
+ * 나의 주문 목록 커서 응답
+ * approximateTotal/totalCapped는 includeTotal=true로 요청한 경우에만 포함 (상한 초과 시 상한값과 totalCapped=true)
+ */
+public record MyOrderCursorResponseDto(
+        Integer inProgress,
+        Integer confirmed,
+        Integer refundPending,
+        List<MyOrderResponseDto> orders,
+        String nextCursor,
+        Boolean hasMore,
+        Long approximateTotal,
+        Boolean totalCapped
+) {
+}
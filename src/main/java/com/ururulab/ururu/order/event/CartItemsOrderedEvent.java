@@ -0,0 +1,13 @@
+package com.ururulab.ururu.order.event;
+
+import java.util.List;
+
+/**
+ * 장바구니에 담긴 옵션이 결제 완료되었을 때 발생하는 이벤트
+ * 커밋 후 장바구니에서 결제된 옵션 제거용 (결제 트랜잭션이 롤백되면 장바구니 유지)
+ */
+public record CartItemsOrderedEvent(
+        Long memberId,
+        List<Long> groupBuyOptionIds
+) {
+}
@@ -0,0 +1,10 @@
+package com.ururulab.ururu.order.event;
+
+/**
+ * 회원의 상태별 주문 수가 바뀔 수 있는 변경(결제 완료, 환불 요청/처리)이 일어났을 때 발생하는 이벤트
+ * 커밋 후 나의 주문 상태별 개수 캐시 무효화용
+ */
+public record MyOrderCountsChangedEvent(
+        Long memberId
+) {
+}
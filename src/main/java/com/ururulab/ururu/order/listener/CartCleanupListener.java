@@ -0,0 +1,32 @@
+package com.ururulab.ururu.order.listener;
+
+import com.ururulab.ururu.order.event.CartItemsOrderedEvent;
+import com.ururulab.ururu.order.service.cart.CartStoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 결제 완료 커밋 후 결제된 옵션을 장바구니에서 제거
+ * 제거 실패는 결제 결과에 영향을 주지 않음 (장바구니에 남은 항목은 사용자가 직접 삭제 가능)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CartCleanupListener {
+
+    private final CartStoreService cartStoreService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCartItemsOrdered(CartItemsOrderedEvent event) {
+        try {
+            int removed = cartStoreService.removeItems(event.memberId(), event.groupBuyOptionIds());
+            log.debug("장바구니에서 제거 - 회원ID: {}, 옵션ID: {}, 제거: {}건",
+                    event.memberId(), event.groupBuyOptionIds(), removed);
+        } catch (Exception e) {
+            log.warn("장바구니 정리 실패 - 회원ID: {}, 옵션ID: {}", event.memberId(), event.groupBuyOptionIds(), e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ururulab.ururu.order.listener;
+
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.event.GroupBuyStatusChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.event.MyOrderCountsChangedEvent;
+import com.ururulab.ururu.order.service.MyOrderCountsCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 나의 주문 상태별 개수 캐시 무효화 리스너
+ * 무효화 실패는 원 처리 결과에 영향을 주지 않으며 캐시 만료(10분)로 보정됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MyOrderCountsCacheListener {
+
+    private final MyOrderCountsCacheService myOrderCountsCacheService;
+    private final OrderRepository orderRepository;
+
+    /**
+     * 결제 완료, 환불 요청/처리 커밋 후 해당 회원의 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCountsChanged(MyOrderCountsChangedEvent event) {
+        try {
+            myOrderCountsCacheService.invalidate(List.of(event.memberId()));
+        } catch (Exception e) {
+            log.warn("주문 개수 캐시 무효화 실패 - 회원ID: {}", event.memberId(), e);
+        }
+    }
+
+    /**
+     * 단건 종료(재고 소진 등) 커밋 후 해당 공동구매 주문자의 캐시 무효화 (진행중 → 확정)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStatusChanged(GroupBuyStatusChangedEvent event) {
+        if (event.status() == GroupBuyStatus.CLOSED) {
+            invalidateOrderersOf(List.of(event.groupBuyId()));
+        }
+    }
+
+    /**
+     * 배치 종료 커밋 후 종료된 공동구매 주문자의 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBatchClosed(GroupBuysBatchClosedEvent event) {
+        invalidateOrderersOf(event.groupBuyIds());
+    }
+
+    private void invalidateOrderersOf(Collection<Long> groupBuyIds) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            myOrderCountsCacheService.invalidate(orderRepository.findMemberIdsWithOrdersInGroupBuys(groupBuyIds));
+        } catch (Exception e) {
+            log.warn("주문 개수 캐시 무효화 실패 - 공동구매: {}", groupBuyIds, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.ururulab.ururu.order.scheduler;
+
+import com.ururulab.ururu.order.service.cart.CartStoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CartWriteBehindScheduler {
+
+    // 한 주기에 DB에 반영할 최대 회원 수 (남으면 다음 주기에 이어서 처리)
+    private static final int MAX_MEMBERS_PER_FLUSH = 500;
+
+    private final CartStoreService cartStoreService;
+
+    /**
+     * 5초마다 변경된 장바구니를 DB에 반영 (인스턴스마다 실행, 회원별로 한 노드만 처리)
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void flushCarts() {
+        try {
+            int flushed = cartStoreService.flushDirty(MAX_MEMBERS_PER_FLUSH);
+            if (flushed > 0) {
+                log.debug("장바구니 DB 반영 - {}명", flushed);
+            }
+        } catch (Exception e) {
+            log.warn("장바구니 DB 반영 실패", e);
+        }
+    }
+}
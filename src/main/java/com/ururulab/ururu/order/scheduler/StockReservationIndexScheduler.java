@@ -0,0 +1,54 @@
+package com.ururulab.ururu.order.scheduler;
+
+import com.ururulab.ururu.order.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationIndexScheduler {
+
+    private final StockReservationService stockReservationService;
+
+    private volatile Instant readyAt;
+
+    /**
+     * 기동 직후 기존 예약으로 옵션별 예약 색인 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIndex() {
+        readyAt = Instant.now();
+        backfill();
+    }
+
+    /**
+     * 기동 후 예약 TTL(30분) 동안 1분마다 다시 채움 - 배포 중 이전 버전 노드가 만든 예약 반영 (인스턴스마다 실행)
+     * 그 이후의 예약은 모두 색인과 함께 기록되므로 중단
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void backfillDuringRollout() {
+        Instant seededAt = readyAt;
+        if (seededAt == null || Instant.now().isAfter(seededAt.plus(StockReservationService.RESERVATION_TTL))) {
+            return;
+        }
+        backfill();
+    }
+
+    private void backfill() {
+        try {
+            int backfilled = stockReservationService.backfillIndex();
+            if (backfilled > 0) {
+                log.info("재고 예약 색인 채우기 - {}건", backfilled);
+            }
+        } catch (Exception e) {
+            log.warn("재고 예약 색인 채우기 실패", e);
+        }
+    }
+}
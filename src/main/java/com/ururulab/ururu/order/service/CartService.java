@@ -3,20 +3,17 @@ package com.ururulab.ururu.order.service;
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
-import com.ururulab.ururu.member.domain.entity.Member;
-import com.ururulab.ururu.member.domain.repository.MemberRepository;
+import com.ururulab.ururu.order.dto.common.CartEntry;
 import com.ururulab.ururu.order.dto.request.CartItemAddRequest;
 import com.ururulab.ururu.order.dto.request.CartItemQuantityChangeRequest;
 import com.ururulab.ururu.order.dto.response.CartItemAddResponse;
 import com.ururulab.ururu.order.dto.response.CartItemQuantityChangeResponse;
 import com.ururulab.ururu.order.dto.response.CartItemResponse;
 import com.ururulab.ururu.order.dto.response.CartResponse;
-import com.ururulab.ururu.order.domain.entity.Cart;
-import com.ururulab.ururu.order.domain.entity.CartItem;
-import com.ururulab.ururu.order.domain.repository.CartRepository;
-import com.ururulab.ururu.order.domain.repository.CartItemRepository;
 import com.ururulab.ururu.order.domain.repository.OrderItemRepository;
+import com.ururulab.ururu.order.service.cart.CartStoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,18 +21,24 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
 import java.util.List;
-import java.util.Optional;
-
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 서비스
+ * 장바구니는 회원별 저장소(CartStoreService)에서 읽고 쓰며, DB(carts/cart_items)에는 write-behind로 반영
+ * 장바구니 아이템 ID는 공구 옵션 ID (회원당 옵션별 한 건)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CartService {
 
-    private final CartRepository cartRepository;
-    private final CartItemRepository cartItemRepository;
+    private final CartStoreService cartStoreService;
     private final GroupBuyOptionRepository groupBuyOptionRepository;
-    private final MemberRepository memberRepository;
     private final OrderItemRepository orderItemRepository;
+    private final StockReservationService stockReservationService;
 
     /**
      * 장바구니에 아이템을 추가
@@ -43,7 +46,7 @@ public class CartService {
      * @param memberId 회원 ID
      * @param request 장바구니 아이템 추가 요청 DTO
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public CartItemAddResponse addCartItem(Long memberId, CartItemAddRequest request) {
         log.debug("장바구니 아이템 추가 - 회원ID: {}, 옵션ID: {}, 수량: {}",
                 memberId, request.groupbuyOptionId(), request.quantity());
@@ -59,50 +62,43 @@ public class CartService {
 
         validatePurchaseLimit(memberId, groupBuyOption, request.quantity());
 
-        Cart cart = getOrCreateCart(memberId);
-
-        Optional<CartItem> existingItem = cartItemRepository
-                .findByCartAndGroupBuyOption(cart, groupBuyOption);
-
-        CartItem cartItem;
-        if (existingItem.isPresent()) {
-            cartItem = existingItem.get();
-            cartItem.increaseQuantity(request.quantity());
-            log.debug("기존 장바구니 아이템 수량 증가 - 아이템ID: {}, 새 수량: {}",
-                    cartItem.getId(), cartItem.getQuantity());
-        } else {
-            cartItem = CartItem.create(groupBuyOption, request.quantity());
-            cart.addItem(cartItem);
-            cartItemRepository.save(cartItem);
-            log.debug("새 장바구니 아이템 추가 - 옵션ID: {}, 수량: {}",
-                    groupBuyOption.getId(), request.quantity());
-        }
+        int quantity = cartStoreService.addItem(memberId, groupBuyOption.getId(), request.quantity());
+        log.debug("장바구니 아이템 추가 완료 - 옵션ID: {}, 새 수량: {}", groupBuyOption.getId(), quantity);
 
         return new CartItemAddResponse(
-                cartItem.getId(),
-                cartItem.getQuantity()
+                groupBuyOption.getId(),
+                quantity
         );
     }
 
     /**
      * 장바구니 조회
+     * 항목마다 공구 진행 상태와 구매 가능 수량(재고 - 예약)을 함께 제공하여 주문서 생성 전에 실패 여부를 알 수 있도록 함
+     * 장바구니 저장소 + 옵션 조인 쿼리 1회 + 예약 수량 일괄 조회 1회로 항목 수와 관계없이 일정
      * @param memberId 회원 ID
      */
     @Transactional(readOnly = true)
     public CartResponse getCart(Long memberId) {
         log.debug("장바구니 조회 - 회원ID: {}", memberId);
 
-        Optional<Cart> cartOpt = cartRepository.findByMemberIdWithCartItems(memberId);
-
-        if (cartOpt.isEmpty() || cartOpt.get().isEmpty()) {
+        List<CartEntry> entries = cartStoreService.getEntries(memberId);
+        if (entries.isEmpty()) {
             return new CartResponse(List.of());
         }
 
-        Cart cart = cartOpt.get();
+        List<Long> optionIds = entries.stream().map(CartEntry::groupBuyOptionId).toList();
+
+        // 옵션 정보는 조인 쿼리 한 번, 예약 수량은 Redis 파이프라인 한 번으로 조회
+        Map<Long, Object[]> views = groupBuyOptionRepository.findCartViewsByIdIn(optionIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], Function.identity()));
+        Map<Long, Integer> reserved = stockReservationService.getTotalReservedQuantities(optionIds);
 
-        List<CartItemResponse> cartItemResponses = cart.getCartItems().stream()
-                .filter(this::isNotExpired)
-                .map(this::toCartItemResponse)
+        Instant now = Instant.now();
+        List<CartItemResponse> cartItemResponses = entries.stream()
+                .filter(entry -> views.containsKey(entry.groupBuyOptionId()))
+                .filter(entry -> ((Instant) views.get(entry.groupBuyOptionId())[5]).isAfter(now))
+                .map(entry -> toCartItemResponse(entry, views.get(entry.groupBuyOptionId()),
+                        reserved.getOrDefault(entry.groupBuyOptionId(), 0)))
                 .toList();
 
         return new CartResponse(cartItemResponses);
@@ -111,77 +107,63 @@ public class CartService {
     /**
      * 장바구니 아이템 수량 변경
      * @param memberId 회원 ID
-     * @param cartItemId 변경 대상 장바구니 아이템 ID
+     * @param cartItemId 변경 대상 장바구니 아이템 ID (공구 옵션 ID)
      * @param request 수량 변경 요청 DTO
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public CartItemQuantityChangeResponse updateCartItemQuantity(Long memberId, Long cartItemId, CartItemQuantityChangeRequest request) {
         log.debug("장바구니 아이템 수량 변경 - 회원ID: {}, 아이템ID: {}, 변화량: {}",
                 memberId, cartItemId, request.quantityChange());
 
-        CartItem cartItem = cartItemRepository
-                .findByIdAndMemberIdWithDetails(cartItemId, memberId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다."));
-
         if (request.quantityChange() > 0) {
-            validatePurchaseLimit(memberId, cartItem.getGroupBuyOption(), request.quantityChange());
-            cartItem.increaseQuantity(request.quantityChange());
-        } else {
-            cartItem.decreaseQuantity(Math.abs(request.quantityChange()));
+            cartStoreService.getEntry(memberId, cartItemId)
+                    .orElseThrow(() -> new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다."));
+            GroupBuyOption groupBuyOption = groupBuyOptionRepository.findByIdWithDetails(cartItemId)
+                    .orElseThrow(() -> new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다."));
+            validatePurchaseLimit(memberId, groupBuyOption, request.quantityChange());
         }
 
-        log.debug("장바구니 아이템 수량 변경 완료 - 아이템ID: {}, 새 수량: {}", cartItemId, cartItem.getQuantity());
-        return new CartItemQuantityChangeResponse(cartItemId, cartItem.getQuantity());
+        int quantity = cartStoreService.changeQuantity(memberId, cartItemId, request.quantityChange());
+
+        log.debug("장바구니 아이템 수량 변경 완료 - 아이템ID: {}, 새 수량: {}", cartItemId, quantity);
+        return new CartItemQuantityChangeResponse(cartItemId, quantity);
     }
 
     /**
      * 장바구니 아이템 삭제
      * @param memberId 회원 ID
-     * @param cartItemId 삭제할 장바구니 아이템 ID
+     * @param cartItemId 삭제할 장바구니 아이템 ID (공구 옵션 ID)
      */
-    @Transactional
     public void removeCartItem(Long memberId, Long cartItemId) {
         log.debug("장바구니 아이템 삭제 - 회원ID: {}, 아이템ID: {}", memberId, cartItemId);
 
-        CartItem cartItem = cartItemRepository
-                .findByIdAndMemberIdWithDetails(cartItemId, memberId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다."));
-
-        Cart cart = cartItem.getCart();
-        cart.removeItem(cartItem);
-        cartItemRepository.delete(cartItem);
+        if (cartStoreService.removeItems(memberId, List.of(cartItemId)) == 0) {
+            throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다.");
+        }
 
         log.debug("장바구니 아이템 삭제 완료 - 아이템ID: {}", cartItemId);
     }
 
-    private Cart getOrCreateCart(Long memberId) {
-        return cartRepository.findByMemberId(memberId)
-                .orElseGet(() -> {
-                    Member member = memberRepository.findById(memberId)
-                            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-                    Cart newCart = Cart.create(member);
-                    return cartRepository.save(newCart);
-                });
-    }
-
-    private boolean isNotExpired(CartItem cartItem) {
-        Instant endsAt = cartItem.getGroupBuyOption().getGroupBuy().getEndsAt();
-        Instant now = Instant.now();
-        return endsAt.isAfter(now);
-    }
-
-    private CartItemResponse toCartItemResponse(CartItem cartItem) {
-        GroupBuyOption option = cartItem.getGroupBuyOption();
+    /**
+     * @param view [optionId, productName, optionName, optionImageUrl, salePrice, endsAt, groupBuyStatus, stock]
+     * @param reservedQuantity 옵션의 총 예약 수량
+     */
+    private CartItemResponse toCartItemResponse(CartEntry entry, Object[] view, int reservedQuantity) {
+        GroupBuyStatus status = (GroupBuyStatus) view[6];
+        int availableStock = Math.max((Integer) view[7] - reservedQuantity, 0);
 
         return new CartItemResponse(
-                cartItem.getId(),
-                option.getId(),
-                cartItem.getQuantity(),
-                option.getGroupBuy().getProduct().getName(),
-                option.getProductOption().getName(),
-                option.getProductOption().getImageUrl(),
-                option.getSalePrice(),
-                option.getGroupBuy().getEndsAt()
+                entry.groupBuyOptionId(),
+                entry.groupBuyOptionId(),
+                entry.quantity(),
+                (String) view[1],
+                (String) view[2],
+                (String) view[3],
+                (Integer) view[4],
+                (Instant) view[5],
+                status,
+                availableStock,
+                status == GroupBuyStatus.OPEN && availableStock >= entry.quantity()
         );
     }
 
@@ -200,10 +182,8 @@ public class CartService {
         Integer orderedQuantity = orderItemRepository
                 .getTotalOrderedQuantityByMemberAndOption(memberId, groupBuyOption.getId());
 
-        Cart cart = getOrCreateCart(memberId);
-        Integer cartQuantity = cartItemRepository
-                .findByCartAndGroupBuyOption(cart, groupBuyOption)
-                .map(CartItem::getQuantity)
+        int cartQuantity = cartStoreService.getEntry(memberId, groupBuyOption.getId())
+                .map(CartEntry::quantity)
                 .orElse(0);
 
         int totalQuantity = orderedQuantity + cartQuantity + requestQuantity;
@@ -0,0 +1,168 @@
+package com.ururulab.ururu.order.service;
+
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyStatistics;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyStatisticsRepository;
+import com.ururulab.ururu.order.domain.entity.Order;
+import com.ururulab.ururu.order.domain.entity.OrderItem;
+import com.ururulab.ururu.order.domain.repository.OrderItemRepository;
+import com.ururulab.ururu.payment.domain.entity.Refund;
+import com.ururulab.ururu.payment.domain.entity.enumerated.RefundStatus;
+import com.ururulab.ururu.payment.domain.repository.PaymentRepository;
+import com.ururulab.ururu.payment.domain.repository.RefundItemRepository;
+import com.ururulab.ururu.payment.domain.repository.RefundRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 나의 주문 목록 한 페이지의 연관 데이터 일괄 조회
+ * - 페이지의 주문/주문 아이템/공동구매 키를 먼저 모은 뒤 관계별로 IN 쿼리 한 번씩만 실행
+ * - 결과는 요청 안에서만 쓰는 조회용 맵(Batch)으로 반환하여 변환 시 추가 쿼리 없음
+ * - 페이지 크기와 관계없이 결제, 진행중 환불, 환불 아이템, 공동구매 통계, 주문 수량 최대 5개 쿼리
+ */
+@Component
+@RequiredArgsConstructor
+public class MyOrderBatchLoader {
+
+    /**
+     * 환불됨으로 간주하는 환불 상태 (INITIATED 제외)
+     */
+    static final List<RefundStatus> PROCESSED_REFUND_STATUSES = List.of(
+            RefundStatus.APPROVED,
+            RefundStatus.COMPLETED,
+            RefundStatus.REJECTED,
+            RefundStatus.FAILED
+    );
+
+    private final PaymentRepository paymentRepository;
+    private final RefundRepository refundRepository;
+    private final RefundItemRepository refundItemRepository;
+    private final GroupBuyStatisticsRepository groupBuyStatisticsRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    /**
+     * 주문 목록에 필요한 연관 데이터 일괄 조회
+     *
+     * @param orders 주문 아이템/공동구매가 함께 조회된 주문 목록
+     * @return 조회 결과 (주문이 없으면 빈 결과, 쿼리 없음)
+     */
+    public Batch load(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return Batch.EMPTY;
+        }
+
+        Set<String> orderIds = new HashSet<>();
+        Set<Long> orderItemIds = new HashSet<>();
+        Set<Long> openGroupBuyIds = new HashSet<>();
+        Set<Long> closedGroupBuyIds = new HashSet<>();
+
+        for (Order order : orders) {
+            orderIds.add(order.getId());
+            for (OrderItem item : order.getOrderItems()) {
+                orderItemIds.add(item.getId());
+
+                GroupBuy groupBuy = item.getGroupBuyOption().getGroupBuy();
+                if (groupBuy.getStatus() == GroupBuyStatus.OPEN) {
+                    openGroupBuyIds.add(groupBuy.getId());
+                } else if (groupBuy.getStatus() == GroupBuyStatus.CLOSED) {
+                    closedGroupBuyIds.add(groupBuy.getId());
+                }
+            }
+        }
+
+        return new Batch(
+                loadPaymentAmounts(orderIds),
+                loadActiveRefunds(orderIds),
+                loadProcessedOrderItemIds(orderItemIds),
+                loadStatistics(closedGroupBuyIds),
+                loadOrderedQuantities(openGroupBuyIds)
+        );
+    }
+
+    private Map<String, Integer> loadPaymentAmounts(Set<String> orderIds) {
+        Map<String, Integer> amounts = new HashMap<>();
+        for (Object[] row : paymentRepository.findTotalAmountsByOrderIds(orderIds)) {
+            amounts.put((String) row[0], (Integer) row[1]);
+        }
+        return amounts;
+    }
+
+    private Map<String, Refund> loadActiveRefunds(Set<String> orderIds) {
+        Map<String, Refund> refunds = new HashMap<>();
+        for (Object[] row : refundRepository.findActiveRefundsByOrderIds(orderIds)) {
+            refunds.putIfAbsent((String) row[0], (Refund) row[1]);
+        }
+        return refunds;
+    }
+
+    private Set<Long> loadProcessedOrderItemIds(Set<Long> orderItemIds) {
+        if (orderItemIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(refundItemRepository.findOrderItemIdsByOrderItemIdInAndRefundStatusIn(
+                orderItemIds, PROCESSED_REFUND_STATUSES));
+    }
+
+    private Map<Long, GroupBuyStatistics> loadStatistics(Set<Long> closedGroupBuyIds) {
+        if (closedGroupBuyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, GroupBuyStatistics> statistics = new HashMap<>();
+        for (GroupBuyStatistics stat : groupBuyStatisticsRepository.findByGroupBuyIdIn(closedGroupBuyIds)) {
+            statistics.put(stat.getGroupBuy().getId(), stat);
+        }
+        return statistics;
+    }
+
+    private Map<Long, Integer> loadOrderedQuantities(Set<Long> openGroupBuyIds) {
+        if (openGroupBuyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (Object[] row : orderItemRepository.getTotalQuantitiesByGroupBuyIds(openGroupBuyIds)) {
+            quantities.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return quantities;
+    }
+
+    /**
+     * 한 페이지 분량의 조회 결과 (요청 범위에서만 사용)
+     */
+    public record Batch(
+            Map<String, Integer> paymentAmounts,
+            Map<String, Refund> activeRefunds,
+            Set<Long> processedOrderItemIds,
+            Map<Long, GroupBuyStatistics> statistics,
+            Map<Long, Integer> orderedQuantities
+    ) {
+        static final Batch EMPTY = new Batch(Map.of(), Map.of(), Set.of(), Map.of(), Map.of());
+
+        public Optional<Integer> paymentAmountOf(String orderId) {
+            return Optional.ofNullable(paymentAmounts.get(orderId));
+        }
+
+        public Optional<Refund> activeRefundOf(String orderId) {
+            return Optional.ofNullable(activeRefunds.get(orderId));
+        }
+
+        public boolean isRefundProcessed(OrderItem orderItem) {
+            return processedOrderItemIds.contains(orderItem.getId());
+        }
+
+        public Optional<GroupBuyStatistics> statisticsOf(Long groupBuyId) {
+            return Optional.ofNullable(statistics.get(groupBuyId));
+        }
+
+        /**
+         * 진행 중인 공동구매의 유효 주문 수량 (주문이 없으면 0)
+         */
+        public int orderedQuantityOf(Long groupBuyId) {
+            return orderedQuantities.getOrDefault(groupBuyId, 0);
+        }
+    }
+}
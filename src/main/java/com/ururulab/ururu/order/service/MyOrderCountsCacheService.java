@@ -0,0 +1,135 @@
+package com.ururulab.ururu.order.service;
+
+import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.dto.common.MyOrderStatusCounts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 나의 주문 상태별 개수 캐시 (회원별 Redis 해시)
+ * - 조회 시 캐시가 있으면 HGETALL 한 번, 없으면 조건부 집계 쿼리 한 번으로 계산 후 저장
+ * - 결제 완료, 환불 요청/처리, 공동구매 종료 커밋 후 해당 회원의 캐시를 무효화
+ * - 무효화는 회원별 세대 번호를 올리고 캐시를 삭제하며, 계산 중 무효화된 경우 이전 세대 값은 저장하지 않음
+ * - Redis 장애 시 캐시 없이 DB에서 바로 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MyOrderCountsCacheService {
+
+    private static final String COUNTS_KEY_PREFIX = "order:my-counts:";
+    private static final String GENERATION_KEY_PREFIX = "order:my-counts:gen:";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+    // 세대 번호는 캐시보다 오래 유지 (캐시 만료 전에 세대 번호가 사라지면 계산 중 무효화를 놓칠 수 있음)
+    private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+    private static final String FIELD_IN_PROGRESS = "inProgress";
+    private static final String FIELD_CONFIRMED = "confirmed";
+    private static final String FIELD_REFUND_PENDING = "refundPending";
+
+    // 세대 번호가 계산 시작 시점과 같을 때만 저장
+    private static final String STORE_SCRIPT = """
+            local generation = redis.call('GET', KEYS[2]) or '0'
+            if generation ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'inProgress', ARGV[2], 'confirmed', ARGV[3], 'refundPending', ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """;
+
+    private final DefaultRedisScript<Long> storeScript = new DefaultRedisScript<>(STORE_SCRIPT, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OrderRepository orderRepository;
+
+    /**
+     * 회원의 상태별 주문 개수
+     */
+    public MyOrderStatusCounts getCounts(Long memberId) {
+        String generation;
+        try {
+            MyOrderStatusCounts cached = readCached(memberId);
+            if (cached != null) {
+                return cached;
+            }
+            generation = currentGeneration(memberId);
+        } catch (Exception e) {
+            log.warn("주문 개수 캐시 조회 실패, DB에서 계산 - 회원ID: {}", memberId, e);
+            return orderRepository.countMyOrdersByStatus(memberId);
+        }
+
+        MyOrderStatusCounts counts = orderRepository.countMyOrdersByStatus(memberId);
+        store(memberId, generation, counts);
+        return counts;
+    }
+
+    /**
+     * 회원들의 캐시 무효화 (커밋 후 호출)
+     */
+    public void invalidate(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        long generationTtlSeconds = GENERATION_TTL.toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long memberId : memberIds) {
+                stringConnection.incr(generationKey(memberId));
+                stringConnection.expire(generationKey(memberId), generationTtlSeconds);
+                stringConnection.del(countsKey(memberId));
+            }
+            return null;
+        });
+    }
+
+    private MyOrderStatusCounts readCached(Long memberId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(countsKey(memberId));
+        if (entries.size() < 3) {
+            return null;
+        }
+
+        return new MyOrderStatusCounts(
+                Long.parseLong((String) entries.get(FIELD_IN_PROGRESS)),
+                Long.parseLong((String) entries.get(FIELD_CONFIRMED)),
+                Long.parseLong((String) entries.get(FIELD_REFUND_PENDING))
+        );
+    }
+
+    private String currentGeneration(Long memberId) {
+        String generation = redisTemplate.opsForValue().get(generationKey(memberId));
+        return generation != null ? generation : "0";
+    }
+
+    private void store(Long memberId, String generation, MyOrderStatusCounts counts) {
+        try {
+            redisTemplate.execute(storeScript, List.of(countsKey(memberId), generationKey(memberId)),
+                    generation,
+                    String.valueOf(counts.inProgress()),
+                    String.valueOf(counts.confirmed()),
+                    String.valueOf(counts.refundPending()),
+                    String.valueOf(CACHE_TTL.toMillis()));
+        } catch (Exception e) {
+            log.warn("주문 개수 캐시 저장 실패 - 회원ID: {}", memberId, e);
+        }
+    }
+
+    private String countsKey(Long memberId) {
+        return COUNTS_KEY_PREFIX + memberId;
+    }
+
+    private String generationKey(Long memberId) {
+        return GENERATION_KEY_PREFIX + memberId;
+    }
+}
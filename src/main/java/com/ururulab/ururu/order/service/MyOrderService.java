@@ -1,28 +1,24 @@
 package com.ururulab.ururu.order.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.domain.dto.CreatedAtCursor;
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyStatistics;
-import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyStatisticsRepository;
+import com.ururulab.ururu.groupBuy.service.GroupBuyDiscountTierService;
 import com.ururulab.ururu.member.domain.repository.MemberRepository;
 import com.ururulab.ururu.order.domain.entity.Order;
 import com.ururulab.ururu.order.domain.entity.OrderItem;
 import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
-import com.ururulab.ururu.order.domain.repository.OrderItemRepository;
 import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.dto.common.MyOrderStatusCounts;
+import com.ururulab.ururu.order.dto.response.MyOrderCursorResponseDto;
 import com.ururulab.ururu.order.dto.response.MyOrderListResponseDto;
 import com.ururulab.ururu.order.dto.response.MyOrderResponseDto;
 import com.ururulab.ururu.order.dto.response.OrderItemResponseDto;
-import com.ururulab.ururu.payment.domain.entity.Payment;
+import com.ururulab.ururu.order.service.MyOrderBatchLoader.Batch;
 import com.ururulab.ururu.payment.domain.entity.Refund;
-import com.ururulab.ururu.payment.domain.entity.enumerated.RefundStatus;
-import com.ururulab.ururu.payment.domain.repository.PaymentRepository;
-import com.ururulab.ururu.payment.domain.repository.RefundItemRepository;
-import com.ururulab.ururu.payment.domain.repository.RefundRepository;
 import com.ururulab.ururu.product.domain.entity.ProductOption;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,7 +31,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -44,18 +39,16 @@ import java.util.Optional;
 public class MyOrderService {
 
     private final OrderRepository orderRepository;
-    private final OrderItemRepository orderItemRepository;
-    private final PaymentRepository paymentRepository;
     private final MemberRepository memberRepository;
-    private final GroupBuyStatisticsRepository groupBuyStatisticsRepository;
-    private final RefundRepository refundRepository;
-    private final RefundItemRepository refundItemRepository;
-    private final ObjectMapper objectMapper;
+    private final MyOrderBatchLoader myOrderBatchLoader;
+    private final MyOrderCountsCacheService myOrderCountsCacheService;
+    private final GroupBuyDiscountTierService groupBuyDiscountTierService;
 
     /**
      * 회원의 주문 목록을 조회합니다.
      * 환불되지 않은 OrderItem이 있는 주문만 반환하며,
      * 상태별 통계 정보도 함께 제공합니다.
+     * 결제/환불/공구 통계 등 연관 데이터는 페이지 단위로 일괄 조회합니다. (MyOrderBatchLoader)
      *
      * @param memberId 회원 ID
      * @param statusParam 주문 상태 필터 ("all" 또는 실제 상태값)
@@ -72,22 +65,22 @@ public class MyOrderService {
 
         String statusFilter = parseStatusFilter(statusParam);
 
-        // 주문 통계 조회
-        Long inProgress = orderRepository.countMyOrders(memberId, "inprogress");
-        Long confirmed = orderRepository.countMyOrders(memberId, "confirmed");
-        Long refundPending = orderRepository.countMyOrders(memberId, "refundpending");
+        // 주문 통계 조회 (회원별 캐시, 없으면 조건부 집계 한 번)
+        MyOrderStatusCounts counts = myOrderCountsCacheService.getCounts(memberId);
 
         Pageable pageable = PageRequest.of(page - 1, size);
         Page<Order> orders = orderRepository.findMyOrdersWithDetails(memberId, statusFilter, pageable);
 
+        Batch batch = myOrderBatchLoader.load(orders.getContent());
+
         List<MyOrderResponseDto> orderDtos = orders.getContent().stream()
-                .map(this::toMyOrderResponseDto)
+                .map(order -> toMyOrderResponseDto(order, batch))
                 .toList();
 
         return new MyOrderListResponseDto(
-                inProgress.intValue(),
-                confirmed.intValue(),
-                refundPending.intValue(),
+                (int) counts.inProgress(),
+                (int) counts.confirmed(),
+                (int) counts.refundPending(),
                 orderDtos,
                 page,
                 size,
@@ -95,6 +88,63 @@ public class MyOrderService {
         );
     }
 
+    /**
+     * 회원의 주문 목록을 커서 기준으로 조회합니다. (createdAt DESC, id DESC)
+     * 페이지 번호 대신 이전 응답의 nextCursor로 이어서 조회하므로 깊은 페이지도 비용이 일정하며,
+     * 조회 중 새 주문이 생겨도 항목이 중복/누락되지 않습니다.
+     * 전체 개수는 includeTotal=true인 경우에만 상한(CreatedAtCursor.TOTAL_COUNT_CAP)까지 셉니다.
+     *
+     * @param memberId 회원 ID
+     * @param statusParam 주문 상태 필터 ("all" 또는 실제 상태값)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param includeTotal 근사 전체 개수 포함 여부
+     * @return 주문 목록, 다음 커서 및 통계 정보
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public MyOrderCursorResponseDto getMyOrdersByCursor(Long memberId, String statusParam, String cursor,
+                                                        int size, boolean includeTotal) {
+        log.debug("나의 주문 목록 커서 조회 - 회원ID: {}, 상태: {}, 커서: {}, 크기: {}",
+                memberId, statusParam, cursor, size);
+
+        validateMemberExists(memberId);
+
+        String statusFilter = parseStatusFilter(statusParam);
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+
+        MyOrderStatusCounts counts = myOrderCountsCacheService.getCounts(memberId);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Order> fetched = orderRepository.findMyOrdersWithDetailsByCursor(memberId, statusFilter, after, size + 1);
+        boolean hasMore = fetched.size() > size;
+        List<Order> orders = hasMore ? fetched.subList(0, size) : fetched;
+
+        Batch batch = myOrderBatchLoader.load(orders);
+
+        List<MyOrderResponseDto> orderDtos = orders.stream()
+                .map(order -> toMyOrderResponseDto(order, batch))
+                .toList();
+
+        Order last = hasMore ? orders.get(orders.size() - 1) : null;
+        String nextCursor = last != null ? CreatedAtCursor.of(last.getCreatedAt(), last.getId()).encode() : null;
+
+        Long countedTotal = includeTotal
+                ? orderRepository.countMyOrdersUpTo(memberId, statusFilter, CreatedAtCursor.TOTAL_COUNT_CAP)
+                : null;
+
+        return new MyOrderCursorResponseDto(
+                (int) counts.inProgress(),
+                (int) counts.confirmed(),
+                (int) counts.refundPending(),
+                orderDtos,
+                nextCursor,
+                hasMore,
+                countedTotal == null ? null : Math.min(countedTotal, CreatedAtCursor.TOTAL_COUNT_CAP),
+                countedTotal == null ? null : countedTotal > CreatedAtCursor.TOTAL_COUNT_CAP
+        );
+    }
+
     /**
      * 회원 존재 여부를 검증합니다.
      *
@@ -132,21 +182,23 @@ public class MyOrderService {
      * Order 엔티티를 MyOrderResponseDto로 변환합니다.
      *
      * @param order 주문 엔티티
+     * @param batch 페이지 단위로 일괄 조회한 연관 데이터
      * @return 주문 응답 DTO
      */
-    private MyOrderResponseDto toMyOrderResponseDto(Order order) {
+    private MyOrderResponseDto toMyOrderResponseDto(Order order, Batch batch) {
         // 환불되지 않은 OrderItem들만 필터링
         List<OrderItemResponseDto> orderItems = order.getOrderItems().stream()
-                .filter(item -> !this.isRefundProcessed(item))                .map(this::toOrderItemResponseDto)
+                .filter(item -> !batch.isRefundProcessed(item))
+                .map(item -> toOrderItemResponseDto(item, batch))
                 .toList();
 
-        Integer totalAmount = calculateCurrentAmount(order);
+        Integer totalAmount = calculateCurrentAmount(order, batch);
 
         Boolean[] refundStatus = calculateRefundStatus(order);
         Boolean canRefundChangeOfMind = refundStatus[0];
         Boolean canRefundOthers = refundStatus[1];
 
-        Optional<Refund> activeRefund = refundRepository.findActiveRefundByOrderId(order.getId());
+        Optional<Refund> activeRefund = batch.activeRefundOf(order.getId());
 
         return new MyOrderResponseDto(
                 order.getId(),
@@ -194,55 +246,37 @@ public class MyOrderService {
      * 전체 결제 금액에서 환불된 금액을 뺀 값을 반환합니다.
      *
      * @param order 주문 엔티티
+     * @param batch 페이지 단위로 일괄 조회한 연관 데이터
      * @return 현재 유효 금액
      */
-    private Integer calculateCurrentAmount(Order order) {
+    private Integer calculateCurrentAmount(Order order, Batch batch) {
         // 전체 결제 금액
-        Integer totalAmount = paymentRepository.findByOrderId(order.getId())
-                .map(Payment::getTotalAmount)
+        Integer totalAmount = batch.paymentAmountOf(order.getId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
 
         // 환불된 금액 계산
         Integer refundedAmount = order.getOrderItems().stream()
-                .filter(this::isRefundProcessed)
+                .filter(batch::isRefundProcessed)
                 .mapToInt(item -> item.getGroupBuyOption().getSalePrice() * item.getQuantity())
                 .sum();
 
         return totalAmount - refundedAmount;
     }
 
-    /**
-     * OrderItem이 환불되었는지 확인합니다.
-     * INITIATED가 아닌 모든 환불 상태를 "환불됨"으로 처리합니다.
-     *
-     * @param orderItem 주문 아이템
-     * @return 환불되었으면 true
-     */
-    private boolean isRefundProcessed(OrderItem orderItem) {
-        return refundItemRepository.existsByOrderItemIdAndRefundStatusIn(
-                orderItem.getId(),
-                List.of(
-                        RefundStatus.APPROVED,
-                        RefundStatus.COMPLETED,
-                        RefundStatus.REJECTED,
-                        RefundStatus.FAILED
-                )
-        );
-    }
-
     /**
      * OrderItem을 OrderItemResponseDto로 변환합니다.
      *
      * @param orderItem 주문 아이템
+     * @param batch 페이지 단위로 일괄 조회한 연관 데이터
      * @return 주문 아이템 응답 DTO
      */
-    private OrderItemResponseDto toOrderItemResponseDto(OrderItem orderItem) {
+    private OrderItemResponseDto toOrderItemResponseDto(OrderItem orderItem, Batch batch) {
         GroupBuyOption groupBuyOption = orderItem.getGroupBuyOption();
         GroupBuy groupBuy = groupBuyOption.getGroupBuy();
         ProductOption productOption = groupBuyOption.getProductOption();
 
-        String groupBuyStatus = determineGroupBuyStatus(groupBuy);
-        Integer discountRate = calculateDiscountRate(groupBuy);
+        String groupBuyStatus = determineGroupBuyStatus(groupBuy, batch);
+        Integer discountRate = calculateDiscountRate(groupBuy, batch);
 
         return new OrderItemResponseDto(
                 groupBuyOption.getId(),
@@ -261,16 +295,16 @@ public class MyOrderService {
      * 공구 상태를 결정합니다.
      *
      * @param groupBuy 공구 엔티티
+     * @param batch 페이지 단위로 일괄 조회한 연관 데이터
      * @return 공구 상태 문자열
      */
-    private String determineGroupBuyStatus(GroupBuy groupBuy) {
+    private String determineGroupBuyStatus(GroupBuy groupBuy, Batch batch) {
         switch (groupBuy.getStatus()) {
             case OPEN -> {
                 return "OPEN";
             }
             case CLOSED -> {
-                Optional<GroupBuyStatistics> statisticsOpt =
-                        groupBuyStatisticsRepository.findByGroupBuyId(groupBuy.getId());
+                Optional<GroupBuyStatistics> statisticsOpt = batch.statisticsOf(groupBuy.getId());
 
                 if (statisticsOpt.isPresent()) {
                     return statisticsOpt.get().getFinalStatus().name();
@@ -288,16 +322,16 @@ public class MyOrderService {
      * 공구의 할인율을 계산합니다.
      *
      * @param groupBuy 공구 엔티티
+     * @param batch 페이지 단위로 일괄 조회한 연관 데이터
      * @return 할인율 (퍼센트)
      */
-    private Integer calculateDiscountRate(GroupBuy groupBuy) {
+    private Integer calculateDiscountRate(GroupBuy groupBuy, Batch batch) {
         switch (groupBuy.getStatus()) {
             case OPEN -> {
-                return calculateCurrentDiscountRate(groupBuy);
+                return calculateCurrentDiscountRate(groupBuy, batch.orderedQuantityOf(groupBuy.getId()));
             }
             case CLOSED -> {
-                Optional<GroupBuyStatistics> statisticsOpt =
-                        groupBuyStatisticsRepository.findByGroupBuyId(groupBuy.getId());
+                Optional<GroupBuyStatistics> statisticsOpt = batch.statisticsOf(groupBuy.getId());
 
                 if (statisticsOpt.isPresent()) {
                     return statisticsOpt.get().getFinalDiscountRate();
@@ -315,30 +349,12 @@ public class MyOrderService {
      * 진행중인 공구의 현재 할인율을 계산합니다.
      *
      * @param groupBuy 공구 엔티티
+     * @param totalSalesQuantity 공구의 유효 주문 수량
      * @return 현재 할인율
      */
-    private Integer calculateCurrentDiscountRate(GroupBuy groupBuy) {
+    private Integer calculateCurrentDiscountRate(GroupBuy groupBuy, int totalSalesQuantity) {
         try {
-            String discountStagesJson = groupBuy.getDiscountStages();
-            List<Map<String, Object>> stages = objectMapper.readValue(
-                    discountStagesJson,
-                    new TypeReference<>() {}
-            );
-
-            Integer totalSalesQuantity = orderItemRepository.getTotalQuantityByGroupBuyId(groupBuy.getId());
-
-            int maxDiscountRate = 0;
-            for (Map<String, Object> stage : stages) {
-                Integer count = (Integer) stage.get("count");
-                Integer rate = (Integer) stage.get("rate");
-
-                if (totalSalesQuantity >= count && rate > maxDiscountRate) {
-                    maxDiscountRate = rate;
-                }
-            }
-
-            return maxDiscountRate;
-
+            return groupBuyDiscountTierService.getDiscountRate(groupBuy, totalSalesQuantity);
         } catch (Exception e) {
             log.error("현재 할인율 계산 실패 - GroupBuy ID: {}, discountStages: {}",
                     groupBuy.getId(), groupBuy.getDiscountStages(), e);
@@ -7,18 +7,18 @@ import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
 import com.ururulab.ururu.member.domain.entity.Member;
 import com.ururulab.ururu.member.domain.repository.MemberRepository;
+import com.ururulab.ururu.order.dto.common.CartEntry;
 import com.ururulab.ururu.order.dto.request.CartOrderCreateRequest;
 import com.ururulab.ururu.order.dto.request.GroupBuyOrderCreateRequest;
 import com.ururulab.ururu.order.dto.request.OrderItemRequest;
 import com.ururulab.ururu.order.dto.response.OrderCreateResponse;
 import com.ururulab.ururu.order.dto.response.OrderItemResponse;
-import com.ururulab.ururu.order.domain.entity.CartItem;
 import com.ururulab.ururu.order.domain.entity.Order;
 import com.ururulab.ururu.order.domain.entity.OrderItem;
 import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
-import com.ururulab.ururu.order.domain.repository.CartItemRepository;
 import com.ururulab.ururu.order.domain.repository.OrderItemRepository;
 import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.service.cart.CartStoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,7 +26,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,7 +40,7 @@ public class OrderCreationService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final CartItemRepository cartItemRepository;
+    private final CartStoreService cartStoreService;
     private final GroupBuyOptionRepository groupBuyOptionRepository;
     private final MemberRepository memberRepository;
     private final StockReservationService stockReservationService;
@@ -177,6 +182,7 @@ public class OrderCreationService {
     /**
      * 장바구니 주문 컨텍스트 준비
      * 여러 공구의 상품을 함께 주문할 수 있습니다.
+     * 장바구니 아이템 ID는 공구 옵션 ID이며, 장바구니 저장소에 담긴 항목만 주문합니다.
      *
      * @param memberId 회원 ID
      * @param request 장바구니 주문 요청 정보
@@ -186,24 +192,35 @@ public class OrderCreationService {
     private OrderCreationContext prepareCartOrderContext(Long memberId, CartOrderCreateRequest request) {
         Member member = findMemberById(memberId);
 
-        List<CartItem> cartItems = cartItemRepository.findAllById(request.cartItemIds())
+        Set<Long> requestedIds = new HashSet<>(request.cartItemIds());
+        List<CartEntry> requestedEntries = cartStoreService.getEntries(memberId).stream()
+                .filter(entry -> requestedIds.contains(entry.groupBuyOptionId()))
+                .toList();
+
+        Map<Long, GroupBuyOption> options = requestedEntries.isEmpty()
+                ? Map.of()
+                : groupBuyOptionRepository.findAllByIdInWithDetails(
+                        requestedEntries.stream().map(CartEntry::groupBuyOptionId).toList())
                 .stream()
-                .filter(item -> item.getCart().getMember().getId().equals(memberId))
+                .collect(Collectors.toMap(GroupBuyOption::getId, Function.identity()));
+
+        List<CartEntry> cartEntries = requestedEntries.stream()
+                .filter(entry -> options.containsKey(entry.groupBuyOptionId()))
                 .toList();
 
-        if (cartItems.isEmpty()) {
+        if (cartEntries.isEmpty()) {
             throw new BusinessException(ErrorCode.CART_ITEMS_EMPTY);
         }
 
         // 여러 공구 허용 - MULTIPLE_GROUPBUY_NOT_ALLOWED 제약 제거됨
         // 첫 번째 아이템의 공구를 대표 공구로 사용 (Order 엔티티 호환성을 위한 임시 방편)
-        GroupBuy groupBuy = cartItems.get(0).getGroupBuyOption().getGroupBuy();
-        List<GroupBuyOption> groupBuyOptions = cartItems.stream()
-                .map(CartItem::getGroupBuyOption)
+        List<GroupBuyOption> groupBuyOptions = cartEntries.stream()
+                .map(entry -> options.get(entry.groupBuyOptionId()))
                 .toList();
+        GroupBuy groupBuy = groupBuyOptions.get(0).getGroupBuy();
 
-        List<OrderItemRequest> orderItems = cartItems.stream()
-                .map(item -> new OrderItemRequest(item.getGroupBuyOption().getId(), item.getQuantity()))
+        List<OrderItemRequest> orderItems = cartEntries.stream()
+                .map(entry -> new OrderItemRequest(entry.groupBuyOptionId(), entry.quantity()))
                 .toList();
 
         return new OrderCreationContext(member, groupBuy, groupBuyOptions, orderItems);
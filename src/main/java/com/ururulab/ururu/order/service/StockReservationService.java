@@ -2,15 +2,28 @@ package com.ururulab.ururu.order.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.Set;
+import java.time.Instant;
+import java.util.*;
 
 /**
  * Redis 기반 재고 예약 서비스
  * 주문서 생성 시 임시 재고 차감 및 TTL 관리
+ * - 예약: pending_order:{optionId}:{memberId} (String, TTL 30분)
+ * - 옵션별 예약 색인: pending_order_index:{optionId} (Hash, field = 회원 ID, value = "수량:만료시각(epochMilli)")
+ *   옵션별 예약 수량 합계를 KEYS 없이 여러 옵션 한 번에 조회하기 위한 용도 (만료 시각이 지난 항목은 합계에서 제외)
+ * - 예약과 색인은 하나의 Lua 스크립트로 함께 기록하고, 기록할 때 만료된 색인 항목을 정리
+ * - 색인 도입 이전(또는 이전 버전 노드)의 예약은 색인 채우기(backfillIndex)로 반영
+ *   이 노드에서 색인 채우기가 한 번 끝나기 전까지는 예약 키를 직접 조회하여 합계 계산
  */
 @Slf4j
 @Service
@@ -20,9 +33,48 @@ public class StockReservationService {
     private final RedisTemplate<String, String> redisTemplate;
 
     private static final String RESERVATION_KEY_PREFIX = "pending_order:";
+    private static final String RESERVATION_INDEX_KEY_PREFIX = "pending_order_index:";
     private static final String PROCESSING_KEY_PREFIX = "processing:";
-    private static final Duration RESERVATION_TTL = Duration.ofMinutes(30);
+    public static final Duration RESERVATION_TTL = Duration.ofMinutes(30);
     private static final Duration PROCESSING_TTL = Duration.ofMinutes(5);
+    private static final int SCAN_COUNT = 500;
+
+    // KEYS[1] 예약 키, KEYS[2] 옵션별 색인 / ARGV: 회원 ID, 수량, TTL(ms), 현재 시각(epochMilli)
+    private static final String RESERVE_SCRIPT = """
+            local now = tonumber(ARGV[4])
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            local entries = redis.call('HGETALL', KEYS[2])
+            for i = 1, #entries, 2 do
+                local value = entries[i + 1]
+                local expiresAt = tonumber(string.sub(value, string.find(value, ':', 1, true) + 1))
+                if expiresAt <= now then
+                    redis.call('HDEL', KEYS[2], entries[i])
+                end
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2] .. ':' .. (now + tonumber(ARGV[3])))
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """;
+
+    // KEYS[1] 예약 키, KEYS[2] 옵션별 색인 / ARGV: 회원 ID, 현재 시각(epochMilli)
+    // 예약 키의 수량과 남은 TTL로 색인 항목을 덮어씀 (예약 키가 기준)
+    private static final String BACKFILL_SCRIPT = """
+            local quantity = redis.call('GET', KEYS[1])
+            local ttl = redis.call('PTTL', KEYS[1])
+            if not quantity or ttl <= 0 then
+                return 0
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], quantity .. ':' .. (tonumber(ARGV[2]) + ttl))
+            if redis.call('PTTL', KEYS[2]) < ttl then
+                redis.call('PEXPIRE', KEYS[2], ttl)
+            end
+            return 1
+            """;
+
+    private final DefaultRedisScript<Long> reserveScript = new DefaultRedisScript<>(RESERVE_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> backfillScript = new DefaultRedisScript<>(BACKFILL_SCRIPT, Long.class);
+
+    private volatile boolean indexSeeded;
 
     /**
      * 재고 예약 생성
@@ -31,8 +83,12 @@ public class StockReservationService {
      * @param quantity 예약 수량
      */
     public void reserveStock(Long optionId, Long memberId, Integer quantity) {
-        String key = buildReservationKey(optionId, memberId);
-        redisTemplate.opsForValue().set(key, quantity.toString(), RESERVATION_TTL);
+        redisTemplate.execute(reserveScript,
+                List.of(buildReservationKey(optionId, memberId), buildReservationIndexKey(optionId)),
+                memberId.toString(),
+                quantity.toString(),
+                String.valueOf(RESERVATION_TTL.toMillis()),
+                String.valueOf(Instant.now().toEpochMilli()));
 
         log.debug("재고 예약 생성 - 옵션ID: {}, 회원ID: {}, 수량: {}", optionId, memberId, quantity);
     }
@@ -45,6 +101,7 @@ public class StockReservationService {
     public void releaseReservation(Long optionId, Long memberId) {
         String key = buildReservationKey(optionId, memberId);
         redisTemplate.delete(key);
+        redisTemplate.opsForHash().delete(buildReservationIndexKey(optionId), memberId.toString());
 
         log.debug("재고 예약 해제 - 옵션ID: {}, 회원ID: {}", optionId, memberId);
     }
@@ -55,19 +112,77 @@ public class StockReservationService {
      * @return 총 예약 수량
      */
     public Integer getTotalReservedQuantity(Long optionId) {
-        String pattern = RESERVATION_KEY_PREFIX + optionId + ":*";
-        Set<String> keys = redisTemplate.keys(pattern);
+        return getTotalReservedQuantities(List.of(optionId)).getOrDefault(optionId, 0);
+    }
 
-        if (keys == null || keys.isEmpty()) {
-            return 0;
+    /**
+     * 여러 옵션의 총 예약 수량 일괄 조회 (옵션별 예약 색인을 파이프라인으로 한 번에 조회)
+     * @param optionIds 공구 옵션 ID 목록
+     * @return 옵션 ID별 총 예약 수량 (예약이 없으면 0)
+     */
+    public Map<Long, Integer> getTotalReservedQuantities(Collection<Long> optionIds) {
+        if (optionIds.isEmpty()) {
+            return Map.of();
         }
 
-        return keys.stream()
-                .mapToInt(key -> {
-                    String value = redisTemplate.opsForValue().get(key);
-                    return value != null ? Integer.parseInt(value) : 0;
-                })
-                .sum();
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(optionIds));
+        if (!indexSeeded) {
+            // 색인 채우기 전에는 색인에 없는 예약이 있을 수 있으므로 예약 키를 직접 합산
+            Map<Long, Integer> reserved = new HashMap<>();
+            ids.forEach(optionId -> reserved.put(optionId, sumReservationKeys(optionId)));
+            return reserved;
+        }
+
+        List<Object> indexes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                ids.forEach(optionId -> operations.opsForHash().entries(buildReservationIndexKey(optionId)));
+                return null;
+            }
+        });
+
+        long now = Instant.now().toEpochMilli();
+        Map<Long, Integer> reserved = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            reserved.put(ids.get(i), sumActiveReservations((Map<?, ?>) indexes.get(i), now));
+        }
+        return reserved;
+    }
+
+    /**
+     * 예약 키를 SCAN하여 옵션별 예약 색인에 반영
+     * 색인 도입 이전이나 이전 버전 노드에서 생성된 예약을 색인에 포함시키기 위해 기동 후 예약 TTL 동안 주기적으로 호출
+     * @return 색인에 반영한 예약 수
+     */
+    public int backfillIndex() {
+        long now = Instant.now().toEpochMilli();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RESERVATION_KEY_PREFIX + "*")
+                .count(SCAN_COUNT)
+                .build();
+
+        int backfilled = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                // pending_order:{optionId}:{memberId}
+                int delimiter = key.lastIndexOf(':');
+                String optionId = key.substring(RESERVATION_KEY_PREFIX.length(), delimiter);
+                String memberId = key.substring(delimiter + 1);
+
+                Long result = redisTemplate.execute(backfillScript,
+                        List.of(key, RESERVATION_INDEX_KEY_PREFIX + optionId),
+                        memberId, String.valueOf(now));
+                if (result != null && result > 0) {
+                    backfilled++;
+                }
+            }
+        }
+
+        indexSeeded = true;
+        log.debug("재고 예약 색인 채우기 완료 - 반영된 예약 수: {}", backfilled);
+        return backfilled;
     }
 
     /**
@@ -121,6 +236,11 @@ public class StockReservationService {
 
         if (keys != null && !keys.isEmpty()) {
             redisTemplate.delete(keys);
+            keys.forEach(key -> {
+                // pending_order:{optionId}:{memberId}
+                String optionId = key.substring(RESERVATION_KEY_PREFIX.length(), key.lastIndexOf(':'));
+                redisTemplate.opsForHash().delete(RESERVATION_INDEX_KEY_PREFIX + optionId, memberId.toString());
+            });
             log.debug("사용자 모든 예약 해제 - 회원ID: {}, 해제된 예약 수: {}", memberId, keys.size());
         }
     }
@@ -128,4 +248,38 @@ public class StockReservationService {
     private String buildReservationKey(Long optionId, Long memberId) {
         return RESERVATION_KEY_PREFIX + optionId + ":" + memberId;
     }
+
+    private String buildReservationIndexKey(Long optionId) {
+        return RESERVATION_INDEX_KEY_PREFIX + optionId;
+    }
+
+    private int sumReservationKeys(Long optionId) {
+        Set<String> keys = redisTemplate.keys(RESERVATION_KEY_PREFIX + optionId + ":*");
+        if (keys == null || keys.isEmpty()) {
+            return 0;
+        }
+
+        return keys.stream()
+                .mapToInt(key -> {
+                    String value = redisTemplate.opsForValue().get(key);
+                    return value != null ? Integer.parseInt(value) : 0;
+                })
+                .sum();
+    }
+
+    private int sumActiveReservations(Map<?, ?> index, long now) {
+        if (index == null || index.isEmpty()) {
+            return 0;
+        }
+
+        int total = 0;
+        for (Object value : index.values()) {
+            String entry = value.toString();
+            int delimiter = entry.indexOf(':');
+            if (Long.parseLong(entry.substring(delimiter + 1)) > now) {
+                total += Integer.parseInt(entry.substring(0, delimiter));
+            }
+        }
+        return total;
+    }
 }
\ No newline at end of file
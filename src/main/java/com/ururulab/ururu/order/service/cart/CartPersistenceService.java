@@ -0,0 +1,68 @@
+package com.ururulab.ururu.order.service.cart;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.member.domain.repository.MemberRepository;
+import com.ururulab.ururu.order.domain.entity.Cart;
+import com.ururulab.ururu.order.domain.entity.CartItem;
+import com.ururulab.ururu.order.domain.policy.CartItemPolicy;
+import com.ururulab.ururu.order.domain.repository.CartRepository;
+import com.ururulab.ururu.order.dto.common.CartEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장바구니 저장소 내용을 carts/cart_items 테이블에 반영 (write-behind 대상)
+ * 저장소의 항목을 원본으로 DB 항목을 추가/수량 변경/삭제하여 맞춤
+ */
+@Service
+@RequiredArgsConstructor
+public class CartPersistenceService {
+
+    private final CartRepository cartRepository;
+    private final MemberRepository memberRepository;
+    private final GroupBuyOptionRepository groupBuyOptionRepository;
+
+    @Transactional
+    public void persist(Long memberId, List<CartEntry> entries) {
+        Cart cart = cartRepository.findByMemberId(memberId).orElse(null);
+        if (cart == null) {
+            if (entries.isEmpty()) {
+                return;
+            }
+            cart = cartRepository.save(Cart.create(memberRepository.getReferenceById(memberId)));
+        }
+
+        Map<Long, CartItem> persistedItems = new HashMap<>();
+        for (CartItem item : new ArrayList<>(cart.getCartItems())) {
+            persistedItems.put(item.getGroupBuyOption().getId(), item);
+        }
+
+        for (CartEntry entry : entries) {
+            CartItem item = persistedItems.remove(entry.groupBuyOptionId());
+            if (item != null) {
+                syncQuantity(item, entry.quantity());
+            } else if (entry.quantity() >= CartItemPolicy.MIN_QUANTITY) {
+                cart.addItem(CartItem.create(
+                        groupBuyOptionRepository.getReferenceById(entry.groupBuyOptionId()), entry.quantity()));
+            }
+        }
+
+        // 저장소에 없는 항목은 삭제 (orphanRemoval)
+        persistedItems.values().forEach(cart::removeItem);
+    }
+
+    private void syncQuantity(CartItem item, int quantity) {
+        int difference = quantity - item.getQuantity();
+        if (difference > 0) {
+            item.increaseQuantity(difference);
+        } else if (difference < 0) {
+            item.decreaseQuantity(-difference);
+        }
+    }
+}
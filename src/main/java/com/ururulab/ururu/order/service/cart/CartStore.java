@@ -0,0 +1,72 @@
+package com.ururulab.ururu.order.service.cart;
+
+import com.ururulab.ururu.order.dto.common.CartEntry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 회원별 장바구니 저장소 (장바구니 조회/수정의 원본)
+ * - 회원의 장바구니는 DB에서 한 번 적재(load)된 뒤부터 저장소에서만 읽고 씀
+ * - 변경된 회원은 dirty로 표시되어 write-behind 작업이 carts/cart_items 테이블에 반영
+ * - 적재되지 않은 장바구니에 쓰면 NOT_LOADED를 반환 (DB 내용이 빠진 채로 덮어쓰지 않도록)
+ */
+public interface CartStore {
+
+    int NOT_LOADED = -1;
+    int ITEM_NOT_FOUND = -2;
+    int QUANTITY_UNDERFLOW = -3;
+
+    /**
+     * 장바구니 항목 조회
+     * @return 담은 순서대로 정렬된 항목 (적재되지 않았으면 empty)
+     */
+    Optional<List<CartEntry>> findEntries(Long memberId);
+
+    /**
+     * DB에서 읽은 장바구니 적재 (이미 적재되어 있으면 무시)
+     */
+    void loadIfAbsent(Long memberId, List<CartEntry> entries);
+
+    /**
+     * 항목 수량 변경
+     * @param delta 변화량 (음수면 감소)
+     * @param createIfAbsent 항목이 없을 때 새로 담을지 여부
+     * @param addedAt 새로 담는 경우의 담은 시각
+     * @return 변경 후 수량, 또는 NOT_LOADED / ITEM_NOT_FOUND / QUANTITY_UNDERFLOW
+     */
+    int changeQuantity(Long memberId, Long groupBuyOptionId, int delta, boolean createIfAbsent, Instant addedAt);
+
+    /**
+     * 항목 삭제
+     * @return 삭제한 항목 수, 또는 NOT_LOADED
+     */
+    int removeItems(Long memberId, Collection<Long> groupBuyOptionIds);
+
+    /**
+     * DB 반영이 필요한 회원을 꺼냄 (꺼낸 회원은 다른 노드에서 다시 꺼낼 수 없음)
+     * @param maxCount 최대 개수
+     */
+    Set<Long> popDirtyMembers(int maxCount);
+
+    /**
+     * DB 반영 대상으로 다시 표시 (반영 실패 시)
+     */
+    void markDirty(Collection<Long> memberIds);
+
+    /**
+     * 회원 장바구니의 DB 반영 잠금 (같은 회원의 반영이 노드 간에 겹쳐 이전 내용이 나중에 커밋되지 않도록)
+     * @param ttl 잠금 유지 시간 (반영 중 노드 장애 대비)
+     * @return 획득 시 잠금 토큰, 다른 곳에서 반영 중이면 empty
+     */
+    Optional<String> tryLockFlush(Long memberId, Duration ttl);
+
+    /**
+     * DB 반영 잠금 해제 (토큰이 일치할 때만)
+     */
+    void unlockFlush(Long memberId, String token);
+}
@@ -0,0 +1,162 @@
+package com.ururulab.ururu.order.service.cart;
+
+import com.ururulab.ururu.order.domain.policy.CartItemPolicy;
+import com.ururulab.ururu.order.domain.repository.CartItemRepository;
+import com.ururulab.ururu.order.dto.common.CartEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 장바구니 읽기/쓰기 진입점 (CartStore + write-behind)
+ * - 저장소에 적재되지 않은 회원은 DB(cart_items)에서 읽어 적재한 뒤 처리
+ * - 변경은 저장소에만 반영하고, flushDirty가 변경된 회원의 장바구니를 모아서 DB에 반영
+ * - 장바구니 서비스, 장바구니 주문서 생성, 결제 완료 후 장바구니 정리가 모두 이 서비스를 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartStoreService {
+
+    private final CartStore cartStore;
+    private final CartItemRepository cartItemRepository;
+    private final CartPersistenceService cartPersistenceService;
+
+    // DB 반영 잠금 유지 시간 (반영 중 노드 장애 시 다른 노드가 이어서 처리할 수 있도록)
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    /**
+     * 회원의 장바구니 항목 (담은 순서)
+     */
+    public List<CartEntry> getEntries(Long memberId) {
+        return cartStore.findEntries(memberId)
+                .orElseGet(() -> load(memberId));
+    }
+
+    /**
+     * 장바구니에 담긴 공구 옵션 항목
+     */
+    public Optional<CartEntry> getEntry(Long memberId, Long groupBuyOptionId) {
+        return getEntries(memberId).stream()
+                .filter(entry -> entry.groupBuyOptionId().equals(groupBuyOptionId))
+                .findFirst();
+    }
+
+    /**
+     * 장바구니에 담기 (이미 있으면 수량 증가)
+     * @return 변경 후 수량
+     */
+    public int addItem(Long memberId, Long groupBuyOptionId, int quantity) {
+        return changeQuantity(memberId, groupBuyOptionId, quantity, true);
+    }
+
+    /**
+     * 담긴 항목의 수량 변경
+     * @param quantityChange 변화량 (음수면 감소)
+     * @return 변경 후 수량
+     * @throws IllegalArgumentException 항목이 없거나 수량이 0 미만이 되는 경우
+     */
+    public int changeQuantity(Long memberId, Long groupBuyOptionId, int quantityChange) {
+        return changeQuantity(memberId, groupBuyOptionId, quantityChange, false);
+    }
+
+    /**
+     * 항목 삭제
+     * @return 삭제한 항목 수
+     */
+    public int removeItems(Long memberId, Collection<Long> groupBuyOptionIds) {
+        int removed = cartStore.removeItems(memberId, groupBuyOptionIds);
+        if (removed == CartStore.NOT_LOADED) {
+            load(memberId);
+            removed = cartStore.removeItems(memberId, groupBuyOptionIds);
+        }
+        return Math.max(removed, 0);
+    }
+
+    /**
+     * 변경된 회원의 장바구니를 DB에 반영 (write-behind)
+     * 꺼낸 회원은 이 노드만 처리하며, 실패한 회원은 다시 표시하여 다음 주기에 재시도
+     * 회원별 반영 잠금을 잡은 뒤 저장소를 읽으므로, 다른 노드가 같은 회원을 반영 중이면 다음 주기로 미루고
+     * 나중에 커밋되는 반영이 항상 더 최신 내용을 기록함
+     *
+     * @param maxMembers 한 번에 반영할 최대 회원 수
+     * @return 반영한 회원 수
+     */
+    public int flushDirty(int maxMembers) {
+        Set<Long> memberIds = cartStore.popDirtyMembers(maxMembers);
+        int flushed = 0;
+
+        for (Long memberId : memberIds) {
+            Optional<String> lockToken;
+            try {
+                lockToken = cartStore.tryLockFlush(memberId, FLUSH_LOCK_TTL);
+            } catch (Exception e) {
+                log.warn("장바구니 DB 반영 잠금 실패, 다음 주기에 재시도 - 회원ID: {}", memberId, e);
+                cartStore.markDirty(List.of(memberId));
+                continue;
+            }
+            if (lockToken.isEmpty()) {
+                // 다른 노드가 반영 중 - 끝난 뒤 최신 내용으로 다시 반영
+                cartStore.markDirty(List.of(memberId));
+                continue;
+            }
+
+            try {
+                // 저장소에서 만료된 장바구니는 DB가 원본이므로 반영할 내용 없음
+                Optional<List<CartEntry>> entries = cartStore.findEntries(memberId);
+                if (entries.isPresent()) {
+                    cartPersistenceService.persist(memberId, entries.get());
+                    flushed++;
+                }
+            } catch (Exception e) {
+                log.warn("장바구니 DB 반영 실패, 다음 주기에 재시도 - 회원ID: {}", memberId, e);
+                cartStore.markDirty(List.of(memberId));
+            } finally {
+                unlockFlush(memberId, lockToken.get());
+            }
+        }
+        return flushed;
+    }
+
+    private void unlockFlush(Long memberId, String lockToken) {
+        try {
+            cartStore.unlockFlush(memberId, lockToken);
+        } catch (Exception e) {
+            log.warn("장바구니 DB 반영 잠금 해제 실패 (유지 시간 후 자동 해제) - 회원ID: {}", memberId, e);
+        }
+    }
+
+    private int changeQuantity(Long memberId, Long groupBuyOptionId, int delta, boolean createIfAbsent) {
+        Instant now = Instant.now();
+        int result = cartStore.changeQuantity(memberId, groupBuyOptionId, delta, createIfAbsent, now);
+        if (result == CartStore.NOT_LOADED) {
+            load(memberId);
+            result = cartStore.changeQuantity(memberId, groupBuyOptionId, delta, createIfAbsent, now);
+        }
+
+        if (result == CartStore.ITEM_NOT_FOUND || result == CartStore.NOT_LOADED) {
+            throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다.");
+        }
+        if (result == CartStore.QUANTITY_UNDERFLOW) {
+            throw new IllegalArgumentException(CartItemPolicy.QUANTITY_MIN);
+        }
+        return result;
+    }
+
+    private List<CartEntry> load(Long memberId) {
+        List<CartEntry> entries = cartItemRepository.findEntriesByMemberId(memberId).stream()
+                .map(row -> new CartEntry((Long) row[0], (Integer) row[1], (Instant) row[2]))
+                .toList();
+
+        // 동시에 적재한 다른 요청이 있으면 그쪽 내용(이후 변경 포함)을 사용
+        cartStore.loadIfAbsent(memberId, entries);
+        return cartStore.findEntries(memberId).orElse(entries);
+    }
+}
@@ -0,0 +1,122 @@
+package com.ururulab.ururu.order.service.cart;
+
+import com.ururulab.ururu.order.dto.common.CartEntry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 인메모리 장바구니 저장소 (order.cart.store=local)
+ * Redis 없이 실행하는 로컬/테스트 환경용 - 인스턴스 간 공유되지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "order.cart.store", havingValue = "local")
+public class LocalCartStore implements CartStore {
+
+    // 회원 ID -> (공구 옵션 ID -> 항목)
+    private final Map<Long, Map<Long, CartEntry>> carts = new HashMap<>();
+    private final Set<Long> dirtyMembers = new LinkedHashSet<>();
+    // 회원 ID -> DB 반영 잠금 토큰 (단일 인스턴스라 만료 없음)
+    private final Map<Long, String> flushLocks = new HashMap<>();
+
+    @Override
+    public synchronized Optional<List<CartEntry>> findEntries(Long memberId) {
+        Map<Long, CartEntry> cart = carts.get(memberId);
+        if (cart == null) {
+            return Optional.empty();
+        }
+        return Optional.of(sorted(cart.values()));
+    }
+
+    @Override
+    public synchronized void loadIfAbsent(Long memberId, List<CartEntry> entries) {
+        carts.computeIfAbsent(memberId, id -> {
+            Map<Long, CartEntry> cart = new HashMap<>();
+            entries.forEach(entry -> cart.put(entry.groupBuyOptionId(), entry));
+            return cart;
+        });
+    }
+
+    @Override
+    public synchronized int changeQuantity(Long memberId, Long groupBuyOptionId, int delta,
+                                           boolean createIfAbsent, Instant addedAt) {
+        Map<Long, CartEntry> cart = carts.get(memberId);
+        if (cart == null) {
+            return NOT_LOADED;
+        }
+
+        CartEntry current = cart.get(groupBuyOptionId);
+        if (current == null && !createIfAbsent) {
+            return ITEM_NOT_FOUND;
+        }
+
+        int quantity = (current != null ? current.quantity() : 0) + delta;
+        if (quantity < 0) {
+            return QUANTITY_UNDERFLOW;
+        }
+
+        cart.put(groupBuyOptionId, new CartEntry(groupBuyOptionId, quantity,
+                current != null ? current.addedAt() : addedAt));
+        dirtyMembers.add(memberId);
+        return quantity;
+    }
+
+    @Override
+    public synchronized int removeItems(Long memberId, Collection<Long> groupBuyOptionIds) {
+        Map<Long, CartEntry> cart = carts.get(memberId);
+        if (cart == null) {
+            return NOT_LOADED;
+        }
+
+        int removed = 0;
+        for (Long groupBuyOptionId : groupBuyOptionIds) {
+            if (cart.remove(groupBuyOptionId) != null) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            dirtyMembers.add(memberId);
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized Set<Long> popDirtyMembers(int maxCount) {
+        Set<Long> popped = new LinkedHashSet<>();
+        Iterator<Long> iterator = dirtyMembers.iterator();
+        while (iterator.hasNext() && popped.size() < maxCount) {
+            popped.add(iterator.next());
+            iterator.remove();
+        }
+        return popped;
+    }
+
+    @Override
+    public synchronized void markDirty(Collection<Long> memberIds) {
+        dirtyMembers.addAll(memberIds);
+    }
+
+    @Override
+    public synchronized Optional<String> tryLockFlush(Long memberId, Duration ttl) {
+        if (flushLocks.containsKey(memberId)) {
+            return Optional.empty();
+        }
+        String token = UUID.randomUUID().toString();
+        flushLocks.put(memberId, token);
+        return Optional.of(token);
+    }
+
+    @Override
+    public synchronized void unlockFlush(Long memberId, String token) {
+        flushLocks.remove(memberId, token);
+    }
+
+    private List<CartEntry> sorted(Collection<CartEntry> entries) {
+        return entries.stream()
+                .sorted(Comparator.comparing(CartEntry::addedAt).thenComparing(CartEntry::groupBuyOptionId))
+                .toList();
+    }
+}
@@ -0,0 +1,204 @@
+package com.ururulab.ururu.order.service.cart;
+
+import com.ururulab.ururu.order.dto.common.CartEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Redis 기반 장바구니 저장소 (기본)
+ * - 장바구니: cart:items:{memberId} (Hash, field = 공구 옵션 ID, value = "수량:담은시각(epochMilli)")
+ * - 적재 표시: 같은 Hash의 _loaded 필드 (빈 장바구니도 적재된 것으로 구분)
+ * - DB 반영 대상: cart:dirty (Set, member = 회원 ID)
+ * - DB 반영 잠금: cart:flush-lock:{memberId} (String, 잠금 토큰)
+ * - 수정은 Lua 스크립트로 적재 여부 확인, 항목 변경, dirty 표시를 원자적으로 처리
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.cart.store", havingValue = "redis", matchIfMissing = true)
+public class RedisCartStore implements CartStore {
+
+    private static final String CART_KEY_PREFIX = "cart:items:";
+    private static final String DIRTY_KEY = "cart:dirty";
+    private static final String FLUSH_LOCK_KEY_PREFIX = "cart:flush-lock:";
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String VALUE_DELIMITER = ":";
+    // 마지막 수정 후 보관 기간 (만료되어도 DB에서 다시 적재)
+    private static final Duration CART_TTL = Duration.ofDays(30);
+
+    private static final String LOAD_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], '1', unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+    private static final String CHANGE_QUANTITY_SCRIPT = """
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+                return -1
+            end
+            local quantity = tonumber(ARGV[3])
+            local addedAt = ARGV[5]
+            local current = redis.call('HGET', KEYS[1], ARGV[2])
+            if current then
+                local sep = string.find(current, ':', 1, true)
+                quantity = tonumber(string.sub(current, 1, sep - 1)) + quantity
+                addedAt = string.sub(current, sep + 1)
+            elseif ARGV[4] ~= '1' then
+                return -2
+            end
+            if quantity < 0 then
+                return -3
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], quantity .. ':' .. addedAt)
+            redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            redis.call('SADD', KEYS[2], ARGV[7])
+            return quantity
+            """;
+
+    private static final String REMOVE_SCRIPT = """
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+                return -1
+            end
+            local removed = redis.call('HDEL', KEYS[1], unpack(ARGV, 4))
+            if removed > 0 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                redis.call('SADD', KEYS[2], ARGV[3])
+            end
+            return removed
+            """;
+
+    private static final String UNLOCK_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final DefaultRedisScript<Long> loadScript = new DefaultRedisScript<>(LOAD_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> changeQuantityScript = new DefaultRedisScript<>(CHANGE_QUANTITY_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> removeScript = new DefaultRedisScript<>(REMOVE_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> unlockScript = new DefaultRedisScript<>(UNLOCK_SCRIPT, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<List<CartEntry>> findEntries(Long memberId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(cartKey(memberId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<CartEntry> entries = new ArrayList<>(fields.size());
+        fields.forEach((field, value) -> {
+            if (!LOADED_FIELD.equals(field)) {
+                entries.add(toEntry(field.toString(), value.toString()));
+            }
+        });
+        entries.sort(Comparator.comparing(CartEntry::addedAt).thenComparing(CartEntry::groupBuyOptionId));
+        return Optional.of(entries);
+    }
+
+    @Override
+    public void loadIfAbsent(Long memberId, List<CartEntry> entries) {
+        List<String> args = new ArrayList<>(entries.size() * 2 + 2);
+        args.add(String.valueOf(CART_TTL.toMillis()));
+        args.add(LOADED_FIELD);
+        entries.forEach(entry -> {
+            args.add(String.valueOf(entry.groupBuyOptionId()));
+            args.add(toValue(entry.quantity(), entry.addedAt()));
+        });
+
+        redisTemplate.execute(loadScript, List.of(cartKey(memberId)), args.toArray());
+    }
+
+    @Override
+    public int changeQuantity(Long memberId, Long groupBuyOptionId, int delta,
+                              boolean createIfAbsent, Instant addedAt) {
+        Long result = redisTemplate.execute(
+                changeQuantityScript,
+                List.of(cartKey(memberId), DIRTY_KEY),
+                LOADED_FIELD,
+                String.valueOf(groupBuyOptionId),
+                String.valueOf(delta),
+                createIfAbsent ? "1" : "0",
+                String.valueOf(addedAt.toEpochMilli()),
+                String.valueOf(CART_TTL.toMillis()),
+                String.valueOf(memberId)
+        );
+        return result != null ? result.intValue() : NOT_LOADED;
+    }
+
+    @Override
+    public int removeItems(Long memberId, Collection<Long> groupBuyOptionIds) {
+        if (groupBuyOptionIds.isEmpty()) {
+            return 0;
+        }
+
+        List<String> args = new ArrayList<>(groupBuyOptionIds.size() + 3);
+        args.add(LOADED_FIELD);
+        args.add(String.valueOf(CART_TTL.toMillis()));
+        args.add(String.valueOf(memberId));
+        groupBuyOptionIds.forEach(id -> args.add(String.valueOf(id)));
+
+        Long result = redisTemplate.execute(removeScript, List.of(cartKey(memberId), DIRTY_KEY), args.toArray());
+        return result != null ? result.intValue() : NOT_LOADED;
+    }
+
+    @Override
+    public Set<Long> popDirtyMembers(int maxCount) {
+        List<String> popped = redisTemplate.opsForSet().pop(DIRTY_KEY, maxCount);
+        if (popped == null || popped.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> memberIds = new LinkedHashSet<>();
+        popped.forEach(id -> memberIds.add(Long.valueOf(id)));
+        return memberIds;
+    }
+
+    @Override
+    public void markDirty(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_KEY, memberIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    @Override
+    public Optional<String> tryLockFlush(Long memberId, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY_PREFIX + memberId, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    @Override
+    public void unlockFlush(Long memberId, String token) {
+        redisTemplate.execute(unlockScript, List.of(FLUSH_LOCK_KEY_PREFIX + memberId), token);
+    }
+
+    private String cartKey(Long memberId) {
+        return CART_KEY_PREFIX + memberId;
+    }
+
+    private String toValue(int quantity, Instant addedAt) {
+        return quantity + VALUE_DELIMITER + addedAt.toEpochMilli();
+    }
+
+    private CartEntry toEntry(String field, String value) {
+        int delimiter = value.indexOf(VALUE_DELIMITER);
+        return new CartEntry(
+                Long.valueOf(field),
+                Integer.parseInt(value.substring(0, delimiter)),
+                Instant.ofEpochMilli(Long.parseLong(value.substring(delimiter + 1)))
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.ururulab.ururu.payment.controller;
 
 import com.ururulab.ururu.global.domain.dto.ApiResponseFormat;
+import com.ururulab.ururu.payment.dto.response.MyRefundCursorResponseDto;
 import com.ururulab.ururu.payment.dto.response.MyRefundListResponseDto;
 import com.ururulab.ururu.payment.service.MyRefundService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -51,4 +52,30 @@ public class MyRefundController {
                 ApiResponseFormat.success("취소/반품 내역 조회 성공", response)
         );
     }
+
+    @Operation(summary = "나의 환불 내역 커서 조회", description = "회원의 환불 내역을 최신순으로 커서 기반 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하며, 전체 개수는 includeTotal=true일 때만 근사값(상한 1,000)으로 제공합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "환불 내역 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 회원")
+    })
+    @GetMapping("/refunds/my/cursor")
+    public ResponseEntity<ApiResponseFormat<MyRefundCursorResponseDto>> getMyRefundsByCursor(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(defaultValue = "all") String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.debug("나의 환불 내역 커서 조회 요청 - 회원ID: {}, 상태: {}, 커서: {}, 크기: {}",
+                memberId, status, cursor, size);
+
+        MyRefundCursorResponseDto response = myRefundService.getMyRefundsByCursor(
+                memberId, status, cursor, size, includeTotal);
+
+        return ResponseEntity.ok(
+                ApiResponseFormat.success("취소/반품 내역 조회 성공", response)
+        );
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.ururulab.ururu.payment.controller;
 
 import com.ururulab.ururu.global.domain.dto.ApiResponseFormat;
 import com.ururulab.ururu.payment.dto.response.MemberPointResponse;
+import com.ururulab.ururu.payment.dto.response.PointTransactionCursorResponse;
 import com.ururulab.ururu.payment.dto.response.PointTransactionListResponse;
 import com.ururulab.ururu.payment.service.PointService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -70,4 +71,31 @@ public class PointController {
                 ApiResponseFormat.success("포인트 내역 조회 성공", response)
         );
     }
+
+    @Operation(summary = "포인트 내역 커서 조회", description = "포인트 거래 내역을 최신순으로 커서 기반 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하며, 전체 개수는 includeTotal=true일 때만 근사값(상한 1,000)으로 제공합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "포인트 내역 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 회원")
+    })
+    @GetMapping("/point-transactions/cursor")
+    public ResponseEntity<ApiResponseFormat<PointTransactionCursorResponse>> getPointTransactionsByCursor(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(defaultValue = "all") String type,
+            @RequestParam(defaultValue = "all") String source,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.debug("포인트 내역 커서 조회 요청 - 회원ID: {}, 타입: {}, 소스: {}, 커서: {}, 크기: {}",
+                memberId, type, source, cursor, size);
+
+        PointTransactionCursorResponse response = pointService.getPointTransactionsByCursor(
+                memberId, type, source, cursor, size, includeTotal);
+
+        return ResponseEntity.ok(
+                ApiResponseFormat.success("포인트 내역 조회 성공", response)
+        );
+    }
 }
\ No newline at end of file
@@ -12,7 +12,9 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "point_transaction")
+@Table(name = "point_transaction", indexes = {
+        @Index(name = "idx_point_tx_member_created", columnList = "member_id, created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PointTransaction extends BaseEntity {
 
@@ -16,7 +16,10 @@ import java.util.UUID;
 
 @Entity
 @Getter
-@Table(name = "refund")
+@Table(name = "refund", indexes = {
+        @Index(name = "idx_refund_payment_created", columnList = "payment_id, created_at"),
+        @Index(name = "idx_refund_member_created", columnList = "member_id, created_at, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Refund extends BaseEntity {
 
@@ -28,6 +31,10 @@ public class Refund extends BaseEntity {
     @JoinColumn(name = "payment_id", nullable = false)
     private Payment payment;
 
+    // 결제 회원 ID (회원별 환불 내역을 결제 조인 없이 (member_id, created_at, id) 인덱스로 조회)
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private RefundType type;
@@ -106,6 +113,7 @@ public class Refund extends BaseEntity {
         Refund refund = new Refund();
         refund.id = UUID.randomUUID().toString();
         refund.payment = payment;
+        refund.memberId = payment.getMember().getId();
         refund.type = type;
         refund.reason = reason.trim();
         refund.amount = amount;
@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -15,6 +17,13 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     Optional<Payment> findByOrderId(String orderId);
 
+    /**
+     * 여러 주문의 결제 금액 조회 (나의 주문 목록 일괄 조회용)
+     * [orderId, totalAmount] 형태
+     */
+    @Query("SELECT p.order.id, p.totalAmount FROM Payment p WHERE p.order.id IN :orderIds")
+    List<Object[]> findTotalAmountsByOrderIds(@Param("orderIds") Collection<String> orderIds);
+
     /**
      * 결제 키로 결제 정보 조회 (연관 엔티티 포함)
      * 웹훅 처리 및 결제 승인 시 사용
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
@@ -28,5 +29,66 @@ public interface PointTransactionRepository extends JpaRepository<PointTransacti
             Pageable pageable
     );
 
+    /**
+     * 회원별 포인트 거래내역 첫 페이지 조회 (createdAt DESC, id DESC, 개수 쿼리 없음)
+     */
+    @Query("SELECT pt FROM PointTransaction pt " +
+            "WHERE pt.member.id = :memberId " +
+            "AND (:type IS NULL OR pt.type = :type) " +
+            "AND (:source IS NULL OR pt.source = :source) " +
+            "ORDER BY pt.createdAt DESC, pt.id DESC")
+    List<PointTransaction> findFirstByMemberIdWithFilters(
+            @Param("memberId") Long memberId,
+            @Param("type") PointType type,
+            @Param("source") PointSource source,
+            Pageable pageable
+    );
+
+    /**
+     * 회원별 포인트 거래내역 중 커서 이후 페이지 조회 (createdAt DESC, id DESC, 개수 쿼리 없음)
+     */
+    @Query("SELECT pt FROM PointTransaction pt " +
+            "WHERE pt.member.id = :memberId " +
+            "AND (:type IS NULL OR pt.type = :type) " +
+            "AND (:source IS NULL OR pt.source = :source) " +
+            "AND (pt.createdAt < :createdAt OR (pt.createdAt = :createdAt AND pt.id < :id)) " +
+            "ORDER BY pt.createdAt DESC, pt.id DESC")
+    List<PointTransaction> findAfterByMemberIdWithFilters(
+            @Param("memberId") Long memberId,
+            @Param("type") PointType type,
+            @Param("source") PointSource source,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 회원별 포인트 거래 개수를 상한 + 1까지만 셈 (근사 전체 개수용)
+     * 상한을 넘으면 cap + 1 반환
+     */
+    default long countByMemberIdWithFiltersUpTo(Long memberId, PointType type, PointSource source, int cap) {
+        return countByMemberIdWithFiltersLimited(
+                memberId, type != null ? type.name() : null, source != null ? source.name() : null, cap + 1);
+    }
+
+    /**
+     * 회원별 포인트 거래 개수 (limit개에서 중단, (member_id, created_at) 인덱스 범위 스캔)
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM (
+            SELECT 1 FROM point_transaction pt
+            WHERE pt.member_id = :memberId
+              AND (:type IS NULL OR pt.type = :type)
+              AND (:source IS NULL OR pt.source = :source)
+            LIMIT :limit
+        ) capped
+        """, nativeQuery = true)
+    long countByMemberIdWithFiltersLimited(
+            @Param("memberId") Long memberId,
+            @Param("type") String type,
+            @Param("source") String source,
+            @Param("limit") int limit
+    );
+
     int countByMemberId(Long memberId);
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface RefundItemRepository extends JpaRepository<RefundItem, Long> {
@@ -24,4 +25,16 @@ public interface RefundItemRepository extends JpaRepository<RefundItem, Long> {
             @Param("orderItemId") Long orderItemId,
             @Param("statuses") List<RefundStatus> statuses
     );
-}
\ No newline at end of file
+
+    /**
+     * 주어진 OrderItem 중 특정 상태로 환불된 OrderItem ID 조회 (나의 주문 목록 일괄 조회용)
+     */
+    @Query("SELECT DISTINCT ri.orderItem.id FROM RefundItem ri " +
+            "JOIN ri.refund r " +
+            "WHERE ri.orderItem.id IN :orderItemIds " +
+            "AND r.status IN :statuses")
+    List<Long> findOrderItemIdsByOrderItemIdInAndRefundStatusIn(
+            @Param("orderItemIds") Collection<Long> orderItemIds,
+            @Param("statuses") List<RefundStatus> statuses
+    );
+}
@@ -1,38 +1,139 @@
 package com.ururulab.ururu.payment.domain.repository;
 
+import com.ururulab.ururu.global.domain.dto.CreatedAtCursor;
+import com.ururulab.ururu.global.util.TwoPhasePagination;
 import com.ururulab.ururu.payment.domain.entity.Refund;
 import com.ururulab.ururu.payment.domain.entity.enumerated.RefundStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RefundRepository extends JpaRepository<Refund, String> {
 
     /**
-     * 회원의 환불 목록 조회 (INITIATED 이후 상태만, 연관 엔티티 페치조인)
+     * 회원의 환불 목록 조회 (INITIATED 이후 상태만, 연관 엔티티 포함)
+     * 페이지의 환불 ID를 먼저 조회한 뒤 해당 환불만 페치조인으로 조회 (컬렉션 페치조인 + 페이징의 메모리 페이징 방지)
      */
-    @Query("SELECT r FROM Refund r " +
-            "LEFT JOIN FETCH r.refundItems ri " +
-            "LEFT JOIN FETCH ri.orderItem oi " +
-            "LEFT JOIN FETCH oi.groupBuyOption gbo " +
-            "LEFT JOIN FETCH gbo.groupBuy gb " +
-            "LEFT JOIN FETCH gb.product p " +
-            "LEFT JOIN FETCH gbo.productOption po " +
-            "WHERE r.payment.member.id = :memberId " +
+    default Page<Refund> findProcessedRefundsByMemberId(Long memberId, RefundStatus status, Pageable pageable) {
+        return TwoPhasePagination.fetchDetails(
+                findProcessedRefundIdsByMemberId(memberId, status, pageable),
+                this::findAllWithDetailsByIdIn,
+                Refund::getId
+        );
+    }
+
+    /**
+     * 회원의 환불 ID 페이지 조회 (INITIATED 이후 상태만)
+     */
+    @Query(value = "SELECT r.id FROM Refund r " +
+            "WHERE r.memberId = :memberId " +
             "AND r.status != 'INITIATED' " +
             "AND (:status IS NULL OR r.status = :status) " +
-            "ORDER BY r.createdAt DESC")
-    Page<Refund> findProcessedRefundsByMemberId(
+            "ORDER BY r.createdAt DESC, r.id DESC",
+            countQuery = "SELECT COUNT(r) FROM Refund r " +
+                    "WHERE r.memberId = :memberId " +
+                    "AND r.status != 'INITIATED' " +
+                    "AND (:status IS NULL OR r.status = :status)")
+    Page<String> findProcessedRefundIdsByMemberId(
             @Param("memberId") Long memberId,
             @Param("status") RefundStatus status,
             Pageable pageable
     );
 
+    /**
+     * 회원의 환불 목록 커서 조회 (INITIATED 이후 상태만, createdAt DESC, id DESC, 개수 쿼리 없음)
+     *
+     * @param cursor 이전 페이지 마지막 환불 (첫 페이지면 null)
+     * @param limit 조회할 최대 개수
+     */
+    default List<Refund> findProcessedRefundsByMemberIdAfter(Long memberId, RefundStatus status,
+                                                            CreatedAtCursor cursor, int limit) {
+        Pageable pageable = PageRequest.ofSize(limit);
+        List<String> refundIds = cursor == null
+                ? findProcessedRefundIdsFirst(memberId, status, pageable)
+                : findProcessedRefundIdsAfter(memberId, status, cursor.createdAt(), cursor.id(), pageable);
+
+        return TwoPhasePagination.loadInOrder(refundIds, this::findAllWithDetailsByIdIn, Refund::getId);
+    }
+
+    /**
+     * 회원의 환불 ID 첫 페이지 조회 (INITIATED 이후 상태만)
+     */
+    @Query("SELECT r.id FROM Refund r " +
+            "WHERE r.memberId = :memberId " +
+            "AND r.status != 'INITIATED' " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<String> findProcessedRefundIdsFirst(
+            @Param("memberId") Long memberId,
+            @Param("status") RefundStatus status,
+            Pageable pageable
+    );
+
+    /**
+     * 회원의 환불 ID 중 커서 이후 페이지 조회 (INITIATED 이후 상태만)
+     */
+    @Query("SELECT r.id FROM Refund r " +
+            "WHERE r.memberId = :memberId " +
+            "AND r.status != 'INITIATED' " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<String> findProcessedRefundIdsAfter(
+            @Param("memberId") Long memberId,
+            @Param("status") RefundStatus status,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") String id,
+            Pageable pageable
+    );
+
+    /**
+     * 회원의 환불 개수를 상한 + 1까지만 셈 (근사 전체 개수용)
+     * 상한을 넘으면 cap + 1 반환
+     */
+    default long countProcessedRefundsUpTo(Long memberId, RefundStatus status, int cap) {
+        return countProcessedRefundsLimited(memberId, status != null ? status.name() : null, cap + 1);
+    }
+
+    /**
+     * 회원의 환불 개수 (limit개에서 중단, (member_id, created_at, id) 인덱스 범위 스캔)
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM (
+            SELECT 1 FROM refund r
+            WHERE r.member_id = :memberId
+              AND r.status <> 'INITIATED'
+              AND (:status IS NULL OR r.status = :status)
+            LIMIT :limit
+        ) capped
+        """, nativeQuery = true)
+    long countProcessedRefundsLimited(
+            @Param("memberId") Long memberId,
+            @Param("status") String status,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 환불 ID 목록으로 상세 조회 (연관 엔티티 페치조인, 순서 무관)
+     */
+    @Query("SELECT DISTINCT r FROM Refund r " +
+            "LEFT JOIN FETCH r.refundItems ri " +
+            "LEFT JOIN FETCH ri.orderItem oi " +
+            "LEFT JOIN FETCH oi.groupBuyOption gbo " +
+            "LEFT JOIN FETCH gbo.groupBuy gb " +
+            "LEFT JOIN FETCH gb.product p " +
+            "LEFT JOIN FETCH gbo.productOption po " +
+            "WHERE r.id IN :refundIds")
+    List<Refund> findAllWithDetailsByIdIn(@Param("refundIds") Collection<String> refundIds);
+
     /**
      * 환불 ID로 상세 정보 조회
      * 환불 처리 시 연관 엔티티들 함께 조회
@@ -110,4 +211,16 @@ public interface RefundRepository extends JpaRepository<Refund, String> {
             "WHERE r.payment.order.id = :orderId " +
             "AND r.status = 'INITIATED'")
     Optional<Refund> findActiveRefundByOrderId(@Param("orderId") String orderId);
+
+    /**
+     * 여러 주문의 진행중인 환불 정보 일괄 조회 (나의 주문 목록용)
+     * [orderId, refund] 형태
+     *
+     * @param orderIds 주문 ID 목록
+     */
+    @Query("SELECT p.order.id, r FROM Refund r " +
+            "JOIN r.payment p " +
+            "WHERE p.order.id IN :orderIds " +
+            "AND r.status = 'INITIATED'")
+    List<Object[]> findActiveRefundsByOrderIds(@Param("orderIds") Collection<String> orderIds);
 }
@@ -0,0 +1,16 @@
+package com.ururulab.ururu.payment.dto.response;
+
+import java.util.List;
+
+/**
+ * 나의 환불 내역 커서 응답
+ * approximateTotal/totalCapped는 includeTotal=true로 요청한 경우에만 포함 (상한 초과 시 상한값과 totalCapped=true)
+ */
+public record MyRefundCursorResponseDto(
+        List<MyRefundResponseDto> refunds,
+        String nextCursor,
+        Boolean hasMore,
+        Long approximateTotal,
+        Boolean totalCapped
+) {
+}
@@ -0,0 +1,17 @@
+package com.ururulab.ururu.payment.dto.response;
+
+import java.util.List;
+
+/**
+ * 포인트 거래내역 커서 응답 DTO
+ * GET /api/member/me/point-transactions/cursor
+ * approximateTotal/totalCapped는 includeTotal=true로 요청한 경우에만 포함 (상한 초과 시 상한값과 totalCapped=true)
+ */
+public record PointTransactionCursorResponse(
+        List<PointTransactionResponse> transactions,
+        String nextCursor,
+        Boolean hasMore,
+        Long approximateTotal,
+        Boolean totalCapped
+) {
+}
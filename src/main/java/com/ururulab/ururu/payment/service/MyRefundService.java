@@ -1,5 +1,6 @@
 package com.ururulab.ururu.payment.service;
 
+import com.ururulab.ururu.global.domain.dto.CreatedAtCursor;
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
 import com.ururulab.ururu.member.domain.repository.MemberRepository;
@@ -8,6 +9,7 @@ import com.ururulab.ururu.payment.domain.entity.Refund;
 import com.ururulab.ururu.payment.domain.entity.RefundItem;
 import com.ururulab.ururu.payment.domain.entity.enumerated.RefundStatus;
 import com.ururulab.ururu.payment.domain.repository.RefundRepository;
+import com.ururulab.ururu.payment.dto.response.MyRefundCursorResponseDto;
 import com.ururulab.ururu.payment.dto.response.MyRefundListResponseDto;
 import com.ururulab.ururu.payment.dto.response.MyRefundResponseDto;
 import com.ururulab.ururu.payment.dto.response.RefundItemResponseDto;
@@ -55,6 +57,49 @@ public class MyRefundService {
         );
     }
 
+    /**
+     * 나의 환불 내역 커서 조회 (createdAt DESC, id DESC)
+     * 전체 개수는 includeTotal=true인 경우에만 상한(CreatedAtCursor.TOTAL_COUNT_CAP)까지 셈
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @throws BusinessException 회원이 없거나 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public MyRefundCursorResponseDto getMyRefundsByCursor(Long memberId, String statusParam, String cursor,
+                                                          int size, boolean includeTotal) {
+        log.debug("나의 환불 내역 커서 조회 - 회원ID: {}, 상태: {}, 커서: {}, 크기: {}",
+                memberId, statusParam, cursor, size);
+
+        validateMemberExists(memberId);
+
+        RefundStatus status = parseRefundStatus(statusParam);
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Refund> fetched = refundRepository.findProcessedRefundsByMemberIdAfter(memberId, status, after, size + 1);
+        boolean hasMore = fetched.size() > size;
+        List<Refund> page = hasMore ? fetched.subList(0, size) : fetched;
+
+        List<MyRefundResponseDto> refunds = page.stream()
+                .map(this::toMyRefundResponseDto)
+                .toList();
+
+        Refund last = hasMore ? page.get(page.size() - 1) : null;
+        String nextCursor = last != null ? CreatedAtCursor.of(last.getCreatedAt(), last.getId()).encode() : null;
+
+        Long countedTotal = includeTotal
+                ? refundRepository.countProcessedRefundsUpTo(memberId, status, CreatedAtCursor.TOTAL_COUNT_CAP)
+                : null;
+
+        return new MyRefundCursorResponseDto(
+                refunds,
+                nextCursor,
+                hasMore,
+                countedTotal == null ? null : Math.min(countedTotal, CreatedAtCursor.TOTAL_COUNT_CAP),
+                countedTotal == null ? null : countedTotal > CreatedAtCursor.TOTAL_COUNT_CAP
+        );
+    }
+
     private Page<Refund> getRefundsWithPaging(Long memberId, RefundStatus status, int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
         return refundRepository.findProcessedRefundsByMemberId(memberId, status, pageable);
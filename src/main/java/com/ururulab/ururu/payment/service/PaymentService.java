@@ -4,15 +4,17 @@
     import com.ururulab.ururu.global.exception.BusinessException;
     import com.ururulab.ururu.global.exception.error.ErrorCode;
     import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+    import com.ururulab.ururu.groupBuy.dto.common.GroupBuyOptionSaleDto;
     import com.ururulab.ururu.groupBuy.dto.common.StockCheckDto;
     import com.ururulab.ururu.groupBuy.event.StockDepletedEvent;
+    import com.ururulab.ururu.groupBuy.service.GroupBuySalesService;
     import com.ururulab.ururu.member.domain.entity.Member;
     import com.ururulab.ururu.member.domain.repository.MemberRepository;
-    import com.ururulab.ururu.order.domain.entity.Cart;
     import com.ururulab.ururu.order.domain.entity.Order;
     import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
-    import com.ururulab.ururu.order.domain.repository.CartRepository;
     import com.ururulab.ururu.order.domain.repository.OrderRepository;
+    import com.ururulab.ururu.order.event.CartItemsOrderedEvent;
+    import com.ururulab.ururu.order.event.MyOrderCountsChangedEvent;
     import com.ururulab.ururu.order.service.StockReservationService;
     import com.ururulab.ururu.payment.dto.request.PaymentConfirmRequestDto;
     import com.ururulab.ururu.payment.dto.request.PaymentRequestDto;
@@ -62,7 +64,7 @@
         private final MemberRepository memberRepository;
         private final StockReservationService stockReservationService;
         private final GroupBuyOptionRepository groupBuyOptionRepository;
-        private final CartRepository cartRepository;
+        private final GroupBuySalesService groupBuySalesService;
         private final RestClient restClient;
         private final ObjectMapper objectMapper;
         private final ApplicationEventPublisher eventPublisher;
@@ -280,6 +282,8 @@
          * @param payment 결제 정보
          */
         private void completePaymentProcessing(Payment payment) {
+            List<GroupBuyOptionSaleDto> sales = new ArrayList<>();
+
             // 재고 차감 + 예약 해제
             payment.getOrder().getOrderItems().forEach(item -> {
                 Long optionId = item.getGroupBuyOption().getId();
@@ -291,14 +295,28 @@
                     throw new BusinessException(ErrorCode.STOCK_INSUFFICIENT);
                 }
 
+                sales.add(new GroupBuyOptionSaleDto(
+                        item.getGroupBuyOption().getGroupBuy().getId(),
+                        optionId,
+                        quantity,
+                        (long) item.getGroupBuyOption().getSalePrice() * quantity
+                ));
+
                 // 예약 해제
                 stockReservationService.releaseReservation(optionId, payment.getMember().getId());
             });
 
+            // 공동구매 판매량 반영 (판매량순 정렬 기준)
+            groupBuySalesService.recordSales(sales);
+
             // 포인트 차감
             processPointUsage(payment.getMember(), payment.getPoint());
 
-            removeOrderedItemsFromCart(payment);
+            // 결제된 옵션은 커밋 후 장바구니에서 제거 (롤백 시 장바구니 유지)
+            publishOrderedCartItems(payment);
+
+            // 나의 주문 상태별 개수 캐시 무효화 (커밋 후)
+            eventPublisher.publishEvent(new MyOrderCountsChangedEvent(payment.getMember().getId()));
 
             // 재고 소진 체크 및 이벤트 발행
             handleStockDepletionCheck(payment);
@@ -434,33 +452,14 @@
             return firstProductName + " 외 " + (totalItems - 1) + "건";
         }
         /**
-         * 결제 완료된 옵션들을 장바구니에서 제거
+         * 결제 완료된 옵션들의 장바구니 제거 이벤트 발행
          */
-        private void removeOrderedItemsFromCart(Payment payment) {
-            Long memberId = payment.getMember().getId();
-
-            Optional<Cart> cartOpt = cartRepository.findByMemberIdWithCartItems(memberId);
-
-            if (cartOpt.isEmpty()) {
-                log.debug("장바구니가 없음 - 회원ID: {}", memberId);
-                return;
-            }
-
-            Cart cart = cartOpt.get();
-
-            payment.getOrder().getOrderItems().forEach(orderItem -> {
-                Long optionId = orderItem.getGroupBuyOption().getId();
+        private void publishOrderedCartItems(Payment payment) {
+            List<Long> optionIds = payment.getOrder().getOrderItems().stream()
+                    .map(orderItem -> orderItem.getGroupBuyOption().getId())
+                    .toList();
 
-                cart.getCartItems().stream()
-                        .filter(cartItem -> cartItem.getGroupBuyOption().getId().equals(optionId))
-                        .findFirst()
-                        .ifPresent(cartItem -> {
-                            Long cartItemId = cartItem.getId();
-                            cart.removeItem(cartItemId);
-                            log.debug("장바구니에서 제거 - 회원ID: {}, 옵션ID: {}, 아이템ID: {}",
-                                    memberId, optionId, cartItemId);
-                        });
-            });
+            eventPublisher.publishEvent(new CartItemsOrderedEvent(payment.getMember().getId(), optionIds));
         }
 
     }
@@ -1,10 +1,12 @@
 package com.ururulab.ururu.payment.service;
 
+import com.ururulab.ururu.global.domain.dto.CreatedAtCursor;
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
 import com.ururulab.ururu.member.domain.entity.Member;
 import com.ururulab.ururu.member.domain.repository.MemberRepository;
 import com.ururulab.ururu.payment.dto.response.MemberPointResponse;
+import com.ururulab.ururu.payment.dto.response.PointTransactionCursorResponse;
 import com.ururulab.ururu.payment.dto.response.PointTransactionListResponse;
 import com.ururulab.ururu.payment.dto.response.PointTransactionResponse;
 import com.ururulab.ururu.payment.domain.entity.PointTransaction;
@@ -90,6 +92,63 @@ public class PointService {
         );
     }
 
+    /**
+     * 회원의 포인트 거래 내역을 커서 기준으로 조회 (createdAt DESC, id DESC)
+     * 전체 개수는 includeTotal=true인 경우에만 상한(CreatedAtCursor.TOTAL_COUNT_CAP)까지 셈
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param includeTotal 근사 전체 개수 포함 여부
+     * @return 포인트 거래 내역 목록 (다음 커서 포함)
+     * @throws BusinessException 회원이 존재하지 않거나 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public PointTransactionCursorResponse getPointTransactionsByCursor(
+            Long memberId,
+            String typeParam,
+            String sourceParam,
+            String cursor,
+            int size,
+            boolean includeTotal
+    ) {
+        log.debug("포인트 거래내역 커서 조회 - 회원ID: {}, 타입: {}, 소스: {}, 커서: {}, 크기: {}",
+                memberId, typeParam, sourceParam, cursor, size);
+
+        findMemberById(memberId);
+
+        PointType type = parsePointType(typeParam);
+        PointSource source = parsePointSource(sourceParam);
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<PointTransaction> fetched = after == null
+                ? pointTransactionRepository.findFirstByMemberIdWithFilters(memberId, type, source, limit)
+                : pointTransactionRepository.findAfterByMemberIdWithFilters(
+                        memberId, type, source, after.createdAt(), after.idAsLong(), limit);
+        boolean hasMore = fetched.size() > size;
+        List<PointTransaction> page = hasMore ? fetched.subList(0, size) : fetched;
+
+        List<PointTransactionResponse> transactions = page.stream()
+                .map(this::toPointTransactionResponse)
+                .toList();
+
+        PointTransaction last = hasMore ? page.get(page.size() - 1) : null;
+        String nextCursor = last != null ? CreatedAtCursor.of(last.getCreatedAt(), last.getId()).encode() : null;
+
+        Long countedTotal = includeTotal
+                ? pointTransactionRepository.countByMemberIdWithFiltersUpTo(
+                        memberId, type, source, CreatedAtCursor.TOTAL_COUNT_CAP)
+                : null;
+
+        return new PointTransactionCursorResponse(
+                transactions,
+                nextCursor,
+                hasMore,
+                countedTotal == null ? null : Math.min(countedTotal, CreatedAtCursor.TOTAL_COUNT_CAP),
+                countedTotal == null ? null : countedTotal > CreatedAtCursor.TOTAL_COUNT_CAP
+        );
+    }
+
     private Member findMemberById(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
@@ -2,7 +2,10 @@ package com.ururulab.ururu.payment.service;
 
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.dto.common.GroupBuyOptionSaleDto;
+import com.ururulab.ururu.groupBuy.service.GroupBuySalesService;
 import com.ururulab.ururu.member.domain.entity.Member;
 import com.ururulab.ururu.member.domain.repository.MemberRepository;
 import com.ururulab.ururu.order.domain.entity.Order;
@@ -10,6 +13,7 @@ import com.ururulab.ururu.order.domain.entity.OrderItem;
 import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
 import com.ururulab.ururu.order.domain.repository.OrderItemRepository;
 import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.event.MyOrderCountsChangedEvent;
 import com.ururulab.ururu.payment.domain.entity.Payment;
 import com.ururulab.ururu.payment.domain.entity.PointTransaction;
 import com.ururulab.ururu.payment.domain.entity.Refund;
@@ -26,11 +30,13 @@ import com.ururulab.ururu.payment.dto.response.RefundCreateResponseDto;
 import com.ururulab.ururu.payment.dto.response.RefundProcessResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,7 +51,9 @@ public class RefundService {
     private final PaymentRepository paymentRepository;
     private final MemberRepository memberRepository;
     private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuySalesService groupBuySalesService;
     private final PointTransactionRepository pointTransactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 수동 환불 요청을 생성합니다.
@@ -90,6 +98,7 @@ public class RefundService {
         });
 
         Refund savedRefund = refundRepository.save(refund);
+        eventPublisher.publishEvent(new MyOrderCountsChangedEvent(memberId));
 
         if (autoApprove) {
             processRefundApproval(savedRefund);
@@ -124,6 +133,7 @@ public class RefundService {
         Refund refund = findRefundById(refundId);
         validateRefundForProcessing(refund);
         validateSellerAuthority(refund, sellerId);
+        eventPublisher.publishEvent(new MyOrderCountsChangedEvent(refund.getPayment().getMember().getId()));
 
         if ("APPROVE".equals(request.action())) {
             refund.markAsApproved();
@@ -214,17 +224,25 @@ public class RefundService {
      * @param refund 재고 복구 대상 환불 엔티티
      */
     private void restoreStockToInventory(Refund refund) {
+        List<GroupBuyOptionSaleDto> refundedSales = new ArrayList<>();
+
         refund.getRefundItems().forEach(refundItem -> {
-            Long optionId = refundItem.getOrderItem().getGroupBuyOption().getId();
+            GroupBuyOption option = refundItem.getOrderItem().getGroupBuyOption();
+            Long optionId = option.getId();
             Integer quantity = refundItem.getOrderItem().getQuantity();
 
             int updatedRows = groupBuyOptionRepository.increaseStock(optionId, quantity);
             if (updatedRows == 0) {
                 log.warn("재고 복구 실패 - 옵션ID: {}, 수량: {}", optionId, quantity);
             } else {
+                refundedSales.add(new GroupBuyOptionSaleDto(
+                        option.getGroupBuy().getId(), optionId, quantity, (long) option.getSalePrice() * quantity));
                 log.debug("재고 복구 완료 - 옵션ID: {}, 복구 수량: {}개", optionId, quantity);
             }
         });
+
+        // 복구된 재고만큼 공동구매 판매량 차감
+        groupBuySalesService.recordRefunds(refundedSales);
     }
 
     /**
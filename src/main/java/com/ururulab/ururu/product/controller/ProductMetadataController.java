@@ -7,16 +7,24 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/products/create")
 public class ProductMetadataController {
 
+    // 카테고리/태그는 거의 바뀌지 않으므로 5분간 재검증 없이 사용 (판매자 전용 - 공유 캐시 금지)
+    private static final CacheControl METADATA_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePrivate();
+
     private final ProductMetadataService productMetadataService;
 
     @Operation(
@@ -29,11 +37,17 @@ public class ProductMetadataController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping
-    public ResponseEntity<ApiResponseFormat<ProductMetadataResponse>> getMetadata() {
+    public ResponseEntity<ApiResponseFormat<ProductMetadataResponse>> getMetadata(WebRequest webRequest) {
+        String eTag = productMetadataService.getMetadataETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(METADATA_CACHE_CONTROL).build();
+        }
+
         ProductMetadataResponse metadata = productMetadataService.getMetadata();
 
-        return ResponseEntity.ok(
-                ApiResponseFormat.success("상품 메타데이터 조회가 성공했습니다.", metadata)
-        );
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(METADATA_CACHE_CONTROL)
+                .body(ApiResponseFormat.success("상품 메타데이터 조회가 성공했습니다.", metadata));
     }
 }
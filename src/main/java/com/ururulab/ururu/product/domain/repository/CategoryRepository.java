@@ -33,4 +33,8 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     // 리프 카테고리들 조회 (하위 카테고리가 없는 최하위 카테고리들)
     @Query("SELECT c FROM Category c WHERE c.id NOT IN (SELECT DISTINCT c2.parentId FROM Category c2 WHERE c2.parentId IS NOT NULL)")
     List<Category> findLeafCategories();
+
+    // 카테고리 버전 정보 (개수, 최종 수정 시각) - 메타데이터 ETag 계산용
+    @Query("SELECT COUNT(c), MAX(c.updatedAt) FROM Category c")
+    List<Object[]> findVersionInfo();
 }
@@ -3,6 +3,7 @@ package com.ururulab.ururu.product.service;
 import com.ururulab.ururu.global.domain.entity.TagCategory;
 import com.ururulab.ururu.global.domain.repository.TagCategoryRepository;
 import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.util.ETagUtils;
 import com.ururulab.ururu.product.domain.entity.Category;
 import com.ururulab.ururu.product.domain.repository.CategoryRepository;
 import com.ururulab.ururu.product.dto.common.CategoryTreeDto;
@@ -11,6 +12,7 @@ import com.ururulab.ururu.product.dto.common.TagDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +47,18 @@ public class ProductMetadataService {
         return new ProductMetadataResponse(categoryTree, tagDtos);
     }
 
+    /**
+     * 메타데이터 ETag (조건부 GET용)
+     * 카테고리/태그 전체 조회 없이 개수와 최종 수정 시각만으로 계산
+     */
+    public String getMetadataETag() {
+        return ETagUtils.weakETag(
+                "metadata",
+                Arrays.deepToString(categoryRepository.findVersionInfo().toArray()),
+                Arrays.deepToString(tagCategoryRepository.findVersionInfo().toArray())
+        );
+    }
+
     private List<CategoryTreeDto> buildCategoryTree(List<Category> categories) {
         Map<Long, List<Category>> grouped = categories.stream()
                 .filter(c -> c.getParentId() != null)
@@ -0,0 +1,26 @@
+-- =====================================================
+-- 구매자 내역(환불, 포인트) 최신순 인덱스 생성 스크립트
+-- 실행 환경: MySQL 8.0 (AWS RDS)
+-- 목적: 환불/포인트 내역 커서 조회((created_at, id) 기준)와 상한 개수 조회를 회원별 인덱스 범위 스캔으로 처리
+-- 주문(orders)은 orders-member-created-index.sql 참고
+-- =====================================================
+
+-- ddl-auto로 이미 생성된 경우 생략
+CREATE INDEX idx_refund_payment_created ON refund (payment_id, created_at);
+
+-- 환불에 결제 회원 ID 추가 (회원별 환불 내역을 결제 조인 없이 조회)
+-- 1. 컬럼 추가 (기존 행 채우기 전이므로 NULL 허용)
+ALTER TABLE refund ADD COLUMN member_id BIGINT NULL;
+
+-- 2. 기존 환불의 회원 ID 채우기
+UPDATE refund r
+JOIN payment p ON r.payment_id = p.id
+SET r.member_id = p.member_id
+WHERE r.member_id IS NULL;
+
+-- 3. NOT NULL 전환 및 커서 조회 인덱스 생성
+ALTER TABLE refund MODIFY COLUMN member_id BIGINT NOT NULL;
+
+CREATE INDEX idx_refund_member_created ON refund (member_id, created_at, id);
+
+CREATE INDEX idx_point_tx_member_created ON point_transaction (member_id, created_at);
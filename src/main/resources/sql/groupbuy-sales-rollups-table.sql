@@ -0,0 +1,22 @@
+-- =====================================================
+-- 공동구매 시간별 판매 집계(groupbuy_sales_rollups) 테이블 생성 스크립트
+-- 실행 환경: MySQL 8.0 (AWS RDS)
+-- 목적: 판매자 통계(시간별 추이/옵션별 판매)를 주문 테이블 스캔 없이 조회
+-- 참고: 배포 이후 결제/환불부터 집계됨 (이전 판매는 포함되지 않음)
+-- =====================================================
+
+-- ddl-auto로 이미 생성된 경우 생략
+CREATE TABLE IF NOT EXISTS groupbuy_sales_rollups (
+    id                 BIGINT      NOT NULL AUTO_INCREMENT,
+    groupbuy_id        BIGINT      NOT NULL,
+    groupbuy_option_id BIGINT      NOT NULL,
+    bucket_hour        DATETIME(6) NOT NULL,
+    sold_quantity      INT         NOT NULL DEFAULT 0,
+    revenue            BIGINT      NOT NULL DEFAULT 0,
+    refunded_quantity  INT         NOT NULL DEFAULT 0,
+    created_at         DATETIME(6) NOT NULL,
+    updated_at         DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_groupbuy_sales_rollup (groupbuy_id, groupbuy_option_id, bucket_hour),
+    KEY idx_groupbuy_sales_rollup_hour (groupbuy_id, bucket_hour)
+);
@@ -0,0 +1,38 @@
+-- =====================================================
+-- 공동구매 판매량(sold_quantity) 컬럼 추가 스크립트
+-- 실행 환경: MySQL 8.0 (AWS RDS)
+-- 목적: 판매량순 정렬(sortType=order_count) 키셋 페이지네이션 지원
+-- =====================================================
+
+-- =====================================================
+-- 1. 컬럼 추가 (ddl-auto로 이미 생성된 경우 생략)
+-- =====================================================
+ALTER TABLE groupbuys
+    ADD COLUMN sold_quantity INT NOT NULL DEFAULT 0;
+
+-- =====================================================
+-- 2. 기존 데이터 보정 (옵션별 initial_stock - stock 합계)
+-- =====================================================
+UPDATE groupbuys gb
+SET gb.sold_quantity = (
+    SELECT COALESCE(SUM(gbo.initial_stock - gbo.stock), 0)
+    FROM groupbuy_options gbo
+    WHERE gbo.groupbuy_id = gb.id
+);
+
+-- =====================================================
+-- 3. 판매량순 정렬 인덱스 (status, sold_quantity, id)
+-- =====================================================
+CREATE INDEX idx_groupbuy_status_sold_quantity
+    ON groupbuys (status, sold_quantity, id);
+
+-- =====================================================
+-- 4. 검증 - 옵션 재고 기준 판매량과 불일치하는 공동구매 수
+-- =====================================================
+SELECT COUNT(*) as mismatched_count
+FROM groupbuys gb
+WHERE gb.sold_quantity <> (
+    SELECT COALESCE(SUM(gbo.initial_stock - gbo.stock), 0)
+    FROM groupbuy_options gbo
+    WHERE gbo.groupbuy_id = gb.id
+);
@@ -0,0 +1,21 @@
+-- =====================================================
+-- 공동구매 통계(groupbuy_statistics) 공동구매별 유일 제약 추가 스크립트
+-- 실행 환경: MySQL 8.0 (AWS RDS)
+-- 목적: 공동구매 종료가 겹쳐도 통계 행이 하나만 생성되도록 보장
+-- =====================================================
+
+-- 1. 중복 통계 확인 (결과가 있으면 가장 먼저 생성된 행만 남기고 정리 후 진행)
+SELECT groupbuy_id, COUNT(*) AS cnt
+FROM groupbuy_statistics
+GROUP BY groupbuy_id
+HAVING COUNT(*) > 1;
+
+-- 2. 중복 통계 정리 (가장 작은 id만 유지)
+DELETE s1 FROM groupbuy_statistics s1
+JOIN groupbuy_statistics s2
+  ON s1.groupbuy_id = s2.groupbuy_id
+ AND s1.id > s2.id;
+
+-- 3. 유일 제약 추가 (ddl-auto로 이미 생성된 경우 생략)
+ALTER TABLE groupbuy_statistics
+    ADD CONSTRAINT uk_groupbuy_statistics_groupbuy UNIQUE (groupbuy_id);
@@ -0,0 +1,22 @@
+-- =====================================================
+-- 스케줄 작업 임대(job_leases) 테이블 생성 스크립트
+-- 실행 환경: MySQL 8.0 (AWS RDS)
+-- 목적: Redis 장애 시 사용하는 스케줄 작업 임대 저장소이자 작업 쓰기의 펜싱 토큰 기준
+-- =====================================================
+
+-- ddl-auto로 이미 생성된 경우 생략
+CREATE TABLE IF NOT EXISTS job_leases (
+    job_name      VARCHAR(100) NOT NULL,
+    owner         VARCHAR(100) NULL,
+    fencing_token BIGINT       NOT NULL DEFAULT 0,
+    fence_owner   VARCHAR(100) NULL,
+    expires_at    DATETIME(6)  NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (job_name)
+);
+
+-- 펜싱 토큰 컬럼 없이 생성된 테이블에만 실행
+-- ALTER TABLE job_leases
+--     ADD COLUMN fencing_token BIGINT NOT NULL DEFAULT 0,
+--     ADD COLUMN fence_owner VARCHAR(100) NULL;
@@ -0,0 +1,8 @@
+-- =====================================================
+-- 주문(orders) 회원별 최신순 인덱스 생성 스크립트
+-- 실행 환경: MySQL 8.0 (AWS RDS)
+-- 목적: 나의 주문 목록 1단계(주문 ID 페이지) 조회를 인덱스만으로 처리
+-- =====================================================
+
+-- ddl-auto로 이미 생성된 경우 생략
+CREATE INDEX idx_orders_member_created ON orders (member_id, created_at);
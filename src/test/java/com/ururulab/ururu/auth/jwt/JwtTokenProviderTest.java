@@ -94,6 +94,39 @@ class JwtTokenProviderTest {
         assertThat(jwtTokenProvider.getRole(accessToken)).isEqualTo(UserRole.SELLER.getValue());
     }
 
+    // ==================== 클레임 파싱 테스트 ====================
+
+    @Test
+    @DisplayName("Access Token 클레임 한 번에 파싱 성공")
+    void parseClaims_accessToken_success() {
+        // Given
+        String accessToken = jwtTokenProvider.generateAccessToken(1L, "test@example.com", UserRole.NORMAL, UserType.MEMBER);
+
+        // When
+        JwtClaims claims = jwtTokenProvider.parseClaims(accessToken);
+
+        // Then
+        assertThat(claims.userId()).isEqualTo(1L);
+        assertThat(claims.email()).isEqualTo("test@example.com");
+        assertThat(claims.role()).isEqualTo(UserRole.NORMAL.getValue());
+        assertThat(claims.userType()).isEqualTo(UserType.MEMBER.getValue());
+        assertThat(claims.tokenId()).isEqualTo(jwtTokenProvider.getTokenId(accessToken));
+        assertThat(claims.isAccessToken()).isTrue();
+        assertThat(claims.isRefreshToken()).isFalse();
+        assertThat(claims.remainingSeconds()).isPositive();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 클레임 파싱 시 예외")
+    void parseClaims_expiredToken_throwsException() {
+        // Given
+        String expiredToken = AuthTestFixture.createExpiredAccessToken(1L, "test@example.com", UserRole.NORMAL, UserType.MEMBER);
+
+        // When & Then
+        assertThatThrownBy(() -> jwtTokenProvider.parseClaims(expiredToken))
+                .isInstanceOf(io.jsonwebtoken.ExpiredJwtException.class);
+    }
+
     // ==================== 토큰 생성 예외 테스트 ====================
 
     @Test
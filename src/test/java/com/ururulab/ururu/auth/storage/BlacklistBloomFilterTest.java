@@ -0,0 +1,52 @@
+package com.ururulab.ururu.auth.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BlacklistBloomFilter 테스트")
+class BlacklistBloomFilterTest {
+
+    @Test
+    @DisplayName("등록된 토큰 ID는 항상 포함으로 판단")
+    void mightContain_insertedTokenIds_returnsTrue() {
+        // Given
+        List<String> tokenIds = IntStream.range(0, 5_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        // When
+        BlacklistBloomFilter filter = BlacklistBloomFilter.of(tokenIds, 0.01);
+
+        // Then
+        assertThat(tokenIds).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 토큰 ID 오탐률은 목표 수준 이내")
+    void mightContain_otherTokenIds_lowFalsePositiveRate() {
+        // Given
+        List<String> tokenIds = IntStream.range(0, 5_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        BlacklistBloomFilter filter = BlacklistBloomFilter.of(tokenIds, 0.01);
+
+        // When
+        long falsePositives = IntStream.range(0, 10_000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .filter(filter::mightContain)
+                .count();
+
+        // Then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 아무것도 포함하지 않음")
+    void mightContain_emptyFilter_returnsFalse() {
+        BlacklistBloomFilter filter = BlacklistBloomFilter.of(List.of(), 0.01);
+
+        assertThat(filter.mightContain(UUID.randomUUID().toString())).isFalse();
+    }
+}
@@ -0,0 +1,129 @@
+package com.ururulab.ururu.auth.storage;
+
+import com.ururulab.ururu.auth.constants.AuthConstants;
+import com.ururulab.ururu.auth.constants.UserType;
+import com.ururulab.ururu.auth.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenStorage 테스트")
+class RefreshTokenStorageTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String MEMBER = UserType.MEMBER.getValue();
+    private static final String INDEX_KEY = "refresh:member:{1}:sessions";
+    private static final String TOKEN_KEY_PREFIX = "refresh:member:{1}:";
+    private static final long EXPIRY_SECONDS = 3600L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private RefreshTokenStorage refreshTokenStorage;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStorage = new RefreshTokenStorage(redisTemplate, jwtTokenProvider);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(jwtTokenProvider.getRefreshTokenExpirySeconds()).thenReturn(EXPIRY_SECONDS);
+    }
+
+    @Test
+    @DisplayName("저장 시 개수 확인, 오래된 토큰 정리, 저장을 한 스크립트로 수행")
+    void storeRefreshToken_evictsAndStoresInSingleScript() {
+        // Given
+        given(jwtTokenProvider.getTokenId("new-token")).willReturn("new-jti");
+
+        // When
+        refreshTokenStorage.storeRefreshToken(USER_ID, MEMBER, "new-token");
+
+        // Then - 인덱스를 따로 조회하지 않아 동시 로그인 사이에 개수 확인이 끼어들 수 없음
+        then(redisTemplate).should().execute(
+                ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of(INDEX_KEY, "refresh:member:{1}:new-jti")),
+                anyString(),
+                eq(String.valueOf(AuthConstants.MAX_REFRESH_TOKENS_PER_USER)),
+                eq(TOKEN_KEY_PREFIX),
+                eq("new-jti"), eq("new-token"), anyString(), eq(String.valueOf(EXPIRY_SECONDS)));
+        then(zSetOperations).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("정리 대상 토큰 키는 선언된 인덱스 키와 같은 해시 태그를 사용")
+    void storeRefreshToken_tokenKeyPrefixSharesHashTag() {
+        // Given
+        given(jwtTokenProvider.getTokenId("new-token")).willReturn("new-jti");
+
+        // When
+        refreshTokenStorage.storeRefreshToken(USER_ID, MEMBER, "new-token");
+
+        // Then
+        then(redisTemplate).should().execute(
+                ArgumentMatchers.<RedisScript<Long>>any(),
+                argThat((List<String> keys) -> keys.stream().allMatch(key -> key.startsWith(TOKEN_KEY_PREFIX))),
+                any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("전체 삭제 시 인덱스 조회와 토큰 삭제를 한 스크립트로 수행")
+    void deleteAllRefreshTokens_removesEveryIndexedTokenInSingleScript() {
+        // When
+        refreshTokenStorage.deleteAllRefreshTokens(MEMBER, USER_ID);
+
+        // Then
+        then(redisTemplate).should().execute(
+                ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of(INDEX_KEY)),
+                eq(TOKEN_KEY_PREFIX));
+        then(zSetOperations).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("오래된 토큰 정리도 인덱스를 따로 조회하지 않고 한 스크립트로 수행")
+    void cleanupOldTokensAtomically_singleScript() {
+        // When
+        refreshTokenStorage.cleanupOldTokensAtomically(MEMBER, USER_ID);
+
+        // Then
+        then(redisTemplate).should().execute(
+                ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of(INDEX_KEY)),
+                anyString(),
+                eq(String.valueOf(AuthConstants.MAX_REFRESH_TOKENS_PER_USER)),
+                eq(TOKEN_KEY_PREFIX));
+        then(zSetOperations).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("단일 토큰 삭제는 토큰 키와 인덱스를 한 스크립트로 제거")
+    void deleteRefreshToken_singleScript() {
+        // When
+        refreshTokenStorage.deleteRefreshToken(MEMBER, USER_ID, "t1");
+
+        // Then
+        then(redisTemplate).should().execute(
+                ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of(INDEX_KEY, "refresh:member:{1}:t1")),
+                eq("t1"));
+        then(zSetOperations).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,85 @@
+package com.ururulab.ururu.auth.storage;
+
+import com.ururulab.ururu.auth.constants.UserType;
+import com.ururulab.ururu.auth.service.TokenValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache();
+    }
+
+    @Test
+    @DisplayName("검증 결과 캐시 후 같은 토큰으로 조회 성공")
+    void put_thenGet_returnsResult() {
+        // Given
+        TokenValidator.TokenValidationResult result = resultExpiringAt("token-id", Instant.now().plusSeconds(600));
+
+        // When
+        verifiedTokenCache.put("access-token", result);
+
+        // Then
+        assertThat(verifiedTokenCache.get("access-token")).isEqualTo(result);
+        assertThat(verifiedTokenCache.get("other-token")).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화된 토큰은 제거되고 다시 캐시되지 않음")
+    void invalidate_removesAndBlocksReinsert() {
+        // Given
+        TokenValidator.TokenValidationResult result = resultExpiringAt("token-id", Instant.now().plusSeconds(600));
+        verifiedTokenCache.put("access-token", result);
+
+        // When
+        verifiedTokenCache.invalidate("token-id");
+        verifiedTokenCache.put("access-token", result);
+
+        // Then
+        assertThat(verifiedTokenCache.get("access-token")).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화는 해당 토큰 ID의 항목만 제거")
+    void invalidate_keepsOtherTokens() {
+        // Given
+        TokenValidator.TokenValidationResult revoked = resultExpiringAt("token-id", Instant.now().plusSeconds(600));
+        TokenValidator.TokenValidationResult other = resultExpiringAt("other-id", Instant.now().plusSeconds(600));
+        verifiedTokenCache.put("access-token", revoked);
+        verifiedTokenCache.put("other-token", other);
+
+        // When
+        verifiedTokenCache.invalidate("token-id");
+
+        // Then
+        assertThat(verifiedTokenCache.get("access-token")).isNull();
+        assertThat(verifiedTokenCache.get("other-token")).isEqualTo(other);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 캐시되지 않음")
+    void put_expiredToken_notCached() {
+        // Given
+        TokenValidator.TokenValidationResult result = resultExpiringAt("token-id", Instant.now().minusSeconds(1));
+
+        // When
+        verifiedTokenCache.put("access-token", result);
+
+        // Then
+        assertThat(verifiedTokenCache.get("access-token")).isNull();
+    }
+
+    private TokenValidator.TokenValidationResult resultExpiringAt(String tokenId, Instant expiresAt) {
+        return new TokenValidator.TokenValidationResult(1L, UserType.MEMBER.getValue(), tokenId, expiresAt);
+    }
+}
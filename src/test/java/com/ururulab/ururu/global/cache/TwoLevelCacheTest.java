@@ -0,0 +1,186 @@
+package com.ururulab.ururu.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache 테스트")
+class TwoLevelCacheTest {
+
+    @Mock
+    private Cache redisCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    @Mock
+    private TaskExecutor refreshExecutor;
+
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        TwoLevelCacheSettings settings = new TwoLevelCacheSettings(
+                Duration.ofSeconds(30),
+                100,
+                Duration.ofMinutes(5),
+                1.0,
+                Duration.ofSeconds(10),
+                Duration.ofMillis(200)
+        );
+        cache = new TwoLevelCache("realtimeBest", redisCache, redisTemplate,
+                invalidationPublisher, refreshExecutor, settings);
+    }
+
+    @Test
+    @DisplayName("L2 미스 시 락을 얻은 노드가 한 번 로딩하고 이후 조회는 L1에서 응답")
+    void get_loadsOnceAndServesFromLocal() {
+        // given
+        given(redisCache.get("top3")).willReturn(null);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("cache:lock:realtimeBest::top3"), anyString(), any(Duration.class)))
+                .willReturn(true);
+        AtomicInteger loadCount = new AtomicInteger();
+        Callable<String> loader = () -> "value-" + loadCount.incrementAndGet();
+
+        // when
+        String first = cache.get("top3", loader);
+        String second = cache.get("top3", loader);
+
+        // then
+        assertThat(first).isEqualTo("value-1");
+        assertThat(second).isEqualTo("value-1");
+        assertThat(loadCount.get()).isEqualTo(1);
+        verify(redisCache).put("top3", "value-1");
+        verify(redisCache, times(1)).get("top3");
+    }
+
+    @Test
+    @DisplayName("L2 적중 시 원본 로딩 없이 L1에 적재")
+    void get_redisHit_doesNotLoad() {
+        // given
+        given(redisCache.get(5L)).willReturn(new SimpleValueWrapper("cached"));
+        given(redisTemplate.getExpire("realtimeBest::5", TimeUnit.MILLISECONDS)).willReturn(120_000L);
+
+        // when
+        String first = cache.get(5L, () -> {
+            throw new IllegalStateException("should not load");
+        });
+        String second = cache.get(5L, String.class);
+
+        // then
+        assertThat(first).isEqualTo("cached");
+        assertThat(second).isEqualTo("cached");
+        verify(redisCache, times(1)).get(5L);
+        verify(redisCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 로딩 중이면 L2 적재를 기다렸다가 사용")
+    void get_lockedByOtherNode_waitsForRedis() {
+        // given
+        given(redisCache.get("top3")).willReturn(null, new SimpleValueWrapper("loaded-by-other"));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        // when
+        String value = cache.get("top3", () -> "loaded-here");
+
+        // then
+        assertThat(value).isEqualTo("loaded-by-other");
+        verify(redisCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 미스는 요청 스레드 하나만 로딩하고 나머지는 결과를 기다림")
+    void get_concurrentMiss_loadsOnceOnCallerThread() throws Exception {
+        // given
+        given(redisCache.get("top3")).willReturn(null);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> loader = () -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return "value-" + Thread.currentThread().getName();
+        };
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> cache.get("top3", loader));
+            loading.await(1, TimeUnit.SECONDS);
+            Future<String> second = executor.submit(() -> cache.get("top3", loader));
+            release.countDown();
+
+            // then
+            assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(first.get(1, TimeUnit.SECONDS));
+            assertThat(loadCount.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("로딩 실패는 ValueRetrievalException으로 전달")
+    void get_loaderFails_wrapsException() {
+        // given
+        given(redisCache.get("top3")).willReturn(null);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> cache.get("top3", () -> {
+            throw new Exception("db down");
+        }))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasRootCauseMessage("db down");
+    }
+
+    @Test
+    @DisplayName("evict 시 L1/L2 삭제 후 다른 노드에 무효화 알림")
+    void evict_publishesInvalidation() {
+        // given
+        given(redisCache.get(5L)).willReturn(new SimpleValueWrapper("cached"), (Cache.ValueWrapper) null);
+        cache.get(5L);
+
+        // when
+        cache.evict(5L);
+
+        // then
+        verify(redisCache).evict(5L);
+        verify(invalidationPublisher).publishEvict("realtimeBest", "5");
+        assertThat(cache.get(5L)).isNull();
+    }
+}
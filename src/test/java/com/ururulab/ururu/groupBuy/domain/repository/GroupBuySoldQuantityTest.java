@@ -0,0 +1,80 @@
+package com.ururulab.ururu.groupBuy.domain.repository;
+
+import com.ururulab.ururu.global.config.JpaAuditingConfig;
+import com.ururulab.ururu.global.config.QueryDSLConfig;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.product.domain.entity.Product;
+import com.ururulab.ururu.product.domain.entity.enumerated.Status;
+import com.ururulab.ururu.seller.domain.entity.Seller;
+import com.ururulab.ururu.seller.service.SellerTestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDSLConfig.class, JpaAuditingConfig.class})
+@DisplayName("GroupBuy 판매량 벌크 갱신 테스트")
+class GroupBuySoldQuantityTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GroupBuyRepository groupBuyRepository;
+
+    private Long groupBuyId;
+
+    @BeforeEach
+    void setUp() {
+        Seller seller = entityManager.persist(SellerTestFixture.createSeller("seller@example.com", "우르르"));
+        Product product = entityManager.persist(Product.of(seller, "테스트 상품", "상품 설명", Status.ACTIVE));
+        GroupBuy groupBuy = entityManager.persist(GroupBuy.of(
+                product,
+                seller,
+                "테스트 공동구매",
+                "공동구매 설명",
+                null,
+                "{\"stages\":[{\"minQuantity\":10,\"discountRate\":10}]}",
+                5,
+                GroupBuyStatus.OPEN,
+                Instant.now(),
+                Instant.now().plus(7, ChronoUnit.DAYS)
+        ));
+        groupBuyId = groupBuy.getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("엔티티 변경 flush가 같은 시점의 벌크 판매량 증가를 덮어쓰지 않음")
+    void entityFlush_afterBulkIncrease_keepsIncrement() {
+        // Given - 판매량 0인 상태로 엔티티를 영속성 컨텍스트에 적재
+        GroupBuy loaded = entityManager.find(GroupBuy.class, groupBuyId);
+        assertThat(loaded.getSoldQuantity()).isZero();
+
+        // When - 결제 완료로 벌크 증가 후, 적재된 엔티티의 다른 필드를 변경하여 flush
+        groupBuyRepository.increaseSoldQuantity(groupBuyId, 3);
+        loaded.updateStatus(GroupBuyStatus.CLOSED);
+        loaded.updateDisplayFinalPrice(9000);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        GroupBuy reloaded = entityManager.find(GroupBuy.class, groupBuyId);
+        assertThat(reloaded.getSoldQuantity()).isEqualTo(3);
+        assertThat(reloaded.getStatus()).isEqualTo(GroupBuyStatus.CLOSED);
+        assertThat(reloaded.getDisplayFinalPrice()).isEqualTo(9000);
+    }
+}
@@ -1,8 +1,6 @@
 package com.ururulab.ururu.order.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ururulab.ururu.global.domain.entity.enumerated.Gender;
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
@@ -11,6 +9,7 @@ import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyStatistics;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyStatisticsRepository;
+import com.ururulab.ururu.groupBuy.service.GroupBuyDiscountTierService;
 import com.ururulab.ururu.member.domain.entity.Member;
 import com.ururulab.ururu.member.domain.entity.enumerated.Role;
 import com.ururulab.ururu.member.domain.entity.enumerated.SocialProvider;
@@ -20,9 +19,9 @@ import com.ururulab.ururu.order.domain.entity.OrderItem;
 import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
 import com.ururulab.ururu.order.domain.repository.OrderItemRepository;
 import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.dto.common.MyOrderStatusCounts;
 import com.ururulab.ururu.order.dto.response.MyOrderListResponseDto;
-import com.ururulab.ururu.payment.domain.entity.Payment;
-import com.ururulab.ururu.payment.domain.entity.enumerated.RefundStatus;
+import com.ururulab.ururu.order.service.MyOrderBatchLoader.Batch;
 import com.ururulab.ururu.payment.domain.repository.PaymentRepository;
 import com.ururulab.ururu.payment.domain.repository.RefundItemRepository;
 import com.ururulab.ururu.payment.domain.repository.RefundRepository;
@@ -33,8 +32,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -45,7 +44,7 @@ import java.lang.reflect.Method;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -55,7 +54,6 @@ import static org.mockito.BDDMockito.*;
 @DisplayName("MyOrderService 테스트")
 class MyOrderServiceTest {
 
-    @InjectMocks
     private MyOrderService myOrderService;
 
     @Mock
@@ -80,7 +78,10 @@ class MyOrderServiceTest {
     private RefundItemRepository refundItemRepository;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private MyOrderCountsCacheService myOrderCountsCacheService;
+
+    @Spy
+    private GroupBuyDiscountTierService groupBuyDiscountTierService = new GroupBuyDiscountTierService();
 
     private static final Long MEMBER_ID = 1L;
     private static final String ORDER_ID = "ORDER123";
@@ -93,11 +94,18 @@ class MyOrderServiceTest {
     private GroupBuy testGroupBuy;
     private Product testProduct;
     private ProductOption testProductOption;
-    private Payment testPayment;
 
     @BeforeEach
     void setUp() {
         setupTestEntities();
+        myOrderService = new MyOrderService(
+                orderRepository,
+                memberRepository,
+                new MyOrderBatchLoader(paymentRepository, refundRepository, refundItemRepository,
+                        groupBuyStatisticsRepository, orderItemRepository),
+                myOrderCountsCacheService,
+                groupBuyDiscountTierService
+        );
     }
 
     @Nested
@@ -111,19 +119,10 @@ class MyOrderServiceTest {
             Page<Order> orderPage = new PageImpl<>(List.of(testOrder));
 
             given(memberRepository.existsById(MEMBER_ID)).willReturn(true);
-            given(orderRepository.countMyOrders(MEMBER_ID, "inprogress")).willReturn(1L);
-            given(orderRepository.countMyOrders(MEMBER_ID, "confirmed")).willReturn(0L);
-            given(orderRepository.countMyOrders(MEMBER_ID, "refundpending")).willReturn(0L);
+            given(myOrderCountsCacheService.getCounts(MEMBER_ID)).willReturn(new MyOrderStatusCounts(1, 0, 0));
             given(orderRepository.findMyOrdersWithDetails(eq(MEMBER_ID), eq("inprogress"), any(Pageable.class)))
                     .willReturn(orderPage);
-            given(refundItemRepository.existsByOrderItemIdAndRefundStatusIn(anyLong(), any())).willReturn(false);
-            given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(testPayment));
-            given(refundRepository.findActiveRefundByOrderId(ORDER_ID)).willReturn(Optional.empty());
-
-            // ObjectMapper 모킹
-            List<Map<String, Object>> stages = List.of(Map.of("count", 10, "rate", 5));
-            lenient().when(objectMapper.readValue(anyString(), any(TypeReference.class))).thenReturn(stages);
-            lenient().when(orderItemRepository.getTotalQuantityByGroupBuyId(testGroupBuy.getId())).thenReturn(25);
+            givenPageRelationsLoaded();
 
             // when
             MyOrderListResponseDto result = myOrderService.getMyOrders(MEMBER_ID, "inProgress", 1, 5);
@@ -140,19 +139,10 @@ class MyOrderServiceTest {
             Page<Order> orderPage = new PageImpl<>(List.of(testOrder));
 
             given(memberRepository.existsById(MEMBER_ID)).willReturn(true);
-            given(orderRepository.countMyOrders(MEMBER_ID, "inprogress")).willReturn(0L);
-            given(orderRepository.countMyOrders(MEMBER_ID, "confirmed")).willReturn(1L);
-            given(orderRepository.countMyOrders(MEMBER_ID, "refundpending")).willReturn(0L);
+            given(myOrderCountsCacheService.getCounts(MEMBER_ID)).willReturn(new MyOrderStatusCounts(0, 1, 0));
             given(orderRepository.findMyOrdersWithDetails(eq(MEMBER_ID), eq("confirmed"), any(Pageable.class)))
                     .willReturn(orderPage);
-            given(refundItemRepository.existsByOrderItemIdAndRefundStatusIn(anyLong(), any())).willReturn(false);
-            given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(testPayment));
-            given(refundRepository.findActiveRefundByOrderId(ORDER_ID)).willReturn(Optional.empty());
-
-            // ObjectMapper 모킹
-            List<Map<String, Object>> stages = List.of(Map.of("count", 10, "rate", 5));
-            lenient().when(objectMapper.readValue(anyString(), any(TypeReference.class))).thenReturn(stages);
-            lenient().when(orderItemRepository.getTotalQuantityByGroupBuyId(testGroupBuy.getId())).thenReturn(25);
+            givenPageRelationsLoaded();
 
             // when
             MyOrderListResponseDto result = myOrderService.getMyOrders(MEMBER_ID, "confirmed", 1, 5);
@@ -169,19 +159,10 @@ class MyOrderServiceTest {
             Page<Order> orderPage = new PageImpl<>(List.of(testOrder));
 
             given(memberRepository.existsById(MEMBER_ID)).willReturn(true);
-            given(orderRepository.countMyOrders(MEMBER_ID, "inprogress")).willReturn(0L);
-            given(orderRepository.countMyOrders(MEMBER_ID, "confirmed")).willReturn(0L);
-            given(orderRepository.countMyOrders(MEMBER_ID, "refundpending")).willReturn(1L);
+            given(myOrderCountsCacheService.getCounts(MEMBER_ID)).willReturn(new MyOrderStatusCounts(0, 0, 1));
             given(orderRepository.findMyOrdersWithDetails(eq(MEMBER_ID), eq("refundpending"), any(Pageable.class)))
                     .willReturn(orderPage);
-            given(refundItemRepository.existsByOrderItemIdAndRefundStatusIn(anyLong(), any())).willReturn(false);
-            given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(testPayment));
-            given(refundRepository.findActiveRefundByOrderId(ORDER_ID)).willReturn(Optional.empty());
-
-            // ObjectMapper 모킹
-            List<Map<String, Object>> stages = List.of(Map.of("count", 10, "rate", 5));
-            lenient().when(objectMapper.readValue(anyString(), any(TypeReference.class))).thenReturn(stages);
-            lenient().when(orderItemRepository.getTotalQuantityByGroupBuyId(testGroupBuy.getId())).thenReturn(25);
+            givenPageRelationsLoaded();
 
             // when
             MyOrderListResponseDto result = myOrderService.getMyOrders(MEMBER_ID, "refundPending", 1, 5);
@@ -214,19 +195,10 @@ class MyOrderServiceTest {
             Page<Order> orderPage = new PageImpl<>(List.of(testOrder));
 
             given(memberRepository.existsById(MEMBER_ID)).willReturn(true);
-            given(orderRepository.countMyOrders(MEMBER_ID, "inprogress")).willReturn(1L);
-            given(orderRepository.countMyOrders(MEMBER_ID, "confirmed")).willReturn(0L);
-            given(orderRepository.countMyOrders(MEMBER_ID, "refundpending")).willReturn(0L);
+            given(myOrderCountsCacheService.getCounts(MEMBER_ID)).willReturn(new MyOrderStatusCounts(1, 0, 0));
             given(orderRepository.findMyOrdersWithDetails(eq(MEMBER_ID), eq("all"), any(Pageable.class)))
                     .willReturn(orderPage);
-            given(refundItemRepository.existsByOrderItemIdAndRefundStatusIn(anyLong(), any())).willReturn(false);
-            given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(testPayment));
-            given(refundRepository.findActiveRefundByOrderId(ORDER_ID)).willReturn(Optional.empty());
-
-            // ObjectMapper 모킹
-            List<Map<String, Object>> stages = List.of(Map.of("count", 10, "rate", 5));
-            lenient().when(objectMapper.readValue(anyString(), any(TypeReference.class))).thenReturn(stages);
-            lenient().when(orderItemRepository.getTotalQuantityByGroupBuyId(testGroupBuy.getId())).thenReturn(25);
+            givenPageRelationsLoaded();
 
             // when
             MyOrderListResponseDto result = myOrderService.getMyOrders(MEMBER_ID, "INVALID_STATUS", 1, 5);
@@ -243,9 +215,7 @@ class MyOrderServiceTest {
             Page<Order> emptyPage = new PageImpl<>(List.of());
 
             given(memberRepository.existsById(MEMBER_ID)).willReturn(true);
-            given(orderRepository.countMyOrders(MEMBER_ID, "inprogress")).willReturn(0L);
-            given(orderRepository.countMyOrders(MEMBER_ID, "confirmed")).willReturn(0L);
-            given(orderRepository.countMyOrders(MEMBER_ID, "refundpending")).willReturn(0L);
+            given(myOrderCountsCacheService.getCounts(MEMBER_ID)).willReturn(new MyOrderStatusCounts(0, 0, 0));
             given(orderRepository.findMyOrdersWithDetails(eq(MEMBER_ID), eq("all"), any(Pageable.class)))
                     .willReturn(emptyPage);
 
@@ -271,19 +241,12 @@ class MyOrderServiceTest {
         @DisplayName("진행 중인 공구의 현재 할인율 계산")
         void calculateCurrentDiscountRate_openGroupBuy_success() throws Exception {
             // given
-            List<Map<String, Object>> stages = List.of(
-                    Map.of("count", 10, "rate", 5),
-                    Map.of("count", 20, "rate", 10),
-                    Map.of("count", 30, "rate", 15)
-            );
-
-            lenient().when(objectMapper.readValue(anyString(), any(TypeReference.class))).thenReturn(stages);
-            lenient().when(orderItemRepository.getTotalQuantityByGroupBuyId(testGroupBuy.getId())).thenReturn(25);
+            // 할인 단계: 10개 5%, 20개 10%, 30개 15% (createTestGroupBuy)
 
             // when
-            Method method = MyOrderService.class.getDeclaredMethod("calculateCurrentDiscountRate", GroupBuy.class);
+            Method method = MyOrderService.class.getDeclaredMethod("calculateCurrentDiscountRate", GroupBuy.class, int.class);
             method.setAccessible(true);
-            Integer result = (Integer) method.invoke(myOrderService, testGroupBuy);
+            Integer result = (Integer) method.invoke(myOrderService, testGroupBuy, 25);
 
             // then
             assertThat(result).isEqualTo(10);
@@ -296,14 +259,13 @@ class MyOrderServiceTest {
             lenient().when(testGroupBuy.getStatus()).thenReturn(GroupBuyStatus.CLOSED);
             GroupBuyStatistics statistics = mock(GroupBuyStatistics.class);
             lenient().when(statistics.getFinalDiscountRate()).thenReturn(15);
-            lenient().when(groupBuyStatisticsRepository.findByGroupBuyId(testGroupBuy.getId()))
-                    .thenReturn(Optional.of(statistics));
+            Batch batch = new Batch(Map.of(), Map.of(), Set.of(), Map.of(testGroupBuy.getId(), statistics), Map.of());
 
             // when
             try {
-                Method method = MyOrderService.class.getDeclaredMethod("calculateDiscountRate", GroupBuy.class);
+                Method method = MyOrderService.class.getDeclaredMethod("calculateDiscountRate", GroupBuy.class, Batch.class);
                 method.setAccessible(true);
-                Integer result = (Integer) method.invoke(myOrderService, testGroupBuy);
+                Integer result = (Integer) method.invoke(myOrderService, testGroupBuy, batch);
 
                 // then
                 assertThat(result).isEqualTo(15);
@@ -317,14 +279,12 @@ class MyOrderServiceTest {
         void calculateCurrentDiscountRate_jsonParseError_returns0() throws Exception {
             // given
             lenient().when(testGroupBuy.getDiscountStages()).thenReturn("invalid json");
-            // ObjectMapper에서 예외 발생 시 catch 블록에서 0 반환하도록 하는 테스트
-            lenient().when(objectMapper.readValue(eq("invalid json"), any(TypeReference.class)))
-                    .thenThrow(new RuntimeException("JSON parse error"));
+            // 할인 단계 파싱 예외 발생 시 catch 블록에서 0 반환하도록 하는 테스트
 
             // when
-            Method method = MyOrderService.class.getDeclaredMethod("calculateCurrentDiscountRate", GroupBuy.class);
+            Method method = MyOrderService.class.getDeclaredMethod("calculateCurrentDiscountRate", GroupBuy.class, int.class);
             method.setAccessible(true);
-            Integer result = (Integer) method.invoke(myOrderService, testGroupBuy);
+            Integer result = (Integer) method.invoke(myOrderService, testGroupBuy, 25);
 
             // then
             assertThat(result).isEqualTo(0);
@@ -332,51 +292,75 @@ class MyOrderServiceTest {
     }
 
     @Nested
-    @DisplayName("환불 상태 확인")
-    class RefundStatusTest {
+    @DisplayName("연관 데이터 일괄 조회")
+    class BatchLoadTest {
 
         @Test
         @DisplayName("환불 처리되지 않은 아이템 확인")
         void isRefundProcessed_notProcessed_returnsFalse() {
             // given
-            given(refundItemRepository.existsByOrderItemIdAndRefundStatusIn(
-                    eq(testOrderItem.getId()),
-                    eq(List.of(RefundStatus.APPROVED, RefundStatus.COMPLETED, RefundStatus.REJECTED, RefundStatus.FAILED))
-            )).willReturn(false);
+            givenPageRelationsLoaded();
 
             // when
-            try {
-                Method method = MyOrderService.class.getDeclaredMethod("isRefundProcessed", OrderItem.class);
-                method.setAccessible(true);
-                boolean result = (boolean) method.invoke(myOrderService, testOrderItem);
+            Batch batch = loadBatch();
 
-                // then
-                assertThat(result).isFalse();
-            } catch (Exception e) {
-                fail("메서드 호출 실패", e);
-            }
+            // then
+            assertThat(batch.isRefundProcessed(testOrderItem)).isFalse();
         }
 
         @Test
         @DisplayName("환불 처리된 아이템 확인")
         void isRefundProcessed_processed_returnsTrue() {
             // given
-            given(refundItemRepository.existsByOrderItemIdAndRefundStatusIn(
-                    eq(testOrderItem.getId()),
-                    eq(List.of(RefundStatus.APPROVED, RefundStatus.COMPLETED, RefundStatus.REJECTED, RefundStatus.FAILED))
-            )).willReturn(true);
+            givenPageRelationsLoaded();
+            given(refundItemRepository.findOrderItemIdsByOrderItemIdInAndRefundStatusIn(
+                    eq(Set.of(testOrderItem.getId())),
+                    eq(MyOrderBatchLoader.PROCESSED_REFUND_STATUSES)
+            )).willReturn(List.of(testOrderItem.getId()));
 
             // when
-            try {
-                Method method = MyOrderService.class.getDeclaredMethod("isRefundProcessed", OrderItem.class);
-                method.setAccessible(true);
-                boolean result = (boolean) method.invoke(myOrderService, testOrderItem);
+            Batch batch = loadBatch();
 
-                // then
-                assertThat(result).isTrue();
-            } catch (Exception e) {
-                fail("메서드 호출 실패", e);
-            }
+            // then
+            assertThat(batch.isRefundProcessed(testOrderItem)).isTrue();
+        }
+
+        @Test
+        @DisplayName("페이지의 주문 수와 관계없이 관계별로 한 번씩만 조회")
+        void getMyOrders_loadsRelationsOncePerPage() {
+            // given
+            Order secondOrder = mock(Order.class);
+            lenient().when(secondOrder.getId()).thenReturn("ORDER456");
+            lenient().when(secondOrder.getStatus()).thenReturn(OrderStatus.ORDERED);
+            lenient().when(secondOrder.getOrderItems()).thenReturn(List.of(testOrderItem));
+            Page<Order> orderPage = new PageImpl<>(List.of(testOrder, secondOrder));
+
+            given(memberRepository.existsById(MEMBER_ID)).willReturn(true);
+            given(myOrderCountsCacheService.getCounts(MEMBER_ID)).willReturn(new MyOrderStatusCounts(2, 0, 0));
+            given(orderRepository.findMyOrdersWithDetails(eq(MEMBER_ID), eq("all"), any(Pageable.class)))
+                    .willReturn(orderPage);
+            given(paymentRepository.findTotalAmountsByOrderIds(any())).willReturn(List.of(
+                    new Object[]{ORDER_ID, TOTAL_AMOUNT},
+                    new Object[]{"ORDER456", TOTAL_AMOUNT}
+            ));
+            given(refundRepository.findActiveRefundsByOrderIds(any())).willReturn(List.of());
+            given(refundItemRepository.findOrderItemIdsByOrderItemIdInAndRefundStatusIn(any(), any())).willReturn(List.of());
+            given(orderItemRepository.getTotalQuantitiesByGroupBuyIds(any())).willReturn(
+                    List.<Object[]>of(new Object[]{testGroupBuy.getId(), 25L}));
+
+            // when
+            MyOrderListResponseDto result = myOrderService.getMyOrders(MEMBER_ID, "all", 1, 5);
+
+            // then
+            assertThat(result.orders()).hasSize(2);
+            assertThat(result.orders().get(0).orderItems().get(0).rate()).isEqualTo(10);
+            verify(paymentRepository, times(1)).findTotalAmountsByOrderIds(Set.of(ORDER_ID, "ORDER456"));
+            verify(refundRepository, times(1)).findActiveRefundsByOrderIds(any());
+            verify(refundItemRepository, times(1)).findOrderItemIdsByOrderItemIdInAndRefundStatusIn(any(), any());
+            verify(orderItemRepository, times(1)).getTotalQuantitiesByGroupBuyIds(Set.of(testGroupBuy.getId()));
+            verify(groupBuyStatisticsRepository, never()).findByGroupBuyIdIn(any());
+            verify(paymentRepository, never()).findByOrderId(anyString());
+            verify(orderItemRepository, never()).getTotalQuantityByGroupBuyId(anyLong());
         }
     }
 
@@ -388,18 +372,14 @@ class MyOrderServiceTest {
         @DisplayName("환불 없는 경우 전체 금액")
         void calculateCurrentAmount_noRefund_success() {
             // given
-            given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(testPayment));
             // 환불 처리되지 않음
-            given(refundItemRepository.existsByOrderItemIdAndRefundStatusIn(
-                    eq(testOrderItem.getId()),
-                    eq(List.of(RefundStatus.APPROVED, RefundStatus.COMPLETED, RefundStatus.REJECTED, RefundStatus.FAILED))
-            )).willReturn(false);
+            Batch batch = new Batch(Map.of(ORDER_ID, TOTAL_AMOUNT), Map.of(), Set.of(), Map.of(), Map.of());
 
             // when
             try {
-                Method method = MyOrderService.class.getDeclaredMethod("calculateCurrentAmount", Order.class);
+                Method method = MyOrderService.class.getDeclaredMethod("calculateCurrentAmount", Order.class, Batch.class);
                 method.setAccessible(true);
-                Integer result = (Integer) method.invoke(myOrderService, testOrder);
+                Integer result = (Integer) method.invoke(myOrderService, testOrder, batch);
 
                 // then
                 assertThat(result).isEqualTo(TOTAL_AMOUNT); // 환불 없으므로 전체 금액
@@ -412,18 +392,14 @@ class MyOrderServiceTest {
         @DisplayName("환불 있는 경우 차감된 금액")
         void calculateCurrentAmount_withRefund_success() {
             // given
-            given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.of(testPayment));
             // 환불 처리됨
-            given(refundItemRepository.existsByOrderItemIdAndRefundStatusIn(
-                    eq(testOrderItem.getId()),
-                    eq(List.of(RefundStatus.APPROVED, RefundStatus.COMPLETED, RefundStatus.REJECTED, RefundStatus.FAILED))
-            )).willReturn(true);
+            Batch batch = new Batch(Map.of(ORDER_ID, TOTAL_AMOUNT), Map.of(), Set.of(testOrderItem.getId()), Map.of(), Map.of());
 
             // when
             try {
-                Method method = MyOrderService.class.getDeclaredMethod("calculateCurrentAmount", Order.class);
+                Method method = MyOrderService.class.getDeclaredMethod("calculateCurrentAmount", Order.class, Batch.class);
                 method.setAccessible(true);
-                Integer result = (Integer) method.invoke(myOrderService, testOrder);
+                Integer result = (Integer) method.invoke(myOrderService, testOrder, batch);
 
                 // then
                 assertThat(result).isEqualTo(TOTAL_AMOUNT - 15000); // 환불된 금액 제외
@@ -436,14 +412,14 @@ class MyOrderServiceTest {
         @DisplayName("결제 정보 없는 경우 예외")
         void calculateCurrentAmount_paymentNotFound_throwsException() {
             // given
-            given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
+            Batch batch = new Batch(Map.of(), Map.of(), Set.of(), Map.of(), Map.of());
 
             // when & then
             try {
-                Method method = MyOrderService.class.getDeclaredMethod("calculateCurrentAmount", Order.class);
+                Method method = MyOrderService.class.getDeclaredMethod("calculateCurrentAmount", Order.class, Batch.class);
                 method.setAccessible(true);
 
-                assertThatThrownBy(() -> method.invoke(myOrderService, testOrder))
+                assertThatThrownBy(() -> method.invoke(myOrderService, testOrder, batch))
                         .getCause()
                         .isInstanceOf(BusinessException.class)
                         .extracting(ex -> ((BusinessException) ex).getErrorCode())
@@ -454,6 +430,24 @@ class MyOrderServiceTest {
         }
     }
 
+    /**
+     * 테스트 주문 페이지의 연관 데이터 일괄 조회 결과 (결제 완료, 환불 없음, 유효 주문 수량 25개)
+     */
+    private void givenPageRelationsLoaded() {
+        given(paymentRepository.findTotalAmountsByOrderIds(any()))
+                .willReturn(List.<Object[]>of(new Object[]{ORDER_ID, TOTAL_AMOUNT}));
+        given(refundRepository.findActiveRefundsByOrderIds(any())).willReturn(List.of());
+        lenient().when(refundItemRepository.findOrderItemIdsByOrderItemIdInAndRefundStatusIn(any(), any()))
+                .thenReturn(List.of());
+        lenient().when(orderItemRepository.getTotalQuantitiesByGroupBuyIds(any()))
+                .thenReturn(List.<Object[]>of(new Object[]{testGroupBuy.getId(), 25L}));
+    }
+
+    private Batch loadBatch() {
+        return new MyOrderBatchLoader(paymentRepository, refundRepository, refundItemRepository,
+                groupBuyStatisticsRepository, orderItemRepository).load(List.of(testOrder));
+    }
+
     private void setupTestEntities() {
         testMember = createTestMember();
         testProduct = createTestProduct();
@@ -462,7 +456,6 @@ class MyOrderServiceTest {
         testGroupBuyOption = createTestGroupBuyOption();
         testOrderItem = createTestOrderItem();
         testOrder = createTestOrder();
-        testPayment = createTestPayment();
     }
 
     private Member createTestMember() {
@@ -494,7 +487,9 @@ class MyOrderServiceTest {
         lenient().when(groupBuy.getProduct()).thenReturn(testProduct);
         lenient().when(groupBuy.getStatus()).thenReturn(GroupBuyStatus.OPEN);
         lenient().when(groupBuy.getDiscountStages()).thenReturn(
-                "[{\"count\":10,\"rate\":5},{\"count\":20,\"rate\":10},{\"count\":30,\"rate\":15}]"
+                "{\"stages\":[{\"minQuantity\":10,\"discountRate\":5},"
+                        + "{\"minQuantity\":20,\"discountRate\":10},"
+                        + "{\"minQuantity\":30,\"discountRate\":15}]}"
         );
         return groupBuy;
     }
@@ -526,10 +521,4 @@ class MyOrderServiceTest {
         lenient().when(order.getTrackingNumber()).thenReturn(null);
         return order;
     }
-
-    private Payment createTestPayment() {
-        Payment payment = mock(Payment.class);
-        lenient().when(payment.getTotalAmount()).thenReturn(TOTAL_AMOUNT);
-        return payment;
-    }
 }
\ No newline at end of file
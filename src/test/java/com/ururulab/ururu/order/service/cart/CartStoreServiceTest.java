@@ -0,0 +1,127 @@
+package com.ururulab.ururu.order.service.cart;
+
+import com.ururulab.ururu.order.domain.repository.CartItemRepository;
+import com.ururulab.ururu.order.dto.common.CartEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartStoreService 테스트")
+class CartStoreServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long OPTION_ID = 10L;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private CartPersistenceService cartPersistenceService;
+
+    private LocalCartStore cartStore;
+    private CartStoreService cartStoreService;
+
+    @BeforeEach
+    void setUp() {
+        cartStore = new LocalCartStore();
+        cartStoreService = new CartStoreService(cartStore, cartItemRepository, cartPersistenceService);
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 장바구니는 DB에서 한 번만 적재")
+    void getEntries_loadsFromDatabaseOnce() {
+        // given
+        Instant addedAt = Instant.parse("2025-01-01T00:00:00Z");
+        given(cartItemRepository.findEntriesByMemberId(MEMBER_ID))
+                .willReturn(List.<Object[]>of(new Object[]{OPTION_ID, 2, addedAt}));
+
+        // when
+        cartStoreService.getEntries(MEMBER_ID);
+        List<CartEntry> entries = cartStoreService.getEntries(MEMBER_ID);
+
+        // then
+        assertThat(entries).containsExactly(new CartEntry(OPTION_ID, 2, addedAt));
+        verify(cartItemRepository, times(1)).findEntriesByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("담기는 기존 수량에 더하고 변경된 회원만 DB에 반영")
+    void addItem_accumulatesAndFlushes() {
+        // given
+        given(cartItemRepository.findEntriesByMemberId(MEMBER_ID)).willReturn(List.of());
+
+        // when
+        cartStoreService.addItem(MEMBER_ID, OPTION_ID, 1);
+        int quantity = cartStoreService.addItem(MEMBER_ID, OPTION_ID, 2);
+        int flushed = cartStoreService.flushDirty(100);
+
+        // then
+        assertThat(quantity).isEqualTo(3);
+        assertThat(flushed).isEqualTo(1);
+        verify(cartPersistenceService).persist(eq(MEMBER_ID),
+                argThat(entries -> entries.size() == 1 && entries.get(0).quantity() == 3));
+        assertThat(cartStoreService.flushDirty(100)).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 항목의 수량 변경은 실패")
+    void changeQuantity_itemNotFound_fail() {
+        // given
+        given(cartItemRepository.findEntriesByMemberId(MEMBER_ID)).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> cartStoreService.changeQuantity(MEMBER_ID, OPTION_ID, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 다음 주기에 재시도")
+    void flushDirty_failure_remarksDirty() {
+        // given
+        given(cartItemRepository.findEntriesByMemberId(MEMBER_ID)).willReturn(List.of());
+        cartStoreService.addItem(MEMBER_ID, OPTION_ID, 1);
+        willThrow(new RuntimeException("db down")).willDoNothing()
+                .given(cartPersistenceService).persist(eq(MEMBER_ID), anyList());
+
+        // when
+        int first = cartStoreService.flushDirty(100);
+        int second = cartStoreService.flushDirty(100);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 같은 회원을 반영 중이면 건너뛰고 잠금 해제 후 최신 내용으로 반영")
+    void flushDirty_lockedByOther_deferred() {
+        // given
+        given(cartItemRepository.findEntriesByMemberId(MEMBER_ID)).willReturn(List.of());
+        cartStoreService.addItem(MEMBER_ID, OPTION_ID, 1);
+        String token = cartStore.tryLockFlush(MEMBER_ID, Duration.ofSeconds(30)).orElseThrow();
+
+        // when
+        int whileLocked = cartStoreService.flushDirty(100);
+        cartStoreService.addItem(MEMBER_ID, OPTION_ID, 1);
+        cartStore.unlockFlush(MEMBER_ID, token);
+        int afterUnlock = cartStoreService.flushDirty(100);
+
+        // then
+        assertThat(whileLocked).isZero();
+        assertThat(afterUnlock).isEqualTo(1);
+        verify(cartPersistenceService, times(1)).persist(eq(MEMBER_ID),
+                argThat(entries -> entries.size() == 1 && entries.get(0).quantity() == 2));
+    }
+}
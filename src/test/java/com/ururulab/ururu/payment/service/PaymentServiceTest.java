@@ -7,6 +7,7 @@ import com.ururulab.ururu.global.exception.error.ErrorCode;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.service.GroupBuySalesService;
 import com.ururulab.ururu.member.domain.entity.Member;
 import com.ururulab.ururu.member.domain.entity.enumerated.Role;
 import com.ururulab.ururu.member.domain.entity.enumerated.SocialProvider;
@@ -14,8 +15,8 @@ import com.ururulab.ururu.member.domain.repository.MemberRepository;
 import com.ururulab.ururu.order.domain.entity.Order;
 import com.ururulab.ururu.order.domain.entity.OrderItem;
 import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
-import com.ururulab.ururu.order.domain.repository.CartRepository;
 import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.event.CartItemsOrderedEvent;
 import com.ururulab.ururu.order.service.StockReservationService;
 import com.ururulab.ururu.payment.dto.request.PaymentConfirmRequestDto;
 import com.ururulab.ururu.payment.dto.request.PaymentRequestDto;
@@ -39,6 +40,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestClient;
 
@@ -46,6 +48,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -79,7 +82,7 @@ class PaymentServiceTest {
     private GroupBuyOptionRepository groupBuyOptionRepository;
 
     @Mock
-    private CartRepository cartRepository;
+    private GroupBuySalesService groupBuySalesService;
 
     @Mock
     private RestClient restClient;
@@ -87,6 +90,9 @@ class PaymentServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private static final Long MEMBER_ID = 1L;
     private static final String ORDER_ID = "ORDER123";
     private static final String PAYMENT_KEY = "PAYMENT_KEY_123";
@@ -224,7 +230,6 @@ class PaymentServiceTest {
             mockRestClientChain(tossResponse);
             given(memberRepository.decreasePoints(MEMBER_ID, USE_POINTS)).willReturn(1);
             given(groupBuyOptionRepository.decreaseStock(anyLong(), anyInt())).willReturn(1);
-            given(cartRepository.findByMemberIdWithCartItems(MEMBER_ID)).willReturn(Optional.empty());
 
             // when
             PaymentConfirmResponseDto result = paymentService.confirmPayment(paymentId, request);
@@ -235,6 +240,7 @@ class PaymentServiceTest {
             assertThat(result.paidAt()).isNotNull();
 
             verify(memberRepository).decreasePoints(MEMBER_ID, USE_POINTS);
+            verify(eventPublisher).publishEvent(new CartItemsOrderedEvent(MEMBER_ID, List.of(1L)));
             verify(pointTransactionRepository).save(argThat(transaction ->
                     transaction.getAmount().equals(USE_POINTS) &&
                             transaction.getMember().getId().equals(MEMBER_ID) &&
@@ -1,5 +1,6 @@
 package com.ururulab.ururu.payment.service;
 
+import com.ururulab.ururu.global.domain.dto.CreatedAtCursor;
 import com.ururulab.ururu.global.domain.entity.enumerated.Gender;
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
@@ -8,6 +9,7 @@ import com.ururulab.ururu.member.domain.entity.enumerated.Role;
 import com.ururulab.ururu.member.domain.entity.enumerated.SocialProvider;
 import com.ururulab.ururu.member.domain.repository.MemberRepository;
 import com.ururulab.ururu.payment.dto.response.MemberPointResponse;
+import com.ururulab.ururu.payment.dto.response.PointTransactionCursorResponse;
 import com.ururulab.ururu.payment.dto.response.PointTransactionListResponse;
 import com.ururulab.ururu.payment.domain.entity.PointTransaction;
 import com.ururulab.ururu.payment.domain.entity.enumerated.PointSource;
@@ -255,6 +257,77 @@ class PointServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("포인트 거래내역 커서 조회")
+    class GetPointTransactionsByCursorTest {
+
+        @Test
+        @DisplayName("성공 - 첫 페이지, 다음 페이지 있음")
+        void getPointTransactionsByCursor_firstPage_hasMore() {
+            // given
+            PointTransaction second = createTestTransaction();
+            ReflectionTestUtils.setField(second, "id", 2L);
+
+            given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(testMember));
+            given(pointTransactionRepository.findFirstByMemberIdWithFilters(
+                    eq(MEMBER_ID), isNull(), isNull(), any(Pageable.class)))
+                    .willReturn(List.of(testTransaction, second));
+
+            // when
+            PointTransactionCursorResponse result = pointService.getPointTransactionsByCursor(
+                    MEMBER_ID, "all", "all", null, 1, false);
+
+            // then
+            assertThat(result.transactions()).hasSize(1);
+            assertThat(result.hasMore()).isTrue();
+            assertThat(CreatedAtCursor.decode(result.nextCursor()))
+                    .isEqualTo(CreatedAtCursor.of(testTransaction.getCreatedAt(), testTransaction.getId()));
+            assertThat(result.approximateTotal()).isNull();
+            verify(pointTransactionRepository, never()).countByMemberIdWithFiltersUpTo(
+                    anyLong(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("성공 - 커서 이후 마지막 페이지, 근사 전체 개수 포함")
+        void getPointTransactionsByCursor_afterCursor_lastPage() {
+            // given
+            CreatedAtCursor cursor = CreatedAtCursor.of(Instant.now(), 10L);
+
+            given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(testMember));
+            given(pointTransactionRepository.findAfterByMemberIdWithFilters(
+                    eq(MEMBER_ID), isNull(), isNull(), eq(cursor.createdAt()), eq(10L), any(Pageable.class)))
+                    .willReturn(List.of(testTransaction));
+            given(pointTransactionRepository.countByMemberIdWithFiltersUpTo(
+                    eq(MEMBER_ID), isNull(), isNull(), eq(CreatedAtCursor.TOTAL_COUNT_CAP)))
+                    .willReturn(2L);
+
+            // when
+            PointTransactionCursorResponse result = pointService.getPointTransactionsByCursor(
+                    MEMBER_ID, "all", "all", cursor.encode(), 10, true);
+
+            // then
+            assertThat(result.transactions()).hasSize(1);
+            assertThat(result.hasMore()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            assertThat(result.approximateTotal()).isEqualTo(2L);
+            assertThat(result.totalCapped()).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 커서")
+        void getPointTransactionsByCursor_invalidCursor_fail() {
+            // given
+            given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(testMember));
+
+            // when & then
+            assertThatThrownBy(() -> pointService.getPointTransactionsByCursor(
+                    MEMBER_ID, "all", "all", "not-a-cursor", 10, false))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.CURSOR_DECODING_FAILED);
+        }
+    }
+
     private Member createTestMember() {
         Member member = Member.of(
                 "테스트유저", "test@example.com", SocialProvider.KAKAO,